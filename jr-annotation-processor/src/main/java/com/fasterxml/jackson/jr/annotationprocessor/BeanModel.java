@@ -0,0 +1,426 @@
+package com.fasterxml.jackson.jr.annotationprocessor;
+
+import java.util.*;
+
+import javax.lang.model.element.*;
+import javax.lang.model.type.*;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+
+/**
+ * Compile-time equivalent of {@code POJODefinition}: definition of
+ * properties of a Bean type, introspected from {@link TypeElement}
+ * using same rules as {@code BeanPropertyIntrospector} uses with
+ * default settings.
+ *
+ * @since 2.19
+ */
+final class BeanModel
+{
+    /**
+     * Indicates which kind of code is generated for reading and writing
+     * property values.
+     */
+    enum ValueKind {
+        INT, LONG, DOUBLE, BOOLEAN,
+        STRING,
+        /**
+         * {@code List} (or {@code Collection}, {@code Iterable}) with non-generic
+         * element type
+         */
+        LIST,
+        /**
+         * {@code Map} with {@code String} keys and non-generic value type
+         */
+        MAP,
+        /**
+         * Any other non-generic type: read using {@code JSONReader.readBean()}
+         */
+        OTHER;
+    }
+
+    final TypeElement type;
+
+    final String packageName;
+
+    /**
+     * Canonical name of the Bean class, usable in generated source code
+     */
+    final String typeName;
+
+    /**
+     * Simple name of the generated reader/writer class
+     */
+    final String codecName;
+
+    /**
+     * Properties that can be deserialized, in declaration order.
+     */
+    final List<Property> readable;
+
+    /**
+     * Properties that can be serialized, in alphabetic order.
+     */
+    final List<Property> writable;
+
+    private BeanModel(TypeElement type, String pkg, List<Property> readable,
+            List<Property> writable)
+    {
+        this.type = type;
+        packageName = pkg;
+        typeName = type.getQualifiedName().toString();
+        String localName = pkg.isEmpty() ? typeName : typeName.substring(pkg.length()+1);
+        codecName = localName.replace('.', '_') + "_JrCodec";
+        this.readable = readable;
+        this.writable = writable;
+    }
+
+    /**
+     * Definition of a single logical property, with accessors used for
+     * deserialization and serialization.
+     */
+    static final class Property
+    {
+        final String name;
+
+        // Accessors for deserialization: setter preferred over field
+        ExecutableElement setter;
+        VariableElement field;
+
+        // Accessors for serialization: getter, "is-getter", field
+        ExecutableElement getter, isGetter;
+
+        // Resolved during validation
+        TypeMirror readType, writeType;
+        ValueKind readKind, writeKind;
+
+        /**
+         * Raw type of the element type, for {@link ValueKind#LIST} and
+         * {@link ValueKind#MAP}; raw type itself for other kinds
+         */
+        String readRawType;
+
+        Property(String name) {
+            this.name = name;
+        }
+
+        boolean hasMutator() {
+            return (setter != null) || (field != null);
+        }
+
+        String mutatorCode(String bean, String value) {
+            if (setter != null) {
+                return bean+"."+setter.getSimpleName()+"("+value+")";
+            }
+            return bean+"."+field.getSimpleName()+" = "+value;
+        }
+
+        String accessorCode(String bean) {
+            ExecutableElement m = (getter != null) ? getter : isGetter;
+            if (m != null) {
+                return bean+"."+m.getSimpleName()+"()";
+            }
+            return bean+"."+field.getSimpleName();
+        }
+    }
+
+    /*
+    /**********************************************************************
+    /* Introspection
+    /**********************************************************************
+     */
+
+    /**
+     * Method for introspecting given Bean type.
+     *
+     * @return Bean definition, if code can be generated for the type;
+     *   otherwise {@code null} (with problem reported via {@code problems})
+     */
+    public static BeanModel introspect(Elements elements, TypeElement type,
+            List<String> problems)
+    {
+        if (type.getKind() != ElementKind.CLASS) {
+            problems.add("only classes (not "+type.getKind()+") supported");
+            return null;
+        }
+        Set<Modifier> mods = type.getModifiers();
+        if (mods.contains(Modifier.ABSTRACT)) {
+            problems.add("can not generate code for abstract types");
+        }
+        if (!type.getTypeParameters().isEmpty()) {
+            problems.add("can not generate code for generic types");
+        }
+        for (Element e = type; e instanceof TypeElement; e = e.getEnclosingElement()) {
+            if (e.getModifiers().contains(Modifier.PRIVATE)) {
+                problems.add("type `"+e+"` must not be private");
+            }
+            switch (((TypeElement) e).getNestingKind()) {
+            case TOP_LEVEL:
+                break;
+            case MEMBER:
+                if (!e.getModifiers().contains(Modifier.STATIC)) {
+                    problems.add("inner (non-static) class `"+e+"` not supported");
+                }
+                break;
+            default:
+                problems.add("local and anonymous classes not supported");
+            }
+        }
+        boolean hasNoArgsCtor = false;
+        for (ExecutableElement ctor : ElementFilter.constructorsIn(type.getEnclosedElements())) {
+            if (ctor.getParameters().isEmpty() && !ctor.getModifiers().contains(Modifier.PRIVATE)) {
+                hasNoArgsCtor = true;
+            }
+        }
+        if (!hasNoArgsCtor) {
+            problems.add("no non-private no-arguments constructor");
+        }
+        final String pkg = elements.getPackageOf(type).getQualifiedName().toString();
+
+        // Base types first, like `BeanPropertyIntrospector` does
+        List<TypeElement> hierarchy = new ArrayList<>();
+        for (TypeElement curr = type; curr != null; curr = _superType(curr)) {
+            if (curr.getQualifiedName().contentEquals("java.lang.Object")) {
+                break;
+            }
+            hierarchy.add(0, curr);
+        }
+        Map<String, Property> props = new LinkedHashMap<>();
+        for (TypeElement curr : hierarchy) {
+            _introspect(curr, props);
+        }
+
+        List<Property> readable = new ArrayList<>();
+        List<Property> writable = new ArrayList<>();
+        for (Property prop : props.values()) {
+            if (prop.setter != null) {
+                if (!_isAccessible(elements, prop.setter, pkg)) {
+                    problems.add("setter `"+prop.setter+"` of property '"+prop.name
+                            +"' not accessible from generated code");
+                    continue;
+                }
+                if (!prop.setter.getThrownTypes().isEmpty()) {
+                    problems.add("setter `"+prop.setter+"` of property '"+prop.name
+                            +"' declares exceptions");
+                    continue;
+                }
+                prop.readType = prop.setter.getParameters().get(0).asType();
+            } else if ((prop.field != null) && !prop.field.getModifiers().contains(Modifier.FINAL)) {
+                prop.readType = prop.field.asType();
+            }
+            if (prop.readType != null) {
+                if (_resolveReadKind(prop)) {
+                    readable.add(prop);
+                } else {
+                    problems.add("type `"+prop.readType+"` of property '"+prop.name+"' not supported");
+                }
+            }
+            final ExecutableElement getter = (prop.getter != null) ? prop.getter : prop.isGetter;
+            if (getter != null) {
+                if (!getter.getThrownTypes().isEmpty()) {
+                    problems.add("getter `"+getter+"` of property '"+prop.name
+                            +"' declares exceptions");
+                    continue;
+                }
+                prop.writeType = getter.getReturnType();
+            } else if (prop.field != null) {
+                prop.writeType = prop.field.asType();
+            }
+            if (prop.writeType != null) {
+                prop.writeKind = _valueKind(prop.writeType);
+                writable.add(prop);
+            }
+        }
+        if (!problems.isEmpty()) {
+            return null;
+        }
+        // Serialization order is alphabetic, similar to `BeanPropertyIntrospector`
+        Collections.sort(writable, (p1, p2) -> p1.name.compareTo(p2.name));
+        return new BeanModel(type, pkg, readable, writable);
+    }
+
+    private static void _introspect(TypeElement currType, Map<String, Property> props)
+    {
+        for (Element member : currType.getEnclosedElements()) {
+            final Set<Modifier> mods = member.getModifiers();
+            if (mods.contains(Modifier.STATIC)) {
+                continue;
+            }
+            if (member.getKind() == ElementKind.FIELD) {
+                if (mods.contains(Modifier.PUBLIC)) {
+                    _propFrom(props, member.getSimpleName().toString()).field = (VariableElement) member;
+                }
+                continue;
+            }
+            if (member.getKind() != ElementKind.METHOD) {
+                continue;
+            }
+            ExecutableElement m = (ExecutableElement) member;
+            String name = m.getSimpleName().toString();
+            int argCount = m.getParameters().size();
+            if (argCount == 0) { // getter?
+                if (!mods.contains(Modifier.PUBLIC)
+                        || m.getReturnType().getKind() == TypeKind.VOID) {
+                    continue;
+                }
+                if (name.startsWith("get")) {
+                    if (name.length() > 3) {
+                        _propFrom(props, _decap(name.substring(3))).getter = m;
+                    }
+                } else if (name.startsWith("is")) {
+                    if (name.length() > 2) {
+                        _propFrom(props, _decap(name.substring(2))).isGetter = m;
+                    }
+                }
+            } else if (argCount == 1) { // setter?
+                if (name.startsWith("set") && name.length() > 3) {
+                    _propFrom(props, _decap(name.substring(3))).setter = m;
+                }
+            }
+        }
+    }
+
+    private static Property _propFrom(Map<String, Property> props, String name) {
+        return props.computeIfAbsent(name, Property::new);
+    }
+
+    // Same as `BeanPropertyIntrospector.decap()`
+    private static String _decap(String name) {
+        char c = name.charAt(0);
+        char lowerC = Character.toLowerCase(c);
+        if (c != lowerC) {
+            if ((name.length() == 1)
+                    || !Character.isUpperCase(name.charAt(1))) {
+                char chars[] = name.toCharArray();
+                chars[0] = lowerC;
+                return new String(chars);
+            }
+        }
+        return name;
+    }
+
+    private static TypeElement _superType(TypeElement type) {
+        TypeMirror sup = type.getSuperclass();
+        if (sup.getKind() != TypeKind.DECLARED) {
+            return null;
+        }
+        return (TypeElement) ((DeclaredType) sup).asElement();
+    }
+
+    private static boolean _isAccessible(Elements elements, ExecutableElement m, String pkg)
+    {
+        Set<Modifier> mods = m.getModifiers();
+        if (mods.contains(Modifier.PUBLIC)) {
+            return true;
+        }
+        if (mods.contains(Modifier.PRIVATE)) {
+            return false;
+        }
+        // package-private, protected: fine if declared in same package
+        return elements.getPackageOf(m).getQualifiedName().contentEquals(pkg);
+    }
+
+    /*
+    /**********************************************************************
+    /* Type resolution
+    /**********************************************************************
+     */
+
+    private static boolean _resolveReadKind(Property prop)
+    {
+        final TypeMirror type = prop.readType;
+        ValueKind kind = _valueKind(type);
+        prop.readKind = kind;
+        switch (kind) {
+        case LIST:
+        case MAP:
+            {
+                List<? extends TypeMirror> params = ((DeclaredType) type).getTypeArguments();
+                TypeMirror elemType = params.get(params.size()-1);
+                if (kind == ValueKind.MAP && !_isString(params.get(0))) {
+                    return false;
+                }
+                prop.readRawType = _nonGenericName(elemType);
+            }
+            break;
+        default:
+            prop.readRawType = _nonGenericName(type);
+        }
+        return (prop.readRawType != null);
+    }
+
+    private static ValueKind _valueKind(TypeMirror type)
+    {
+        switch (type.getKind()) {
+        case INT:
+            return ValueKind.INT;
+        case LONG:
+            return ValueKind.LONG;
+        case DOUBLE:
+            return ValueKind.DOUBLE;
+        case BOOLEAN:
+            return ValueKind.BOOLEAN;
+        case DECLARED:
+            if (_isString(type)) {
+                return ValueKind.STRING;
+            }
+            if (!((DeclaredType) type).getTypeArguments().isEmpty()) {
+                String raw = _rawName(type);
+                switch (raw) {
+                case "java.util.List":
+                case "java.util.Collection":
+                case "java.lang.Iterable":
+                    return ValueKind.LIST;
+                case "java.util.Map":
+                    return ValueKind.MAP;
+                }
+            }
+            break;
+        default:
+        }
+        return ValueKind.OTHER;
+    }
+
+    private static boolean _isString(TypeMirror type) {
+        return (type.getKind() == TypeKind.DECLARED)
+                && "java.lang.String".equals(_rawName(type));
+    }
+
+    /**
+     * @return Name of the type usable in source code, if type is not generic
+     *   (nor has generic component type), {@code null} otherwise
+     */
+    static String _nonGenericName(TypeMirror type)
+    {
+        if (type.getKind().isPrimitive()) {
+            return type.getKind().name().toLowerCase();
+        }
+        if (type.getKind() == TypeKind.ARRAY) {
+            String compName = _nonGenericName(((ArrayType) type).getComponentType());
+            return (compName == null) ? null : compName + "[]";
+        }
+        if (type.getKind() == TypeKind.DECLARED
+                && ((DeclaredType) type).getTypeArguments().isEmpty()) {
+            return _rawName(type);
+        }
+        return null;
+    }
+
+    /**
+     * @return Name of the raw type, usable in source code; works for
+     *   declared types, arrays and primitive types
+     */
+    static String _rawName(TypeMirror type)
+    {
+        if (type.getKind().isPrimitive()) {
+            return type.getKind().name().toLowerCase();
+        }
+        if (type.getKind() == TypeKind.ARRAY) {
+            return _rawName(((ArrayType) type).getComponentType()) + "[]";
+        }
+        if (type.getKind() == TypeKind.DECLARED) {
+            return ((TypeElement) ((DeclaredType) type).asElement()).getQualifiedName().toString();
+        }
+        return "java.lang.Object";
+    }
+}
@@ -0,0 +1,358 @@
+package com.fasterxml.jackson.jr.annotationprocessor;
+
+import java.util.List;
+
+import com.fasterxml.jackson.jr.annotationprocessor.BeanModel.Property;
+
+/**
+ * Helper class that produces source code for generated readers, writers
+ * and extension that registers them.
+ *
+ * @since 2.19
+ */
+final class CodeGenerator
+{
+    /**
+     * Simple name of the generated {@code JacksonJrExtension}, one per package.
+     */
+    public final static String EXTENSION_NAME = "JrGeneratedExtension";
+
+    private final static String[] IMPORTS = new String[] {
+            "java.io.IOException",
+            "java.util.HashMap",
+            "java.util.Map",
+            "",
+            "com.fasterxml.jackson.core.JsonGenerator",
+            "com.fasterxml.jackson.core.JsonParser",
+            "com.fasterxml.jackson.core.JsonToken",
+            "com.fasterxml.jackson.core.JsonTokenId",
+            "com.fasterxml.jackson.core.SerializableString",
+            "com.fasterxml.jackson.core.io.SerializedString",
+            "",
+            "com.fasterxml.jackson.jr.ob.JSON",
+            "com.fasterxml.jackson.jr.ob.JSONObjectException",
+            "com.fasterxml.jackson.jr.ob.JacksonJrExtension",
+            "com.fasterxml.jackson.jr.ob.api.ExtensionContext",
+            "com.fasterxml.jackson.jr.ob.api.ReaderWriterModifier",
+            "com.fasterxml.jackson.jr.ob.api.ReaderWriterProvider",
+            "com.fasterxml.jackson.jr.ob.api.ValueReader",
+            "com.fasterxml.jackson.jr.ob.api.ValueWriter",
+            "com.fasterxml.jackson.jr.ob.impl.JSONReader",
+            "com.fasterxml.jackson.jr.ob.impl.JSONWriter",
+    };
+
+    private final StringBuilder _sb = new StringBuilder(4000);
+
+    private CodeGenerator() { }
+
+    /*
+    /**********************************************************************
+    /* Reader/writer generation
+    /**********************************************************************
+     */
+
+    public static String codecSource(BeanModel bean) {
+        return new CodeGenerator()._codec(bean);
+    }
+
+    private String _codec(BeanModel bean)
+    {
+        _header(bean.packageName, "Reader and writer for {@link "+bean.typeName+"}");
+        _line(0, "final class "+bean.codecName);
+        _line(0, "{");
+        _line(1, "private "+bean.codecName+"() { }");
+        _line(0, "");
+        _reader(bean);
+        _line(0, "");
+        _writer(bean);
+        _line(0, "}");
+        return _sb.toString();
+    }
+
+    private void _reader(BeanModel bean)
+    {
+        final String type = bean.typeName;
+        StringBuilder known = new StringBuilder();
+        bean.readable.stream().map(p -> p.name).sorted().forEach(n -> {
+            if (known.length() > 0) {
+                known.append(", ");
+            }
+            known.append("\\\"").append(_escape(n)).append("\\\"");
+        });
+
+        _line(1, "final static class Reader extends ValueReader");
+        _line(1, "{");
+        _line(2, "Reader() { super("+type+".class); }");
+        _line(0, "");
+        _line(2, "@Override");
+        _line(2, "public Object read(JSONReader r, JsonParser p) throws IOException");
+        _line(2, "{");
+        _line(3, "if (p.hasToken(JsonToken.VALUE_NULL)) {");
+        _line(4, "return null;");
+        _line(3, "}");
+        _line(3, "if (!p.hasToken(JsonToken.START_OBJECT)) {");
+        _line(4, "throw JSONObjectException.from(p, \"Can not create a %s instance out of %s\",");
+        _line(6, "_valueType.getName(), _tokenDesc(p));");
+        _line(3, "}");
+        _line(3, "final "+type+" bean = new "+type+"();");
+        _line(3, "String name = null;");
+        _line(3, "try {");
+        _line(4, "while ((name = p.nextFieldName()) != null) {");
+        _line(5, "switch (name) {");
+        for (Property prop : bean.readable) {
+            _line(5, "case \""+_escape(prop.name)+"\":");
+            _line(6, "p.nextToken();");
+            _line(6, prop.mutatorCode("bean", _readExpression(prop))+";");
+            _line(6, "break;");
+        }
+        _line(5, "default:");
+        _line(6, "if (r.isEnabled(JSON.Feature.FAIL_ON_UNKNOWN_BEAN_PROPERTY)) {");
+        _line(7, "throw JSONObjectException.from(p,");
+        _line(0, "\"Unrecognized JSON property \\\"%s\\\" for Bean type `%s` (known properties: ["
+                +known+"])\",");
+        _line(9, "name, _valueType.getName());");
+        _line(6, "}");
+        _line(6, "p.nextToken();");
+        _line(6, "p.skipChildren();");
+        _line(5, "}");
+        _line(4, "}");
+        _line(3, "} catch (RuntimeException e) {");
+        _line(4, "throw JSONObjectException.from(p, e,");
+        _line(6, "\"Failed to set property '%s' of %s; exception (%s): %s\",");
+        _line(6, "name, _valueType.getName(), e.getClass().getName(), e.getMessage());");
+        _line(3, "}");
+        _line(3, "if (!p.hasToken(JsonToken.END_OBJECT)) {");
+        _line(4, "throw JSONObjectException.from(p, \"Unexpected token \"+p.currentToken()");
+        _line(6, "+\"; should get FIELD_NAME or END_OBJECT\");");
+        _line(3, "}");
+        _line(3, "return bean;");
+        _line(2, "}");
+        if (bean.readable.stream().anyMatch(p -> p.readKind == BeanModel.ValueKind.BOOLEAN)) {
+            _line(0, "");
+            _line(2, "// Same coercions as default reader for `boolean`, without boxing");
+            _line(2, "private static boolean _readBoolean(JSONReader r, JsonParser p) throws IOException");
+            _line(2, "{");
+            _line(3, "switch (p.currentTokenId()) {");
+            _line(3, "case JsonTokenId.ID_TRUE:");
+            _line(4, "return true;");
+            _line(3, "case JsonTokenId.ID_FALSE:");
+            _line(3, "case JsonTokenId.ID_NULL:");
+            _line(4, "return false;");
+            _line(3, "case JsonTokenId.ID_STRING:");
+            _line(4, "return p.getValueAsBoolean();");
+            _line(3, "default: // to report the problem");
+            _line(4, "return r.readBean(boolean.class);");
+            _line(3, "}");
+            _line(2, "}");
+        }
+        _line(1, "}");
+    }
+
+    private String _readExpression(Property prop)
+    {
+        switch (prop.readKind) {
+        case INT:
+            return "p.getValueAsInt()";
+        case LONG:
+            return "p.getValueAsLong()";
+        case DOUBLE:
+            return "p.getValueAsDouble()";
+        case BOOLEAN:
+            return "_readBoolean(r, p)";
+        case STRING:
+            return "p.getValueAsString()";
+        case LIST:
+            return "r.readListOf("+prop.readRawType+".class)";
+        case MAP:
+            return "r.readMapOf("+prop.readRawType+".class)";
+        default:
+            return "r.readBean("+prop.readRawType+".class)";
+        }
+    }
+
+    private void _writer(BeanModel bean)
+    {
+        final String type = bean.typeName;
+        final List<Property> props = bean.writable;
+
+        _line(1, "final static class Writer implements ValueWriter");
+        _line(1, "{");
+        for (int i = 0, end = props.size(); i < end; ++i) {
+            _line(2, "private final static SerializableString NAME_"+i
+                    +" = new SerializedString(\""+_escape(props.get(i).name)+"\");");
+        }
+        if (!props.isEmpty()) {
+            _line(0, "");
+        }
+        _line(2, "@Override");
+        _line(2, "public Class<?> valueType() { return "+type+".class; }");
+        _line(0, "");
+        _line(2, "@Override");
+        _line(2, "public void writeValue(JSONWriter ctxt, JsonGenerator g, Object value)");
+        _line(4, "throws IOException");
+        _line(2, "{");
+        _line(3, "final "+type+" bean = ("+type+") value;");
+        _line(3, "final boolean writeNulls = ctxt.isEnabled(JSON.Feature.WRITE_NULL_PROPERTIES);");
+        if (props.stream().anyMatch(p -> !p.hasMutator())) {
+            _line(3, "final boolean writeReadOnly = ctxt.isEnabled(JSON.Feature.WRITE_READONLY_BEAN_PROPERTIES);");
+        }
+        _line(3, "String name = null;");
+        _line(3, "g.writeStartObject();");
+        _line(3, "try {");
+        for (int i = 0, end = props.size(); i < end; ++i) {
+            Property prop = props.get(i);
+            int level = 4;
+            if (!prop.hasMutator()) {
+                _line(level++, "if (writeReadOnly) {");
+            }
+            _line(level, "name = \""+_escape(prop.name)+"\";");
+            final String access = prop.accessorCode("bean");
+            switch (prop.writeKind) {
+            case INT:
+            case LONG:
+            case DOUBLE:
+                _line(level, "g.writeFieldName(NAME_"+i+");");
+                _line(level, "g.writeNumber("+access+");");
+                break;
+            case BOOLEAN:
+                _line(level, "g.writeFieldName(NAME_"+i+");");
+                _line(level, "g.writeBoolean("+access+");");
+                break;
+            default:
+                _line(level, "{");
+                if (prop.writeType.getKind().isPrimitive()) {
+                    _line(level+1, "g.writeFieldName(NAME_"+i+");");
+                    _line(level+1, "ctxt.writeValue("+access+");");
+                } else {
+                    final boolean isString = (prop.writeKind == BeanModel.ValueKind.STRING);
+                    _line(level+1, "final "+(isString ? "String" : "Object")+" v = "+access+";");
+                    _line(level+1, "if (v != null) {");
+                    _line(level+2, "g.writeFieldName(NAME_"+i+");");
+                    _line(level+2, isString ? "g.writeString(v);" : "ctxt.writeValue(v);");
+                    _line(level+1, "} else if (writeNulls) {");
+                    _line(level+2, "g.writeFieldName(NAME_"+i+");");
+                    _line(level+2, "g.writeNull();");
+                    _line(level+1, "}");
+                }
+                _line(level, "}");
+            }
+            if (!prop.hasMutator()) {
+                _line(level-1, "}");
+            }
+        }
+        _line(3, "} catch (RuntimeException e) {");
+        _line(4, "throw new JSONObjectException(String.format(");
+        _line(6, "\"Failed to access property '%s' of %s; exception (%s): %s\",");
+        _line(6, "name, valueType().getName(), e.getClass().getName(), e.getMessage()), e);");
+        _line(3, "}");
+        _line(3, "g.writeEndObject();");
+        _line(2, "}");
+        _line(1, "}");
+    }
+
+    /*
+    /**********************************************************************
+    /* Extension generation
+    /**********************************************************************
+     */
+
+    public static String extensionSource(String pkg, List<BeanModel> beans) {
+        return new CodeGenerator()._extension(pkg, beans);
+    }
+
+    private String _extension(String pkg, List<BeanModel> beans)
+    {
+        _header(pkg, "{@link JacksonJrExtension} that registers readers and writers generated for\n"
+                +" * {@link com.fasterxml.jackson.jr.annotationprocessor.JrSerializable} annotated\n"
+                +" * classes of this package.");
+        _line(0, "public final class "+EXTENSION_NAME+" extends JacksonJrExtension");
+        _line(0, "{");
+        _line(1, "/**");
+        _line(1, " * Features that affect introspection of Bean properties: generated code is");
+        _line(1, " * only used if these have their default settings");
+        _line(1, " */");
+        _line(1, "private final static int INTROSPECTION_FEATURES = JSON.Feature.HANDLE_JAVA_BEANS.mask()");
+        _line(3, "| JSON.Feature.FORCE_REFLECTION_ACCESS.mask()");
+        _line(3, "| JSON.Feature.USE_IS_GETTERS.mask()");
+        _line(3, "| JSON.Feature.USE_FIELD_MATCHING_GETTERS.mask()");
+        _line(3, "| JSON.Feature.USE_FIELDS.mask()");
+        _line(3, "| JSON.Feature.INCLUDE_STATIC_FIELDS.mask()");
+        _line(3, "| JSON.Feature.ACCEPT_CASE_INSENSITIVE_PROPERTIES.mask();");
+        _line(0, "");
+        _line(1, "private final static Map<Class<?>, ValueReader> READERS = new HashMap<>();");
+        _line(1, "private final static Map<Class<?>, ValueWriter> WRITERS = new HashMap<>();");
+        _line(1, "static {");
+        for (BeanModel bean : beans) {
+            _line(2, "READERS.put("+bean.typeName+".class, new "+bean.codecName+".Reader());");
+            _line(2, "WRITERS.put("+bean.typeName+".class, new "+bean.codecName+".Writer());");
+        }
+        _line(1, "}");
+        _line(0, "");
+        _line(1, "@Override");
+        _line(1, "protected void register(ExtensionContext ctxt) {");
+        _line(2, "ctxt.insertProvider(new Provider());");
+        _line(1, "}");
+        _line(0, "");
+        _line(1, "/**");
+        _line(1, " * Generated code is not used if introspection may differ from the default:");
+        _line(1, " * either due to features, or a {@link ReaderWriterModifier} (like one");
+        _line(1, " * registered for annotation support) that may change Bean definitions");
+        _line(1, " */");
+        _line(1, "static boolean _useGenerated(int features, ReaderWriterModifier modifier) {");
+        _line(2, "return (modifier == null) && ((features & INTROSPECTION_FEATURES)");
+        _line(4, "== (JSON.Feature.defaults() & INTROSPECTION_FEATURES));");
+        _line(1, "}");
+        _line(0, "");
+        _line(1, "final static class Provider extends ReaderWriterProvider");
+        _line(1, "{");
+        _line(2, "@Override");
+        _line(2, "public ValueReader findValueReader(JSONReader ctxt, Class<?> type) {");
+        _line(3, "return _useGenerated(ctxt.features(), ctxt.readerWriterModifier())");
+        _line(5, "? READERS.get(type) : null;");
+        _line(2, "}");
+        _line(0, "");
+        _line(2, "@Override");
+        _line(2, "public ValueWriter findValueWriter(JSONWriter ctxt, Class<?> type) {");
+        _line(3, "return _useGenerated(ctxt.features(), ctxt.readerWriterModifier())");
+        _line(5, "? WRITERS.get(type) : null;");
+        _line(2, "}");
+        _line(1, "}");
+        _line(0, "}");
+        return _sb.toString();
+    }
+
+    /*
+    /**********************************************************************
+    /* Helper methods
+    /**********************************************************************
+     */
+
+    private void _header(String pkg, String desc)
+    {
+        if (!pkg.isEmpty()) {
+            _line(0, "package "+pkg+";");
+            _line(0, "");
+        }
+        for (String imp : IMPORTS) {
+            _line(0, imp.isEmpty() ? "" : "import "+imp+";");
+        }
+        _line(0, "");
+        _line(0, "/**");
+        _line(0, " * "+desc);
+        _line(0, " *<p>");
+        _line(0, " * NOTE: generated by {@code "+JrSerializableProcessor.class.getName()+"}, do not edit.");
+        _line(0, " */");
+    }
+
+    private void _line(int indent, String line)
+    {
+        for (int i = 0; i < indent; ++i) {
+            _sb.append("    ");
+        }
+        _sb.append(line).append('\n');
+    }
+
+    private static String _escape(String str) {
+        return str.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+}
@@ -0,0 +1,35 @@
+package com.fasterxml.jackson.jr.annotationprocessor;
+
+import java.lang.annotation.*;
+
+/**
+ * Marker annotation that indicates that {@link JrSerializableProcessor}
+ * should generate {@code ValueReader} and {@code ValueWriter} implementations
+ * for annotated Bean class at compile time.
+ * Generated readers and writers are registered via a generated
+ * {@code JacksonJrExtension}, {@code JrGeneratedExtension}, one per
+ * package that contains annotated classes:
+ *<pre>
+ *  JSON json = JSON.builder()
+ *      .register(new com.acme.model.JrGeneratedExtension())
+ *      .build();
+ *</pre>
+ *<p>
+ * Properties are detected using the same rules as the default
+ * {@code BeanPropertyIntrospector} uses with default settings; if
+ * a {@code JSON} instance is configured with non-default settings
+ * for features that affect introspection (like {@code USE_FIELDS}),
+ * generated readers and writers are not used but default reflection-based
+ * handling is used instead. The same is true if a {@code ReaderWriterModifier}
+ * is registered (for example, by {@code JacksonAnnotationExtension} of
+ * {@code jackson-jr-annotation-support}), since it may change
+ * definitions of properties (names, ignorals) at runtime.
+ *
+ * @since 2.19
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.CLASS)
+@Documented
+public @interface JrSerializable
+{
+}
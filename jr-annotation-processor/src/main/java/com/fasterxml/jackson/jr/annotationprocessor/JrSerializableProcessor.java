@@ -0,0 +1,116 @@
+package com.fasterxml.jackson.jr.annotationprocessor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.*;
+
+import javax.annotation.processing.*;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+
+/**
+ * Annotation processor that generates {@code ValueReader} and
+ * {@code ValueWriter} implementations for classes annotated with
+ * {@link JrSerializable}, as well as a {@code JacksonJrExtension}
+ * ({@code JrGeneratedExtension}) for each package with annotated classes;
+ * registering it with {@code JSON.builder()} makes generated readers
+ * and writers to be used instead of reflection-based ones.
+ *<p>
+ * Generated readers match property names using a {@code switch}
+ * statement and call setters (or assign fields) directly; writers similarly
+ * call getters directly and write primitive values without boxing.
+ * Since readers and writers are generated there is no need to
+ * generate {@code POJODefinition}s: these are only used for constructing
+ * reflection-based readers and writers.
+ *<p>
+ * If code can not be generated for an annotated class (for example,
+ * due to lack of accessible no-arguments constructor), a warning is
+ * reported and class is handled using default reflection-based handling.
+ *
+ * @since 2.19
+ */
+@SupportedAnnotationTypes(JrSerializableProcessor.ANNOTATION_NAME)
+public class JrSerializableProcessor extends AbstractProcessor
+{
+    final static String ANNOTATION_NAME = "com.fasterxml.jackson.jr.annotationprocessor.JrSerializable";
+
+    /**
+     * Packages for which extension has already been generated (during an
+     * earlier round)
+     */
+    protected final Set<String> _generatedPackages = new HashSet<>();
+
+    public JrSerializableProcessor() { }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv)
+    {
+        final TypeElement annotation = processingEnv.getElementUtils().getTypeElement(ANNOTATION_NAME);
+        if (annotation == null) {
+            return false;
+        }
+        final Messager messager = processingEnv.getMessager();
+        final Map<String, List<BeanModel>> beansByPackage = new TreeMap<>();
+
+        for (Element elem : roundEnv.getElementsAnnotatedWith(annotation)) {
+            if (!(elem instanceof TypeElement)) {
+                continue;
+            }
+            List<String> problems = new ArrayList<>();
+            BeanModel bean = BeanModel.introspect(processingEnv.getElementUtils(),
+                    (TypeElement) elem, problems);
+            if (bean == null) {
+                messager.printMessage(Diagnostic.Kind.WARNING, String.format(
+"Can not generate Jackson jr reader/writer for `%s` (will use reflection-based handling): %s",
+                        elem, String.join("; ", problems)), elem);
+                continue;
+            }
+            beansByPackage.computeIfAbsent(bean.packageName, k -> new ArrayList<>())
+                .add(bean);
+        }
+
+        for (Map.Entry<String, List<BeanModel>> entry : beansByPackage.entrySet()) {
+            final String pkg = entry.getKey();
+            final List<BeanModel> beans = entry.getValue();
+            if (!_generatedPackages.add(pkg)) {
+                messager.printMessage(Diagnostic.Kind.ERROR, String.format(
+"Can not generate Jackson jr extension for package '%s' more than once (annotated types generated by other processors?)",
+                        pkg), beans.get(0).type);
+                continue;
+            }
+            try {
+                List<Element> origins = new ArrayList<>();
+                for (BeanModel bean : beans) {
+                    _write(_qualify(pkg, bean.codecName), CodeGenerator.codecSource(bean), bean.type);
+                    origins.add(bean.type);
+                }
+                _write(_qualify(pkg, CodeGenerator.EXTENSION_NAME),
+                        CodeGenerator.extensionSource(pkg, beans),
+                        origins.toArray(new Element[0]));
+            } catch (IOException e) {
+                messager.printMessage(Diagnostic.Kind.ERROR, String.format(
+                        "Failed to write Jackson jr generated code for package '%s': %s",
+                        pkg, e.getMessage()));
+            }
+        }
+        return true;
+    }
+
+    protected void _write(String className, String source, Element... origins) throws IOException
+    {
+        try (Writer w = processingEnv.getFiler().createSourceFile(className, origins).openWriter()) {
+            w.write(source);
+        }
+    }
+
+    private static String _qualify(String pkg, String name) {
+        return pkg.isEmpty() ? name : (pkg + "." + name);
+    }
+}
@@ -0,0 +1,9 @@
+module com.fasterxml.jackson.jr.annotationprocessor {
+    requires com.fasterxml.jackson.core;
+    requires java.compiler;
+
+    exports com.fasterxml.jackson.jr.annotationprocessor;
+
+    provides javax.annotation.processing.Processor with
+        com.fasterxml.jackson.jr.annotationprocessor.JrSerializableProcessor;
+}
@@ -0,0 +1,275 @@
+package com.fasterxml.jackson.jr.annotationprocessor;
+
+import java.util.*;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.jr.ob.JSON;
+import com.fasterxml.jackson.jr.ob.JSONObjectException;
+import com.fasterxml.jackson.jr.ob.JacksonJrExtension;
+import com.fasterxml.jackson.jr.ob.api.CollectionBuilder;
+import com.fasterxml.jackson.jr.ob.api.ExtensionContext;
+import com.fasterxml.jackson.jr.ob.api.MapBuilder;
+import com.fasterxml.jackson.jr.ob.api.ReaderWriterModifier;
+import com.fasterxml.jackson.jr.ob.impl.BeanPropertyIntrospector;
+import com.fasterxml.jackson.jr.ob.impl.JSONReader;
+import com.fasterxml.jackson.jr.ob.impl.JSONWriter;
+import com.fasterxml.jackson.jr.ob.impl.POJODefinition;
+import com.fasterxml.jackson.jr.ob.impl.ValueReaderLocator;
+import com.fasterxml.jackson.jr.ob.impl.ValueWriterLocator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GeneratedCodecTest
+{
+    enum Color { RED, GREEN; }
+
+    @JrSerializable
+    public static class Point {
+        private int x, y;
+
+        public Point() { }
+        public Point(int x, int y) {
+            this.x = x;
+            this.y = y;
+        }
+
+        public int getX() { return x; }
+        public void setX(int x) { this.x = x; }
+        public int getY() { return y; }
+        public void setY(int y) { this.y = y; }
+    }
+
+    static class BaseItem {
+        protected long id;
+
+        public long getId() { return id; }
+        public void setId(long id) { this.id = id; }
+    }
+
+    @JrSerializable
+    public static class Item extends BaseItem {
+        private String name;
+        private double score;
+        private boolean active;
+        private List<Point> points;
+        private Map<String, Integer> counts;
+
+        public Color color;
+        public String[] tags;
+        public Point origin;
+
+        public String getName() { return name; }
+        public Item setName(String n) { // "fluent" setter is fine
+            name = n;
+            return this;
+        }
+
+        public double getScore() { return score; }
+        public void setScore(double s) { score = s; }
+
+        public boolean isActive() { return active; }
+        public void setActive(boolean b) { active = b; }
+
+        public List<Point> getPoints() { return points; }
+        public void setPoints(List<Point> p) { points = p; }
+
+        public Map<String, Integer> getCounts() { return counts; }
+        public void setCounts(Map<String, Integer> c) { counts = c; }
+
+        // read-only property
+        public String getDescription() { return "Item #"+id; }
+    }
+
+    @JrSerializable
+    public static class Failing {
+        public int getValue() { throw new IllegalStateException("No value"); }
+        public void setValue(int v) {
+            throw new IllegalStateException("Bad value: "+v);
+        }
+    }
+
+    // Modifier that leaves out "name" property, similar to annotation-based ignoral
+    static class NoNameModifier extends ReaderWriterModifier {
+        @Override
+        public POJODefinition pojoDefinitionForDeserialization(JSONReader r, Class<?> type) {
+            return _withoutName(BeanPropertyIntrospector.instance().pojoDefinitionForDeserialization(r, type));
+        }
+
+        @Override
+        public POJODefinition pojoDefinitionForSerialization(JSONWriter w, Class<?> type) {
+            return _withoutName(BeanPropertyIntrospector.instance().pojoDefinitionForSerialization(w, type));
+        }
+
+        private POJODefinition _withoutName(POJODefinition def) {
+            List<POJODefinition.Prop> props = new ArrayList<>(def.getProperties());
+            props.removeIf(p -> p.name.equals("name"));
+            return def.withProperties(props);
+        }
+    }
+
+    private final JSON JSON_GEN = JSON.builder()
+            .register(new JrGeneratedExtension())
+            .build();
+
+    /*
+    /**********************************************************************
+    /* Test methods
+    /**********************************************************************
+     */
+
+    @Test
+    public void testGeneratedUsed() throws Exception
+    {
+        final int features = JSON.Feature.defaults();
+        JrGeneratedExtension.Provider prov = new JrGeneratedExtension.Provider();
+        JSONReader r = new JSONReader(CollectionBuilder.defaultImpl(), MapBuilder.defaultImpl())
+                .perOperationInstance(features, ValueReaderLocator.blueprint(null, null), null, null);
+        JSONWriter w = new JSONWriter().perOperationInstance(features,
+                ValueWriterLocator.blueprint(null, null), null, null);
+        assertEquals(GeneratedCodecTest_Item_JrCodec.Reader.class,
+                prov.findValueReader(r, Item.class).getClass());
+        assertEquals(GeneratedCodecTest_Item_JrCodec.Writer.class,
+                prov.findValueWriter(w, Item.class).getClass());
+        assertNull(prov.findValueReader(r, BaseItem.class));
+
+        // but not if introspection is changed
+        r = r.perOperationInstance(features & ~JSON.Feature.USE_FIELDS.mask(),
+                ValueReaderLocator.blueprint(null, null), null, null);
+        assertNull(prov.findValueReader(r, Item.class));
+
+        // nor if a modifier is registered
+        final ReaderWriterModifier mod = new NoNameModifier();
+        r = r.perOperationInstance(features, ValueReaderLocator.blueprint(null, mod), null, null);
+        assertNull(prov.findValueReader(r, Item.class));
+        w = w.perOperationInstance(features, ValueWriterLocator.blueprint(null, mod), null, null);
+        assertNull(prov.findValueWriter(w, Item.class));
+    }
+
+    @Test
+    public void testModifierRespected() throws Exception
+    {
+        JacksonJrExtension modExt = new JacksonJrExtension() {
+            @Override
+            protected void register(ExtensionContext ctxt) {
+                ctxt.insertModifier(new NoNameModifier());
+            }
+        };
+        final JSON json = JSON.builder()
+                .register(new JrGeneratedExtension())
+                .register(modExt)
+                .build();
+        Item item = json.beanFrom(Item.class, a2q("{'id':3,'name':'Bob'}"));
+        assertEquals(3L, item.id);
+        assertNull(item.name);
+        item.name = "Bob";
+        assertEquals(JSON.std.asString(item).replace(",\"name\":\"Bob\"", ""),
+                json.asString(item));
+    }
+
+    @Test
+    public void testRoundtrip() throws Exception
+    {
+        final String INPUT = a2q("{'active':true,'color':'GREEN','counts':{'a':1,'b':null},"
+                +"'description':'Item #7','id':7,'name':'Bob','origin':{'x':1,'y':-1},"
+                +"'points':[{'x':3,'y':4}],'score':0.5,'tags':['x','y']}");
+        Item item = JSON_GEN.beanFrom(Item.class, INPUT);
+        assertTrue(item.active);
+        assertEquals(Color.GREEN, item.color);
+        assertEquals(Integer.valueOf(1), item.counts.get("a"));
+        assertTrue(item.counts.containsKey("b"));
+        assertEquals(7L, item.id);
+        assertEquals("Bob", item.name);
+        assertEquals(-1, item.origin.y);
+        assertEquals(1, item.points.size());
+        assertEquals(4, item.points.get(0).y);
+        assertEquals(0.5, item.score);
+        assertArrayEquals(new String[] { "x", "y" }, item.tags);
+
+        // Output must be identical to that of reflection-based writer
+        assertEquals(JSON.std.asString(item), JSON_GEN.asString(item));
+        assertEquals(a2q("{'active':true,'color':'GREEN','counts':{'a':1},"
+                +"'description':'Item #7','id':7,'name':'Bob','origin':{'x':1,'y':-1},"
+                +"'points':[{'x':3,'y':4}],'score':0.5,'tags':['x','y']}"),
+                JSON_GEN.asString(item));
+
+        // and same for configuration changes
+        for (JSON.Feature f : new JSON.Feature[] {
+                JSON.Feature.WRITE_NULL_PROPERTIES, JSON.Feature.WRITE_READONLY_BEAN_PROPERTIES }) {
+            Item empty = new Item();
+            assertEquals(JSON.std.with(f).asString(empty), JSON_GEN.with(f).asString(empty));
+            assertEquals(JSON.std.without(f).asString(empty), JSON_GEN.without(f).asString(empty));
+        }
+    }
+
+    @Test
+    public void testNullsAndCoercions() throws Exception
+    {
+        Item item = JSON_GEN.beanFrom(Item.class, a2q("{'id':'12','score':3,'name':null,'points':null}"));
+        assertEquals(12L, item.id);
+        assertEquals(3.0, item.score);
+        assertNull(item.name);
+        assertNull(item.points);
+        assertNull(JSON_GEN.beanFrom(Item.class, "null"));
+
+        // `boolean` coerced same as by default reader
+        for (String doc : new String[] { "{'active':true}", "{'active':'true'}",
+                "{'active':null}", "{'active':false}", "{'active':'false'}" }) {
+            assertEquals(JSON.std.beanFrom(Item.class, a2q(doc)).active,
+                    JSON_GEN.beanFrom(Item.class, a2q(doc)).active);
+        }
+        try {
+            JSON_GEN.beanFrom(Item.class, a2q("{'active':[]}"));
+            fail("Should not pass");
+        } catch (JSONObjectException e) {
+            verifyException(e, "boolean");
+        }
+    }
+
+    @Test
+    public void testUnknownProperties() throws Exception
+    {
+        Point p = JSON_GEN.beanFrom(Point.class, a2q("{'x':1,'extra':[1,{'y':3}],'y':2}"));
+        assertEquals(1, p.x);
+        assertEquals(2, p.y);
+        try {
+            JSON_GEN.with(JSON.Feature.FAIL_ON_UNKNOWN_BEAN_PROPERTY)
+                .beanFrom(Point.class, a2q("{'x':1,'z':2}"));
+            fail("Should not pass");
+        } catch (JSONObjectException e) {
+            verifyException(e, "Unrecognized JSON property \"z\"");
+            verifyException(e, "known properties: [\"x\", \"y\"]");
+        }
+    }
+
+    @Test
+    public void testAccessorFailures() throws Exception
+    {
+        try {
+            JSON_GEN.beanFrom(Failing.class, a2q("{'value':3}"));
+            fail("Should not pass");
+        } catch (JSONObjectException e) {
+            verifyException(e, "Failed to set property 'value'");
+            verifyException(e, "Bad value: 3");
+        }
+        try {
+            JSON_GEN.asString(new Failing());
+            fail("Should not pass");
+        } catch (JSONObjectException e) {
+            verifyException(e, "Failed to access property 'value'");
+            verifyException(e, "No value");
+        }
+    }
+
+    private void verifyException(Throwable e, String match)
+    {
+        String msg = String.valueOf(e.getMessage());
+        if (!msg.contains(match)) {
+            fail("Expected an exception with substring ("+match+"): got one with message \""+msg+"\"");
+        }
+    }
+
+    private String a2q(String json) {
+        return json.replace("'", "\"");
+    }
+}
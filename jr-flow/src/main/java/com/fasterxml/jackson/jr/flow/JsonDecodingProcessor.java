@@ -0,0 +1,362 @@
+package com.fasterxml.jackson.jr.flow;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+import com.fasterxml.jackson.core.TreeNode;
+import com.fasterxml.jackson.jr.ob.JSON;
+import com.fasterxml.jackson.jr.ob.ValueDecoder;
+
+/**
+ * {@link Flow.Processor} that decodes a stream of {@link ByteBuffer}s, containing
+ * a sequence of JSON values (root-level values, like line-delimited JSON, or elements
+ * of a single JSON Array), into values published to its {@link Flow.Subscriber}.
+ * Decoding is done using a {@link ValueDecoder}, without blocking.
+ *<p>
+ * Processing is backpressure-aware: buffers are requested from upstream one at
+ * a time, and only when there is demand for values that can not be met by values
+ * already decoded; so at most values decoded from a single buffer are held in memory.
+ * Buffers must not be modified after they have been passed to the processor.
+ *<p>
+ * Processor supports a single {@link Flow.Subscriber}. Since {@link Flow} does not
+ * allow {@code null} items, JSON {@code null}s in content are skipped.
+ * Failure to decode content (including binding of values) terminates processing:
+ * upstream is cancelled and the failure signalled to the subscriber.
+ *
+ * @since 2.19
+ */
+public class JsonDecodingProcessor<T> implements Flow.Processor<ByteBuffer, T>
+{
+    /**
+     * Factory for constructing {@link ValueDecoder} that passes decoded values
+     * to given consumer: usually one of {@link JSON} methods like
+     * {@link JSON#beanSequenceDecoder}.
+     */
+    @FunctionalInterface
+    public interface DecoderFactory<T> {
+        public ValueDecoder<T> create(Consumer<? super T> consumer) throws IOException;
+    }
+
+    protected final ValueDecoder<T> _decoder;
+
+    /**
+     * Values decoded but not yet published; only accessed when draining.
+     */
+    protected final ArrayDeque<T> _decoded = new ArrayDeque<>();
+
+    /**
+     * Buffers received from upstream but not yet decoded.
+     */
+    protected final ConcurrentLinkedQueue<ByteBuffer> _input = new ConcurrentLinkedQueue<>();
+
+    protected final AtomicReference<Flow.Subscriber<? super T>> _downstream = new AtomicReference<>();
+
+    /**
+     * Outstanding demand of downstream subscriber
+     */
+    protected final AtomicLong _requested = new AtomicLong();
+
+    /**
+     * Counter used for ensuring that only one thread at a time is draining
+     */
+    protected final AtomicInteger _wip = new AtomicInteger();
+
+    protected volatile Flow.Subscription _upstream;
+
+    protected volatile boolean _subscribed;
+
+    protected volatile boolean _upstreamDone;
+
+    protected volatile Throwable _upstreamError;
+
+    protected volatile Throwable _requestError;
+
+    protected volatile boolean _cancelled;
+
+    /**
+     * Flag set when a buffer has been requested from upstream, but not yet
+     * received; only accessed when draining.
+     */
+    protected boolean _inputRequested;
+
+    /**
+     * Flag set when end of input has been passed to decoder; only accessed
+     * when draining.
+     */
+    protected boolean _inputEnded;
+
+    /**
+     * Flag set when processing has terminated; only accessed when draining.
+     */
+    protected boolean _terminated;
+
+    public JsonDecodingProcessor(DecoderFactory<T> decoderFactory) throws IOException
+    {
+        _decoder = decoderFactory.create(value -> {
+            if (value != null) {
+                _decoded.add(value);
+            }
+        });
+    }
+
+    /**
+     * Factory method for constructing processor that decodes values as
+     * Beans of given type.
+     */
+    public static <T> JsonDecodingProcessor<T> forBeans(JSON json, Class<T> type)
+        throws IOException
+    {
+        return new JsonDecodingProcessor<T>(c -> json.beanSequenceDecoder(type, c));
+    }
+
+    /**
+     * Factory method for constructing processor that decodes values as
+     * {@link Map}s.
+     */
+    public static JsonDecodingProcessor<Map<String,Object>> forMaps(JSON json)
+        throws IOException
+    {
+        return new JsonDecodingProcessor<Map<String,Object>>(c -> json.mapSequenceDecoder(c));
+    }
+
+    /**
+     * Factory method for constructing processor that decodes values as
+     * "Simple" values ({@link Map}s, {@link java.util.List}s, {@link String}s,
+     * {@link Number}s and {@link Boolean}s).
+     */
+    public static JsonDecodingProcessor<Object> forAny(JSON json)
+        throws IOException
+    {
+        return new JsonDecodingProcessor<Object>(c -> json.anySequenceDecoder(c::accept));
+    }
+
+    /**
+     * Factory method for constructing processor that decodes values as
+     * trees, using {@link com.fasterxml.jackson.core.TreeCodec} configured
+     * for given {@link JSON}.
+     */
+    public static <T extends TreeNode> JsonDecodingProcessor<T> forTrees(JSON json)
+        throws IOException
+    {
+        return new JsonDecodingProcessor<T>(c -> json.treeSequenceDecoder(c));
+    }
+
+    /*
+    /**********************************************************************
+    /* Flow.Publisher implementation
+    /**********************************************************************
+     */
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super T> subscriber)
+    {
+        Objects.requireNonNull(subscriber);
+        if (!_downstream.compareAndSet(null, subscriber)) {
+            subscriber.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(long n) { }
+
+                @Override
+                public void cancel() { }
+            });
+            subscriber.onError(new IllegalStateException("Processor only supports a single Subscriber"));
+            return;
+        }
+        subscriber.onSubscribe(new Flow.Subscription() {
+            @Override
+            public void request(long n) {
+                if (n <= 0L) {
+                    _requestError = new IllegalArgumentException(
+                            "Number of requested items must be positive, was "+n);
+                } else {
+                    _requested.getAndAccumulate(n, (a, b) -> (a + b < 0L) ? Long.MAX_VALUE : a + b);
+                }
+                _drain();
+            }
+
+            @Override
+            public void cancel() {
+                _cancelled = true;
+                _drain();
+            }
+        });
+        // no signals to be sent before `onSubscribe()` has returned
+        _subscribed = true;
+        _drain();
+    }
+
+    /*
+    /**********************************************************************
+    /* Flow.Subscriber implementation
+    /**********************************************************************
+     */
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription)
+    {
+        Objects.requireNonNull(subscription);
+        if (_upstream != null) {
+            subscription.cancel();
+            return;
+        }
+        _upstream = subscription;
+        _drain();
+    }
+
+    @Override
+    public void onNext(ByteBuffer item)
+    {
+        _input.add(item);
+        _drain();
+    }
+
+    @Override
+    public void onError(Throwable error)
+    {
+        _upstreamError = Objects.requireNonNull(error);
+        _upstreamDone = true;
+        _drain();
+    }
+
+    @Override
+    public void onComplete()
+    {
+        _upstreamDone = true;
+        _drain();
+    }
+
+    /*
+    /**********************************************************************
+    /* Internal methods
+    /**********************************************************************
+     */
+
+    protected void _drain()
+    {
+        if (_wip.getAndIncrement() != 0) {
+            return;
+        }
+        int missed = 1;
+        do {
+            _drainLoop();
+            missed = _wip.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    private void _drainLoop()
+    {
+        final Flow.Subscriber<? super T> downstream = _downstream.get();
+        while (true) {
+            if (_terminated) {
+                // may have received upstream subscription after cancellation
+                _cancelUpstream();
+                _input.clear();
+                return;
+            }
+            if (_cancelled) {
+                _terminate(true);
+                return;
+            }
+            final Throwable requestError = _requestError;
+            if (requestError != null) {
+                _terminate(true);
+                downstream.onError(requestError);
+                return;
+            }
+            if (!_subscribed) {
+                return;
+            }
+            final long requested = _requested.get();
+            long emitted = 0L;
+            while ((emitted != requested) && !_decoded.isEmpty() && !_cancelled) {
+                downstream.onNext(_decoded.poll());
+                ++emitted;
+            }
+            if ((emitted != 0L) && (requested != Long.MAX_VALUE)) {
+                _requested.addAndGet(-emitted);
+            }
+            if (_cancelled) {
+                continue;
+            }
+            if (!_decoded.isEmpty()) {
+                if (emitted == 0L) { // no demand
+                    return;
+                }
+                continue;
+            }
+            // Need more values: first check completion, then input (order matters)
+            final boolean done = _upstreamDone;
+            final ByteBuffer buffer = _input.poll();
+            if (buffer != null) {
+                _inputRequested = false;
+                try {
+                    _decoder.feed(buffer);
+                } catch (Exception e) {
+                    _terminate(true);
+                    downstream.onError(e);
+                    return;
+                }
+                continue;
+            }
+            if (done) {
+                final Throwable error = _upstreamError;
+                if (error != null) {
+                    _terminate(false);
+                    downstream.onError(error);
+                    return;
+                }
+                if (!_inputEnded) {
+                    _inputEnded = true;
+                    try {
+                        _decoder.endOfInput();
+                    } catch (Exception e) {
+                        _terminate(false);
+                        downstream.onError(e);
+                        return;
+                    }
+                    continue;
+                }
+                _terminate(false);
+                downstream.onComplete();
+                return;
+            }
+            final Flow.Subscription upstream = _upstream;
+            if ((upstream != null) && !_inputRequested && (_requested.get() > 0L)) {
+                _inputRequested = true;
+                upstream.request(1L);
+                continue;
+            }
+            return;
+        }
+    }
+
+    private void _terminate(boolean cancelUpstream)
+    {
+        _terminated = true;
+        if (cancelUpstream) {
+            _cancelUpstream();
+        }
+        _input.clear();
+        _decoded.clear();
+        try {
+            _decoder.close();
+        } catch (IOException e) { }
+    }
+
+    private void _cancelUpstream()
+    {
+        final Flow.Subscription upstream = _upstream;
+        if ((upstream != null) && !_upstreamDone) {
+            upstream.cancel();
+        }
+    }
+}
@@ -0,0 +1,431 @@
+package com.fasterxml.jackson.jr.flow;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
+import com.fasterxml.jackson.jr.ob.JSON;
+import com.fasterxml.jackson.jr.ob.JSONSession;
+
+/**
+ * {@link Flow.Publisher} that serializes values published by a source
+ * {@link Flow.Publisher} as a JSON value sequence, and publishes serialized
+ * content as chunks of bytes ({@link ByteBuffer}s). Sequence is framed either
+ * as a single JSON Array ({@link Framing#ARRAY}), or as line-delimited JSON
+ * ({@link Framing#LINES}).
+ *<p>
+ * Publishing is backpressure-aware: values are only requested from source
+ * when there is demand for chunks, so the amount of content held in memory
+ * is bounded by the chunk size (plus size of a single serialized value)
+ * regardless of the number of values.
+ * Chunks are published once they reach configured size; or, if no more values
+ * are immediately available from source, with whatever content is buffered.
+ *<p>
+ * Each subscriber gets its own subscription to the source. Values are
+ * written using a {@link JSONSession} of given {@link JSON}, so that writer
+ * state is reused across values; note that generator-level configuration
+ * (like pretty-printing) is not applied.
+ *
+ * @since 2.19
+ */
+public class JsonEncodingPublisher<T> implements Flow.Publisher<ByteBuffer>
+{
+    /**
+     * Enumeration of supported ways to frame value sequences.
+     */
+    public enum Framing {
+        /**
+         * Values written as elements of a single JSON Array
+         */
+        ARRAY,
+
+        /**
+         * Values written as root-level values, each followed by a linefeed
+         * (as in NDJSON / "JSON Lines")
+         */
+        LINES;
+    }
+
+    /**
+     * Default size (in bytes) of chunks to publish
+     */
+    public final static int DEFAULT_CHUNK_SIZE = 8000;
+
+    /**
+     * Number of values to request from source at a time
+     */
+    protected final static int PREFETCH = 32;
+
+    protected final JSON _json;
+
+    protected final Flow.Publisher<? extends T> _source;
+
+    protected final Framing _framing;
+
+    protected final int _chunkSize;
+
+    public JsonEncodingPublisher(JSON json, Flow.Publisher<? extends T> source,
+            Framing framing) {
+        this(json, source, framing, DEFAULT_CHUNK_SIZE);
+    }
+
+    public JsonEncodingPublisher(JSON json, Flow.Publisher<? extends T> source,
+            Framing framing, int chunkSize)
+    {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Chunk size must be positive, was "+chunkSize);
+        }
+        _json = Objects.requireNonNull(json);
+        _source = Objects.requireNonNull(source);
+        _framing = Objects.requireNonNull(framing);
+        _chunkSize = chunkSize;
+    }
+
+    /**
+     * Factory method for constructing publisher that serializes values of
+     * given source as a JSON Array.
+     */
+    public static <T> JsonEncodingPublisher<T> asArray(JSON json, Flow.Publisher<? extends T> source) {
+        return new JsonEncodingPublisher<T>(json, source, Framing.ARRAY);
+    }
+
+    /**
+     * Factory method for constructing publisher that serializes values of
+     * given source as line-delimited JSON.
+     */
+    public static <T> JsonEncodingPublisher<T> asLines(JSON json, Flow.Publisher<? extends T> source) {
+        return new JsonEncodingPublisher<T>(json, source, Framing.LINES);
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super ByteBuffer> subscriber)
+    {
+        Objects.requireNonNull(subscriber);
+        EncodingSubscription<T> subscription = new EncodingSubscription<T>(this, subscriber);
+        subscriber.onSubscribe(subscription);
+        // no signals to be sent before `onSubscribe()` has returned
+        subscription._subscribed = true;
+        _source.subscribe(subscription);
+    }
+
+    /*
+    /**********************************************************************
+    /* Helper classes
+    /**********************************************************************
+     */
+
+    /**
+     * Subscription given to downstream subscriber, which is also the
+     * subscriber to source.
+     */
+    protected static class EncodingSubscription<T>
+        implements Flow.Subscription, Flow.Subscriber<T>
+    {
+        protected final Flow.Subscriber<? super ByteBuffer> _downstream;
+
+        protected final JSONSession _session;
+
+        protected final Framing _framing;
+
+        protected final int _chunkSize;
+
+        protected final ConcurrentLinkedQueue<T> _items = new ConcurrentLinkedQueue<>();
+
+        protected final AtomicLong _requested = new AtomicLong();
+
+        protected final AtomicInteger _wip = new AtomicInteger();
+
+        protected volatile Flow.Subscription _upstream;
+
+        protected volatile boolean _subscribed;
+
+        protected volatile boolean _upstreamDone;
+
+        protected volatile Throwable _upstreamError;
+
+        protected volatile Throwable _requestError;
+
+        protected volatile boolean _cancelled;
+
+        // State below only accessed when draining:
+
+        protected final ByteArrayBuilder _bytes = new ByteArrayBuilder();
+
+        protected final ArrayDeque<ByteBuffer> _chunks = new ArrayDeque<>();
+
+        protected JsonGenerator _generator;
+
+        /**
+         * Number of items requested from upstream but not yet received
+         */
+        protected long _upstreamPending;
+
+        protected boolean _finished;
+
+        protected boolean _terminated;
+
+        protected EncodingSubscription(JsonEncodingPublisher<T> publisher,
+                Flow.Subscriber<? super ByteBuffer> downstream)
+        {
+            _downstream = downstream;
+            _session = publisher._json.session();
+            _framing = publisher._framing;
+            _chunkSize = publisher._chunkSize;
+        }
+
+        /*
+        /******************************************************************
+        /* Flow.Subscription implementation (for downstream)
+        /******************************************************************
+         */
+
+        @Override
+        public void request(long n) {
+            if (n <= 0L) {
+                _requestError = new IllegalArgumentException(
+                        "Number of requested items must be positive, was "+n);
+            } else {
+                _requested.getAndAccumulate(n, (a, b) -> (a + b < 0L) ? Long.MAX_VALUE : a + b);
+            }
+            _drain();
+        }
+
+        @Override
+        public void cancel() {
+            _cancelled = true;
+            _drain();
+        }
+
+        /*
+        /******************************************************************
+        /* Flow.Subscriber implementation (for source)
+        /******************************************************************
+         */
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription)
+        {
+            Objects.requireNonNull(subscription);
+            if (_upstream != null) {
+                subscription.cancel();
+                return;
+            }
+            _upstream = subscription;
+            _drain();
+        }
+
+        @Override
+        public void onNext(T item) {
+            _items.add(item);
+            _drain();
+        }
+
+        @Override
+        public void onError(Throwable error) {
+            _upstreamError = Objects.requireNonNull(error);
+            _upstreamDone = true;
+            _drain();
+        }
+
+        @Override
+        public void onComplete() {
+            _upstreamDone = true;
+            _drain();
+        }
+
+        /*
+        /******************************************************************
+        /* Internal methods
+        /******************************************************************
+         */
+
+        protected void _drain()
+        {
+            if (_wip.getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            do {
+                _drainLoop();
+                missed = _wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void _drainLoop()
+        {
+            final Flow.Subscriber<? super ByteBuffer> downstream = _downstream;
+            while (true) {
+                if (_terminated) {
+                    // may have received upstream subscription after cancellation
+                    _cancelUpstream();
+                    _items.clear();
+                    return;
+                }
+                if (_cancelled) {
+                    _terminate(true);
+                    return;
+                }
+                final Throwable requestError = _requestError;
+                if (requestError != null) {
+                    _terminate(true);
+                    downstream.onError(requestError);
+                    return;
+                }
+                if (!_subscribed) {
+                    return;
+                }
+                final long requested = _requested.get();
+                long emitted = 0L;
+                while ((emitted != requested) && !_chunks.isEmpty() && !_cancelled) {
+                    downstream.onNext(_chunks.poll());
+                    ++emitted;
+                }
+                if ((emitted != 0L) && (requested != Long.MAX_VALUE)) {
+                    _requested.addAndGet(-emitted);
+                }
+                if (_cancelled) {
+                    continue;
+                }
+                if (!_chunks.isEmpty()) {
+                    if (emitted == 0L) { // no demand
+                        return;
+                    }
+                    continue;
+                }
+                // Need more content: first check completion, then items (order matters)
+                final boolean done = _upstreamDone;
+                final T item = _items.poll();
+                try {
+                    if (item != null) {
+                        --_upstreamPending;
+                        _write(item);
+                        continue;
+                    }
+                    if (done) {
+                        final Throwable error = _upstreamError;
+                        if (error != null) {
+                            _terminate(false);
+                            downstream.onError(error);
+                            return;
+                        }
+                        if (!_finished) {
+                            _finished = true;
+                            _finish();
+                            continue;
+                        }
+                        _terminate(false);
+                        downstream.onComplete();
+                        return;
+                    }
+                    // No more items available for now; publish what we have, if anything
+                    if (_buffered() > 0) {
+                        _chunks.add(_takeChunk());
+                        continue;
+                    }
+                } catch (Exception e) {
+                    _terminate(true);
+                    downstream.onError(e);
+                    return;
+                }
+                final Flow.Subscription upstream = _upstream;
+                if ((upstream != null) && (_upstreamPending <= 0L) && (_requested.get() > 0L)) {
+                    _upstreamPending = PREFETCH;
+                    upstream.request(PREFETCH);
+                    continue;
+                }
+                return;
+            }
+        }
+
+        private void _write(T item) throws IOException
+        {
+            JsonGenerator g = _generator();
+            _session.write(item, g);
+            if (_framing == Framing.LINES) {
+                g.writeRaw('\n');
+            }
+            if (_buffered() >= _chunkSize) {
+                _chunks.add(_takeChunk());
+            }
+        }
+
+        private void _finish() throws IOException
+        {
+            if (_framing == Framing.ARRAY) {
+                // even if there were no values, need to write an empty Array
+                _generator().writeEndArray();
+            }
+            if (_generator != null) {
+                _generator.close();
+                if (_bytes.size() > 0) {
+                    _chunks.add(_takeChunk());
+                }
+            }
+        }
+
+        private JsonGenerator _generator() throws IOException
+        {
+            JsonGenerator g = _generator;
+            if (g == null) {
+                g = _session.json().getStreamingFactory().createGenerator(_bytes, JsonEncoding.UTF8);
+                if (_framing == Framing.ARRAY) {
+                    g.writeStartArray();
+                } else {
+                    // values separated by linefeeds instead
+                    g.setRootValueSeparator(null);
+                }
+                _generator = g;
+            }
+            return g;
+        }
+
+        /**
+         * @return Number of bytes of content written but not yet published
+         */
+        private int _buffered() {
+            int count = _bytes.size();
+            if (_generator != null) {
+                count += Math.max(0, _generator.getOutputBuffered());
+            }
+            return count;
+        }
+
+        private ByteBuffer _takeChunk() throws IOException
+        {
+            if ((_generator != null) && !_generator.isClosed()) {
+                _generator.flush();
+            }
+            ByteBuffer chunk = ByteBuffer.wrap(_bytes.toByteArray());
+            _bytes.reset();
+            return chunk;
+        }
+
+        private void _terminate(boolean cancelUpstream)
+        {
+            _terminated = true;
+            if (cancelUpstream) {
+                _cancelUpstream();
+            }
+            _items.clear();
+            _chunks.clear();
+            _generator = null;
+            _bytes.reset();
+        }
+
+        private void _cancelUpstream()
+        {
+            final Flow.Subscription upstream = _upstream;
+            if ((upstream != null) && !_upstreamDone) {
+                upstream.cancel();
+            }
+        }
+    }
+}
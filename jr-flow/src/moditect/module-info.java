@@ -0,0 +1,7 @@
+// Generated using Moditect maven plugin
+module com.fasterxml.jackson.jr.flow {
+    requires com.fasterxml.jackson.core;
+    requires transitive com.fasterxml.jackson.jr.ob;
+
+    exports com.fasterxml.jackson.jr.flow;
+}
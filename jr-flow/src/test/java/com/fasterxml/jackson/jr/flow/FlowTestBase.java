@@ -0,0 +1,154 @@
+package com.fasterxml.jackson.jr.flow;
+
+import java.nio.ByteBuffer;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public abstract class FlowTestBase
+{
+    /**
+     * Simple synchronous publisher of given items, for verifying that
+     * demand is respected.
+     */
+    static class IterablePublisher<T> implements Flow.Publisher<T>
+    {
+        private final Iterable<T> _items;
+
+        final AtomicLong requested = new AtomicLong();
+
+        volatile boolean cancelled;
+
+        IterablePublisher(Iterable<T> items) {
+            _items = items;
+        }
+
+        @Override
+        public void subscribe(Flow.Subscriber<? super T> subscriber)
+        {
+            final Iterator<T> it = _items.iterator();
+            subscriber.onSubscribe(new Flow.Subscription() {
+                private long _demand;
+                private boolean _emitting, _done;
+
+                @Override
+                public void request(long n) {
+                    requested.addAndGet(n);
+                    _demand += n;
+                    if (_emitting) { // re-entrant call
+                        return;
+                    }
+                    _emitting = true;
+                    while (_demand > 0 && !_done && !cancelled) {
+                        if (!it.hasNext()) {
+                            _done = true;
+                            subscriber.onComplete();
+                            break;
+                        }
+                        --_demand;
+                        subscriber.onNext(it.next());
+                    }
+                    if (!_done && !cancelled && !it.hasNext()) {
+                        _done = true;
+                        subscriber.onComplete();
+                    }
+                    _emitting = false;
+                }
+
+                @Override
+                public void cancel() {
+                    cancelled = true;
+                }
+            });
+        }
+    }
+
+    /**
+     * Subscriber that collects items, requesting given number of items at a time
+     */
+    static class CollectingSubscriber<T> implements Flow.Subscriber<T>
+    {
+        final List<T> items = Collections.synchronizedList(new ArrayList<T>());
+
+        final CompletableFuture<List<T>> result = new CompletableFuture<>();
+
+        private final long _batch;
+
+        private long _remaining;
+
+        Flow.Subscription subscription;
+
+        CollectingSubscriber(long batch) {
+            _batch = batch;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription s) {
+            subscription = s;
+            if (_batch > 0) {
+                _remaining = _batch;
+                s.request(_batch);
+            }
+        }
+
+        @Override
+        public void onNext(T item) {
+            assertNotNull(item);
+            items.add(item);
+            if ((_batch > 0) && (--_remaining == 0)) {
+                _remaining = _batch;
+                subscription.request(_batch);
+            }
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            result.completeExceptionally(t);
+        }
+
+        @Override
+        public void onComplete() {
+            result.complete(items);
+        }
+
+        List<T> await() throws Exception {
+            return result.get(10, TimeUnit.SECONDS);
+        }
+
+        Throwable awaitError() throws Exception {
+            try {
+                result.get(10, TimeUnit.SECONDS);
+            } catch (java.util.concurrent.ExecutionException e) {
+                return e.getCause();
+            }
+            fail("Should have failed");
+            return null;
+        }
+    }
+
+    static List<ByteBuffer> chunks(byte[] data, int chunkSize)
+    {
+        List<ByteBuffer> result = new ArrayList<>();
+        for (int offset = 0; offset < data.length; offset += chunkSize) {
+            result.add(ByteBuffer.wrap(data, offset, Math.min(chunkSize, data.length - offset)));
+        }
+        return result;
+    }
+
+    static byte[] concat(List<ByteBuffer> buffers)
+    {
+        int len = 0;
+        for (ByteBuffer bb : buffers) {
+            len += bb.remaining();
+        }
+        ByteBuffer result = ByteBuffer.allocate(len);
+        for (ByteBuffer bb : buffers) {
+            result.put(bb.duplicate());
+        }
+        return result.array();
+    }
+}
@@ -0,0 +1,128 @@
+package com.fasterxml.jackson.jr.flow;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.SubmissionPublisher;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.jr.ob.JSON;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JsonDecodingProcessorTest extends FlowTestBase
+{
+    static class Bean {
+        public int id;
+        public String msg;
+    }
+
+    private final JSON JSON_STD = JSON.std;
+
+    @Test
+    public void testBeansFromSubmissionPublisher() throws Exception
+    {
+        final byte[] doc = _ndjson(500);
+        JsonDecodingProcessor<Bean> proc = JsonDecodingProcessor.forBeans(JSON_STD, Bean.class);
+        CollectingSubscriber<Bean> sub = new CollectingSubscriber<>(3);
+        proc.subscribe(sub);
+        try (SubmissionPublisher<ByteBuffer> pub = new SubmissionPublisher<>()) {
+            pub.subscribe(proc);
+            for (ByteBuffer bb : chunks(doc, 17)) {
+                pub.submit(bb);
+            }
+        }
+        List<Bean> beans = sub.await();
+        assertEquals(500, beans.size());
+        for (int i = 0; i < beans.size(); ++i) {
+            assertEquals(i, beans.get(i).id);
+            assertEquals("Message #"+i, beans.get(i).msg);
+        }
+    }
+
+    @Test
+    public void testWrappedMapsSkippingNulls() throws Exception
+    {
+        final byte[] doc = "[{\"a\":1},null,{\"b\":[true]}, {}]".getBytes(StandardCharsets.UTF_8);
+        JsonDecodingProcessor<Map<String,Object>> proc = JsonDecodingProcessor.forMaps(JSON_STD);
+        CollectingSubscriber<Map<String,Object>> sub = new CollectingSubscriber<>(Long.MAX_VALUE);
+        proc.subscribe(sub);
+        new IterablePublisher<>(chunks(doc, 5)).subscribe(proc);
+        assertEquals(Arrays.asList(Collections.singletonMap("a", 1),
+                Collections.singletonMap("b", Arrays.asList(true)),
+                Collections.emptyMap()),
+                sub.await());
+    }
+
+    @Test
+    public void testBackpressure() throws Exception
+    {
+        // one value per buffer, to make counting easy
+        List<ByteBuffer> buffers = new ArrayList<>();
+        for (int i = 0; i < 100; ++i) {
+            buffers.add(ByteBuffer.wrap((i+" ").getBytes(StandardCharsets.UTF_8)));
+        }
+        IterablePublisher<ByteBuffer> pub = new IterablePublisher<>(buffers);
+        JsonDecodingProcessor<Object> proc = JsonDecodingProcessor.forAny(JSON_STD);
+        CollectingSubscriber<Object> sub = new CollectingSubscriber<>(0);
+        proc.subscribe(sub);
+        pub.subscribe(proc);
+        // nothing requested by downstream, nothing by processor
+        assertEquals(0L, pub.requested.get());
+        sub.subscription.request(5);
+        assertEquals(5, sub.items.size());
+        assertEquals(5L, pub.requested.get());
+        sub.subscription.cancel();
+        assertTrue(pub.cancelled);
+        assertEquals(Arrays.asList(0, 1, 2, 3, 4), sub.items);
+    }
+
+    @Test
+    public void testInvalidContent() throws Exception
+    {
+        final byte[] doc = "{\"id\":1}\n{\"id\":2]\n{\"id\":3}".getBytes(StandardCharsets.UTF_8);
+        IterablePublisher<ByteBuffer> pub = new IterablePublisher<>(chunks(doc, 4));
+        JsonDecodingProcessor<Bean> proc = JsonDecodingProcessor.forBeans(JSON_STD, Bean.class);
+        CollectingSubscriber<Bean> sub = new CollectingSubscriber<>(10);
+        proc.subscribe(sub);
+        pub.subscribe(proc);
+        Throwable t = sub.awaitError();
+        assertTrue(t instanceof JsonParseException, "Unexpected failure: "+t);
+        assertEquals(1, sub.items.size());
+        assertTrue(pub.cancelled);
+    }
+
+    @Test
+    public void testTruncatedContent() throws Exception
+    {
+        final byte[] doc = "{\"id\":1} {\"id\":".getBytes(StandardCharsets.UTF_8);
+        JsonDecodingProcessor<Bean> proc = JsonDecodingProcessor.forBeans(JSON_STD, Bean.class);
+        CollectingSubscriber<Bean> sub = new CollectingSubscriber<>(10);
+        proc.subscribe(sub);
+        new IterablePublisher<>(chunks(doc, 100)).subscribe(proc);
+        Throwable t = sub.awaitError();
+        assertTrue(t instanceof JsonParseException, "Unexpected failure: "+t);
+        assertEquals(1, sub.items.size());
+    }
+
+    @Test
+    public void testSecondSubscriberRejected() throws Exception
+    {
+        JsonDecodingProcessor<Object> proc = JsonDecodingProcessor.forAny(JSON_STD);
+        proc.subscribe(new CollectingSubscriber<>(1));
+        CollectingSubscriber<Object> sub2 = new CollectingSubscriber<>(1);
+        proc.subscribe(sub2);
+        assertTrue(sub2.awaitError() instanceof IllegalStateException);
+    }
+
+    private byte[] _ndjson(int count)
+    {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < count; ++i) {
+            sb.append("{\"id\":").append(i).append(",\"msg\":\"Message #").append(i).append("\"}\n");
+        }
+        return sb.toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,124 @@
+package com.fasterxml.jackson.jr.flow;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.SubmissionPublisher;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.jr.ob.JSON;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JsonEncodingPublisherTest extends FlowTestBase
+{
+    public static class Bean {
+        public int id;
+        public String msg;
+
+        public Bean() { }
+        public Bean(int id) {
+            this.id = id;
+            msg = "Message #"+id;
+        }
+    }
+
+    private final JSON JSON_STD = JSON.std;
+
+    @Test
+    public void testArrayFraming() throws Exception
+    {
+        CollectingSubscriber<ByteBuffer> sub = new CollectingSubscriber<>(1);
+        new JsonEncodingPublisher<Bean>(JSON_STD, new IterablePublisher<>(_beans(1000)),
+                JsonEncodingPublisher.Framing.ARRAY, 1000)
+            .subscribe(sub);
+        List<ByteBuffer> chunks = sub.await();
+        assertTrue(chunks.size() > 10);
+        for (ByteBuffer chunk : chunks) {
+            // chunk may exceed size by at most one value
+            assertTrue(chunk.remaining() < 1000 + 50, "Chunk too big: "+chunk.remaining());
+        }
+        _verifyBeans(JSON_STD.listOfFrom(Bean.class, concat(chunks)), 1000);
+    }
+
+    @Test
+    public void testLinesFraming() throws Exception
+    {
+        CollectingSubscriber<ByteBuffer> sub = new CollectingSubscriber<>(Long.MAX_VALUE);
+        try (SubmissionPublisher<Bean> source = new SubmissionPublisher<>()) {
+            JsonEncodingPublisher.asLines(JSON_STD, source).subscribe(sub);
+            for (Bean bean : _beans(300)) {
+                source.submit(bean);
+            }
+        }
+        String doc = new String(concat(sub.await()), StandardCharsets.UTF_8);
+        String[] lines = doc.split("\n");
+        assertEquals(300, lines.length);
+        assertTrue(doc.endsWith("}\n"));
+        for (int i = 0; i < lines.length; ++i) {
+            assertEquals(i, JSON_STD.beanFrom(Bean.class, lines[i]).id);
+        }
+    }
+
+    @Test
+    public void testEmptySource() throws Exception
+    {
+        CollectingSubscriber<ByteBuffer> sub = new CollectingSubscriber<>(1);
+        JsonEncodingPublisher.asArray(JSON_STD, new IterablePublisher<Bean>(Collections.emptyList()))
+            .subscribe(sub);
+        assertEquals("[]", new String(concat(sub.await()), StandardCharsets.UTF_8));
+
+        sub = new CollectingSubscriber<>(1);
+        JsonEncodingPublisher.asLines(JSON_STD, new IterablePublisher<Bean>(Collections.emptyList()))
+            .subscribe(sub);
+        assertEquals(0, sub.await().size());
+    }
+
+    @Test
+    public void testBackpressure() throws Exception
+    {
+        IterablePublisher<Bean> source = new IterablePublisher<>(_beans(10000));
+        CollectingSubscriber<ByteBuffer> sub = new CollectingSubscriber<>(0);
+        new JsonEncodingPublisher<Bean>(JSON_STD, source, JsonEncodingPublisher.Framing.LINES, 500)
+            .subscribe(sub);
+        assertEquals(0L, source.requested.get());
+        sub.subscription.request(2);
+        assertEquals(2, sub.items.size());
+        // should only have requested a bounded number of values ahead
+        assertTrue(source.requested.get() <= 2 * JsonEncodingPublisher.PREFETCH,
+                "Requested too many: "+source.requested.get());
+        sub.subscription.cancel();
+        assertTrue(source.cancelled);
+    }
+
+    @Test
+    public void testRoundtrip() throws Exception
+    {
+        JsonDecodingProcessor<Bean> proc = JsonDecodingProcessor.forBeans(JSON_STD, Bean.class);
+        CollectingSubscriber<Bean> sub = new CollectingSubscriber<>(7);
+        proc.subscribe(sub);
+        new JsonEncodingPublisher<Bean>(JSON_STD, new IterablePublisher<>(_beans(2000)),
+                JsonEncodingPublisher.Framing.ARRAY, 100)
+            .subscribe(proc);
+        _verifyBeans(sub.await(), 2000);
+    }
+
+    private List<Bean> _beans(int count)
+    {
+        List<Bean> beans = new ArrayList<>();
+        for (int i = 0; i < count; ++i) {
+            beans.add(new Bean(i));
+        }
+        return beans;
+    }
+
+    private void _verifyBeans(List<Bean> beans, int count)
+    {
+        assertEquals(count, beans.size());
+        for (int i = 0; i < count; ++i) {
+            assertEquals(i, beans.get(i).id);
+            assertEquals("Message #"+i, beans.get(i).msg);
+        }
+    }
+}
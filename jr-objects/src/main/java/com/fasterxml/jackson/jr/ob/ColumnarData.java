@@ -0,0 +1,366 @@
+package com.fasterxml.jackson.jr.ob;
+
+import java.util.*;
+
+/**
+ * Container for "columnar" (struct-of-arrays) representation of a sequence of
+ * homogeneous JSON Objects ("rows"): instead of an instance per row, there is
+ * a {@link Column} per property, with values of all rows in a single array.
+ * Values of primitive properties ({@code int}, {@code long}, {@code double},
+ * {@code boolean}) are stored in primitive arrays, {@link String}s using
+ * dictionary encoding (array of distinct values and an {@code int} code per row)
+ * and everything else as {@code Object[]}.
+ *<p>
+ * Instances are read using {@link JSON#columnsFrom(Class, Object)}, which uses
+ * properties of given Bean type as columns, or constructed from existing arrays
+ * using {@link #builder(int)}; and written (as a JSON Array of JSON Objects)
+ * like any other value, using {@link JSON#asString(Object)} and related methods.
+ *
+ * @since 2.19
+ */
+public class ColumnarData
+{
+    /**
+     * Types of {@link Column}s, that is, how values are stored.
+     */
+    public enum ColumnType {
+        INT, LONG, DOUBLE, BOOLEAN,
+
+        /**
+         * Dictionary-encoded {@link String}s: see {@link Column#dictionary()}
+         * and {@link Column#codes()}
+         */
+        STRING,
+
+        /**
+         * Values of other types, stored as {@code Object[]}
+         */
+        OBJECT;
+    }
+
+    protected final int _rowCount;
+
+    protected final Column[] _columns;
+
+    protected final Map<String, Column> _columnsByName;
+
+    protected ColumnarData(int rowCount, Column[] columns) {
+        _rowCount = rowCount;
+        _columns = columns;
+        _columnsByName = new HashMap<>();
+        for (Column col : columns) {
+            if (_columnsByName.put(col.name(), col) != null) {
+                throw new IllegalArgumentException("Duplicate column '"+col.name()+"'");
+            }
+            if (col.size() != rowCount) {
+                throw new IllegalArgumentException("Column '"+col.name()+"' has "+col.size()
+                    +" values; expected "+rowCount);
+            }
+        }
+    }
+
+    /**
+     * Factory method for constructing a {@link Builder} for instances with
+     * given number of rows; all columns must then have the same number of values.
+     */
+    public static Builder builder(int rowCount) {
+        return new Builder(rowCount);
+    }
+
+    /*
+    /**********************************************************************
+    /* Accessors
+    /**********************************************************************
+     */
+
+    public int rowCount() {
+        return _rowCount;
+    }
+
+    public int columnCount() {
+        return _columns.length;
+    }
+
+    /**
+     * @return Columns in their order (for read instances, order of
+     *    properties of the Bean type)
+     */
+    public List<Column> columns() {
+        return Collections.unmodifiableList(Arrays.asList(_columns));
+    }
+
+    public Column column(int index) {
+        return _columns[index];
+    }
+
+    /**
+     * @return Column with given name, if any; {@code null} if none
+     */
+    public Column column(String name) {
+        return _columnsByName.get(name);
+    }
+
+    /**
+     * Convenience accessor for values of an {@link ColumnType#INT} column
+     *
+     * @throws IllegalArgumentException If there is no column with given name
+     * @throws IllegalStateException If column is not of type {@link ColumnType#INT}
+     */
+    public int[] intColumn(String name) {
+        return _required(name).ints();
+    }
+
+    public long[] longColumn(String name) {
+        return _required(name).longs();
+    }
+
+    public double[] doubleColumn(String name) {
+        return _required(name).doubles();
+    }
+
+    public boolean[] booleanColumn(String name) {
+        return _required(name).booleans();
+    }
+
+    public Object[] objectColumn(String name) {
+        return _required(name).objects();
+    }
+
+    /**
+     * Convenience accessor for decoded values of an {@link ColumnType#STRING}
+     * column; note that a new array is constructed for each call.
+     */
+    public String[] stringColumn(String name) {
+        final Column col = _required(name);
+        final String[] dict = col.dictionary();
+        final int[] codes = col.codes();
+        final String[] result = new String[codes.length];
+        for (int i = 0; i < codes.length; ++i) {
+            result[i] = dict[codes[i]];
+        }
+        return result;
+    }
+
+    protected Column _required(String name) {
+        Column col = _columnsByName.get(name);
+        if (col == null) {
+            throw new IllegalArgumentException("No column '"+name+"' (columns: "
+                    +_columnsByName.keySet()+")");
+        }
+        return col;
+    }
+
+    @Override
+    public String toString() {
+        return "[ColumnarData: "+_rowCount+" rows, columns "+Arrays.asList(_columns)+"]";
+    }
+
+    /*
+    /**********************************************************************
+    /* Helper types
+    /**********************************************************************
+     */
+
+    /**
+     * Values of a single property for all rows. Accessors for arrays return
+     * the underlying arrays, without copying: their length is the same as
+     * the number of rows.
+     */
+    public static class Column
+    {
+        protected final String _name;
+
+        protected final ColumnType _type;
+
+        /**
+         * Primitive array or {@code Object[]} (for {@link ColumnType#STRING},
+         * {@code int[]} of codes)
+         */
+        protected final Object _values;
+
+        protected final String[] _dictionary;
+
+        protected final int _size;
+
+        protected Column(String name, ColumnType type, Object values, int size,
+                String[] dictionary) {
+            _name = Objects.requireNonNull(name, "Column name can not be null");
+            _type = type;
+            _values = Objects.requireNonNull(values, "Column values can not be null");
+            _size = size;
+            _dictionary = dictionary;
+        }
+
+        public String name() { return _name; }
+
+        public ColumnType type() { return _type; }
+
+        public int size() { return _size; }
+
+        public int[] ints() {
+            return (int[]) _values(ColumnType.INT);
+        }
+
+        public long[] longs() {
+            return (long[]) _values(ColumnType.LONG);
+        }
+
+        public double[] doubles() {
+            return (double[]) _values(ColumnType.DOUBLE);
+        }
+
+        public boolean[] booleans() {
+            return (boolean[]) _values(ColumnType.BOOLEAN);
+        }
+
+        public Object[] objects() {
+            return (Object[]) _values(ColumnType.OBJECT);
+        }
+
+        /**
+         * Accessor for distinct values of a {@link ColumnType#STRING} column,
+         * indexed by {@link #codes()}. First entry is always {@code null}, used
+         * for {@code null} and missing values.
+         */
+        public String[] dictionary() {
+            _values(ColumnType.STRING);
+            return _dictionary;
+        }
+
+        /**
+         * Accessor for per-row indexes into {@link #dictionary()} of a
+         * {@link ColumnType#STRING} column.
+         */
+        public int[] codes() {
+            return (int[]) _values(ColumnType.STRING);
+        }
+
+        /**
+         * Accessor for value of given row of the column, boxed if necessary.
+         */
+        public Object valueAt(int row) {
+            if ((row < 0) || (row >= _size)) {
+                throw new IndexOutOfBoundsException("Row: "+row+", Size: "+_size);
+            }
+            switch (_type) {
+            case INT:
+                return ((int[]) _values)[row];
+            case LONG:
+                return ((long[]) _values)[row];
+            case DOUBLE:
+                return ((double[]) _values)[row];
+            case BOOLEAN:
+                return ((boolean[]) _values)[row];
+            case STRING:
+                return _dictionary[((int[]) _values)[row]];
+            default:
+                return ((Object[]) _values)[row];
+            }
+        }
+
+        protected Object _values(ColumnType expType) {
+            if (_type != expType) {
+                throw new IllegalStateException("Column '"+_name+"' is of type "+_type
+                        +", not "+expType);
+            }
+            return _values;
+        }
+
+        @Override
+        public String toString() {
+            return _name+" ("+_type+")";
+        }
+    }
+
+    /**
+     * Builder for constructing {@link ColumnarData} out of existing arrays
+     * (which are used as-is, without copying).
+     */
+    public static class Builder
+    {
+        protected final int _rowCount;
+
+        protected final List<Column> _columns = new ArrayList<>();
+
+        protected Builder(int rowCount) {
+            if (rowCount < 0) {
+                throw new IllegalArgumentException("Invalid row count: "+rowCount);
+            }
+            _rowCount = rowCount;
+        }
+
+        public Builder ints(String name, int[] values) {
+            return _add(new Column(name, ColumnType.INT, values, values.length, null));
+        }
+
+        public Builder longs(String name, long[] values) {
+            return _add(new Column(name, ColumnType.LONG, values, values.length, null));
+        }
+
+        public Builder doubles(String name, double[] values) {
+            return _add(new Column(name, ColumnType.DOUBLE, values, values.length, null));
+        }
+
+        public Builder booleans(String name, boolean[] values) {
+            return _add(new Column(name, ColumnType.BOOLEAN, values, values.length, null));
+        }
+
+        public Builder objects(String name, Object[] values) {
+            return _add(new Column(name, ColumnType.OBJECT, values, values.length, null));
+        }
+
+        /**
+         * Method for adding a {@link ColumnType#STRING} column with given values,
+         * which are dictionary-encoded.
+         */
+        public Builder strings(String name, String[] values) {
+            final Map<String, Integer> lookup = new HashMap<>();
+            final List<String> dict = new ArrayList<>();
+            dict.add(null);
+            final int[] codes = new int[values.length];
+            for (int i = 0; i < values.length; ++i) {
+                final String value = values[i];
+                if (value != null) {
+                    Integer code = lookup.get(value);
+                    if (code == null) {
+                        code = dict.size();
+                        lookup.put(value, code);
+                        dict.add(value);
+                    }
+                    codes[i] = code.intValue();
+                }
+            }
+            return strings(name, dict.toArray(new String[0]), codes);
+        }
+
+        /**
+         * Method for adding an already dictionary-encoded {@link ColumnType#STRING}
+         * column.
+         *
+         * @param dictionary Distinct values; first entry must be {@code null}
+         * @param codes Indexes into {@code dictionary} for rows
+         */
+        public Builder strings(String name, String[] dictionary, int[] codes) {
+            if ((dictionary.length == 0) || (dictionary[0] != null)) {
+                throw new IllegalArgumentException("First entry of dictionary of column '"
+                        +name+"' must be `null`");
+            }
+            for (int code : codes) {
+                if ((code < 0) || (code >= dictionary.length)) {
+                    throw new IllegalArgumentException("Invalid code "+code+" for column '"
+                        +name+"' (dictionary size: "+dictionary.length+")");
+                }
+            }
+            return _add(new Column(name, ColumnType.STRING, codes, codes.length, dictionary));
+        }
+
+        public ColumnarData build() {
+            return new ColumnarData(_rowCount, _columns.toArray(new Column[0]));
+        }
+
+        protected Builder _add(Column col) {
+            _columns.add(col);
+            return this;
+        }
+    }
+}
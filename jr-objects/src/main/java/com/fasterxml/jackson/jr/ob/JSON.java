@@ -2,12 +2,28 @@ package com.fasterxml.jackson.jr.ob;
 
 import java.io.*;
 import java.net.URL;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.*;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import com.fasterxml.jackson.core.*;
 import com.fasterxml.jackson.core.io.SegmentedStringWriter;
+import com.fasterxml.jackson.core.util.BufferRecycler;
 import com.fasterxml.jackson.core.util.ByteArrayBuilder;
 import com.fasterxml.jackson.core.util.Instantiatable;
+import com.fasterxml.jackson.core.util.JsonRecyclerPools;
+import com.fasterxml.jackson.core.util.RecyclerPool;
 import com.fasterxml.jackson.jr.ob.api.*;
 import com.fasterxml.jackson.jr.ob.comp.CollectionComposer;
 import com.fasterxml.jackson.jr.ob.comp.ComposerBase;
@@ -329,7 +345,112 @@ public class JSON implements Versioned
          *
          * @since 2.13
          */
-        ACCEPT_CASE_INSENSITIVE_ENUMS(false, true)
+        ACCEPT_CASE_INSENSITIVE_ENUMS(false, true),
+
+        /**
+         * Feature that determines whether Bean property accessors (setters, getters
+         * and fields) are called using {@link java.lang.invoke.MethodHandle}s
+         * (resolved once when Bean readers and writers are constructed)
+         * instead of basic reflection ({@link java.lang.reflect.Method#invoke},
+         * {@link java.lang.reflect.Field#set} and so on).
+         * If a handle can not be resolved for an accessor, reflection is used for it.
+         *<p>
+         * Note that setters and getters of {@code int}, {@code long}, {@code double}
+         * and {@code boolean} valued properties are called using method handles
+         * even if this feature is disabled, to avoid boxing of values.
+         *<p>
+         * Feature is <b>disabled</b> by default.
+         *
+         * @since 2.19
+         */
+        USE_METHOD_HANDLES(false, true),
+
+        /**
+         * Feature that determines whether accessor classes are generated, at runtime,
+         * for calling public setter and getter methods of Beans directly
+         * (using {@link java.lang.invoke.LambdaMetafactory}), instead of
+         * using reflection or {@link java.lang.invoke.MethodHandle}s.
+         * Generation is only possible for public methods of public classes that are
+         * visible to Jackson jr itself (same or parent class loader); for other
+         * accessors (and fields), {@link #USE_METHOD_HANDLES} (if enabled) or
+         * reflection is used instead.
+         *<p>
+         * In addition, Bean readers and writers specialized for each Bean type
+         * are used: binding of each property is resolved once, so that primitive
+         * and {@link String} valued properties are read and written directly.
+         * Custom readers and writers provided by
+         * {@link com.fasterxml.jackson.jr.ob.api.ReaderWriterProvider}s
+         * are still used as usual.
+         *<p>
+         * Feature is <b>disabled</b> by default.
+         *
+         * @since 2.19
+         */
+        USE_GENERATED_ACCESSORS(false, true),
+
+        /*
+        /**********************************************************************
+        /* Read-related features that do not affect caching, added in 2.19
+        /* (after all others, so as not to change masks of existing features)
+        /**********************************************************************
+         */
+
+        /**
+         * This feature determines whether {@link Map}s with deferred materialization
+         * (see {@link #USE_DEFERRED_MAPS}) read with the same sequence of keys
+         * share their key layout (as implemented by
+         * {@link com.fasterxml.jackson.jr.ob.impl.MapShape}): if so, only values are
+         * stored per {@link Map}, and key lookups do not require building of a hash
+         * lookup structure. This considerably reduces memory usage of reading large
+         * numbers of similar JSON Objects (as with a JSON Array of records).
+         * Has no effect if {@link #USE_DEFERRED_MAPS} is disabled.
+         *<p>
+         * Default setting is <code>false</code>, meaning that key layouts are not
+         * shared (and {@link DeferredMap}s store their own keys).
+         *
+         * @since 2.19
+         */
+        SHARE_MAP_SHAPES(false),
+
+        /**
+         * This feature determines whether {@link #mapFrom} and {@link #anyFrom}
+         * methods, when reading from a {@code byte[]}, should only index
+         * JSON Objects and Arrays (by offsets of their values within input) and
+         * return lazily decoded views ({@link com.fasterxml.jackson.jr.ob.impl.LazyMap}s
+         * and {@link com.fasterxml.jackson.jr.ob.impl.LazyList}s) that decode
+         * values, including nested Objects and Arrays, only when accessed.
+         * Enabling feature makes sense for large documents of which only a small
+         * part is accessed; conversely, traversing all of content is considerably
+         * slower than with regular reading. Note, too, that views retain the whole input
+         * (which must not be modified afterwards), and that configured
+         * {@link com.fasterxml.jackson.jr.ob.api.MapBuilder}s and
+         * {@link com.fasterxml.jackson.jr.ob.api.CollectionBuilder}s are not used
+         * for them. Input of other types, as well as {@code byte[]} content
+         * that is not UTF-8 encoded, is read as usual.
+         *<p>
+         * Default setting is <code>false</code>, meaning that content is fully
+         * decoded when read.
+         *
+         * @since 2.19
+         */
+        USE_LAZY_MAPS(false),
+
+        /**
+         * This feature determines whether {@link java.nio.file.Path} sources are
+         * read by memory-mapping the file (using {@link MappedFileInputStream},
+         * in windows of {@link MappedFileInputStream#DEFAULT_WINDOW_SIZE} bytes)
+         * instead of regular stream reads. Mapping avoids the read system calls
+         * and one copy of content, and may considerably speed up reading of
+         * large files; but mappings are only released by garbage collection,
+         * which may prevent deleting the file on some platforms, and for small
+         * files cost of mapping may exceed savings.
+         *<p>
+         * Default setting is <code>false</code>, meaning that files are
+         * read using {@link java.nio.file.Files#newInputStream}.
+         *
+         * @since 2.19
+         */
+        USE_MEMORY_MAPPED_FILES(false)
        ;
 
         /*
@@ -480,6 +601,26 @@ public class JSON implements Versioned
         protected int _features = DEFAULT_FEATURES;
         protected PrettyPrinter _prettyPrinter;
 
+        /**
+         * @since 2.19
+         */
+        protected int _readerCacheSize = ValueReaderLocator.MAX_CACHED_READERS;
+
+        /**
+         * @since 2.19
+         */
+        protected int _writerCacheSize = ValueWriterLocator.MAX_CACHED_SER_TYPES;
+
+        /**
+         * @since 2.19
+         */
+        protected boolean _countCacheHits;
+
+        /**
+         * @since 2.19
+         */
+        protected RecyclerPool<BufferRecycler> _recyclerPool;
+
         // Configuration, helper objects
 
         protected final JsonFactory _streamFactory;
@@ -626,6 +767,100 @@ public class JSON implements Versioned
             return this;
         }
 
+        // // // Mutators, caching
+
+        /**
+         * Method for specifying maximum number of resolved
+         * {@link com.fasterxml.jackson.jr.ob.api.ValueReader}s to cache;
+         * when exceeded, least recently used readers are evicted.
+         * Default is {@link ValueReaderLocator#MAX_CACHED_READERS}.
+         *
+         * @param size Maximum number of readers to cache (must be positive)
+         *
+         * @return This builder for call chaining
+         *
+         * @since 2.19
+         */
+        public Builder readerCacheSize(int size) {
+            _readerCacheSize = _checkCacheSize(size);
+            return this;
+        }
+
+        /**
+         * Method for specifying maximum number of resolved type mappings
+         * (to {@link com.fasterxml.jackson.jr.ob.api.ValueWriter}s) to cache;
+         * when exceeded, least recently used mappings are evicted.
+         * Default is {@link ValueWriterLocator#MAX_CACHED_SER_TYPES}.
+         *
+         * @param size Maximum number of type mappings to cache (must be positive)
+         *
+         * @return This builder for call chaining
+         *
+         * @since 2.19
+         */
+        public Builder writerCacheSize(int size) {
+            _writerCacheSize = _checkCacheSize(size);
+            return this;
+        }
+
+        /**
+         * Method for enabling or disabling counting of reader and writer cache hits,
+         * available via {@link JSON#readerCacheStatistics()} and
+         * {@link JSON#writerCacheStatistics()}. Disabled by default since counting
+         * adds measurable overhead to lookups; misses and evictions are always counted.
+         * Also enables counting of Bean property name match hits and misses
+         * (see {@link BeanReader#propertyMatchHits()}).
+         *
+         * @param state Whether to count cache hits
+         *
+         * @return This builder for call chaining
+         *
+         * @since 2.19
+         */
+        public Builder countCacheHits(boolean state) {
+            _countCacheHits = state;
+            return this;
+        }
+
+        // // // Mutators, buffer recycling
+
+        /**
+         * Method for specifying {@link RecyclerPool} that the {@link JsonFactory}
+         * used by {@link JSON} is to use for recycling {@link BufferRecycler}s
+         * (and through them, read and write buffers); if not specified, pool
+         * configured for the {@link JsonFactory} is used (by default,
+         * {@link JsonRecyclerPools#threadLocalPool()}).
+         *<p>
+         * Default thread-local pool is only effective when threads are long-lived
+         * and reused (as with most thread pools): with virtual threads (or other
+         * short-lived threads) every thread ends up allocating new buffers.
+         * For such use, a shared pool like
+         * {@link JsonRecyclerPools#sharedConcurrentDequePool()},
+         * {@link JsonRecyclerPools#sharedLockFreePool()} or
+         * {@link JsonRecyclerPools#newBoundedPool(int)} should be used instead.
+         *<p>
+         * NOTE: if pool differs from the one streaming factory uses, a copy of
+         * the factory is made (using {@link JsonFactory#copy()}) to avoid changing
+         * configuration of factory passed to the builder.
+         *
+         * @param pool Pool to use; {@code null} to use pool of the {@link JsonFactory}
+         *
+         * @return This builder for call chaining
+         *
+         * @since 2.19
+         */
+        public Builder recyclerPool(RecyclerPool<BufferRecycler> pool) {
+            _recyclerPool = pool;
+            return this;
+        }
+
+        private static int _checkCacheSize(int size) {
+            if (size < 1) {
+                throw new IllegalArgumentException("Cache size must be positive, was "+size);
+            }
+            return size;
+        }
+
         // // // Accessors
 
         public boolean isEnabled(Feature f) {
@@ -638,6 +873,26 @@ public class JSON implements Versioned
         public JsonFactory streamFactory() { return _streamFactory; }
         public TreeCodec treeCodec() { return _treeCodec; }
 
+        /**
+         * @since 2.19
+         */
+        public int readerCacheSize() { return _readerCacheSize; }
+
+        /**
+         * @since 2.19
+         */
+        public int writerCacheSize() { return _writerCacheSize; }
+
+        /**
+         * @since 2.19
+         */
+        public boolean countCacheHits() { return _countCacheHits; }
+
+        /**
+         * @since 2.19
+         */
+        public RecyclerPool<BufferRecycler> recyclerPool() { return _recyclerPool; }
+
         public ReaderWriterModifier readerWriterModifier() {
             return (_extContext == null) ? null : _extContext._rwModifier;
         }
@@ -708,13 +963,15 @@ public class JSON implements Versioned
      */
     public JSON(Builder b) {
         _features = b.featureMask();
-        _jsonFactory = b.streamFactory();
+        _jsonFactory = _withRecyclerPool(b.streamFactory(), b.recyclerPool());
         _treeCodec = b.treeCodec();
 
         final ReaderWriterProvider rwProvider = b.readerWriterProvider();
         final ReaderWriterModifier rwModifier = b.readerWriterModifier();
-        ValueReaderLocator rloc = ValueReaderLocator.blueprint(null, null);
-        ValueWriterLocator wloc = ValueWriterLocator.blueprint(null, null);
+        ValueReaderLocator rloc = ValueReaderLocator.blueprint(null, null,
+                b.readerCacheSize(), b.countCacheHits());
+        ValueWriterLocator wloc = ValueWriterLocator.blueprint(null, null,
+                b.writerCacheSize(), b.countCacheHits());
         if (rwProvider != null) {
             rloc = rloc.with(rwProvider);
             wloc = wloc.with(rwProvider);
@@ -731,6 +988,15 @@ public class JSON implements Versioned
         _prettyPrinter = b.prettyPrinter();
     }
 
+    private static JsonFactory _withRecyclerPool(JsonFactory f,
+            RecyclerPool<BufferRecycler> pool)
+    {
+        if ((pool == null) || (f._getRecyclerPool() == pool)) {
+            return f;
+        }
+        return f.copy().setRecyclerPool(pool);
+    }
+
     /**
      * @since 2.11
      */
@@ -1056,6 +1322,26 @@ public class JSON implements Versioned
         return (f.mask() & _features) != 0;
     }
 
+    /**
+     * Accessor for statistics (size, hits, misses, evictions) of the cache
+     * of resolved {@link com.fasterxml.jackson.jr.ob.api.ValueReader}s.
+     *
+     * @since 2.19
+     */
+    public CacheStatistics readerCacheStatistics() {
+        return _valueReaderLocator.cacheStatistics();
+    }
+
+    /**
+     * Accessor for statistics (size, hits, misses, evictions) of the cache
+     * of resolved {@link com.fasterxml.jackson.jr.ob.api.ValueWriter}s.
+     *
+     * @since 2.19
+     */
+    public CacheStatistics writerCacheStatistics() {
+        return _valueWriterLocator.cacheStatistics();
+    }
+
     /*
     /**********************************************************************
     /* Public factory methods for parsers, generators
@@ -1073,6 +1359,11 @@ public class JSON implements Versioned
      * <li>{@link String}/{@link CharSequence}</li>
      * <li>{@link URL}</li>
      * <li>{@link File}</li>
+     * <li>{@link ByteBuffer} (since 2.19)</li>
+     * <li>{@link ReadableByteChannel} (since 2.19)</li>
+     * <li>{@link Path} (since 2.19): read using {@link Files#newInputStream};
+     *    or, if {@link Feature#USE_MEMORY_MAPPED_FILES} is enabled, by memory-mapping
+     *    file (in windows of {@link MappedFileInputStream#DEFAULT_WINDOW_SIZE} bytes)</li>
      * </ul>
      *<p>
      * Rules regarding closing of the underlying source follow rules
@@ -1090,40 +1381,16 @@ public class JSON implements Versioned
     /**********************************************************************
      */
 
-    public String asString(Object value) throws IOException, JSONObjectException
-    {
-        SegmentedStringWriter sw = new SegmentedStringWriter(_jsonFactory._getBufferRecycler());
-        try {
-            _writeAndClose(value, _jsonFactory.createGenerator(sw));
-        } catch (JsonProcessingException e) {
-            throw e;
-        } catch (IOException e) { // shouldn't really happen, but is declared as possibility so:
-            throw JSONObjectException.fromUnexpectedIOE(e);
-        }
-        return sw.getAndClear();
+    public String asString(Object value) throws IOException, JSONObjectException {
+        return _asString(value, null);
     }
 
-    public byte[] asBytes(Object value) throws IOException, JSONObjectException
-    {
-        ByteArrayBuilder bb = new ByteArrayBuilder(_jsonFactory._getBufferRecycler());
-        try {
-            _writeAndClose(value, _jsonFactory.createGenerator(bb, JsonEncoding.UTF8));
-        } catch (JsonProcessingException e) {
-            throw e;
-        } catch (IOException e) { // shouldn't really happen, but is declared as possibility so:
-            throw JSONObjectException.fromUnexpectedIOE(e);
-        }
-        byte[] result = bb.toByteArray();
-        bb.release();
-        return result;
+    public byte[] asBytes(Object value) throws IOException, JSONObjectException {
+        return _asBytes(value, null);
     }
 
     public void write(Object value, JsonGenerator gen) throws IOException, JSONObjectException {
-        // NOTE: no call to _config(); assumed to be fully configured
-        _writerForOperation(gen).writeValue(value);
-        if (Feature.FLUSH_AFTER_WRITE_VALUE.isEnabled(_features)) {
-            gen.flush();
-        }
+        _write(value, gen, null);
     }
 
     public void write(Object value, OutputStream out) throws IOException, JSONObjectException {
@@ -1138,6 +1405,62 @@ public class JSON implements Versioned
         _writeAndClose(value, _jsonFactory.createGenerator(f, JsonEncoding.UTF8));
     }
 
+    /**
+     * Method for writing given value as UTF-8 encoded JSON into given
+     * {@link ByteBuffer} (heap or direct), starting at its current position;
+     * on success, position is advanced past content written.
+     * If content does not fit in the remaining space, position is left
+     * unchanged and {@link BufferOverflowException} is thrown, so that caller
+     * may retry with a bigger buffer (or use {@link #write(Object, WritableByteChannel)}
+     * to write to a chain of buffers). Note that in that case the whole value is
+     * still serialized (without storing content that does not fit), to determine
+     * the length needed: exception thrown is of type
+     * {@link ByteBufferBackedOutputStream.Overflow}, and both its message and
+     * {@link ByteBufferBackedOutputStream.Overflow#getRequiredLength()} indicate
+     * that length.
+     *
+     * @since 2.19
+     */
+    public void write(Object value, ByteBuffer buffer)
+        throws IOException, JSONObjectException, BufferOverflowException
+    {
+        _write(value, buffer, null);
+    }
+
+    /**
+     * Method for writing given value as UTF-8 encoded JSON into given
+     * {@link WritableByteChannel}; channel is closed afterwards if
+     * {@link com.fasterxml.jackson.core.JsonGenerator.Feature#AUTO_CLOSE_TARGET}
+     * is enabled (as it is by default), same as with {@link OutputStream}s.
+     *
+     * @since 2.19
+     */
+    public void write(Object value, WritableByteChannel channel)
+        throws IOException, JSONObjectException
+    {
+        _write(value, channel, null);
+    }
+
+    /*
+    /**********************************************************************
+    /* API: concurrent writing of line-delimited JSON
+    /**********************************************************************
+     */
+
+    /**
+     * Method for constructing a {@link LineDelimitedSink} with default settings,
+     * for writing values from multiple threads as line-delimited JSON to given
+     * target, which may be an {@link OutputStream}, {@link WritableByteChannel},
+     * {@link Path} or {@link File}. Target is closed when sink is closed.
+     *<p>
+     * Use {@link LineDelimitedSink#builder(JSON)} for custom settings.
+     *
+     * @since 2.19
+     */
+    public LineDelimitedSink lineDelimitedSink(Object target) throws IOException {
+        return LineDelimitedSink.builder(this).build(target);
+    }
+
     /*
     /**********************************************************************
     /* API: writing using Composers
@@ -1202,112 +1525,28 @@ public class JSON implements Versioned
 
     public List<Object> listFrom(Object source) throws IOException, JSONObjectException
     {
-        if (source instanceof JsonParser) {
-            // note: no call to _config(), should come pre-configured
-            JsonParser p = _initForReading((JsonParser) source);
-            List<Object> result = _readerForOperation(p).readList();
-            // Need to consume the token too
-            p.clearCurrentToken();
-            return result;
-        }
-        JsonParser p = _parser(source);
-        try {
-            _initForReading(_config(p));
-            List<Object> result = _readerForOperation(p).readList();
-            JsonParser p0 = p;
-            p = null;
-            _close(p0);
-            return result;
-        } catch (Exception e) {
-            return _closeWithError(p, e);
-        }
+        return _read(source, null, (r, p) -> r.readList());
     }
 
     public <T> List<T> listOfFrom(Class<T> type, Object source) throws IOException, JSONObjectException
     {
-        if (source instanceof JsonParser) {
-            // note: no call to _config(), should come pre-configured
-            JsonParser p = _initForReading((JsonParser) source);
-            List<T> result = _readerForOperation(p).readListOf(type);
-            // Need to consume the token too
-            p.clearCurrentToken();
-            return result;
-        }
-        JsonParser p = _parser(source);
-        try {
-            _initForReading(_config(p));
-            List<T> result = _readerForOperation(p).readListOf(type);
-            JsonParser p0 = p;
-            p = null;
-            _close(p0);
-            return result;
-        } catch (Exception e) {
-            return _closeWithError(p, e);
-        }
+        return _read(source, null, (r, p) -> r.readListOf(type));
     }
 
     public Object[] arrayFrom(Object source) throws IOException, JSONObjectException
     {
-        if (source instanceof JsonParser) {
-            JsonParser p = _initForReading((JsonParser) source);
-            Object[] result = _readerForOperation(p).readArray();
-            p.clearCurrentToken();
-            return result;
-        }
-        JsonParser p = _parser(source);
-        try {
-            _initForReading(_config(p));
-            Object[] result = _readerForOperation(p).readArray();
-            JsonParser p0 = p;
-            p = null;
-            _close(p0);
-            return result;
-        } catch (Exception e) {
-            return _closeWithError(p, e);
-        }
+        return _read(source, null, (r, p) -> r.readArray());
     }
 
     public <T> T[] arrayOfFrom(Class<T> type, Object source) throws IOException, JSONObjectException
     {
-        if (source instanceof JsonParser) {
-            JsonParser p = _initForReading((JsonParser) source);
-            T[] result = _readerForOperation(p).readArrayOf(type);
-            p.clearCurrentToken();
-            return result;
-        }
-        JsonParser p = _parser(source);
-        try {
-            _initForReading(_config(p));
-            T[] result = _readerForOperation(p).readArrayOf(type);
-            JsonParser p0 = p;
-            p = null;
-            _close(p0);
-            return result;
-        } catch (Exception e) {
-            return _closeWithError(p, e);
-        }
+        return _read(source, null, (r, p) -> r.readArrayOf(type));
     }
 
     @SuppressWarnings("unchecked")
     public Map<String,Object> mapFrom(Object source) throws IOException, JSONObjectException
     {
-        if (source instanceof JsonParser) {
-            JsonParser p = _initForReading((JsonParser) source);
-            Map<?,?> result = _readerForOperation(p).readMap();
-            p.clearCurrentToken();
-            return (Map<String,Object>) result;
-        }
-        JsonParser p = _parser(source);
-        try {
-            _initForReading(_config(p));
-            Map<?,?> result = _readerForOperation(p).readMap();
-            JsonParser p0 = p;
-            p = null;
-            _close(p0);
-            return (Map<String,Object>) result;
-        } catch (Exception e) {
-            return _closeWithError(p, e);
-        }
+        return (Map<String,Object>) _read(source, null, _mapOperation(source));
     }
 
     /**
@@ -1315,47 +1554,14 @@ public class JSON implements Versioned
      *
      * @since 2.10
      */
-    @SuppressWarnings("unchecked")
     public <T> Map<String,T> mapOfFrom(Class<T> type, Object source) throws IOException, JSONObjectException
     {
-        if (source instanceof JsonParser) {
-            JsonParser p = _initForReading((JsonParser) source);
-            Map<?,?> result = _readerForOperation(p).readMapOf(type);
-            p.clearCurrentToken();
-            return (Map<String,T>) result;
-        }
-        JsonParser p = _parser(source);
-        try {
-            _initForReading(_config(p));
-            Map<?,?> result = _readerForOperation(p).readMapOf(type);
-            JsonParser p0 = p;
-            p = null;
-            _close(p0);
-            return (Map<String,T>) result;
-        } catch (Exception e) {
-            return _closeWithError(p, e);
-        }
+        return _read(source, null, (r, p) -> r.readMapOf(type));
     }
 
     public <T> T beanFrom(Class<T> type, Object source) throws IOException, JSONObjectException
     {
-        if (source instanceof JsonParser) {
-            JsonParser p = _initForReading((JsonParser) source);
-            T result = _readerForOperation(p).readBean(type);
-            p.clearCurrentToken();
-            return result;
-        }
-        JsonParser p = _parser(source);
-        try {
-            _initForReading(_config(p));
-            T result = _readerForOperation(p).readBean(type);
-            JsonParser p0 = p;
-            p = null;
-            _close(p0);
-            return result;
-        } catch (Exception e) {
-            return _closeWithError(p, e);
-        }
+        return _read(source, null, (r, p) -> r.readBean(type));
     }
 
     /**
@@ -1374,28 +1580,14 @@ public class JSON implements Versioned
      * <li>{@link java.lang.String}</li>
      * <li><code>byte[]</code></li>
      * <li><code>char[]</code></li>
+     * <li>{@link java.nio.ByteBuffer} (since 2.19)</li>
+     * <li>{@link java.nio.channels.ReadableByteChannel} (since 2.19)</li>
+     * <li>{@link java.nio.file.Path} (since 2.19)</li>
      *</ul>
      */
     public Object anyFrom(Object source) throws IOException
     {
-        if (source instanceof JsonParser) {
-            JsonParser p = _initForReading((JsonParser) source);
-            Object result = _readerForOperation(p).readValue();
-            p.clearCurrentToken();
-            return result;
-        }
-        JsonParser p = _parser(source);
-        try {
-            _initForReading(_config(p));
-            Object result = _readerForOperation(p).readValue();
-            JsonParser p0 = p;
-            p = null;
-            _close(p0);
-            return result;
-        } catch (Exception e) {
-            _closeWithError(p, e);
-            return null;
-        }
+        return _read(source, null, _anyOperation(source));
     }
 
     /**
@@ -1431,6 +1623,31 @@ public class JSON implements Versioned
         }
     }
 
+    /*
+    /**********************************************************************
+    /* API: columnar reading
+    /**********************************************************************
+     */
+
+    /**
+     * Method for reading a JSON Array of JSON Objects into "columnar"
+     * representation, {@link ColumnarData}, with a column for each property
+     * of given Bean type: values are read directly into per-column arrays
+     * (primitive ones for primitive properties, dictionary-encoded for
+     * {@link String}s), without constructing Bean instances (or
+     * {@link java.util.Map}s) for rows.
+     *<p>
+     * Resulting instance may be written back as JSON (row-oriented, as
+     * a JSON Array of JSON Objects) like any other value.
+     *
+     * @since 2.19
+     */
+    public ColumnarData columnsFrom(Class<?> rowType, Object source)
+        throws IOException, JSONObjectException
+    {
+        return _read(source, null, (r, p) -> r.readColumnsOf(rowType));
+    }
+
     /*
     /**********************************************************************
     /* API: reading sequence of JSON values (LD-JSON and like)
@@ -1516,6 +1733,208 @@ public class JSON implements Versioned
                 p, reader, _treeCodec, managed);
     }
 
+    /**
+     * Method for reading a sequence of Beans from line-delimited JSON content
+     * (like NDJSON, "JSON Lines") in parallel: content is split into chunks
+     * on linefeed boundaries (but not into chunks smaller than
+     * {@link LineDelimitedSpliterator#DEFAULT_MIN_CHUNK_SIZE}), and chunks
+     * are read in parallel by threads of the {@link java.util.concurrent.ForkJoinPool}
+     * that runs stream operations (common pool by default).
+     * All chunks are read using readers of this instance, so that introspection
+     * and resolution of readers is shared.
+     *<p>
+     * Supported source types are:
+     *<ul>
+     * <li>{@link Path}</li>
+     * <li>{@link File}</li>
+     * <li>{@link ByteBuffer}</li>
+     * <li><code>byte[]</code></li>
+     *</ul>
+     * Since content is only split on linefeeds, each value must be contained on
+     * a single line.
+     *<p>
+     * Returned {@link Stream} should be closed after use (for example, using
+     * try-with-resources) to close the underlying file, if any.
+     *
+     * @param type Type of Beans to read
+     * @param source Source of line-delimited content
+     * @param keepOrder Whether stream should be ordered, in order of values
+     *    in content; if {@code false}, stream is unordered, which may allow more
+     *    efficient execution of some operations
+     *
+     * @since 2.19
+     */
+    public <T> Stream<T> parallelBeanSequenceFrom(Class<T> type, Object source,
+            boolean keepOrder)
+        throws IOException, JSONObjectException
+    {
+        return parallelBeanSequenceFrom(type, source, keepOrder,
+                LineDelimitedSpliterator.DEFAULT_MIN_CHUNK_SIZE);
+    }
+
+    /**
+     * Variant of {@link #parallelBeanSequenceFrom(Class, Object, boolean)} that
+     * allows specifying minimum size of chunks (in bytes) to split content to.
+     *
+     * @since 2.19
+     */
+    public <T> Stream<T> parallelBeanSequenceFrom(final Class<T> type, Object source,
+            boolean keepOrder, int minChunkSize)
+        throws IOException, JSONObjectException
+    {
+        final LineDelimitedSpliterator.ChunkOpener<T> opener = in -> {
+            // NOTE: not advanced to the first token, to avoid unwrapping of arrays
+            JsonParser p = _config(_jsonFactory.createParser(in));
+            return new ValueIterator<T>(ValueIterator.MODE_BEAN, type,
+                    p, _readerForOperation(p), _treeCodec, true);
+        };
+        if (source instanceof File) {
+            source = ((File) source).toPath();
+        }
+        if (source instanceof Path) {
+            final FileChannel channel = FileChannel.open((Path) source, StandardOpenOption.READ);
+            try {
+                return StreamSupport.stream(new LineDelimitedSpliterator<T>(
+                        LineDelimitedSpliterator.content(channel), opener, minChunkSize, keepOrder),
+                        true)
+                    .onClose(() -> _close(channel));
+            } catch (Exception e) {
+                return _closeWithError(channel, e);
+            }
+        }
+        final ByteBuffer bb;
+        if (source instanceof ByteBuffer) {
+            bb = (ByteBuffer) source;
+        } else if (source instanceof byte[]) {
+            bb = ByteBuffer.wrap((byte[]) source);
+        } else {
+            throw new JSONObjectException("Can not use Source of type `"+source.getClass().getName()
++"` as input for parallel reading (use a `Path`, `File`, `ByteBuffer` or `byte[]`)");
+        }
+        return StreamSupport.stream(new LineDelimitedSpliterator<T>(
+                LineDelimitedSpliterator.content(bb), opener, minChunkSize, keepOrder),
+                true);
+    }
+
+    /**
+     * Method for creating {@link ValueIterator} for reading a sequence of Beans
+     * (same as {@link #beanSequenceFrom(Class, Object)}), but one in which
+     * reading is pipelined: calling thread only tokenizes elements of the
+     * sequence, buffering tokens of each element, and buffered elements
+     * are bound into Beans using given {@link Executor}, in parallel.
+     * This is useful for content that can not be split for parallel reading
+     * (like a single large JSON Array; see
+     * {@link #parallelBeanSequenceFrom(Class, Object, boolean)} for line-delimited
+     * content), when binding of values is costly compared to tokenization.
+     *<p>
+     * Up to {@link PipelinedValueIterator#DEFAULT_MAX_IN_FLIGHT} elements are
+     * tokenized ahead of the element being returned.
+     *
+     * @param type Type of Beans to read
+     * @param source Source of content
+     * @param executor Executor to use for binding buffered elements
+     * @param keepOrder Whether values are to be returned in order they appear
+     *    in content; if {@code false}, they are returned in order of binding
+     *    completing
+     *
+     * @since 2.19
+     */
+    public <T> PipelinedValueIterator<T> pipelinedBeanSequenceFrom(Class<T> type, Object source,
+            Executor executor, boolean keepOrder)
+        throws IOException, JSONObjectException
+    {
+        return pipelinedBeanSequenceFrom(type, source, executor, keepOrder,
+                PipelinedValueIterator.DEFAULT_MAX_IN_FLIGHT);
+    }
+
+    /**
+     * Variant of {@link #pipelinedBeanSequenceFrom(Class, Object, Executor, boolean)}
+     * that allows specifying maximum number of elements tokenized ahead of
+     * the element being returned (which bounds memory usage for buffered
+     * elements).
+     *
+     * @since 2.19
+     */
+    public <T> PipelinedValueIterator<T> pipelinedBeanSequenceFrom(Class<T> type, Object source,
+            Executor executor, boolean keepOrder, int maxInFlight)
+        throws IOException, JSONObjectException
+    {
+        JsonParser p;
+        final boolean managed = !(source instanceof JsonParser);
+
+        if (managed) {
+            p = _parser(source);
+        } else {
+            p = (JsonParser) source;
+        }
+        p = _initForReading(_config(p));
+        return new PipelinedValueIterator<T>(this, type, p, managed,
+                executor, keepOrder, maxInFlight);
+    }
+
+    /*
+    /**********************************************************************
+    /* API: non-blocking reading of sequences of JSON values
+    /**********************************************************************
+     */
+
+    /**
+     * Method for creating {@link ValueDecoder} for decoding sequences of values
+     * from content fed in chunks, without blocking; individual values are bound
+     * to specific Bean (POJO) type, and passed to given consumer.
+     *
+     * @since 2.19
+     */
+    public <T> ValueDecoder<T> beanSequenceDecoder(Class<T> type, Consumer<? super T> consumer)
+        throws IOException
+    {
+        return _decoder(ValueDecoder.MODE_BEAN, type, consumer);
+    }
+
+    /**
+     * Method for creating {@link ValueDecoder} for decoding sequences of values
+     * from content fed in chunks, without blocking; individual values are bound
+     * as {@link java.util.Map}s, and passed to given consumer.
+     *
+     * @since 2.19
+     */
+    public ValueDecoder<Map<String,Object>> mapSequenceDecoder(Consumer<? super Map<String,Object>> consumer)
+        throws IOException
+    {
+        return _decoder(ValueDecoder.MODE_MAP, Map.class, consumer);
+    }
+
+    /**
+     * Method for creating {@link ValueDecoder} for decoding sequences of values
+     * from content fed in chunks, without blocking; individual values are bound
+     * as "Simple" type: {@link java.util.Map}, {@link java.util.List}, {@link String},
+     * {@link Number} or {@link Boolean}, and passed to given consumer.
+     *
+     * @since 2.19
+     */
+    public ValueDecoder<Object> anySequenceDecoder(Consumer<Object> consumer)
+        throws IOException
+    {
+        return _decoder(ValueDecoder.MODE_ANY, Object.class, consumer);
+    }
+
+    /**
+     * Method for creating {@link ValueDecoder} for decoding sequences of values
+     * from content fed in chunks, without blocking; individual values are bound
+     * as JSON Trees (of type that configured {@link TreeCodec}, see
+     * {@link #with(TreeCodec)}) supports, and passed to given consumer.
+     *
+     * @since 2.19
+     */
+    public <T extends TreeNode> ValueDecoder<T> treeSequenceDecoder(Consumer<? super T> consumer)
+        throws IOException
+    {
+        if (_treeCodec == null) {
+            _noTreeCodec("decode `TreeNode` sequence");
+        }
+        return _decoder(ValueDecoder.MODE_TREE, TreeNode.class, consumer);
+    }
+
     /*
     /**********************************************************************
     /* API: TreeNode construction
@@ -1558,6 +1977,95 @@ public class JSON implements Versioned
          return (T) _treeCodec.createObjectNode();
     }
 
+    /*
+    /**********************************************************************
+    /* API: pre-warming reader/writer caches
+    /**********************************************************************
+     */
+
+    /**
+     * Method for resolving readers and writers for given types, as well as
+     * types of their properties (including type parameters of generic property
+     * types like {@code List<Item>}), transitively, so that they are cached
+     * before first read and write operations need them.
+     * Resolution is done by the calling thread.
+     *
+     * @return Time taken (in nanoseconds) to resolve each type, from slowest to fastest
+     *
+     * @since 2.19
+     */
+    public Map<Class<?>, Long> prewarm(Class<?>... types) throws JSONObjectException {
+        return _prewarmer(null).prewarm(Arrays.asList(types));
+    }
+
+    /**
+     * Method similar to {@link #prewarm(Class...)} but one that resolves
+     * types using given {@link Executor}; method waits
+     * until all types have been resolved. Calling thread also resolves types
+     * while waiting, so it is safe to call this method from a thread of
+     * the executor itself (or when executor is saturated).
+     *
+     * @return Time taken (in nanoseconds) to resolve each type, from slowest to fastest
+     *
+     * @since 2.19
+     */
+    public Map<Class<?>, Long> prewarm(Executor executor, Class<?>... types)
+        throws JSONObjectException
+    {
+        return _prewarmer(executor).prewarm(Arrays.asList(types));
+    }
+
+    /**
+     * Method similar to {@link #prewarm(Class...)} but one that resolves
+     * all classes within given package (and its sub-packages) as found via
+     * context class loader of the calling thread.
+     *
+     * @return Time taken (in nanoseconds) to resolve each type, from slowest to fastest
+     *
+     * @since 2.19
+     */
+    public Map<Class<?>, Long> prewarmPackage(String packageName) throws IOException {
+        ClassLoader loader = Thread.currentThread().getContextClassLoader();
+        if (loader == null) {
+            loader = getClass().getClassLoader();
+        }
+        return prewarmPackage(null, loader, packageName);
+    }
+
+    /**
+     * Method similar to {@link #prewarmPackage(String)} but one that uses given
+     * class loader for finding classes, and given {@link Executor}
+     * (if not {@code null}) for resolving them.
+     *
+     * @return Time taken (in nanoseconds) to resolve each type, from slowest to fastest
+     *
+     * @since 2.19
+     */
+    public Map<Class<?>, Long> prewarmPackage(Executor executor,
+            ClassLoader loader, String packageName) throws IOException
+    {
+        return _prewarmer(executor).prewarm(CachePrewarmer.findClasses(loader, packageName));
+    }
+
+    /*
+    /**********************************************************************
+    /* API: sessions
+    /**********************************************************************
+     */
+
+    /**
+     * Factory method for constructing a {@link JSONSession} that exposes most
+     * commonly used read and write methods of this instance, but reuses
+     * per-operation state across calls instead of constructing it for every call.
+     * Session is not thread-safe: it should only be used by a single thread
+     * at a time (for example, by keeping it in a {@link ThreadLocal}).
+     *
+     * @since 2.19
+     */
+    public JSONSession session() {
+        return new JSONSession(this);
+    }
+
     /*
     /**********************************************************************
     /* Internal methods, writing
@@ -1566,13 +2074,182 @@ public class JSON implements Versioned
 
     protected final void _writeAndClose(Object value, JsonGenerator g0)
         throws IOException
+    {
+        _writeAndClose(value, g0, null);
+    }
+
+    /*
+    /**********************************************************************
+    /* Internal methods, reading and writing using given reader or writer
+    /* (shared with JSONSession)
+    /**********************************************************************
+     */
+
+    /**
+     * Interface for actual read operation, given parser pointing to the
+     * first token of content, and reader to use for reading it.
+     *
+     * @since 2.19
+     */
+    interface ReadOperation<T> {
+        T read(JSONReader r, JsonParser p) throws IOException;
+    }
+
+    /**
+     * Helper method for reading content from given source using given operation.
+     *
+     * @param r Reader to reuse (by resetting it to read from the parser);
+     *    {@code null} to construct a new per-operation reader
+     *
+     * @since 2.19
+     */
+    <T> T _read(Object source, JSONReader r, ReadOperation<T> op)
+        throws IOException, JSONObjectException
+    {
+        if (source instanceof JsonParser) {
+            // note: no call to _config(), should come pre-configured
+            JsonParser p = _initForReading((JsonParser) source);
+            T result = op.read(_readerFor(r, p), p);
+            // Need to consume the token too
+            p.clearCurrentToken();
+            return result;
+        }
+        JsonParser p = _parser(source);
+        try {
+            _initForReading(_config(p));
+            T result = op.read(_readerFor(r, p), p);
+            JsonParser p0 = p;
+            p = null;
+            _close(p0);
+            return result;
+        } catch (Exception e) {
+            return _closeWithError(p, e);
+        }
+    }
+
+    /**
+     * Read operation for {@link #mapFrom}: reads lazily if source allows
+     * (see {@link #_lazyContent}).
+     *
+     * @since 2.19
+     */
+    ReadOperation<Map<?,?>> _mapOperation(Object source) {
+        return (r, p) -> {
+            final LazyContent lazy = _lazyContent(source, p);
+            return (lazy == null) ? r.readMap() : lazy.readMap(p);
+        };
+    }
+
+    /**
+     * Read operation for {@link #anyFrom}: reads lazily if source allows
+     * (see {@link #_lazyContent}).
+     *
+     * @since 2.19
+     */
+    ReadOperation<Object> _anyOperation(Object source) {
+        return (r, p) -> {
+            final LazyContent lazy = _lazyContent(source, p);
+            return (lazy == null) ? r.readValue() : lazy.readValue(p);
+        };
+    }
+
+    private JSONReader _readerFor(JSONReader r, JsonParser p) {
+        return (r == null) ? _readerForOperation(p) : r.reset(p);
+    }
+
+    /**
+     * @param w Writer to reuse (by resetting it to write using the generator);
+     *    {@code null} to construct a new per-operation writer
+     *
+     * @since 2.19
+     */
+    String _asString(Object value, JSONWriter w) throws IOException, JSONObjectException
+    {
+        // 2.19: must release recycler back to the pool (for non-thread-local pools)
+        final BufferRecycler br = _jsonFactory._getBufferRecycler();
+        try {
+            SegmentedStringWriter sw = new SegmentedStringWriter(br);
+            _writeAndClose(value, _jsonFactory.createGenerator(sw), w);
+            return sw.getAndClear();
+        } catch (JsonProcessingException e) {
+            throw e;
+        } catch (IOException e) { // shouldn't really happen, but is declared as possibility so:
+            throw JSONObjectException.fromUnexpectedIOE(e);
+        } finally {
+            br.releaseToPool();
+        }
+    }
+
+    /**
+     * @since 2.19
+     */
+    byte[] _asBytes(Object value, JSONWriter w) throws IOException, JSONObjectException
+    {
+        // 2.19: must release recycler back to the pool (for non-thread-local pools)
+        final BufferRecycler br = _jsonFactory._getBufferRecycler();
+        try {
+            ByteArrayBuilder bb = new ByteArrayBuilder(br);
+            _writeAndClose(value, _jsonFactory.createGenerator(bb, JsonEncoding.UTF8), w);
+            byte[] result = bb.toByteArray();
+            bb.release();
+            return result;
+        } catch (JsonProcessingException e) {
+            throw e;
+        } catch (IOException e) { // shouldn't really happen, but is declared as possibility so:
+            throw JSONObjectException.fromUnexpectedIOE(e);
+        } finally {
+            br.releaseToPool();
+        }
+    }
+
+    /**
+     * @since 2.19
+     */
+    void _write(Object value, JsonGenerator gen, JSONWriter w) throws IOException, JSONObjectException
+    {
+        // NOTE: no call to _config(); assumed to be fully configured
+        _writerFor(w, gen).writeValue(value);
+        if (Feature.FLUSH_AFTER_WRITE_VALUE.isEnabled(_features)) {
+            gen.flush();
+        }
+    }
+
+    /**
+     * @since 2.19
+     */
+    void _write(Object value, ByteBuffer buffer, JSONWriter w)
+        throws IOException, JSONObjectException, BufferOverflowException
+    {
+        ByteBufferBackedOutputStream out = new ByteBufferBackedOutputStream(buffer);
+        _writeAndClose(value, _jsonFactory.createGenerator(out, JsonEncoding.UTF8), w);
+        out.checkOverflow();
+    }
+
+    /**
+     * @since 2.19
+     */
+    void _write(Object value, WritableByteChannel channel, JSONWriter w)
+        throws IOException, JSONObjectException
+    {
+        _writeAndClose(value, _jsonFactory.createGenerator(Channels.newOutputStream(channel),
+                JsonEncoding.UTF8), w);
+    }
+
+    /**
+     * @since 2.19
+     */
+    void _writeAndClose(Object value, JsonGenerator g0, JSONWriter w)
+        throws IOException
     {
         // Changed in 2.16 to use auto-close
         try (JsonGenerator g = g0) {
             _config(g);
-            _writerForOperation(g).writeValue(value);
+            _writerFor(w, g).writeValue(value);
         }
+    }
 
+    private JSONWriter _writerFor(JSONWriter w, JsonGenerator g) {
+        return (w == null) ? _writerForOperation(g) : w.reset(g);
     }
 
     protected JSONWriter _writerForOperation(JsonGenerator gen) {
@@ -1590,6 +2267,47 @@ public class JSON implements Versioned
         return _reader.perOperationInstance(_features, _valueReaderLocator, _treeCodec, p);
     }
 
+    /**
+     * Helper method for constructing {@link LazyContent} for reading given
+     * source lazily, if {@link Feature#USE_LAZY_MAPS} is enabled and source
+     * is a {@code byte[]} with UTF-8 encoded content. Views locate values
+     * using byte offsets, which are not available for other encodings
+     * (UTF-16, UTF-32; decoded by char-based parsers), so such content is
+     * read as usual.
+     *
+     * @param p Parser constructed for the source, pointing to the first token
+     *
+     * @return Content to read lazily, if any; {@code null} if content is to
+     *    be read as usual
+     *
+     * @since 2.19
+     */
+    protected LazyContent _lazyContent(Object source, JsonParser p) {
+        if ((source instanceof byte[]) && isEnabled(Feature.USE_LAZY_MAPS)
+                && (p.currentTokenLocation().getByteOffset() >= 0L)) {
+            return new LazyContent(_jsonFactory, (byte[]) source, _readerForOperation(null));
+        }
+        return null;
+    }
+
+    /**
+     * @since 2.19
+     */
+    protected <T> ValueDecoder<T> _decoder(int mode, Class<?> type, Consumer<? super T> consumer)
+        throws IOException
+    {
+        JsonParser p = _config(_jsonFactory.createNonBlockingByteArrayParser());
+        return new ValueDecoder<T>(this, mode, type, p, consumer);
+    }
+
+    /**
+     * @since 2.19
+     */
+    protected CachePrewarmer _prewarmer(Executor executor) {
+        return new CachePrewarmer(() -> _readerForOperation(null),
+                () -> _writerForOperation(null), executor);
+    }
+
     protected JsonParser _parser(Object source) throws IOException, JSONObjectException
     {
         final JsonFactory f = _jsonFactory;
@@ -1618,8 +2336,27 @@ public class JSON implements Versioned
         if (source instanceof CharSequence) {
             return f.createParser(((CharSequence) source).toString());
         }
+        // 2.19: NIO sources
+        if (source instanceof ByteBuffer) {
+            final ByteBuffer bb = (ByteBuffer) source;
+            // no copying needed if we can access backing array
+            if (bb.hasArray()) {
+                return f.createParser(bb.array(), bb.arrayOffset() + bb.position(), bb.remaining());
+            }
+            return f.createParser(new ByteBufferBackedInputStream(bb));
+        }
+        if (source instanceof ReadableByteChannel) {
+            return f.createParser(Channels.newInputStream((ReadableByteChannel) source));
+        }
+        if (source instanceof Path) {
+            final Path path = (Path) source;
+            if (isEnabled(Feature.USE_MEMORY_MAPPED_FILES)) {
+                return f.createParser(new MappedFileInputStream(path));
+            }
+            return f.createParser(Files.newInputStream(path));
+        }
         throw new JSONObjectException("Can not use Source of type `"+source.getClass().getName()
-+"` as input (use an `InputStream`, `Reader`, `String`/`CharSequence`, `byte[]`, `char[]`, `File` or `URL`");
++"` as input (use an `InputStream`, `Reader`, `String`/`CharSequence`, `byte[]`, `char[]`, `File`, `Path`, `URL`, `ByteBuffer` or `ReadableByteChannel`");
     }
 
     protected JsonParser _initForReading(JsonParser p) throws IOException
@@ -0,0 +1,279 @@
+package com.fasterxml.jackson.jr.ob;
+
+import java.io.*;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.*;
+
+import com.fasterxml.jackson.core.*;
+import com.fasterxml.jackson.jr.ob.impl.JSONReader;
+import com.fasterxml.jackson.jr.ob.impl.JSONWriter;
+
+/**
+ * Object that exposes a subset of reading and writing methods of {@link JSON},
+ * but one that reuses per-operation state ({@link JSONReader} and
+ * {@link JSONWriter} instances, along with their helper objects) across
+ * operations, instead of constructing it for every call.
+ * This is useful for high volume processing of small documents, where
+ * the cost of constructing per-operation state may be significant compared
+ * to the cost of actual reading or writing.
+ *<p>
+ * Sessions are obtained using {@link JSON#session()}, and are bound to
+ * configuration of the {@link JSON} instance used.
+ *<p>
+ * NOTE: unlike {@link JSON}, sessions are NOT thread-safe and must only be
+ * used by one thread at a time: typically a session is either created for
+ * processing a batch of documents, or kept in a {@link ThreadLocal}.
+ * Nested use (for example, by a custom reader or writer) is allowed, but
+ * will not reuse state.
+ *
+ * @since 2.19
+ */
+public class JSONSession
+{
+    protected final JSON _json;
+
+    /**
+     * Per-operation reader to reuse, if one has been constructed
+     */
+    protected JSONReader _reader;
+
+    /**
+     * Per-operation writer to reuse, if one has been constructed
+     */
+    protected JSONWriter _writer;
+
+    /**
+     * Flag set when {@link #_reader} is in use, to detect nested use.
+     */
+    protected boolean _readerInUse;
+
+    /**
+     * Flag set when {@link #_writer} is in use, to detect nested use.
+     */
+    protected boolean _writerInUse;
+
+    protected JSONSession(JSON json) {
+        _json = json;
+    }
+
+    /*
+    /**********************************************************************
+    /* Simple accessors, state handling
+    /**********************************************************************
+     */
+
+    /**
+     * Accessor for the {@link JSON} instance this session was created by.
+     */
+    public JSON json() {
+        return _json;
+    }
+
+    /**
+     * Method for dropping all reusable per-operation state: new state will be
+     * constructed by the next operation. Usually not needed, but may be used
+     * to release references to resources (like value readers and writers)
+     * held by state.
+     */
+    public void reset() {
+        if (!_readerInUse) {
+            _reader = null;
+        }
+        if (!_writerInUse) {
+            _writer = null;
+        }
+    }
+
+    /*
+    /**********************************************************************
+    /* API: writing Simple objects as JSON
+    /**********************************************************************
+     */
+
+    public String asString(Object value) throws IOException, JSONObjectException
+    {
+        final JSONWriter w = _startWriting();
+        try {
+            return _json._asString(value, w);
+        } finally {
+            _endWriting(w);
+        }
+    }
+
+    public byte[] asBytes(Object value) throws IOException, JSONObjectException
+    {
+        final JSONWriter w = _startWriting();
+        try {
+            return _json._asBytes(value, w);
+        } finally {
+            _endWriting(w);
+        }
+    }
+
+    public void write(Object value, JsonGenerator gen) throws IOException, JSONObjectException
+    {
+        final JSONWriter w = _startWriting();
+        try {
+            _json._write(value, gen, w);
+        } finally {
+            _endWriting(w);
+        }
+    }
+
+    public void write(Object value, OutputStream out) throws IOException, JSONObjectException {
+        _writeAndClose(value, _json._jsonFactory.createGenerator(out));
+    }
+
+    public void write(Object value, Writer w) throws IOException, JSONObjectException {
+        _writeAndClose(value, _json._jsonFactory.createGenerator(w));
+    }
+
+    /**
+     * @see JSON#write(Object, ByteBuffer)
+     */
+    public void write(Object value, ByteBuffer buffer)
+        throws IOException, JSONObjectException, BufferOverflowException
+    {
+        final JSONWriter w = _startWriting();
+        try {
+            _json._write(value, buffer, w);
+        } finally {
+            _endWriting(w);
+        }
+    }
+
+    /**
+     * @see JSON#write(Object, WritableByteChannel)
+     */
+    public void write(Object value, WritableByteChannel channel)
+        throws IOException, JSONObjectException
+    {
+        final JSONWriter w = _startWriting();
+        try {
+            _json._write(value, channel, w);
+        } finally {
+            _endWriting(w);
+        }
+    }
+
+    /*
+    /**********************************************************************
+    /* API: reading JSON as Simple Objects, Beans
+    /**********************************************************************
+     */
+
+    public List<Object> listFrom(Object source) throws IOException, JSONObjectException {
+        return _read(source, (r, p) -> r.readList());
+    }
+
+    public <T> List<T> listOfFrom(Class<T> type, Object source) throws IOException, JSONObjectException {
+        return _read(source, (r, p) -> r.readListOf(type));
+    }
+
+    @SuppressWarnings("unchecked")
+    public Map<String,Object> mapFrom(Object source) throws IOException, JSONObjectException {
+        return (Map<String,Object>) _read(source, _json._mapOperation(source));
+    }
+
+    public <T> Map<String,T> mapOfFrom(Class<T> type, Object source) throws IOException, JSONObjectException {
+        return _read(source, (r, p) -> r.readMapOf(type));
+    }
+
+    public <T> T beanFrom(Class<T> type, Object source) throws IOException, JSONObjectException {
+        return _read(source, (r, p) -> r.readBean(type));
+    }
+
+    public Object anyFrom(Object source) throws IOException {
+        return _read(source, _json._anyOperation(source));
+    }
+
+    /**
+     * @see JSON#columnsFrom(Class, Object)
+     */
+    public ColumnarData columnsFrom(Class<?> rowType, Object source) throws IOException, JSONObjectException {
+        return _read(source, (r, p) -> r.readColumnsOf(rowType));
+    }
+
+    /*
+    /**********************************************************************
+    /* Internal methods, reading
+    /**********************************************************************
+     */
+
+    private <T> T _read(Object source, JSON.ReadOperation<T> op) throws IOException
+    {
+        final JSONReader r = _startReading();
+        try {
+            return _json._read(source, r, op);
+        } finally {
+            _endReading(r);
+        }
+    }
+
+    /**
+     * @return Reader to reuse, if not already in use; {@code null} if in use
+     *    (nested call), in which case a new per-operation reader is to be used
+     */
+    protected JSONReader _startReading()
+    {
+        if (_readerInUse) { // nested call, can not reuse
+            return null;
+        }
+        _readerInUse = true;
+        if (_reader == null) {
+            _reader = _json._readerForOperation(null);
+        }
+        return _reader;
+    }
+
+    protected void _endReading(JSONReader r)
+    {
+        if (r != null) {
+            r.reset(null);
+            _readerInUse = false;
+        }
+    }
+
+    /*
+    /**********************************************************************
+    /* Internal methods, writing
+    /**********************************************************************
+     */
+
+    protected void _writeAndClose(Object value, JsonGenerator g)
+        throws IOException, JSONObjectException
+    {
+        final JSONWriter w = _startWriting();
+        try {
+            _json._writeAndClose(value, g, w);
+        } finally {
+            _endWriting(w);
+        }
+    }
+
+    /**
+     * @return Writer to reuse, if not already in use; {@code null} if in use
+     *    (nested call), in which case a new per-operation writer is to be used
+     */
+    protected JSONWriter _startWriting()
+    {
+        if (_writerInUse) { // nested call, can not reuse
+            return null;
+        }
+        _writerInUse = true;
+        if (_writer == null) {
+            _writer = _json._writerForOperation(null);
+        }
+        return _writer;
+    }
+
+    protected void _endWriting(JSONWriter w)
+    {
+        if (w != null) {
+            w.reset(null);
+            _writerInUse = false;
+        }
+    }
+}
@@ -0,0 +1,735 @@
+package com.fasterxml.jackson.jr.ob;
+
+import java.io.*;
+import java.lang.ref.WeakReference;
+import java.nio.ByteBuffer;
+import java.nio.channels.GatheringByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+/**
+ * Sink for writing values as line-delimited JSON (NDJSON, "JSON Lines") from
+ * multiple threads concurrently, with "group commit" of output: each producer
+ * thread serializes values into a buffer of its own, and a single background
+ * I/O thread writes filled buffers to the target in batches. Buffered content
+ * is written (and target flushed) at least once per configured flush interval,
+ * so that latency is bounded even if buffers are not filled.
+ *<p>
+ * Values written by a single thread are written to the target in the order they
+ * were written; there is no ordering between values written by different threads.
+ * Each value is written on a line of its own, regardless of threads.
+ *<p>
+ * If the I/O thread can not keep up with producers, producers block once the
+ * amount of content waiting to be written exceeds configured maximum.
+ * If writing to target fails, the sink fails: failure is reported by all
+ * following calls to {@link #write}, {@link #flush} and {@link #close}.
+ *<p>
+ * Instances are created using {@link JSON#lineDelimitedSink(Object)}, or, for
+ * custom configuration, {@link #builder(JSON)}; and must be closed after use,
+ * to write remaining content and stop the I/O thread.
+ *
+ * @since 2.19
+ */
+public class LineDelimitedSink implements Closeable, Flushable
+{
+    /**
+     * Default size (in bytes) at which per-thread buffer is passed to the I/O thread
+     */
+    public final static int DEFAULT_BUFFER_SIZE = 16000;
+
+    /**
+     * Default maximum interval (in milliseconds) between writes of buffered
+     * content (and flushes of target)
+     */
+    public final static long DEFAULT_FLUSH_INTERVAL_MSECS = 10L;
+
+    /**
+     * Default maximum number of bytes to write to target as a single batch
+     */
+    public final static int DEFAULT_MAX_BATCH_SIZE = 256000;
+
+    /**
+     * Default maximum number of bytes waiting to be written, above which
+     * producers block
+     */
+    public final static long DEFAULT_MAX_PENDING_SIZE = 16000000L;
+
+    /**
+     * Maximum number of buffers to keep for reuse
+     */
+    protected final static int MAX_SPARE_BUFFERS = 64;
+
+    /**
+     * Marker used for waking up the I/O thread
+     */
+    protected final static Chunk WAKE_UP = new Chunk(new byte[0], 0);
+
+    protected final JSON _json;
+
+    protected final OutputStream _out;
+
+    protected final WritableByteChannel _channel;
+
+    protected final boolean _closeTarget;
+
+    protected final int _bufferSize;
+
+    protected final long _flushIntervalNanos;
+
+    protected final int _maxBatchSize;
+
+    protected final long _maxPendingSize;
+
+    /**
+     * Per-thread buffers
+     */
+    protected final ThreadLocal<Slot> _slot = new ThreadLocal<>();
+
+    /**
+     * All per-thread buffers, for the I/O thread to collect partially filled ones
+     */
+    protected final CopyOnWriteArrayList<Slot> _slots = new CopyOnWriteArrayList<>();
+
+    /**
+     * Buffers waiting to be written, in order of being passed by producers
+     */
+    protected final LinkedBlockingQueue<Chunk> _queue = new LinkedBlockingQueue<>();
+
+    protected final ArrayBlockingQueue<byte[]> _spareBuffers = new ArrayBlockingQueue<>(MAX_SPARE_BUFFERS);
+
+    protected final ConcurrentLinkedQueue<CompletableFuture<Void>> _flushRequests = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Number of bytes passed to I/O thread but not yet written
+     */
+    protected final AtomicLong _pendingSize = new AtomicLong();
+
+    /**
+     * Lock for producers waiting for pending content to be written
+     * (instead of monitor, to avoid pinning virtual threads)
+     */
+    protected final ReentrantLock _capacityLock = new ReentrantLock();
+
+    protected final Condition _capacityAvailable = _capacityLock.newCondition();
+
+    protected final Thread _ioThread;
+
+    protected volatile boolean _closing;
+
+    /**
+     * Failure of the I/O thread, if any
+     */
+    protected volatile Throwable _failure;
+
+    /**
+     * Flag set by the I/O thread when it has exited
+     */
+    protected volatile boolean _terminated;
+
+    protected LineDelimitedSink(Builder b, Object target) throws IOException
+    {
+        _json = b._json;
+        _closeTarget = b._closeTarget;
+        _bufferSize = b._bufferSize;
+        _flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(b._flushIntervalMsecs);
+        _maxBatchSize = b._maxBatchSize;
+        _maxPendingSize = b._maxPendingSize;
+
+        if (target instanceof File) {
+            target = ((File) target).toPath();
+        }
+        if (target instanceof Path) {
+            _channel = Files.newByteChannel((Path) target, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+            _out = null;
+        } else if (target instanceof WritableByteChannel) {
+            _channel = (WritableByteChannel) target;
+            _out = null;
+        } else if (target instanceof OutputStream) {
+            _channel = null;
+            _out = (OutputStream) target;
+        } else {
+            throw new JSONObjectException("Can not use target of type "
+                    +((target == null) ? "null" : "`"+target.getClass().getName()+"`")
+                    +" for line-delimited output (use an `OutputStream`, `WritableByteChannel`, `Path` or `File`)");
+        }
+        ThreadFactory tf = b._threadFactory;
+        if (tf == null) {
+            tf = r -> {
+                Thread t = new Thread(r, "jackson-jr-line-delimited-sink");
+                t.setDaemon(true);
+                return t;
+            };
+        }
+        _ioThread = tf.newThread(this::_run);
+        _ioThread.start();
+    }
+
+    public static Builder builder(JSON json) {
+        return new Builder(json);
+    }
+
+    /*
+    /**********************************************************************
+    /* Public API
+    /**********************************************************************
+     */
+
+    /**
+     * Method for serializing given value as a line of output. Value is serialized
+     * by calling thread, and written to the target by the I/O thread, within
+     * configured flush interval. If serialization fails, nothing is written for
+     * the value.
+     */
+    public void write(Object value) throws IOException, JSONObjectException
+    {
+        final Slot slot = _slot();
+        final boolean full;
+        slot.lock.lock();
+        try {
+            _verifyOpen();
+            full = slot.write(this, value);
+        } finally {
+            slot.lock.unlock();
+        }
+        if (full && (_pendingSize.get() > _maxPendingSize)) {
+            _awaitCapacity();
+        }
+    }
+
+    /**
+     * Method for writing all values written (by any thread) before call to the
+     * target, and flushing the target; blocks until done.
+     */
+    @Override
+    public void flush() throws IOException
+    {
+        if (_terminated) {
+            _verifyNotFailed();
+            return;
+        }
+        CompletableFuture<Void> f = new CompletableFuture<>();
+        _flushRequests.add(f);
+        _queue.add(WAKE_UP);
+        // in case I/O thread failed or exited before seeing request
+        if (_terminated) {
+            _verifyNotFailed();
+            return;
+        }
+        try {
+            f.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for flush");
+        } catch (ExecutionException e) {
+            _verifyNotFailed();
+        }
+    }
+
+    /**
+     * Method for closing the sink: all values written before call are written
+     * to the target, target is flushed (and closed if so configured), and the
+     * I/O thread stopped. Blocks until done.
+     */
+    @Override
+    public void close() throws IOException
+    {
+        _closing = true;
+        _queue.add(WAKE_UP);
+        boolean interrupted = false;
+        while (true) {
+            try {
+                _ioThread.join();
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        _verifyNotFailed();
+    }
+
+    public boolean isClosed() {
+        return _closing;
+    }
+
+    /**
+     * @return Number of bytes passed to the I/O thread but not yet written
+     */
+    public long pendingSize() {
+        return _pendingSize.get();
+    }
+
+    /*
+    /**********************************************************************
+    /* Internal methods, producers
+    /**********************************************************************
+     */
+
+    protected Slot _slot()
+    {
+        Slot slot = _slot.get();
+        if (slot == null) {
+            slot = new Slot(Thread.currentThread(), _json.session(), _newBuffer());
+            _slot.set(slot);
+            _slots.add(slot);
+        }
+        return slot;
+    }
+
+    protected void _verifyOpen() throws IOException
+    {
+        _verifyNotFailed();
+        if (_closing) {
+            throw new IllegalStateException("Can not write values to closed `LineDelimitedSink`");
+        }
+    }
+
+    protected void _verifyNotFailed() throws IOException
+    {
+        final Throwable t = _failure;
+        if (t != null) {
+            if (t instanceof IOException) {
+                throw new IOException("Writing of line-delimited output failed: "+t.getMessage(), t);
+            }
+            throw new IllegalStateException("Writing of line-delimited output failed: "+t.getMessage(), t);
+        }
+    }
+
+    protected void _awaitCapacity() throws IOException
+    {
+        _capacityLock.lock();
+        try {
+            while ((_pendingSize.get() > _maxPendingSize) && !_terminated) {
+                _capacityAvailable.await();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for output to be written");
+        } finally {
+            _capacityLock.unlock();
+        }
+        _verifyNotFailed();
+    }
+
+    /**
+     * Method called (with lock of slot held) to pass content to the I/O thread
+     */
+    protected void _submit(Chunk chunk) {
+        _pendingSize.addAndGet(chunk.length);
+        _queue.add(chunk);
+    }
+
+    protected byte[] _newBuffer() {
+        byte[] buffer = _spareBuffers.poll();
+        return (buffer == null) ? new byte[_bufferSize + (_bufferSize >> 2)] : buffer;
+    }
+
+    /*
+    /**********************************************************************
+    /* Internal methods, I/O thread
+    /**********************************************************************
+     */
+
+    protected void _run()
+    {
+        final List<Chunk> batch = new ArrayList<>();
+        final List<CompletableFuture<Void>> flushRequests = new ArrayList<>();
+        long nextSweep = System.nanoTime() + _flushIntervalNanos;
+        Chunk carry = null;
+        boolean dirty = false;
+
+        try {
+            while (true) {
+                final boolean closing = _closing;
+                final long now = System.nanoTime();
+                final boolean sweep = closing || !_flushRequests.isEmpty() || (now - nextSweep >= 0L);
+                if (sweep) {
+                    CompletableFuture<Void> f;
+                    while ((f = _flushRequests.poll()) != null) {
+                        flushRequests.add(f);
+                    }
+                    _sweep();
+                    nextSweep = now + _flushIntervalNanos;
+                }
+                // Write everything queued so far, in batches
+                while (true) {
+                    int size = 0;
+                    if (carry != null) {
+                        batch.add(carry);
+                        size += carry.length;
+                        carry = null;
+                    }
+                    Chunk chunk;
+                    while ((size < _maxBatchSize) && ((chunk = _queue.poll()) != null)) {
+                        if (chunk != WAKE_UP) {
+                            batch.add(chunk);
+                            size += chunk.length;
+                        }
+                    }
+                    if (batch.isEmpty()) {
+                        break;
+                    }
+                    _writeBatch(batch);
+                    dirty = true;
+                    _written(batch, size);
+                    batch.clear();
+                }
+                if (sweep) {
+                    if (dirty) {
+                        _flushTarget();
+                        dirty = false;
+                    }
+                    for (CompletableFuture<Void> f : flushRequests) {
+                        f.complete(null);
+                    }
+                    flushRequests.clear();
+                    if (closing) {
+                        break;
+                    }
+                }
+                final long wait = nextSweep - System.nanoTime();
+                if (wait > 0L) {
+                    Chunk chunk = _queue.poll(wait, TimeUnit.NANOSECONDS);
+                    if (chunk != WAKE_UP) {
+                        carry = chunk;
+                    }
+                }
+            }
+            _closeTarget();
+        } catch (Throwable t) {
+            _failure = t;
+            if (_closeTarget) {
+                try {
+                    _closeTarget();
+                } catch (Throwable t2) { }
+            }
+        } finally {
+            _terminated = true;
+            _queue.clear();
+            _slots.clear();
+            for (CompletableFuture<Void> f : flushRequests) {
+                _completeFlush(f);
+            }
+            CompletableFuture<Void> f;
+            while ((f = _flushRequests.poll()) != null) {
+                _completeFlush(f);
+            }
+            _capacityLock.lock();
+            try {
+                _capacityAvailable.signalAll();
+            } finally {
+                _capacityLock.unlock();
+            }
+        }
+    }
+
+    private void _completeFlush(CompletableFuture<Void> f) {
+        final Throwable t = _failure;
+        if (t == null) {
+            f.complete(null);
+        } else {
+            f.completeExceptionally(t);
+        }
+    }
+
+    /**
+     * Method for passing content of all per-thread buffers to the queue of
+     * content to write; done with lock of buffer held, to retain order of
+     * content written by each thread.
+     */
+    protected void _sweep()
+    {
+        for (Slot slot : _slots) {
+            final boolean dead = !slot.isOwnerAlive();
+            slot.lock.lock();
+            try {
+                if (slot.length > 0) {
+                    _submit(slot.take(dead ? null : _newBuffer()));
+                }
+            } finally {
+                slot.lock.unlock();
+            }
+            if (dead) {
+                _slots.remove(slot);
+            }
+        }
+    }
+
+    protected void _writeBatch(List<Chunk> batch) throws IOException
+    {
+        if (_out != null) {
+            for (Chunk chunk : batch) {
+                _out.write(chunk.buffer, 0, chunk.length);
+            }
+            return;
+        }
+        final ByteBuffer[] buffers = new ByteBuffer[batch.size()];
+        long remaining = 0L;
+        for (int i = 0; i < buffers.length; ++i) {
+            Chunk chunk = batch.get(i);
+            buffers[i] = ByteBuffer.wrap(chunk.buffer, 0, chunk.length);
+            remaining += chunk.length;
+        }
+        if (_channel instanceof GatheringByteChannel) {
+            final GatheringByteChannel ch = (GatheringByteChannel) _channel;
+            while (remaining > 0L) {
+                remaining -= ch.write(buffers);
+            }
+        } else {
+            for (ByteBuffer bb : buffers) {
+                while (bb.hasRemaining()) {
+                    _channel.write(bb);
+                }
+            }
+        }
+    }
+
+    protected void _written(List<Chunk> batch, int size)
+    {
+        for (Chunk chunk : batch) {
+            // only reuse buffers that have not grown much beyond regular size
+            if (chunk.buffer.length <= (_bufferSize << 1)) {
+                _spareBuffers.offer(chunk.buffer);
+            }
+        }
+        if (_pendingSize.addAndGet(-size) <= _maxPendingSize) {
+            _capacityLock.lock();
+            try {
+                _capacityAvailable.signalAll();
+            } finally {
+                _capacityLock.unlock();
+            }
+        }
+    }
+
+    protected void _flushTarget() throws IOException
+    {
+        if (_out != null) {
+            _out.flush();
+        }
+    }
+
+    protected void _closeTarget() throws IOException
+    {
+        if (_closeTarget) {
+            if (_out != null) {
+                _out.close();
+            } else {
+                _channel.close();
+            }
+        }
+    }
+
+    /*
+    /**********************************************************************
+    /* Helper classes
+    /**********************************************************************
+     */
+
+    /**
+     * Buffer of content written by a single producer thread, along with the
+     * state used for writing; access guarded by {@link #lock}.
+     */
+    protected final static class Slot extends OutputStream
+    {
+        final ReentrantLock lock = new ReentrantLock();
+
+        final WeakReference<Thread> owner;
+
+        final JSONSession session;
+
+        JsonGenerator generator;
+
+        byte[] buffer;
+
+        int length;
+
+        Slot(Thread owner, JSONSession session, byte[] buffer) {
+            this.owner = new WeakReference<>(owner);
+            this.session = session;
+            this.buffer = buffer;
+        }
+
+        boolean isOwnerAlive() {
+            Thread t = owner.get();
+            return (t != null) && t.isAlive();
+        }
+
+        /**
+         * @return True if buffer was filled (and passed to the I/O thread)
+         */
+        boolean write(LineDelimitedSink sink, Object value) throws IOException
+        {
+            final int start = length;
+            try {
+                JsonGenerator g = generator;
+                if (g == null) {
+                    g = sink._json._jsonFactory.createGenerator(this, JsonEncoding.UTF8);
+                    // linefeeds written explicitly instead
+                    g.setRootValueSeparator(null);
+                    generator = g;
+                }
+                session.write(value, g);
+                g.writeRaw('\n');
+                g.flush();
+            } catch (IOException | RuntimeException e) {
+                // discard partial content, along with generator state
+                generator = null;
+                length = start;
+                throw e;
+            }
+            if (length >= sink._bufferSize) {
+                sink._submit(take(sink._newBuffer()));
+                return true;
+            }
+            return false;
+        }
+
+        Chunk take(byte[] newBuffer) {
+            Chunk chunk = new Chunk(buffer, length);
+            buffer = newBuffer;
+            length = 0;
+            return chunk;
+        }
+
+        @Override
+        public void write(int b) {
+            if (length == buffer.length) {
+                buffer = Arrays.copyOf(buffer, length + (length >> 1) + 1);
+            }
+            buffer[length++] = (byte) b;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            final int end = length + len;
+            if (end > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(end, length + (length >> 1)));
+            }
+            System.arraycopy(b, off, buffer, length, len);
+            length = end;
+        }
+    }
+
+    protected final static class Chunk
+    {
+        final byte[] buffer;
+
+        final int length;
+
+        Chunk(byte[] buffer, int length) {
+            this.buffer = buffer;
+            this.length = length;
+        }
+    }
+
+    /**
+     * Builder for configuring and constructing {@link LineDelimitedSink}s.
+     */
+    public static class Builder
+    {
+        protected final JSON _json;
+
+        protected int _bufferSize = DEFAULT_BUFFER_SIZE;
+
+        protected long _flushIntervalMsecs = DEFAULT_FLUSH_INTERVAL_MSECS;
+
+        protected int _maxBatchSize = DEFAULT_MAX_BATCH_SIZE;
+
+        protected long _maxPendingSize = DEFAULT_MAX_PENDING_SIZE;
+
+        protected boolean _closeTarget = true;
+
+        protected ThreadFactory _threadFactory;
+
+        protected Builder(JSON json) {
+            _json = json;
+        }
+
+        /**
+         * Method for specifying size (in bytes) at which per-thread buffer is
+         * passed to the I/O thread, without waiting for flush interval.
+         */
+        public Builder bufferSize(int size) {
+            _bufferSize = _checkPositive(size, "Buffer size");
+            return this;
+        }
+
+        /**
+         * Method for specifying maximum interval (in milliseconds) between writes of
+         * all buffered content to the target (and flushes of target): that is, maximum
+         * latency between writing a value and it being written to target.
+         */
+        public Builder flushInterval(long msecs) {
+            _flushIntervalMsecs = _checkPositive(msecs, "Flush interval");
+            return this;
+        }
+
+        /**
+         * Method for specifying maximum number of bytes to write to the target
+         * at once (a batch may still exceed this by the size of one buffer).
+         */
+        public Builder maxBatchSize(int size) {
+            _maxBatchSize = _checkPositive(size, "Maximum batch size");
+            return this;
+        }
+
+        /**
+         * Method for specifying maximum number of bytes passed to the I/O thread
+         * but not yet written, above which producers block.
+         */
+        public Builder maxPendingSize(long size) {
+            _maxPendingSize = _checkPositive(size, "Maximum pending size");
+            return this;
+        }
+
+        /**
+         * Method for specifying whether target is to be closed when sink is closed;
+         * default is {@code true}.
+         */
+        public Builder closeTarget(boolean state) {
+            _closeTarget = state;
+            return this;
+        }
+
+        /**
+         * Method for specifying factory to use for creating the I/O thread; if none
+         * specified, a daemon thread is created.
+         */
+        public Builder threadFactory(ThreadFactory tf) {
+            _threadFactory = tf;
+            return this;
+        }
+
+        /**
+         * Method for constructing sink that writes to given target, which
+         * may be an {@link OutputStream}, {@link WritableByteChannel},
+         * {@link Path} or {@link File}.
+         */
+        public LineDelimitedSink build(Object target) throws IOException {
+            return new LineDelimitedSink(this, target);
+        }
+
+        private static <N extends Number> N _checkPositive(N value, String desc) {
+            if (value.longValue() < 1L) {
+                throw new IllegalArgumentException(desc+" must be positive, was "+value);
+            }
+            return value;
+        }
+    }
+}
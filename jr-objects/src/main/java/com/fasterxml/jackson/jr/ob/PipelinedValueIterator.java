@@ -0,0 +1,269 @@
+package com.fasterxml.jackson.jr.ob;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayDeque;
+import java.util.concurrent.*;
+
+import com.fasterxml.jackson.core.*;
+import com.fasterxml.jackson.jr.ob.impl.TokenBuffer;
+
+/**
+ * {@link ValueIterator} that separates tokenization of a sequence of values
+ * from binding of values into Beans: calling thread tokenizes each element of
+ * the sequence into a {@link TokenBuffer}, and buffered elements are then bound
+ * using given {@link Executor}, so that binding of multiple elements may proceed
+ * in parallel. Up to a configured maximum number of elements are tokenized
+ * ahead of the element being returned.
+ *<p>
+ * Values are returned either in order they appear in content, or, if
+ * order is not to be kept, in order of binding completing.
+ *<p>
+ * Since elements are tokenized separately from binding, failure to bind an
+ * element does not affect reading of following elements: the exception is
+ * thrown when the failed element would be returned, and iteration may continue
+ * after it. Failure to tokenize content (invalid JSON), however, ends iteration:
+ * it is thrown (in either mode) only after all elements before it have been returned.
+ *<p>
+ * Instances are created using
+ * {@link JSON#pipelinedBeanSequenceFrom(Class, Object, Executor, boolean)}.
+ *
+ * @since 2.19
+ */
+public class PipelinedValueIterator<T> extends ValueIterator<T>
+{
+    /**
+     * Default maximum number of elements tokenized ahead of the element
+     * being returned.
+     */
+    public final static int DEFAULT_MAX_IN_FLIGHT = 64;
+
+    protected final JSON _json;
+
+    protected final Executor _executor;
+
+    protected final boolean _keepOrder;
+
+    protected final int _maxInFlight;
+
+    /**
+     * Elements submitted for binding, in order of appearance in content;
+     * only used if order is kept.
+     */
+    protected final ArrayDeque<CompletableFuture<T>> _pending;
+
+    /**
+     * Elements whose binding has completed, in order of completion;
+     * only used if order is not kept.
+     */
+    protected final BlockingQueue<CompletableFuture<T>> _completed;
+
+    /**
+     * Failure to tokenize content, if any, to be returned after all elements
+     * before it; only used if order is not kept (otherwise failure is
+     * simply added to {@link #_pending}).
+     */
+    protected CompletableFuture<T> _failure;
+
+    /**
+     * Number of elements tokenized but not yet returned (including
+     * tokenization failure, if any)
+     */
+    protected int _inFlight;
+
+    /**
+     * Flag set when no more elements are to be tokenized, either due to
+     * end of content, or failure to tokenize content.
+     */
+    protected boolean _endOfInput;
+
+    protected PipelinedValueIterator(JSON json, Class<?> type, JsonParser p,
+            boolean managedParser, Executor executor, boolean keepOrder, int maxInFlight)
+    {
+        super(MODE_BEAN, type, p, null, null, managedParser);
+        if (maxInFlight < 1) {
+            throw new IllegalArgumentException("Maximum number of values in flight must be positive, was "
+                    +maxInFlight);
+        }
+        _json = json;
+        _executor = executor;
+        _keepOrder = keepOrder;
+        _maxInFlight = maxInFlight;
+        if (keepOrder) {
+            _pending = new ArrayDeque<>(Math.min(maxInFlight, 64));
+            _completed = null;
+        } else {
+            _pending = null;
+            _completed = new LinkedBlockingQueue<>();
+        }
+        _endOfInput = (_state == STATE_CLOSED);
+    }
+
+    /*
+    /**********************************************************************
+    /* Iteration
+    /**********************************************************************
+     */
+
+    @Override
+    public boolean hasNextValue() throws IOException
+    {
+        if (_state == STATE_CLOSED) {
+            return false;
+        }
+        _fill();
+        if (_inFlight == 0) {
+            _state = STATE_CLOSED;
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public T nextValue() throws IOException
+    {
+        if (!hasNextValue()) {
+            return _throwNoSuchElement();
+        }
+        CompletableFuture<T> f;
+        try {
+            if (_keepOrder) {
+                f = _pending.removeFirst();
+            } else if ((_failure != null) && (_inFlight == 1)) {
+                // all values before failure returned, so it is next
+                f = _failure;
+                _failure = null;
+            } else {
+                f = _completed.take();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for value to be read");
+        }
+        --_inFlight;
+        return _await(f);
+    }
+
+    @Override
+    public void close() throws IOException
+    {
+        _endOfInput = true;
+        if (_pending != null) {
+            for (CompletableFuture<T> f : _pending) {
+                f.cancel(false);
+            }
+            _pending.clear();
+        }
+        if (_completed != null) {
+            _completed.clear();
+        }
+        _failure = null;
+        _inFlight = 0;
+        super.close();
+    }
+
+    /**
+     * Accessor for number of values tokenized but not yet returned.
+     */
+    public int inFlight() {
+        return _inFlight;
+    }
+
+    /*
+    /**********************************************************************
+    /* Internal methods
+    /**********************************************************************
+     */
+
+    /**
+     * Method that tokenizes elements and submits them for binding, until either
+     * maximum number of elements are in flight, or no more elements are available.
+     */
+    protected void _fill()
+    {
+        final JsonParser p = _parser;
+        while (!_endOfInput && (_inFlight < _maxInFlight)) {
+            final TokenBuffer buffer;
+            try {
+                JsonToken t = p.currentToken();
+                if (t == null) {
+                    t = p.nextToken();
+                }
+                if ((t == null) || (t == JsonToken.END_ARRAY)) {
+                    _endOfInput();
+                    return;
+                }
+                buffer = TokenBuffer.copyOf(p);
+                p.clearCurrentToken();
+            } catch (IOException e) {
+                // failure is reported in sequence, after values before it
+                _endOfInput();
+                CompletableFuture<T> f = new CompletableFuture<>();
+                f.completeExceptionally(e);
+                if (_keepOrder) {
+                    _submitted(f);
+                } else {
+                    // must not be queued as completed ahead of values still being bound
+                    ++_inFlight;
+                    _failure = f;
+                }
+                return;
+            }
+            _submitted(CompletableFuture.supplyAsync(() -> _bind(buffer), _executor));
+        }
+    }
+
+    protected T _bind(TokenBuffer buffer)
+    {
+        try (JsonParser bp = buffer.asParser()) {
+            bp.nextToken();
+            @SuppressWarnings("unchecked")
+            T value = (T) _json._readerForOperation(bp).readBean(_type);
+            return value;
+        } catch (IOException e) {
+            throw new CompletionException(e);
+        }
+    }
+
+    private void _submitted(CompletableFuture<T> f)
+    {
+        ++_inFlight;
+        if (_keepOrder) {
+            _pending.addLast(f);
+        } else {
+            f.whenComplete((v, e) -> _completed.add(f));
+        }
+    }
+
+    private void _endOfInput() {
+        _endOfInput = true;
+        if (_closeParser) {
+            _json._close(_parser);
+        }
+    }
+
+    private T _await(CompletableFuture<T> f) throws IOException
+    {
+        try {
+            return f.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for value to be read");
+        } catch (ExecutionException e) {
+            Throwable t = e.getCause();
+            if (t instanceof CompletionException && (t.getCause() != null)) {
+                t = t.getCause();
+            }
+            if (t instanceof IOException) {
+                throw (IOException) t;
+            }
+            if (t instanceof RuntimeException) {
+                throw (RuntimeException) t;
+            }
+            if (t instanceof Error) {
+                throw (Error) t;
+            }
+            throw new RuntimeException(t.getMessage(), t);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.fasterxml.jackson.jr.ob;
+
+import com.fasterxml.jackson.jr.ob.api.ExtensionContext;
+import com.fasterxml.jackson.jr.ob.impl.*;
+
+/**
+ * Extension that makes {@link JSON} read {@link java.util.List}s and
+ * {@link java.util.Map}s (with {@link String} keys) of {@link Integer}s,
+ * {@link Long}s and/or {@link Double}s into compact primitive-backed
+ * implementations ({@link IntArrayList}, {@link LongArrayList},
+ * {@link DoubleArrayList}; {@link IntValueMap}, {@link LongValueMap},
+ * {@link DoubleValueMap}) instead of {@link java.util.ArrayList}s and
+ * {@link java.util.LinkedHashMap}s of boxed values. This reduces memory usage
+ * of large numeric data sets considerably (for {@code List<Integer>}, from about
+ * 20 to 4 bytes per element) and avoids boxing when reading.
+ *<p>
+ * Applies to typed reads, like {@link JSON#listOfFrom(Class, Object)} and Bean
+ * properties declared as {@code List<Integer>}, as long as declared type is
+ * compatible with the implementation type; it does not apply to "untyped"
+ * reads (like {@link JSON#listFrom(Object)}).
+ * Note that since implementations do not allow {@code null}s, JSON {@code null}s
+ * are read as zeroes.
+ *<p>
+ * Usage:
+ *<pre>
+ *  JSON json = JSON.builder()
+ *      // only for Lists/Maps of Doubles
+ *      .register(new PrimitiveCollectionsExtension(Double.class))
+ *      .build();
+ *</pre>
+ *
+ * @since 2.19
+ */
+public class PrimitiveCollectionsExtension extends JacksonJrExtension
+{
+    protected final boolean _ints, _longs, _doubles;
+
+    /**
+     * @param elementTypes Element types ({@code Integer.class}, {@code Long.class} and/or
+     *    {@code Double.class}) to use primitive-backed collections for; if none
+     *    specified, used for all
+     */
+    public PrimitiveCollectionsExtension(Class<?>... elementTypes)
+    {
+        if (elementTypes.length == 0) {
+            _ints = _longs = _doubles = true;
+            return;
+        }
+        boolean ints = false, longs = false, doubles = false;
+        for (Class<?> type : elementTypes) {
+            if (type == Integer.class || type == Integer.TYPE) {
+                ints = true;
+            } else if (type == Long.class || type == Long.TYPE) {
+                longs = true;
+            } else if (type == Double.class || type == Double.TYPE) {
+                doubles = true;
+            } else {
+                throw new IllegalArgumentException("Unsupported element type `"
+                        +((type == null) ? "null" : type.getName())
+                        +"`: only `Integer`, `Long` and `Double` supported");
+            }
+        }
+        _ints = ints;
+        _longs = longs;
+        _doubles = doubles;
+    }
+
+    @Override
+    protected void register(ExtensionContext ctxt) {
+        // lowest priority, so as not to override other custom readers
+        ctxt.appendProvider(new PrimitiveCollectionsProvider(_ints, _longs, _doubles));
+    }
+}
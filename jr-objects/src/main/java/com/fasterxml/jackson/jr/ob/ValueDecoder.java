@@ -0,0 +1,310 @@
+package com.fasterxml.jackson.jr.ob;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.function.Consumer;
+
+import com.fasterxml.jackson.core.*;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.jr.ob.impl.JSONReader;
+import com.fasterxml.jackson.jr.ob.impl.TokenBuffer;
+
+/**
+ * Push-style decoder for reading a sequence of JSON values from content that
+ * becomes available in chunks (for example, from a non-blocking socket):
+ * chunks are fed to the decoder as they arrive, and values are passed to
+ * the value consumer as soon as they are complete, without blocking and without
+ * caller having to buffer whole documents.
+ *<p>
+ * Decoding uses non-blocking ("async") parser of {@code jackson-core}: tokens
+ * of the value being decoded are buffered (using {@link TokenBuffer}) until
+ * the value is complete, at which point buffered tokens are bound using the
+ * same readers ({@link com.fasterxml.jackson.jr.ob.api.ValueReader}s) as
+ * blocking reads.
+ *<p>
+ * Content may consist of any number of root-level values (like line-delimited or
+ * concatenated JSON); or, as with {@link ValueIterator}, of a single JSON Array
+ * whose elements are the values of the sequence ("wrapped" sequence).
+ *<p>
+ * Instances are created using methods of {@link JSON}, like
+ * {@link JSON#beanSequenceDecoder(Class, Consumer)}; they are not thread-safe,
+ * and should be closed after use.
+ *
+ * @since 2.19
+ */
+public class ValueDecoder<T> implements Closeable
+{
+    protected final static int MODE_BEAN = 1;
+
+    protected final static int MODE_MAP = 2;
+
+    protected final static int MODE_ANY = 3;
+
+    protected final static int MODE_TREE = 4;
+
+    protected final JSON _json;
+
+    protected final int _mode;
+
+    protected final Class<?> _type;
+
+    protected final Consumer<? super T> _consumer;
+
+    /**
+     * Non-blocking parser content is fed to
+     */
+    protected final JsonParser _parser;
+
+    protected final ByteArrayFeeder _feeder;
+
+    /**
+     * Tokens of the value being decoded
+     */
+    protected final TokenBuffer _buffer = new TokenBuffer();
+
+    /**
+     * Reader to reuse for binding values, once constructed
+     */
+    protected JSONReader _reader;
+
+    /**
+     * Buffer used for copying content of {@link ByteBuffer}s not backed by an array
+     */
+    protected byte[] _copyBuffer;
+
+    /**
+     * Nesting depth of the value being decoded
+     */
+    protected int _depth;
+
+    /**
+     * Flag set once first token of content has been seen.
+     */
+    protected boolean _started;
+
+    /**
+     * Flag set if content is a wrapped sequence, and its closing
+     * {@code END_ARRAY} not yet seen.
+     */
+    protected boolean _wrapped;
+
+    /**
+     * Flag set if content was a wrapped sequence, and it has ended
+     */
+    protected boolean _wrapperClosed;
+
+    protected boolean _closed;
+
+    protected ValueDecoder(JSON json, int mode, Class<?> type, JsonParser p,
+            Consumer<? super T> consumer)
+    {
+        _json = json;
+        _mode = mode;
+        _type = type;
+        _parser = p;
+        _feeder = (ByteArrayFeeder) p.getNonBlockingInputFeeder();
+        _consumer = consumer;
+    }
+
+    /*
+    /**********************************************************************
+    /* Public API
+    /**********************************************************************
+     */
+
+    /**
+     * Method for feeding given chunk of content to the decoder: all values
+     * completed by the chunk are passed to the value consumer before method
+     * returns. Contents of the array are not retained, so caller is free
+     * to reuse it once method returns.
+     *
+     * @return Number of values decoded (and passed to consumer)
+     *
+     * @throws JsonParseException If content is not valid JSON; decoding can not
+     *    continue after such failure
+     * @throws JSONObjectException If a value can not be bound; following values
+     *    of the chunk are still decoded and passed to consumer before the
+     *    (first) failure is thrown, and decoding may continue by feeding
+     *    more content. Exceptions thrown by consumer are handled the same way.
+     */
+    public int feed(byte[] data, int offset, int len) throws IOException
+    {
+        if (_closed) {
+            throw new IllegalStateException("Can not feed content to closed decoder");
+        }
+        if (len == 0) {
+            return 0;
+        }
+        _feeder.feedInput(data, offset, offset+len);
+        return _decode();
+    }
+
+    public int feed(byte[] data) throws IOException {
+        return feed(data, 0, data.length);
+    }
+
+    /**
+     * Method for feeding remaining content of given buffer to the decoder;
+     * buffer position is advanced to its limit.
+     *
+     * @see #feed(byte[], int, int)
+     */
+    public int feed(ByteBuffer buffer) throws IOException
+    {
+        final int len = buffer.remaining();
+        if (buffer.hasArray()) {
+            final int offset = buffer.arrayOffset() + buffer.position();
+            buffer.position(buffer.limit());
+            return feed(buffer.array(), offset, len);
+        }
+        if ((_copyBuffer == null) || (_copyBuffer.length < len)) {
+            _copyBuffer = new byte[Math.max(len, 4000)];
+        }
+        buffer.get(_copyBuffer, 0, len);
+        return feed(_copyBuffer, 0, len);
+    }
+
+    /**
+     * Method to call to indicate that no more content will be fed; verifies
+     * that content did not end in middle of a value, and passes the last value
+     * to the consumer if it was only completed by end of content (as is the case
+     * with a root-level number).
+     *
+     * @return Number of values decoded (and passed to consumer)
+     */
+    public int endOfInput() throws IOException
+    {
+        if (_closed) {
+            return 0;
+        }
+        _feeder.endOfInput();
+        int count = _decode();
+        if (_depth > 0 || _wrapped) {
+            throw JSONObjectException.from(_parser,
+                    "Unexpected end-of-input: expected close marker for "
+                    +(_parser.getParsingContext().inArray() ? "Array" : "Object"));
+        }
+        close();
+        return count;
+    }
+
+    /**
+     * Accessor for checking whether decoder has a partially decoded value
+     * (that is, whether more content is needed to complete it).
+     */
+    public boolean hasPartialValue() {
+        return _buffer.size() > 0;
+    }
+
+    public boolean isClosed() {
+        return _closed;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (!_closed) {
+            _closed = true;
+            _buffer.clear();
+            _parser.close();
+        }
+    }
+
+    /*
+    /**********************************************************************
+    /* Internal methods
+    /**********************************************************************
+     */
+
+    protected int _decode() throws IOException
+    {
+        final JsonParser p = _parser;
+        int count = 0;
+        Exception failure = null;
+        JsonToken t;
+
+        while (((t = p.nextToken()) != JsonToken.NOT_AVAILABLE) && (t != null)) {
+            if (_depth == 0) {
+                if (!_started) {
+                    _started = true;
+                    // as with `ValueIterator`, leading START_ARRAY means "wrapped" sequence
+                    if (t == JsonToken.START_ARRAY) {
+                        _wrapped = true;
+                        continue;
+                    }
+                } else if (_wrapped) {
+                    if (t == JsonToken.END_ARRAY) {
+                        _wrapped = false;
+                        _wrapperClosed = true;
+                        continue;
+                    }
+                } else if (_wrapperClosed) {
+                    throw JSONObjectException.from(p,
+                            "Unexpected token ("+t+") after end of wrapped value sequence");
+                }
+            }
+            _buffer.append(p);
+            if (t.isStructStart()) {
+                ++_depth;
+            } else if (t.isStructEnd()) {
+                --_depth;
+            }
+            if (_depth == 0) {
+                // Binding (or consumer) failure must not leave rest of the chunk
+                // undecoded in feeder, so keep decoding and only report it
+                // once all of the chunk has been processed
+                try {
+                    _bindAndPass();
+                    ++count;
+                } catch (IOException | RuntimeException e) {
+                    if (failure == null) {
+                        failure = e;
+                    } else {
+                        failure.addSuppressed(e);
+                    }
+                }
+            }
+        }
+        if (failure != null) {
+            if (failure instanceof IOException) {
+                throw (IOException) failure;
+            }
+            throw (RuntimeException) failure;
+        }
+        return count;
+    }
+
+    protected void _bindAndPass() throws IOException
+    {
+        Object value;
+        try (JsonParser bp = _buffer.asParser()) {
+            bp.nextToken();
+            if (_mode == MODE_TREE) {
+                value = _json._treeCodec.readTree(bp);
+            } else {
+                final JSONReader r = (_reader == null)
+                        ? (_reader = _json._readerForOperation(bp))
+                        : _reader.reset(bp);
+                switch (_mode) {
+                case MODE_BEAN:
+                    value = r.readBean(_type);
+                    break;
+                case MODE_MAP:
+                    value = r.readMap();
+                    break;
+                case MODE_ANY:
+                    value = r.readValue();
+                    break;
+                default:
+                    throw new IllegalStateException("Invalid mode: "+_mode);
+                }
+            }
+        } finally {
+            // Need to clear buffer no matter what, to allow decoding to continue
+            _buffer.clear();
+        }
+        @SuppressWarnings("unchecked")
+        T result = (T) value;
+        _consumer.accept(result);
+    }
+}
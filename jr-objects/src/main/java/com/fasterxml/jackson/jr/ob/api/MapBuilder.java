@@ -5,6 +5,7 @@ import java.util.*;
 import com.fasterxml.jackson.jr.ob.JSON;
 import com.fasterxml.jackson.jr.ob.JSON.Feature;
 import com.fasterxml.jackson.jr.ob.impl.DeferredMap;
+import com.fasterxml.jackson.jr.ob.impl.MapShape;
 import com.fasterxml.jackson.jr.ob.JSONObjectException;
 
 /**
@@ -102,13 +103,60 @@ public abstract class MapBuilder
      * It may also, with alternate configuration,
      * use {@link Collections#emptyMap()} for empty Maps,
      * if allowed with {@link Feature#READ_ONLY}.
+     *<p>
+     * Since 2.19, with {@link Feature#USE_DEFERRED_MAPS} and
+     * {@link Feature#SHARE_MAP_SHAPES} enabled, builds {@link DeferredMap}s
+     * that share key layouts ({@link MapShape}s) with other Maps
+     * built with the same sequence of keys, using the same builder (or
+     * builders for nested Maps constructed by it).
      */
     public static class Default extends MapBuilder
     {
         protected Map<String, Object> _current;
 
+        /**
+         * Whether {@link MapShape}s are to be used
+         *
+         * @since 2.19
+         */
+        protected final boolean _shareShapes;
+
+        /**
+         * Root of the tree of {@link MapShape}s, shared with builders for
+         * nested Maps; created when first needed.
+         *
+         * @since 2.19
+         */
+        protected MapShape _rootShape;
+
+        /**
+         * Shape of the Map being built, if any: non-null only when building
+         * a Map with shared key layout.
+         *
+         * @since 2.19
+         */
+        protected MapShape _shape;
+
+        /**
+         * Values of the Map being built with {@link #_shape}
+         *
+         * @since 2.19
+         */
+        protected Object[] _values;
+
+        /**
+         * Builder for nested Maps (ones started while this builder is busy),
+         * if any, retained for reuse.
+         *
+         * @since 2.19
+         */
+        protected Default _nested;
+
         protected Default(int features, Class<?> type) {
             super(features, type);
+            _shareShapes = (type == null)
+                    && Feature.USE_DEFERRED_MAPS.isEnabled(features)
+                    && Feature.SHARE_MAP_SHAPES.isEnabled(features);
         }
 
         @Override
@@ -123,9 +171,23 @@ public abstract class MapBuilder
 
         @Override
         public MapBuilder start() {
-            // If this builder is "busy", create a new one...
-            if (_current != null) {
-                return newBuilder().start();
+            // If this builder is "busy", use another one (sharing shapes)...
+            if ((_current != null) || (_shape != null)) {
+                if (_nested == null) {
+                    _nested = new Default(_features, _mapType);
+                    _nested._rootShape = _rootShape;
+                }
+                return _nested.start();
+            }
+            if (_shareShapes) {
+                if (_rootShape == null) {
+                    _rootShape = MapShape.root();
+                }
+                _shape = _rootShape;
+                if (_values == null) {
+                    _values = new Object[8];
+                }
+                return this;
             }
             _current = _map(12);
             return this;
@@ -133,6 +195,14 @@ public abstract class MapBuilder
 
         @Override
         public Map<String, Object> build() {
+            if (_shape != null) {
+                final int size = _shape.size();
+                Map<String, Object> result = new DeferredMap(isEnabled(Feature.PRESERVE_FIELD_ORDERING),
+                        _shape, Arrays.copyOf(_values, size));
+                Arrays.fill(_values, 0, size, null);
+                _shape = null;
+                return result;
+            }
             Map<String, Object> result = _current;
             _current = null;
             return result;
@@ -140,6 +210,20 @@ public abstract class MapBuilder
 
         @Override
         public MapBuilder put(String key, Object value) {
+            if (_shape != null) {
+                final MapShape next = _shape.with(key);
+                if (next != null) {
+                    final int ix = _shape.size();
+                    if (ix == _values.length) {
+                        _values = Arrays.copyOf(_values, ix << 1);
+                    }
+                    _values[ix] = value;
+                    _shape = next;
+                    return this;
+                }
+                // Duplicate key, or too many shapes/keys: can not share
+                _unshare();
+            }
             if (_checkDups) {
                 if (_current.containsKey(key)) {
                     // 14-Apr-2017, tatu: Note that choice of `IllegalArgumentException` is arbitrary
@@ -159,6 +243,23 @@ public abstract class MapBuilder
             return _map(4);
         }
 
+        /**
+         * Method called to switch from building a Map with shared key layout
+         * to building a regular Map, with entries added so far.
+         *
+         * @since 2.19
+         */
+        protected void _unshare() {
+            final MapShape shape = _shape;
+            final int size = shape.size();
+            _shape = null;
+            _current = _map(Math.max(12, size + (size >> 1)));
+            for (int i = 0; i < size; ++i) {
+                _current.put(shape.keyAt(i), _values[i]);
+            }
+            Arrays.fill(_values, 0, size, null);
+        }
+
         private final Map<String, Object> _map(int initialSize) {
             if (_mapType != null) {
                 try {
@@ -96,7 +96,7 @@ public abstract class ReaderWriterProvider
         public ValueReader findMapReader(JSONReader ctxt, Class<?> type,
                 ResolvedType valueType, ValueReader readerForValues) {
             ValueReader r = _primary.findMapReader(ctxt, type, valueType, readerForValues);
-            return (r == null) ? _secondary.findMapReader(ctxt, type, valueType, readerForValues) : null;
+            return (r == null) ? _secondary.findMapReader(ctxt, type, valueType, readerForValues) : r;
         }
 
         // // Writer access
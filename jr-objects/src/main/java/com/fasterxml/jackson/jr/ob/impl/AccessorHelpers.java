@@ -0,0 +1,387 @@
+package com.fasterxml.jackson.jr.ob.impl;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.function.*;
+
+/**
+ * Helper class for resolving {@link MethodHandle}s for accessing Bean properties,
+ * used instead of basic reflection when
+ * {@link com.fasterxml.jackson.jr.ob.JSON.Feature#USE_METHOD_HANDLES} is enabled
+ * (and, regardless of it, for primitive-valued getters and setters, to avoid boxing);
+ * as well as for generating accessor classes (using {@link LambdaMetafactory})
+ * when {@link com.fasterxml.jackson.jr.ob.JSON.Feature#USE_GENERATED_ACCESSORS}
+ * is enabled.
+ *<p>
+ * Handles returned are adapted to fixed, non-generic signatures
+ * ({@code (Object,Object)void} for setters, {@code (Object)Object} for getters)
+ * so that they may be called using {@link MethodHandle#invokeExact}.
+ * If a handle (or accessor) can not be resolved (due to access restrictions, or because
+ * accessor is static), {@code null} is returned and caller is expected to
+ * fall back to using reflection.
+ *
+ * @since 2.19
+ */
+public final class AccessorHelpers
+{
+    private final static MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private final static ClassLoader OUR_LOADER = AccessorHelpers.class.getClassLoader();
+
+    // Module access checks, only available (and needed) on Java 9 and later
+    private static Method getModuleMethod;
+    private static Method canReadMethod;
+    private static Method isExportedMethod;
+
+    static {
+        try {
+            getModuleMethod = Class.class.getMethod("getModule");
+            Class<?> moduleClass = Class.forName("java.lang.Module");
+            canReadMethod = moduleClass.getMethod("canRead", moduleClass);
+            isExportedMethod = moduleClass.getMethod("isExported", String.class, moduleClass);
+        } catch (Throwable t) {
+            getModuleMethod = null;
+        }
+    }
+
+    final static MethodType SETTER_TYPE = MethodType.methodType(Void.TYPE,
+            Object.class, Object.class);
+
+    final static MethodType GETTER_TYPE = MethodType.methodType(Object.class,
+            Object.class);
+
+    private AccessorHelpers() { }
+
+    /**
+     * Method for finding {@link MethodHandle} to use for assigning value of
+     * a property, using given setter if non-null; otherwise given field.
+     *
+     * @return Handle of type {@code (Object,Object)void}, if one could be
+     *    resolved; {@code null} if not
+     */
+    public static MethodHandle setterHandle(Field field, Method setter)
+    {
+        try {
+            MethodHandle mh;
+            if (setter != null) {
+                if (_isStatic(setter)) {
+                    return null;
+                }
+                mh = LOOKUP.unreflect(setter);
+                // "Fluent" setters may return something: if so, drop it
+                if (mh.type().returnType() != Void.TYPE) {
+                    mh = mh.asType(mh.type().changeReturnType(Void.TYPE));
+                }
+            } else {
+                if ((field == null) || _isStatic(field)) {
+                    return null;
+                }
+                mh = LOOKUP.unreflectSetter(field);
+            }
+            return mh.asType(SETTER_TYPE);
+        } catch (IllegalAccessException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Method for finding {@link MethodHandle} to use for accessing value of
+     * a property, using given getter if non-null; otherwise given field.
+     *
+     * @return Handle of type {@code (Object)Object}, if one could be
+     *    resolved; {@code null} if not
+     */
+    public static MethodHandle getterHandle(Field field, Method getter)
+    {
+        try {
+            MethodHandle mh;
+            if (getter != null) {
+                if (_isStatic(getter)) {
+                    return null;
+                }
+                mh = LOOKUP.unreflect(getter);
+            } else {
+                if ((field == null) || _isStatic(field)) {
+                    return null;
+                }
+                mh = LOOKUP.unreflectGetter(field);
+            }
+            return mh.asType(GETTER_TYPE);
+        } catch (IllegalAccessException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Method for generating a {@link BiConsumer} that directly calls given setter
+     * method, if possible. Generation is only possible for public, non-static
+     * methods of public classes, visible to the class loader (and module) of
+     * Jackson jr itself.
+     *
+     * @return Generated accessor, if generation was possible; {@code null} if not
+     */
+    @SuppressWarnings("unchecked")
+    public static BiConsumer<Object,Object> setterFunction(Method setter)
+    {
+        if (setter == null) {
+            return null;
+        }
+        final Class<?> valueType = setter.getParameterTypes()[0];
+        return (BiConsumer<Object,Object>) _generate(setter, BiConsumer.class, "accept",
+                SETTER_TYPE,
+                MethodType.methodType(Void.TYPE, setter.getDeclaringClass(),
+                        _wrapperType(valueType)));
+    }
+
+    /**
+     * Method for generating a {@link Function} that directly calls given getter
+     * method, if possible. Same restrictions apply as with
+     * {@link #setterFunction}.
+     *
+     * @return Generated accessor, if generation was possible; {@code null} if not
+     */
+    @SuppressWarnings("unchecked")
+    public static Function<Object,Object> getterFunction(Method getter)
+    {
+        if (getter == null) {
+            return null;
+        }
+        return (Function<Object,Object>) _generate(getter, Function.class, "apply",
+                GETTER_TYPE,
+                MethodType.methodType(_wrapperType(getter.getReturnType()),
+                        getter.getDeclaringClass()));
+    }
+
+    /**
+     * Method for constructing accessor for setting value of a property of type
+     * {@code int}, {@code long}, {@code double} or {@code boolean} without boxing.
+     * Setter method (if non-null) is called using generated accessor (if
+     * {@code useGenerated} true and generation possible) or method handle,
+     * regardless of {@code useHandles}, since {@link Method#invoke} would require
+     * boxing. Fields are accessed using method handle if {@code useHandles} true;
+     * typed {@link Field} setters otherwise.
+     *
+     * @return Accessor to use, if property is of supported type and could be
+     *    accessed; {@code null} otherwise
+     */
+    public static ScalarAccessor scalarSetter(Field field, Method setter,
+            boolean useHandles, boolean useGenerated)
+    {
+        final Class<?> type = (setter == null) ? field.getType() : setter.getParameterTypes()[0];
+        final int typeId = _scalarTypeId(type);
+        if (typeId == 0) {
+            return null;
+        }
+        if (setter != null) {
+            if (useGenerated) {
+                Class<?> samType = _scalarConsumerType(type);
+                if (samType != null) {
+                    Object f = _generate(setter, samType, "accept",
+                            MethodType.methodType(Void.TYPE, Object.class, type),
+                            MethodType.methodType(Void.TYPE, setter.getDeclaringClass(), type));
+                    if (f != null) {
+                        return new ScalarAccessor.FunctionAccessor(typeId, f);
+                    }
+                }
+            }
+            // Method.invoke() would require boxing, so use handle even if not enabled
+            MethodHandle mh = setterHandle(null, setter);
+            if (mh != null) {
+                return new ScalarAccessor.HandleAccessor(typeId,
+                        mh.asType(MethodType.methodType(Void.TYPE, Object.class, type)));
+            }
+            return null;
+        }
+        if (useHandles) {
+            MethodHandle mh = setterHandle(field, null);
+            if (mh != null) {
+                return new ScalarAccessor.HandleAccessor(typeId,
+                        mh.asType(MethodType.methodType(Void.TYPE, Object.class, type)));
+            }
+        }
+        return new ScalarAccessor.FieldAccessor(typeId, field);
+    }
+
+    /**
+     * Method for constructing accessor for getting value of a property of type
+     * {@code int}, {@code long}, {@code double} or {@code boolean} without boxing.
+     * Same rules as with {@link #scalarSetter} apply.
+     *
+     * @return Accessor to use, if property is of supported type and could be
+     *    accessed; {@code null} otherwise
+     */
+    public static ScalarAccessor scalarGetter(Field field, Method getter,
+            boolean useHandles, boolean useGenerated)
+    {
+        final Class<?> type = (getter == null) ? field.getType() : getter.getReturnType();
+        final int typeId = _scalarTypeId(type);
+        if (typeId == 0) {
+            return null;
+        }
+        if (getter != null) {
+            if (useGenerated) {
+                Class<?> samType = _scalarFunctionType(type);
+                Object f = _generate(getter, samType, _scalarFunctionMethod(type),
+                        MethodType.methodType(type, Object.class),
+                        MethodType.methodType(type, getter.getDeclaringClass()));
+                if (f != null) {
+                    return new ScalarAccessor.FunctionAccessor(typeId, f);
+                }
+            }
+            // as with setters, use handle even if not enabled
+            MethodHandle mh = getterHandle(null, getter);
+            if (mh != null) {
+                return new ScalarAccessor.HandleAccessor(typeId,
+                        mh.asType(MethodType.methodType(type, Object.class)));
+            }
+            return null;
+        }
+        if (useHandles) {
+            MethodHandle mh = getterHandle(field, null);
+            if (mh != null) {
+                return new ScalarAccessor.HandleAccessor(typeId,
+                        mh.asType(MethodType.methodType(type, Object.class)));
+            }
+        }
+        return new ScalarAccessor.FieldAccessor(typeId, field);
+    }
+
+    private static Object _generate(Method m, Class<?> samInterface, String samMethodName,
+            MethodType samType, MethodType instantiatedType)
+    {
+        if (!_canGenerateFor(m)) {
+            return null;
+        }
+        for (Class<?> paramType : m.getParameterTypes()) {
+            if (!_isVisible(paramType)) {
+                return null;
+            }
+        }
+        try {
+            CallSite site = LambdaMetafactory.metafactory(LOOKUP, samMethodName,
+                    MethodType.methodType(samInterface),
+                    samType, LOOKUP.unreflect(m), instantiatedType);
+            return site.getTarget().invoke();
+        } catch (Throwable t) {
+            return null;
+        }
+    }
+
+    private static int _scalarTypeId(Class<?> type)
+    {
+        if (type == Integer.TYPE) return ValueLocatorBase.SER_NUMBER_INTEGER;
+        if (type == Long.TYPE) return ValueLocatorBase.SER_NUMBER_LONG;
+        if (type == Double.TYPE) return ValueLocatorBase.SER_NUMBER_DOUBLE;
+        if (type == Boolean.TYPE) return ValueLocatorBase.SER_BOOLEAN;
+        return 0;
+    }
+
+    private static Class<?> _scalarConsumerType(Class<?> type)
+    {
+        if (type == Integer.TYPE) return ObjIntConsumer.class;
+        if (type == Long.TYPE) return ObjLongConsumer.class;
+        if (type == Double.TYPE) return ObjDoubleConsumer.class;
+        return null; // no "ObjBooleanConsumer" in JDK
+    }
+
+    private static Class<?> _scalarFunctionType(Class<?> type)
+    {
+        if (type == Integer.TYPE) return ToIntFunction.class;
+        if (type == Long.TYPE) return ToLongFunction.class;
+        if (type == Double.TYPE) return ToDoubleFunction.class;
+        return Predicate.class;
+    }
+
+    private static String _scalarFunctionMethod(Class<?> type)
+    {
+        if (type == Integer.TYPE) return "applyAsInt";
+        if (type == Long.TYPE) return "applyAsLong";
+        if (type == Double.TYPE) return "applyAsDouble";
+        return "test";
+    }
+
+    /**
+     * Helper method for checking whether accessor class that calls given method
+     * could be generated: this requires method (and its declaring class) be
+     * public, and all types in its signature visible to Jackson jr.
+     */
+    private static boolean _canGenerateFor(Method m)
+    {
+        final int mods = m.getModifiers();
+        if (!Modifier.isPublic(mods) || Modifier.isStatic(mods)) {
+            return false;
+        }
+        final Class<?> declaring = m.getDeclaringClass();
+        for (Class<?> cls = declaring; cls != null; cls = cls.getEnclosingClass()) {
+            if (!Modifier.isPublic(cls.getModifiers())) {
+                return false;
+            }
+        }
+        return _isVisible(declaring) && _isVisible(m.getReturnType());
+    }
+
+    /**
+     * Helper method for checking that generated class (defined by the class
+     * loader of Jackson jr) can link against given type: that is, that
+     * type resolves to the same class from our class loader, and that
+     * our module can access it.
+     */
+    private static boolean _isVisible(Class<?> type)
+    {
+        while (type.isArray()) {
+            type = type.getComponentType();
+        }
+        if (type.isPrimitive()) {
+            return true;
+        }
+        try {
+            if (Class.forName(type.getName(), false, OUR_LOADER) != type) {
+                return false;
+            }
+        } catch (Throwable t) {
+            return false;
+        }
+        if (getModuleMethod != null) {
+            try {
+                final Object ourModule = getModuleMethod.invoke(AccessorHelpers.class);
+                final Object typeModule = getModuleMethod.invoke(type);
+                final Package pkg = type.getPackage();
+                if (!((Boolean) canReadMethod.invoke(ourModule, typeModule))
+                        || ((pkg != null)
+                                && !((Boolean) isExportedMethod.invoke(typeModule, pkg.getName(), ourModule)))) {
+                    return false;
+                }
+            } catch (Throwable t) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Class<?> _wrapperType(Class<?> type)
+    {
+        if (type.isPrimitive()) {
+            if (type == Integer.TYPE) return Integer.class;
+            if (type == Long.TYPE) return Long.class;
+            if (type == Boolean.TYPE) return Boolean.class;
+            if (type == Double.TYPE) return Double.class;
+            if (type == Float.TYPE) return Float.class;
+            if (type == Short.TYPE) return Short.class;
+            if (type == Byte.TYPE) return Byte.class;
+            if (type == Character.TYPE) return Character.class;
+            // `void` return type: fine as is
+        }
+        return type;
+    }
+
+    private static boolean _isStatic(Member m) {
+        return Modifier.isStatic(m.getModifiers());
+    }
+}
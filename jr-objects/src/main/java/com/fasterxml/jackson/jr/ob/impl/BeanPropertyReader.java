@@ -1,14 +1,19 @@
 package com.fasterxml.jackson.jr.ob.impl;
 
 import java.io.IOException;
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Type;
+import java.util.function.BiConsumer;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.jr.ob.JSONObjectException;
 import com.fasterxml.jackson.jr.ob.api.ValueReader;
 
+import static com.fasterxml.jackson.jr.ob.impl.ValueLocatorBase.*;
+
 /**
  * @since 2.8 (formerly part of `BeanDefinition`)
  */
@@ -31,6 +36,45 @@ public final class BeanPropertyReader
      */
     private final Field _field;
 
+    /**
+     * Optional {@link MethodHandle} to use for assigning value instead of
+     * {@link #_setter} or {@link #_field}; resolved when
+     * {@link com.fasterxml.jackson.jr.ob.JSON.Feature#USE_METHOD_HANDLES}
+     * is enabled. Type of handle is {@code (Object,Object)void}.
+     *
+     * @since 2.19
+     */
+    private final MethodHandle _setterHandle;
+
+    /**
+     * Optional generated accessor to use for assigning value instead of
+     * {@link #_setter}; resolved when
+     * {@link com.fasterxml.jackson.jr.ob.JSON.Feature#USE_GENERATED_ACCESSORS}
+     * is enabled.
+     *
+     * @since 2.19
+     */
+    private final BiConsumer<Object,Object> _setterFunction;
+
+    /**
+     * Optional accessor for assigning values of primitive properties
+     * without boxing.
+     *
+     * @since 2.19
+     */
+    private final ScalarAccessor _scalarSetter;
+
+    /**
+     * Type id of the primitive type (one of {@code SER_NUMBER_INTEGER},
+     * {@code SER_NUMBER_LONG}, {@code SER_NUMBER_DOUBLE} or {@code SER_BOOLEAN}),
+     * if value may be both read and assigned without boxing: requires
+     * {@link #_scalarSetter} and standard {@link SimpleValueReader};
+     * 0 if not.
+     *
+     * @since 2.19
+     */
+    private final int _scalarTypeId;
+
     /**
      * Index used for {@code Record}s constructor parameters. It is not used for getter/setter methods.
      *
@@ -39,19 +83,32 @@ public final class BeanPropertyReader
     private final int _index;
 
     /**
-     * @since 2.18
+     * @since 2.19
      */
-    public BeanPropertyReader(String name, Field f, Method setter, int propertyIndex) {
+    public BeanPropertyReader(String name, Field f, Method setter, int propertyIndex,
+            MethodHandle setterHandle, BiConsumer<Object,Object> setterFunction,
+            ScalarAccessor scalarSetter) {
         if ((f == null) && (setter == null)) {
             throw new IllegalArgumentException("Both `field` and `setter` can not be null");
         }
         _name = name;
         _field = f;
         _setter = setter;
+        _setterHandle = setterHandle;
+        _setterFunction = setterFunction;
+        _scalarSetter = scalarSetter;
+        _scalarTypeId = 0;
         _valueReader = null;
         _index = propertyIndex;
     }
 
+    /**
+     * @since 2.18
+     */
+    public BeanPropertyReader(String name, Field f, Method setter, int propertyIndex) {
+        this(name, f, setter, propertyIndex, null, null, null);
+    }
+
     @Deprecated // @since 2.18
     public BeanPropertyReader(String name, Field f, Method setter) {
         this(name, f, setter, -1);
@@ -61,8 +118,19 @@ public final class BeanPropertyReader
         _name = src._name;
         _field = src._field;
         _setter = src._setter;
+        _setterHandle = src._setterHandle;
+        _setterFunction = src._setterFunction;
+        _scalarSetter = src._scalarSetter;
         _index = src._index;
         _valueReader = vr;
+        // Unboxed access only possible with standard reader for the primitive type
+        if ((_scalarSetter != null) && (vr != null)
+                && (vr.getClass() == SimpleValueReader.class)
+                && (((SimpleValueReader) vr)._typeId == _scalarSetter.typeId())) {
+            _scalarTypeId = _scalarSetter.typeId();
+        } else {
+            _scalarTypeId = 0;
+        }
     }
 
     public BeanPropertyReader withReader(ValueReader vr) {
@@ -93,9 +161,126 @@ public final class BeanPropertyReader
         return _index;
     }
 
+    /**
+     * @since 2.19
+     */
+    public boolean usesMethodHandle() {
+        return _setterHandle != null;
+    }
+
+    /**
+     * @since 2.19
+     */
+    public boolean usesGeneratedAccessor() {
+        return _setterFunction != null;
+    }
+
+    /**
+     * Accessor for checking whether value of this property may be read and
+     * assigned without boxing, using {@link #readAndSetScalar}: if so, returns
+     * type id of the primitive type; otherwise returns 0.
+     *
+     * @since 2.19
+     */
+    public int scalarTypeId() {
+        return _scalarTypeId;
+    }
+
+    /**
+     * Accessor for the unboxed setter; only to be used if {@link #scalarTypeId()}
+     * returns non-zero value.
+     *
+     * @since 2.19
+     */
+    protected ScalarAccessor scalarSetter() {
+        return _scalarSetter;
+    }
+
+    /**
+     * Method for reading value of a primitive-valued property (one for which
+     * {@link #scalarTypeId()} returns non-zero value) and assigning it
+     * to given bean, without boxing.
+     *
+     * @since 2.19
+     */
+    public void readAndSetScalar(JSONReader r, JsonParser p, Object bean)
+        throws IOException
+    {
+        final SimpleValueReader vr = (SimpleValueReader) _valueReader;
+        switch (_scalarTypeId) {
+        case SER_NUMBER_INTEGER:
+            {
+                final int v = vr.readNextInt(r, p);
+                try {
+                    _scalarSetter.setInt(bean, v);
+                } catch (Error e) {
+                    throw e;
+                } catch (Throwable t) {
+                    throw _failedToSet(v, t, t);
+                }
+            }
+            return;
+        case SER_NUMBER_LONG:
+            {
+                final long v = vr.readNextLong(r, p);
+                try {
+                    _scalarSetter.setLong(bean, v);
+                } catch (Error e) {
+                    throw e;
+                } catch (Throwable t) {
+                    throw _failedToSet(v, t, t);
+                }
+            }
+            return;
+        case SER_NUMBER_DOUBLE:
+            {
+                final double v = vr.readNextDouble(r, p);
+                try {
+                    _scalarSetter.setDouble(bean, v);
+                } catch (Error e) {
+                    throw e;
+                } catch (Throwable t) {
+                    throw _failedToSet(v, t, t);
+                }
+            }
+            return;
+        case SER_BOOLEAN:
+            {
+                final boolean v = vr.readNextBoolean(r, p);
+                try {
+                    _scalarSetter.setBoolean(bean, v);
+                } catch (Error e) {
+                    throw e;
+                } catch (Throwable t) {
+                    throw _failedToSet(v, t, t);
+                }
+            }
+            return;
+        }
+        throw new IllegalStateException("Property '"+_name+"' does not support unboxed access");
+    }
+
     public void setValueFor(Object bean, Object[] valueBuf)
         throws IOException
     {
+        if (_setterFunction != null) {
+            try {
+                _setterFunction.accept(bean, valueBuf[0]);
+            } catch (Exception e) {
+                throw _failedToSet(valueBuf[0], e, e);
+            }
+            return;
+        }
+        if (_setterHandle != null) {
+            try {
+                _setterHandle.invokeExact(bean, valueBuf[0]);
+            } catch (Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw _failedToSet(valueBuf[0], t, t);
+            }
+            return;
+        }
         try {
             if (_setter == null) {
                 _field.set(bean, valueBuf[0]);
@@ -107,15 +292,18 @@ public final class BeanPropertyReader
             if (t instanceof InvocationTargetException) {
                 t = t.getCause();
             }
-            final Object value = valueBuf[0];
-            final String valueTypeDesc = (value == null) ? "NULL" : value.getClass().getName();
-            throw new JSONObjectException(String.format(
-                    "Failed to set property '%s' (raw type %s) to value of type %s; exception (%s): %s",
-                _name, _rawType().getName(), valueTypeDesc, e.getClass().getName(), t.getMessage()),
-                t);
+            throw _failedToSet(valueBuf[0], e, t);
         }
     }
 
+    protected JSONObjectException _failedToSet(Object value, Throwable e, Throwable t) {
+        final String valueTypeDesc = (value == null) ? "NULL" : value.getClass().getName();
+        return new JSONObjectException(String.format(
+                "Failed to set property '%s' (raw type %s) to value of type %s; exception (%s): %s",
+            _name, _rawType().getName(), valueTypeDesc, e.getClass().getName(), t.getMessage()),
+            t);
+    }
+
     protected String _bean() {
         if (_setter != null) {
             return _setter.getDeclaringClass().getName();
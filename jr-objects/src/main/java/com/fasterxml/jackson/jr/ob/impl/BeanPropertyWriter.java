@@ -1,8 +1,10 @@
 package com.fasterxml.jackson.jr.ob.impl;
 
 import java.io.IOException;
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
+import java.util.function.Function;
 
 import com.fasterxml.jackson.core.io.SerializedString;
 import com.fasterxml.jackson.jr.ob.JSONObjectException;
@@ -21,7 +23,54 @@ public final class BeanPropertyWriter
     private final Field _field;
     private final Method _getter;
 
+    /**
+     * Optional {@link MethodHandle} to use for accessing value instead of
+     * {@link #_getter} or {@link #_field}; resolved when
+     * {@link com.fasterxml.jackson.jr.ob.JSON.Feature#USE_METHOD_HANDLES}
+     * is enabled. Type of handle is {@code (Object)Object}.
+     *
+     * @since 2.19
+     */
+    private final MethodHandle _getterHandle;
+
+    /**
+     * Optional generated accessor to use for accessing value instead of
+     * {@link #_getter}; resolved when
+     * {@link com.fasterxml.jackson.jr.ob.JSON.Feature#USE_GENERATED_ACCESSORS}
+     * is enabled.
+     *
+     * @since 2.19
+     */
+    private final Function<Object,Object> _getterFunction;
+
+    /**
+     * Optional accessor for accessing values of primitive properties
+     * without boxing.
+     *
+     * @since 2.19
+     */
+    private final ScalarAccessor _scalarGetter;
+
+    /**
+     * Type id of the primitive type, if value may be accessed and written
+     * without boxing (requires {@link #_scalarGetter} and standard handling
+     * of the type); 0 if not.
+     *
+     * @since 2.19
+     */
+    private final int _scalarTypeId;
+
     public BeanPropertyWriter(int typeId, String n, Field f, Method getter)
+    {
+        this(typeId, n, f, getter, null, null, null);
+    }
+
+    /**
+     * @since 2.19
+     */
+    public BeanPropertyWriter(int typeId, String n, Field f, Method getter,
+            MethodHandle getterHandle, Function<Object,Object> getterFunction,
+            ScalarAccessor scalarGetter)
     {
         this.typeId = typeId;
         name = new SerializedString(n);
@@ -30,6 +79,12 @@ public final class BeanPropertyWriter
         }
         _field = f;
         _getter = getter;
+        _getterHandle = getterHandle;
+        _getterFunction = getterFunction;
+        _scalarGetter = scalarGetter;
+        // Unboxed access only used if standard handling (not overridden) for the type
+        _scalarTypeId = ((scalarGetter != null) && (scalarGetter.typeId() == typeId))
+                ? typeId : 0;
     }
 
     /**
@@ -39,11 +94,106 @@ public final class BeanPropertyWriter
         if (name.toString().equals(newName)) {
             return this;
         }
-        return new BeanPropertyWriter(typeId, newName, _field, _getter);
+        return new BeanPropertyWriter(typeId, newName, _field, _getter,
+                _getterHandle, _getterFunction, _scalarGetter);
+    }
+
+    /**
+     * @since 2.19
+     */
+    public boolean usesMethodHandle() {
+        return _getterHandle != null;
+    }
+
+    /**
+     * @since 2.19
+     */
+    public boolean usesGeneratedAccessor() {
+        return _getterFunction != null;
+    }
+
+    /**
+     * Accessor for checking whether value of this property may be accessed
+     * without boxing (using one of {@link #getIntFor}, {@link #getLongFor},
+     * {@link #getDoubleFor} or {@link #getBooleanFor}): if so, returns type id of
+     * the primitive type; otherwise returns 0.
+     *
+     * @since 2.19
+     */
+    public int scalarTypeId() {
+        return _scalarTypeId;
+    }
+
+    /**
+     * @since 2.19
+     */
+    public int getIntFor(Object bean) throws IOException {
+        try {
+            return _scalarGetter.getInt(bean);
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw _failedToGet(t);
+        }
+    }
+
+    /**
+     * @since 2.19
+     */
+    public long getLongFor(Object bean) throws IOException {
+        try {
+            return _scalarGetter.getLong(bean);
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw _failedToGet(t);
+        }
+    }
+
+    /**
+     * @since 2.19
+     */
+    public double getDoubleFor(Object bean) throws IOException {
+        try {
+            return _scalarGetter.getDouble(bean);
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw _failedToGet(t);
+        }
+    }
+
+    /**
+     * @since 2.19
+     */
+    public boolean getBooleanFor(Object bean) throws IOException {
+        try {
+            return _scalarGetter.getBoolean(bean);
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw _failedToGet(t);
+        }
     }
 
     public Object getValueFor(Object bean) throws IOException
     {
+        if (_getterFunction != null) {
+            try {
+                return _getterFunction.apply(bean);
+            } catch (Exception e) {
+                throw _failedToGet(e);
+            }
+        }
+        if (_getterHandle != null) {
+            try {
+                return (Object) _getterHandle.invokeExact(bean);
+            } catch (Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw _failedToGet(t);
+            }
+        }
         try {
             if (_getter == null) {
                 return _field.get(bean);
@@ -52,15 +202,19 @@ public final class BeanPropertyWriter
             // 03-Apr-2021, tatu: Important! Pass `null` as 2nd arg to avoid
             //   allocation of bogus Object[0]
         } catch (Exception e) {
-            final String accessorDesc = (_getter != null)
-                    ? String.format("method %s.%s()", _bean(), _getter.getName())
-                    : String.format("field %s.%s", _bean(), _field.getName());
-            throw new JSONObjectException(String.format(
-                    "Failed to access property '%s' (using %s); exception (%s): %s",
-                    name, e.getClass().getName(), accessorDesc, e.getMessage()), e);
+            throw _failedToGet(e);
         }
     }
 
+    protected JSONObjectException _failedToGet(Throwable e) {
+        final String accessorDesc = (_getter != null)
+                ? String.format("method %s.%s()", _bean(), _getter.getName())
+                : String.format("field %s.%s", _bean(), _field.getName());
+        return new JSONObjectException(String.format(
+                "Failed to access property '%s' (using %s); exception (%s): %s",
+                name, e.getClass().getName(), accessorDesc, e.getMessage()), e);
+    }
+
     protected String _bean() {
         if (_getter == null) {
             return _field.getDeclaringClass().getName();
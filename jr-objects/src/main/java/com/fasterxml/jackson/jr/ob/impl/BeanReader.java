@@ -3,9 +3,11 @@ package com.fasterxml.jackson.jr.ob.impl;
 import java.io.IOException;
 import java.lang.reflect.Constructor;
 import java.util.*;
+import java.util.concurrent.atomic.LongAdder;
 
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.SerializedString;
 import com.fasterxml.jackson.jr.ob.JSON;
 import com.fasterxml.jackson.jr.ob.JSONObjectException;
 import com.fasterxml.jackson.jr.ob.api.ValueReader;
@@ -38,6 +40,39 @@ public class BeanReader
 
     protected final boolean _isRecordType;
 
+    /**
+     * Lazily constructed helper object used for matching property names
+     * in the order they are expected in.
+     *
+     * @since 2.19
+     */
+    protected volatile PropertyMatcher _matcher;
+
+    /**
+     * Whether {@link #findProperty(String)} is overridden by a sub-class
+     * and must be used for property lookups, instead of index of
+     * {@link PropertyMatcher}.
+     *
+     * @since 2.19
+     */
+    protected final boolean _customLookup;
+
+    /**
+     * Number of property names that matched the expected (predicted) name,
+     * if counting is enabled; {@code null} if not.
+     *
+     * @since 2.19
+     */
+    protected final LongAdder _matchHits;
+
+    /**
+     * Number of property names that did not match the expected (predicted) name,
+     * and had to be looked up, if counting is enabled; {@code null} if not.
+     *
+     * @since 2.19
+     */
+    protected final LongAdder _matchMisses;
+
     /**
      * Constructors used for deserialization use case
      *
@@ -46,6 +81,20 @@ public class BeanReader
     public BeanReader(Class<?> type, Map<String, BeanPropertyReader> props,
             BeanConstructors constructors,
             Set<String> ignorableNames, Map<String, String> aliasMapping)
+    {
+        this(type, props, constructors, ignorableNames, aliasMapping, false);
+    }
+
+    /**
+     * @param countMatches Whether to count property name match hits and misses
+     *    (see {@link #propertyMatchHits()}, {@link #propertyMatchMisses()})
+     *
+     * @since 2.19
+     */
+    public BeanReader(Class<?> type, Map<String, BeanPropertyReader> props,
+            BeanConstructors constructors,
+            Set<String> ignorableNames, Map<String, String> aliasMapping,
+            boolean countMatches)
     {
         super(type);
         _propsByName = props;
@@ -59,6 +108,20 @@ public class BeanReader
         }
         _aliasMapping = aliasMapping;
         _isRecordType = RecordsHelpers.isRecordType(type);
+        _matchHits = countMatches ? new LongAdder() : null;
+        _matchMisses = countMatches ? new LongAdder() : null;
+        _customLookup = _overridesFindProperty(getClass());
+    }
+
+    private static boolean _overridesFindProperty(Class<?> cls) {
+        if (cls == BeanReader.class) {
+            return false;
+        }
+        try {
+            return cls.getMethod("findProperty", String.class).getDeclaringClass() != BeanReader.class;
+        } catch (NoSuchMethodException e) { // should never occur
+            return true;
+        }
     }
 
     @Deprecated // since 2.17
@@ -87,6 +150,29 @@ public class BeanReader
         return (primaryName == null) ? null : _propsByName.get(primaryName);
     }
 
+    /**
+     * Accessor for number of property names, read so far, that matched the
+     * property expected based on the order previously seen (or, initially,
+     * declaration order), if counting is enabled (see
+     * {@link com.fasterxml.jackson.jr.ob.JSON.Builder#countCacheHits(boolean)}); 0 if not.
+     *
+     * @since 2.19
+     */
+    public long propertyMatchHits() {
+        return (_matchHits == null) ? 0L : _matchHits.sum();
+    }
+
+    /**
+     * Accessor for number of property names, read so far, that did not
+     * match the expected property and had to be looked up by name
+     * (including unknown properties), if counting is enabled; 0 if not.
+     *
+     * @since 2.19
+     */
+    public long propertyMatchMisses() {
+        return (_matchMisses == null) ? 0L : _matchMisses.sum();
+    }
+
     @Override
     public Object readNext(JSONReader r, JsonParser p) throws IOException
     {
@@ -100,29 +186,10 @@ public class BeanReader
             case VALUE_NUMBER_INT:
                 return _constructors.create(p.getLongValue());
             case START_OBJECT:
-                {
-                    if (_isRecordType) {
-                        return readRecord(r, p);
-                    }
-                    Object bean = _constructors.create();
-                    final Object[] valueBuf = r._setterBuffer;
-                    String propName;
-
-                    for (; (propName = p.nextFieldName()) != null; ) {
-                        BeanPropertyReader prop = findProperty(propName);
-                        if (prop == null) {
-                            handleUnknown(r, p, propName);
-                            continue;
-                        }
-                        valueBuf[0] = prop.getReader().readNext(r, p);
-                        prop.setValueFor(bean, valueBuf);
-                    }
-                    // also verify we are not confused...
-                    if (!p.hasToken(JsonToken.END_OBJECT)) {
-                        throw _reportProblem(p);
-                    }
-                    return bean;
+                if (_isRecordType) {
+                    return readRecord(r, p);
                 }
+                return readBean(r, p);
             default:
             }
         } catch (IOException e) {
@@ -136,20 +203,134 @@ public class BeanReader
                 "Can not create a "+_valueType.getName()+" instance out of "+_tokenDesc(p));
     }
 
+    /**
+     * Method for reading properties of a POJO (for which START_OBJECT
+     * has been read) and assigning them to a newly constructed instance.
+     *
+     * @since 2.19
+     */
+    protected Object readBean(JSONReader r, JsonParser p) throws Exception
+    {
+        final Object bean = _constructors.create();
+        _readProperties(r, p, bean, null);
+        // also verify we are not confused...
+        if (!p.hasToken(JsonToken.END_OBJECT)) {
+            throw _reportProblem(p);
+        }
+        return bean;
+    }
+
     private Object readRecord(JSONReader r, JsonParser p) throws Exception {
         final Object[] values = new Object[_propsByName.size()];
+        _readProperties(r, p, null, values);
+        return _constructors.createRecord(values);
+    }
 
-        String propName;
-        for (; (propName = p.nextFieldName()) != null;) {
-            BeanPropertyReader prop = findProperty(propName);
-            if (prop == null) {
-                handleUnknown(r, p, propName);
-                continue;
+    /**
+     * Helper method for reading properties of a POJO or Record (for which
+     * START_OBJECT has been read): values are either assigned to given bean
+     * or, for Records, stored in given array (by property index).
+     *<p>
+     * Property names are matched by first checking whether the name is the one
+     * that followed the previous property last time (initially: declaration order)
+     * using {@link JsonParser#nextFieldName(com.fasterxml.jackson.core.SerializableString)},
+     * and only if not, looked up by name (using {@link #findProperty(String)}
+     * if overridden by a sub-class).
+     */
+    private void _readProperties(JSONReader r, JsonParser p,
+            Object bean, Object[] values) throws Exception
+    {
+        final Object[] valueBuf = r._setterBuffer;
+        final PropertyMatcher matcher = _matcher();
+        final BeanPropertyReader[] props = matcher.props;
+        final int[] next = matcher.nextIndex;
+        int prev = props.length;
+        int hits = 0, misses = 0;
+
+        while (true) {
+            int ix = next[prev];
+            final BeanPropertyReader prop;
+            if ((ix < props.length) && p.nextFieldName(matcher.names[ix])) {
+                ++hits;
+                prop = props[ix];
+            } else {
+                if (ix < props.length) { // name checked but did not match
+                    if (!p.hasToken(JsonToken.FIELD_NAME)) {
+                        break;
+                    }
+                } else if (p.nextToken() != JsonToken.FIELD_NAME) {
+                    break;
+                }
+                ++misses;
+                final String propName = p.currentName();
+                if (_customLookup) {
+                    prop = findProperty(propName);
+                    ix = (prop == null) ? -1 : matcher.find(propName);
+                    if ((ix >= 0) && (props[ix] != prop)) { // not one of indexed properties
+                        ix = -1;
+                    }
+                } else { // single lookup, by name or alias, via precomputed index
+                    ix = matcher.find(propName);
+                    prop = (ix < 0) ? null : props[ix];
+                }
+                if (prop == null) {
+                    handleUnknown(r, p, propName);
+                    continue;
+                }
+                if (ix >= 0) {
+                    // Racy, but fine: just a prediction
+                    next[prev] = ix;
+                }
+            }
+            if (values != null) {
+                values[prop.getIndex()] = prop.getReader().readNext(r, p);
+            } else if (prop.scalarTypeId() != 0) { // primitive, can avoid boxing
+                prop.readAndSetScalar(r, p, bean);
+            } else {
+                valueBuf[0] = prop.getReader().readNext(r, p);
+                prop.setValueFor(bean, valueBuf);
+            }
+            if (ix >= 0) {
+                prev = ix;
             }
-            Object value = prop.getReader().readNext(r, p);
-            values[prop.getIndex()] = value;
         }
-        return _constructors.createRecord(values);
+        if (_matchHits != null) {
+            _updateMatchStats(hits, misses);
+        }
+    }
+
+    protected void _updateMatchStats(int hits, int misses) {
+        if (hits > 0) {
+            _matchHits.add(hits);
+        }
+        if (misses > 0) {
+            _matchMisses.add(misses);
+        }
+    }
+
+    protected PropertyMatcher _matcher() {
+        PropertyMatcher m = _matcher;
+        if (m == null) {
+            m = new PropertyMatcher(_propsByName, _aliasMapping);
+            // Usually constructed by `resolveMatcher()`, but if not, only retain
+            // once all property readers are resolved (cyclic types may be used
+            // while still being resolved)
+            if (m.isComplete()) {
+                _matcher = m;
+            }
+        }
+        return m;
+    }
+
+    /**
+     * Method called once all property readers have been resolved (replaced
+     * in {@link #propertiesByName()} with ones that have value reader),
+     * to construct helper object used for matching property names.
+     *
+     * @since 2.19
+     */
+    public void resolveMatcher() {
+        _matcher = new PropertyMatcher(_propsByName, _aliasMapping);
     }
 
     /**
@@ -170,29 +351,10 @@ public class BeanReader
             case VALUE_NUMBER_INT:
                 return _constructors.create(p.getLongValue());
             case START_OBJECT:
-                {
-                    if (_isRecordType) {
-                        return readRecord(r, p);
-                    }
-                    Object bean = _constructors.create();
-                    String propName;
-                    final Object[] valueBuf = r._setterBuffer;
-
-                    for (; (propName = p.nextFieldName()) != null; ) {
-                        BeanPropertyReader prop = findProperty(propName);
-                        if (prop == null) {
-                            handleUnknown(r, p, propName);
-                            continue;
-                        }
-                        valueBuf[0] = prop.getReader().readNext(r, p);
-                        prop.setValueFor(bean, valueBuf);
-                    }
-                    // also verify we are not confused...
-                    if (!p.hasToken(JsonToken.END_OBJECT)) {
-                        throw _reportProblem(p);
-                    }
-                    return bean;
+                if (_isRecordType) {
+                    return readRecord(r, p);
                 }
+                return readBean(r, p);
             default:
             }
         } catch (IOException e) {
@@ -231,4 +393,133 @@ public class BeanReader
     protected IOException _reportProblem(JsonParser p) {
         return JSONObjectException.from(p, "Unexpected token "+p.currentToken()+"; should get FIELD_NAME or END_OBJECT");
     }
+
+    /**
+     * Helper class that contains properties indexed by position, as well as
+     * information on which property is expected to follow which (or be the first).
+     *
+     * @since 2.19
+     */
+    protected final static class PropertyMatcher
+    {
+        public final BeanPropertyReader[] props;
+
+        public final SerializedString[] names;
+
+        /**
+         * Index of property that is expected to follow property at given index;
+         * entry at index {@code props.length} is for the first property.
+         * Value of {@code props.length} means "no expectation".
+         *<p>
+         * NOTE: updated without synchronization as contents are only used
+         * as predictions.
+         */
+        public final int[] nextIndex;
+
+        /**
+         * Names (including aliases) to look up when prediction fails;
+         * index of property for each is in {@link #_positions}.
+         */
+        protected final String[] _keys;
+
+        protected final int[] _positions;
+
+        /**
+         * Hash index over {@link #_keys} (see {@link KeyIndex}), for
+         * case-sensitive lookups
+         */
+        protected final int[] _keyIndex;
+
+        /**
+         * Lookup table from names (including aliases) to indexes, used
+         * instead of {@link #_keyIndex} for case-insensitive lookups.
+         */
+        protected final Map<String, Integer> _indexes;
+
+        public PropertyMatcher(Map<String, BeanPropertyReader> propsByName,
+                Map<String, String> aliasMapping)
+        {
+            final int len = propsByName.size();
+            props = new BeanPropertyReader[len];
+            names = new SerializedString[len];
+            nextIndex = new int[len+1];
+            String[] keys = new String[len + aliasMapping.size()];
+            int[] positions = new int[keys.length];
+            // Initially expect declaration order (which case-insensitive
+            // lookup Maps do not retain)
+            List<Map.Entry<String, BeanPropertyReader>> entries = new ArrayList<>(propsByName.entrySet());
+            entries.sort((e1, e2) -> Integer.compare(e1.getValue().getIndex(), e2.getValue().getIndex()));
+            for (int i = 0; i < len; ++i) {
+                final Map.Entry<String, BeanPropertyReader> entry = entries.get(i);
+                props[i] = entry.getValue();
+                names[i] = new SerializedString(entry.getKey());
+                keys[i] = entry.getKey();
+                positions[i] = i;
+                nextIndex[i] = i+1;
+            }
+            nextIndex[len] = (len == 0) ? len : 0;
+            // Retain case-(in)sensitivity of the primary lookup
+            if (propsByName instanceof TreeMap<?,?>) {
+                _indexes = new TreeMap<>(((TreeMap<String,?>) propsByName).comparator());
+                for (int i = 0; i < len; ++i) {
+                    _indexes.put(keys[i], i);
+                }
+            } else {
+                _indexes = null;
+            }
+            int size = len;
+            for (Map.Entry<String, String> entry : aliasMapping.entrySet()) {
+                final int ix = _find(keys, size, entry.getValue());
+                if ((ix >= 0) && (_find(keys, size, entry.getKey()) < 0)) {
+                    keys[size] = entry.getKey();
+                    positions[size] = positions[ix];
+                    if (_indexes != null) {
+                        _indexes.put(entry.getKey(), positions[ix]);
+                    }
+                    ++size;
+                }
+            }
+            _keys = keys;
+            _positions = positions;
+            _keyIndex = (_indexes == null) ? KeyIndex.build(keys, size) : null;
+        }
+
+        /**
+         * @return Index of property with given name or alias; -1 if none
+         */
+        public int find(String name) {
+            if (_indexes != null) {
+                Integer ix = _indexes.get(name);
+                return (ix == null) ? -1 : ix.intValue();
+            }
+            final int ix = KeyIndex.find(_keys, _keyIndex, name);
+            return (ix < 0) ? -1 : _positions[ix];
+        }
+
+        /**
+         * @return True if readers of all properties have been resolved
+         */
+        public boolean isComplete() {
+            for (BeanPropertyReader prop : props) {
+                if (prop.getReader() == null) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        // Linear lookup only used during construction
+        private int _find(String[] keys, int size, String name) {
+            if (_indexes != null) {
+                Integer ix = _indexes.get(name);
+                return (ix == null) ? -1 : ix.intValue();
+            }
+            for (int i = 0; i < size; ++i) {
+                if (keys[i].equals(name)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
 }
@@ -0,0 +1,192 @@
+package com.fasterxml.jackson.jr.ob.impl;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+
+/**
+ * Concurrent cache with maximum size. When maximum size is exceeded,
+ * an entry is evicted using "CLOCK" (second-chance) algorithm, an
+ * approximation of LRU: entries accessed
+ * since previous sweep are retained, and the oldest entry not accessed
+ * is evicted. Reads are lock-free; only insertions need to lock.
+ *<p>
+ * Cache also keeps track of hit, miss and eviction counts, accessible
+ * via {@link #statistics()}.
+ *
+ * @since 2.19
+ */
+public class BoundedCache<K, V>
+{
+    private final ConcurrentHashMap<K, Entry<V>> _map;
+
+    /**
+     * Keys in order of insertion (or, second chance): the "clock".
+     * Access guarded by {@link #_clockLock}.
+     */
+    private final ArrayDeque<K> _clock;
+
+    /**
+     * Lock for {@link #_clock} (instead of monitor, to avoid pinning virtual threads)
+     */
+    private final ReentrantLock _clockLock = new ReentrantLock();
+
+    private final int _maxSize;
+
+    /**
+     * Optional listener called (outside of lock) for evicted entries
+     */
+    private final BiConsumer<K, V> _evictionListener;
+
+    private final LongAdder _hits = new LongAdder();
+    private final LongAdder _misses = new LongAdder();
+    private final LongAdder _evictions = new LongAdder();
+
+    public BoundedCache(int maxSize) {
+        this(maxSize, null);
+    }
+
+    public BoundedCache(int maxSize, BiConsumer<K, V> evictionListener)
+    {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Maximum cache size must be positive, was "+maxSize);
+        }
+        _maxSize = maxSize;
+        _map = new ConcurrentHashMap<>(Math.min(16, maxSize), 0.75f, 2);
+        _clock = new ArrayDeque<>(Math.min(16, maxSize));
+        _evictionListener = evictionListener;
+    }
+
+    /*
+    /**********************************************************************
+    /* Public API
+    /**********************************************************************
+     */
+
+    public V get(K key)
+    {
+        final Entry<V> entry = _map.get(key);
+        if (entry == null) {
+            _misses.increment();
+            return null;
+        }
+        // avoid needless volatile writes
+        if (!entry.referenced) {
+            entry.referenced = true;
+        }
+        _hits.increment();
+        return entry.value;
+    }
+
+    /**
+     * @return Value previously mapped for key, if any (in which case given value
+     *    was not added); {@code null} if value was added
+     */
+    public V putIfAbsent(K key, V value)
+    {
+        final Entry<V> entry = new Entry<>(value);
+        final Entry<V> old = _map.putIfAbsent(key, entry);
+        if (old != null) {
+            return old.value;
+        }
+        _added(key);
+        return null;
+    }
+
+    public void put(K key, V value)
+    {
+        if (_map.put(key, new Entry<>(value)) == null) {
+            _added(key);
+        }
+    }
+
+    public int size() {
+        return _map.size();
+    }
+
+    public int maxSize() {
+        return _maxSize;
+    }
+
+    public void clear() {
+        _clockLock.lock();
+        try {
+            _map.clear();
+            _clock.clear();
+        } finally {
+            _clockLock.unlock();
+        }
+    }
+
+    public CacheStatistics statistics() {
+        return new CacheStatistics(_map.size(), _maxSize,
+                _hits.sum(), _misses.sum(), _evictions.sum());
+    }
+
+    /*
+    /**********************************************************************
+    /* Internal methods
+    /**********************************************************************
+     */
+
+    private void _added(K key)
+    {
+        List<Object> evicted = null;
+        _clockLock.lock();
+        try {
+            _clock.addLast(key);
+            while (_map.size() > _maxSize) {
+                final K oldKey = _clock.pollFirst();
+                if (oldKey == null) {
+                    break;
+                }
+                final Entry<V> entry = _map.get(oldKey);
+                if (entry == null) { // cleared
+                    continue;
+                }
+                if (entry.referenced) { // second chance
+                    entry.referenced = false;
+                    _clock.addLast(oldKey);
+                    continue;
+                }
+                if (_map.remove(oldKey, entry)) {
+                    _evictions.increment();
+                    if (_evictionListener != null) {
+                        if (evicted == null) {
+                            evicted = new ArrayList<>();
+                        }
+                        evicted.add(oldKey);
+                        evicted.add(entry.value);
+                    }
+                }
+            }
+        } finally {
+            _clockLock.unlock();
+        }
+        if (evicted != null) {
+            _notifyEvicted(evicted);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void _notifyEvicted(List<Object> evicted) {
+        for (int i = 0, end = evicted.size(); i < end; i += 2) {
+            _evictionListener.accept((K) evicted.get(i), (V) evicted.get(i+1));
+        }
+    }
+
+    private final static class Entry<V>
+    {
+        final V value;
+
+        volatile boolean referenced;
+
+        Entry(V value) {
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.fasterxml.jackson.jr.ob.impl;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * Simple {@link InputStream} implementation that reads content of a
+ * {@link ByteBuffer} (from its position up to limit), using bulk transfers
+ * to avoid per-byte access. Used for reading from buffers that do not
+ * expose backing array, like direct buffers; buffer given is
+ * duplicated so its position is not changed by reading.
+ *
+ * @since 2.19
+ */
+public class ByteBufferBackedInputStream extends InputStream
+{
+    protected final ByteBuffer _buffer;
+
+    public ByteBufferBackedInputStream(ByteBuffer buffer) {
+        _buffer = buffer.duplicate();
+    }
+
+    @Override
+    public int available() {
+        return _buffer.remaining();
+    }
+
+    @Override
+    public int read() {
+        return _buffer.hasRemaining() ? (_buffer.get() & 0xFF) : -1;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len)
+    {
+        final int remaining = _buffer.remaining();
+        if (remaining == 0) {
+            return (len == 0) ? 0 : -1;
+        }
+        len = Math.min(len, remaining);
+        _buffer.get(b, off, len);
+        return len;
+    }
+
+    @Override
+    public long skip(long n)
+    {
+        if (n <= 0L) {
+            return 0L;
+        }
+        final int count = (int) Math.min(n, _buffer.remaining());
+        _buffer.position(_buffer.position() + count);
+        return count;
+    }
+}
@@ -0,0 +1,120 @@
+package com.fasterxml.jackson.jr.ob.impl;
+
+import java.io.OutputStream;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * Simple {@link OutputStream} implementation that writes content into a
+ * {@link ByteBuffer} (heap or direct), using bulk transfers.
+ *<p>
+ * If content does not fit in the remaining space of the buffer, writes
+ * are not failed; instead, nothing more is written into the buffer, and content
+ * that does not fit is discarded and counted, so that caller can check for
+ * overflow (using {@link #overflowed()}) after completing the write, and report
+ * it (see {@link #checkOverflow}) along with the total number of bytes
+ * that would have been needed.
+ *
+ * @since 2.19
+ */
+public class ByteBufferBackedOutputStream extends OutputStream
+{
+    protected final ByteBuffer _buffer;
+
+    protected final int _startPosition;
+
+    /**
+     * Number of bytes discarded due to lack of space
+     */
+    protected long _overflow;
+
+    public ByteBufferBackedOutputStream(ByteBuffer buffer) {
+        _buffer = buffer;
+        _startPosition = buffer.position();
+    }
+
+    @Override
+    public void write(int b)
+    {
+        if (_overflow == 0L && _buffer.hasRemaining()) {
+            _buffer.put((byte) b);
+        } else {
+            ++_overflow;
+        }
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len)
+    {
+        if (_overflow == 0L && len <= _buffer.remaining()) {
+            _buffer.put(b, off, len);
+        } else {
+            _overflow += len;
+        }
+    }
+
+    public boolean overflowed() {
+        return _overflow > 0L;
+    }
+
+    /**
+     * @return Total number of bytes written, including ones that did not fit
+     */
+    public long totalLength() {
+        return (_buffer.position() - _startPosition) + _overflow;
+    }
+
+    /**
+     * Method to call after all content has been written, to check whether
+     * all content fit in the buffer: if not, buffer position is reset to
+     * where it was before writing (so caller may retry with a bigger buffer,
+     * or write remaining content elsewhere) and
+     * {@link BufferOverflowException} is thrown.
+     */
+    public void checkOverflow() throws BufferOverflowException
+    {
+        if (_overflow > 0L) {
+            final Overflow e = new Overflow(totalLength(), _buffer.limit() - _startPosition);
+            _buffer.position(_startPosition);
+            throw e;
+        }
+    }
+
+    /**
+     * {@link BufferOverflowException} that also indicates the number of bytes
+     * needed (since {@link BufferOverflowException} has no message).
+     */
+    public static class Overflow extends BufferOverflowException
+    {
+        private static final long serialVersionUID = 1L;
+
+        protected final long _requiredLength;
+
+        protected final int _availableLength;
+
+        public Overflow(long requiredLength, int availableLength) {
+            _requiredLength = requiredLength;
+            _availableLength = availableLength;
+        }
+
+        /**
+         * @return Number of bytes that content to write needed
+         */
+        public long getRequiredLength() {
+            return _requiredLength;
+        }
+
+        /**
+         * @return Number of bytes that were available in the buffer
+         */
+        public int getAvailableLength() {
+            return _availableLength;
+        }
+
+        @Override
+        public String getMessage() {
+            return "Content of "+_requiredLength+" bytes does not fit in remaining "
+                    +_availableLength+" bytes of ByteBuffer";
+        }
+    }
+}
@@ -0,0 +1,349 @@
+package com.fasterxml.jackson.jr.ob.impl;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.*;
+import java.net.JarURLConnection;
+import java.net.URL;
+import java.net.URLConnection;
+import java.net.URLDecoder;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+
+import com.fasterxml.jackson.jr.ob.JSONObjectException;
+
+/**
+ * Helper class used for "pre-warming" reader and writer caches of a
+ * {@link com.fasterxml.jackson.jr.ob.JSON} instance: that is, resolving
+ * {@link com.fasterxml.jackson.jr.ob.api.ValueReader}s and
+ * {@link com.fasterxml.jackson.jr.ob.api.ValueWriter}s for given types
+ * (and types of their properties, transitively) ahead of time, so that
+ * first read and write operations need not pay for introspection.
+ *<p>
+ * Types within JDK packages ({@code java.}, {@code javax.}) are not
+ * traversed, but type parameters of generic property types
+ * (like {@code List<Item>}) are.
+ *<p>
+ * Instances are single-use and created by
+ * {@link com.fasterxml.jackson.jr.ob.JSON#prewarm(Executor, Class...)}
+ * and related methods.
+ *
+ * @since 2.19
+ */
+public class CachePrewarmer
+{
+    protected final Supplier<JSONReader> _readers;
+
+    protected final Supplier<JSONWriter> _writers;
+
+    /**
+     * Executor to resolve types with; if {@code null}, types are resolved
+     * by calling thread.
+     */
+    protected final Executor _executor;
+
+    private final Set<Class<?>> _seen = ConcurrentHashMap.newKeySet();
+
+    private final Map<Class<?>, Long> _timings = new ConcurrentHashMap<>();
+
+    private final Queue<Throwable> _problems = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Types scheduled but not yet taken for processing (used with
+     * {@link #_executor}): processed both by tasks submitted to executor and
+     * by calling thread, so that progress does not depend on executor
+     * running tasks (calling thread may be one of its threads, say).
+     */
+    private final Queue<Class<?>> _queue = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Number of types scheduled but not yet fully processed (used with
+     * {@link #_executor})
+     */
+    private final AtomicInteger _pending = new AtomicInteger();
+
+    private final CountDownLatch _done = new CountDownLatch(1);
+
+    public CachePrewarmer(Supplier<JSONReader> readers, Supplier<JSONWriter> writers,
+            Executor executor)
+    {
+        _readers = readers;
+        _writers = writers;
+        _executor = executor;
+    }
+
+    /*
+    /**********************************************************************
+    /* Public API
+    /**********************************************************************
+     */
+
+    /**
+     * Method that resolves readers and writers for given types, as well as
+     * types of their properties (transitively), and waits until all have been
+     * resolved.
+     *
+     * @return Time taken (in nanoseconds) to resolve each type traversed,
+     *   ordered from slowest to fastest; note that time includes that of
+     *   resolving not-yet-resolved property types
+     *
+     * @throws JSONObjectException If resolution of any of types failed
+     *   (thrown after all other types have been resolved)
+     */
+    public Map<Class<?>, Long> prewarm(Collection<Class<?>> types) throws JSONObjectException
+    {
+        if (_executor == null) {
+            ArrayDeque<Class<?>> queue = new ArrayDeque<>();
+            for (Class<?> type : types) {
+                _enqueue(queue, type);
+            }
+            Class<?> type;
+            while ((type = queue.poll()) != null) {
+                for (Class<?> child : _resolve(type)) {
+                    _enqueue(queue, child);
+                }
+            }
+        } else {
+            // One extra "pending" to prevent completion until all roots scheduled
+            _pending.incrementAndGet();
+            for (Class<?> type : types) {
+                _schedule(type);
+            }
+            _completeOne();
+            try {
+                // Help with processing, instead of just waiting, to avoid deadlock
+                // if executor is saturated (or running calling thread)
+                while (_done.getCount() > 0L) {
+                    Class<?> type = _queue.poll();
+                    if (type != null) {
+                        _process(type);
+                    } else { // others still being processed, may add more
+                        _done.await(1L, TimeUnit.MILLISECONDS);
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new JSONObjectException("Interrupted while pre-warming caches", e);
+            }
+        }
+        Throwable problem = _problems.peek();
+        if (problem != null) {
+            throw new JSONObjectException(String.format(
+                    "Failed to pre-warm %d type(s); first problem: %s",
+                    _problems.size(), problem.getMessage()), problem);
+        }
+        List<Map.Entry<Class<?>, Long>> entries = new ArrayList<>(_timings.entrySet());
+        entries.sort((e1, e2) -> Long.compare(e2.getValue(), e1.getValue()));
+        Map<Class<?>, Long> result = new LinkedHashMap<>();
+        for (Map.Entry<Class<?>, Long> entry : entries) {
+            result.put(entry.getKey(), entry.getValue());
+        }
+        return result;
+    }
+
+    /**
+     * Helper method for finding all classes within given package, as well as its
+     * sub-packages, available via given class loader (from directories and jars).
+     * Interfaces, annotation types as well as anonymous, local and synthetic classes
+     * are skipped.
+     */
+    public static List<Class<?>> findClasses(ClassLoader loader, String packageName)
+        throws IOException
+    {
+        final String path = packageName.replace('.', '/');
+        Set<String> names = new TreeSet<>();
+        Enumeration<URL> urls = loader.getResources(path);
+        while (urls.hasMoreElements()) {
+            URL url = urls.nextElement();
+            if ("file".equals(url.getProtocol())) {
+                File dir = new File(URLDecoder.decode(url.getFile(), "UTF-8"));
+                _findClassNames(dir, packageName, names);
+            } else if ("jar".equals(url.getProtocol())) {
+                URLConnection conn = url.openConnection();
+                conn.setUseCaches(false);
+                try (JarFile jar = ((JarURLConnection) conn).getJarFile()) {
+                    final String prefix = path + "/";
+                    for (Enumeration<JarEntry> en = jar.entries(); en.hasMoreElements(); ) {
+                        String entryName = en.nextElement().getName();
+                        if (entryName.startsWith(prefix) && _isClassFile(entryName)) {
+                            names.add(entryName.substring(0, entryName.length() - 6).replace('/', '.'));
+                        }
+                    }
+                }
+            }
+        }
+        List<Class<?>> classes = new ArrayList<>();
+        for (String name : names) {
+            Class<?> cls;
+            try {
+                cls = Class.forName(name, false, loader);
+            } catch (ClassNotFoundException | LinkageError e) {
+                continue;
+            }
+            if (cls.isInterface() || cls.isAnonymousClass() || cls.isLocalClass()
+                    || cls.isSynthetic()) {
+                continue;
+            }
+            classes.add(cls);
+        }
+        return classes;
+    }
+
+    /*
+    /**********************************************************************
+    /* Internal methods, scheduling
+    /**********************************************************************
+     */
+
+    private void _enqueue(ArrayDeque<Class<?>> queue, Class<?> type) {
+        if (_include(type) && _seen.add(type)) {
+            queue.add(type);
+        }
+    }
+
+    private void _schedule(final Class<?> type)
+    {
+        if (!_include(type) || !_seen.add(type)) {
+            return;
+        }
+        _pending.incrementAndGet();
+        _queue.add(type);
+        try {
+            // Task may get to process some other type, or none if all processed
+            _executor.execute(() -> {
+                Class<?> next = _queue.poll();
+                if (next != null) {
+                    _process(next);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // fine, will be processed by calling thread
+        }
+    }
+
+    private void _process(Class<?> type)
+    {
+        try {
+            for (Class<?> child : _resolve(type)) {
+                _schedule(child);
+            }
+        } finally {
+            _completeOne();
+        }
+    }
+
+    private void _completeOne() {
+        if (_pending.decrementAndGet() == 0) {
+            _done.countDown();
+        }
+    }
+
+    private static boolean _include(Class<?> type) {
+        if (type.isPrimitive() || type.isArray() || type == Object.class) {
+            return false;
+        }
+        String name = type.getName();
+        return !name.startsWith("java.") && !name.startsWith("javax.");
+    }
+
+    /*
+    /**********************************************************************
+    /* Internal methods, resolution
+    /**********************************************************************
+     */
+
+    /**
+     * @return Property types of given type (not yet filtered)
+     */
+    protected Collection<Class<?>> _resolve(Class<?> type)
+    {
+        final long start = System.nanoTime();
+        final JSONWriter w;
+        try {
+            _readers.get()._readerLocator.findReader(type);
+            w = _writers.get();
+            w._writerLocator.findSerializationType(type);
+        } catch (Exception e) {
+            _problems.add(new IllegalArgumentException(String.format(
+                    "Failed to resolve reader/writer for type %s: %s", type.getName(), e.getMessage()),
+                    e));
+            return Collections.emptyList();
+        }
+        _timings.put(type, System.nanoTime() - start);
+
+        if (type.isEnum()) {
+            return Collections.emptyList();
+        }
+        Set<Class<?>> children = new LinkedHashSet<>();
+        try {
+            POJODefinition def = BeanPropertyIntrospector.instance()
+                    .pojoDefinitionForSerialization(w, type);
+            for (POJODefinition.Prop prop : def.getProperties()) {
+                if (prop.field != null) {
+                    _addTypes(children, prop.field.getGenericType());
+                }
+                if (prop.getter != null) {
+                    _addTypes(children, prop.getter.getGenericReturnType());
+                }
+                if (prop.isGetter != null) {
+                    _addTypes(children, prop.isGetter.getGenericReturnType());
+                }
+                if (prop.setter != null) {
+                    _addTypes(children, prop.setter.getGenericParameterTypes()[0]);
+                }
+            }
+        } catch (Exception e) {
+            // Could not introspect further; not fatal since type itself was resolved
+        }
+        return children;
+    }
+
+    private static void _addTypes(Set<Class<?>> types, Type type)
+    {
+        if (type instanceof Class<?>) {
+            Class<?> cls = (Class<?>) type;
+            while (cls.isArray()) {
+                cls = cls.getComponentType();
+            }
+            types.add(cls);
+        } else if (type instanceof ParameterizedType) {
+            ParameterizedType pt = (ParameterizedType) type;
+            _addTypes(types, pt.getRawType());
+            for (Type arg : pt.getActualTypeArguments()) {
+                _addTypes(types, arg);
+            }
+        } else if (type instanceof GenericArrayType) {
+            _addTypes(types, ((GenericArrayType) type).getGenericComponentType());
+        } else if (type instanceof WildcardType) {
+            for (Type bound : ((WildcardType) type).getUpperBounds()) {
+                _addTypes(types, bound);
+            }
+        }
+        // Type variables not resolved (would need context)
+    }
+
+    private static void _findClassNames(File dir, String packageName, Set<String> names)
+    {
+        File[] files = dir.listFiles();
+        if (files == null) {
+            return;
+        }
+        for (File f : files) {
+            String name = f.getName();
+            if (f.isDirectory()) {
+                _findClassNames(f, packageName + "." + name, names);
+            } else if (_isClassFile(name)) {
+                names.add(packageName + "." + name.substring(0, name.length() - 6));
+            }
+        }
+    }
+
+    private static boolean _isClassFile(String name) {
+        return name.endsWith(".class")
+                && !name.endsWith("module-info.class") && !name.endsWith("package-info.class");
+    }
+}
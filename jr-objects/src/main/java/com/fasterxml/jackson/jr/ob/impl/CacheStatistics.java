@@ -0,0 +1,41 @@
+package com.fasterxml.jackson.jr.ob.impl;
+
+/**
+ * Immutable snapshot of statistics of a {@link ClassValueCache} (or
+ * {@link BoundedCache}): size and counts of hits, misses and evictions
+ * since cache was created.
+ *
+ * @since 2.19
+ */
+public final class CacheStatistics
+{
+    private final int _size, _maxSize;
+
+    private final long _hits, _misses, _evictions;
+
+    public CacheStatistics(int size, int maxSize, long hits, long misses, long evictions) {
+        _size = size;
+        _maxSize = maxSize;
+        _hits = hits;
+        _misses = misses;
+        _evictions = evictions;
+    }
+
+    public int size() { return _size; }
+    public int maxSize() { return _maxSize; }
+
+    /**
+     * @return Number of cache hits, if hit counting enabled (see
+     *    {@link com.fasterxml.jackson.jr.ob.JSON.Builder#countCacheHits(boolean)});
+     *    0 if not
+     */
+    public long hits() { return _hits; }
+    public long misses() { return _misses; }
+    public long evictions() { return _evictions; }
+
+    @Override
+    public String toString() {
+        return String.format("[size=%d/%d, hits=%d, misses=%d, evictions=%d]",
+                _size, _maxSize, _hits, _misses, _evictions);
+    }
+}
@@ -0,0 +1,473 @@
+package com.fasterxml.jackson.jr.ob.impl;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Concurrent cache of per-class values, used by {@link ValueReaderLocator}
+ * and {@link ValueWriterLocator} for resolved readers and writers.
+ * Values are stored using a {@link ClassValue}, as small per-class tables
+ * indexed by feature mask: this means that lookups need neither hashing nor
+ * equality checks of keys, and that cache itself only refers to classes weakly.
+ *<p>
+ * Note, however, that this alone does not allow classes (and their class loaders)
+ * to be unloaded while the owning {@code JSON} instance is in use: cached values
+ * usually refer to their class, as do other caches of locators. These include
+ * writers registered by {@link ValueWriterLocator} (until evicted, or released
+ * using {@link ValueWriterLocator#releaseWriters}), readers for containers
+ * (cached by {@link ValueReaderLocator} by element type), and generic types
+ * resolved by {@link com.fasterxml.jackson.jr.type.TypeResolver}.
+ *<p>
+ * Cache has maximum size: when exceeded, an entry is evicted using "CLOCK"
+ * (second-chance) algorithm, an approximation of LRU: entries accessed
+ * since previous sweep are retained, and the oldest entry not accessed
+ * is evicted. Reads are lock-free; only insertions synchronize.
+ *<p>
+ * Cache also keeps track of miss and eviction counts, as well as (if enabled)
+ * hit counts, accessible via {@link #statistics()}. Hit counting is optional
+ * since it adds noticeable overhead to otherwise inexpensive lookups.
+ *
+ * @since 2.19
+ */
+public class ClassValueCache<V>
+{
+    /**
+     * Interface for listener notified (outside of locks) of evicted entries.
+     */
+    public interface EvictionListener<V> {
+        public void evicted(Class<?> type, int features, V value);
+    }
+
+    private final ClassValue<Table<V>> _tables = new ClassValue<Table<V>>() {
+        @Override
+        protected Table<V> computeValue(Class<?> type) {
+            return new Table<V>();
+        }
+    };
+
+    /**
+     * Keys in order of insertion (or, second chance): the "clock".
+     * Only weakly refers to classes. Access guarded by {@link #_clockLock}.
+     */
+    private final ArrayDeque<ClockKey> _clock;
+
+    /**
+     * Number of keys in {@link #_clock} for entries that have been removed;
+     * used to trigger compaction, so that removals do not grow it without
+     * bound. Access guarded by {@link #_clockLock}.
+     */
+    private int _removedKeys;
+
+    /**
+     * Lock for {@link #_clock} (instead of monitor, to avoid pinning virtual threads)
+     */
+    private final ReentrantLock _clockLock = new ReentrantLock();
+
+    /**
+     * Number of entries, including ones for classes that may have been
+     * unloaded but not yet swept from {@link #_clock}.
+     */
+    private final AtomicInteger _size = new AtomicInteger();
+
+    private final int _maxSize;
+
+    private final EvictionListener<V> _evictionListener;
+
+    /**
+     * Counter for hits, if counting enabled; {@code null} if not
+     */
+    private final LongAdder _hits;
+    private final LongAdder _misses = new LongAdder();
+    private final LongAdder _evictions = new LongAdder();
+
+    public ClassValueCache(int maxSize) {
+        this(maxSize, false, null);
+    }
+
+    public ClassValueCache(int maxSize, boolean countHits) {
+        this(maxSize, countHits, null);
+    }
+
+    public ClassValueCache(int maxSize, boolean countHits,
+            EvictionListener<V> evictionListener)
+    {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Maximum cache size must be positive, was "+maxSize);
+        }
+        _maxSize = maxSize;
+        _clock = new ArrayDeque<>(Math.min(16, maxSize));
+        _evictionListener = evictionListener;
+        _hits = countHits ? new LongAdder() : null;
+    }
+
+    /*
+    /**********************************************************************
+    /* Public API
+    /**********************************************************************
+     */
+
+    public V get(Class<?> type, int features)
+    {
+        final Entry<V> entry = _tables.get(type).find(features);
+        if (entry == null) {
+            _misses.increment();
+            return null;
+        }
+        // avoid needless volatile writes
+        if (!entry.referenced) {
+            entry.referenced = true;
+        }
+        if (_hits != null) {
+            _hits.increment();
+        }
+        return entry.value;
+    }
+
+    /**
+     * @return Value previously mapped for key, if any (in which case given value
+     *    was not added); {@code null} if value was added
+     */
+    public V putIfAbsent(Class<?> type, int features, V value)
+    {
+        final ClockKey key = new ClockKey(type, features);
+        final Entry<V> old = _tables.get(type).add(key, value, false);
+        if (old != null) {
+            return old.value;
+        }
+        _added(key);
+        return null;
+    }
+
+    public void put(Class<?> type, int features, V value)
+    {
+        final ClockKey key = new ClockKey(type, features);
+        if (_tables.get(type).add(key, value, true) == null) {
+            _added(key);
+        }
+    }
+
+    /**
+     * Method for removing all entries for given type, regardless of feature mask;
+     * entries removed are reported to eviction listener (if any) like entries evicted.
+     *
+     * @return Number of entries removed
+     */
+    public int remove(Class<?> type)
+    {
+        List<Object> removed = null;
+        int count = 0;
+        _clockLock.lock();
+        try {
+            final Table<V> table = _tables.get(type);
+            for (Entry<V> entry : table.entries()) {
+                if (table.remove(entry)) {
+                    ++count;
+                    _size.decrementAndGet();
+                    _removeKey(entry.key);
+                    if (_evictionListener != null) {
+                        if (removed == null) {
+                            removed = new ArrayList<>();
+                        }
+                        removed.add(type);
+                        removed.add(entry);
+                    }
+                }
+            }
+            // compact clock once removed keys would make up most of it
+            if (_removedKeys > (_clock.size() >> 1)) {
+                _clock.removeIf(key -> {
+                    if (key.removed) {
+                        key.queued = false;
+                        return true;
+                    }
+                    return false;
+                });
+                _removedKeys = 0;
+            }
+        } finally {
+            _clockLock.unlock();
+        }
+        if (removed != null) {
+            _notifyEvicted(removed);
+        }
+        return count;
+    }
+
+    public int size() {
+        return _size.get();
+    }
+
+    public int maxSize() {
+        return _maxSize;
+    }
+
+    public boolean countsHits() {
+        return _hits != null;
+    }
+
+    public void clear() {
+        _clockLock.lock();
+        try {
+            for (ClockKey key : _clock) {
+                Class<?> type = key.get();
+                if (type != null) {
+                    _tables.remove(type);
+                }
+            }
+            _clock.clear();
+            _removedKeys = 0;
+            _size.set(0);
+        } finally {
+            _clockLock.unlock();
+        }
+    }
+
+    /**
+     * Accessor for number of keys in clock (including ones of removed entries
+     * not yet dropped); only used for testing.
+     */
+    int clockSize() {
+        _clockLock.lock();
+        try {
+            return _clock.size();
+        } finally {
+            _clockLock.unlock();
+        }
+    }
+
+    public CacheStatistics statistics() {
+        return new CacheStatistics(_size.get(), _maxSize,
+                (_hits == null) ? 0L : _hits.sum(), _misses.sum(), _evictions.sum());
+    }
+
+    /*
+    /**********************************************************************
+    /* Internal methods
+    /**********************************************************************
+     */
+
+    private void _added(ClockKey key)
+    {
+        List<Object> evicted = null;
+        _clockLock.lock();
+        try {
+            _size.incrementAndGet();
+            // may have been removed before we got the lock, in which case size
+            // was already decremented
+            if (!key.removed) {
+                key.queued = true;
+                _clock.addLast(key);
+            }
+            while (_size.get() > _maxSize) {
+                final ClockKey oldKey = _clock.pollFirst();
+                if (oldKey == null) {
+                    break;
+                }
+                if (oldKey.removed) { // entry removed, size already updated
+                    oldKey.queued = false;
+                    --_removedKeys;
+                    continue;
+                }
+                final Class<?> oldType = oldKey.get();
+                if (oldType == null) { // class unloaded, along with its entry
+                    _size.decrementAndGet();
+                    continue;
+                }
+                final Table<V> table = _tables.get(oldType);
+                final Entry<V> entry = table.find(oldKey.features);
+                if ((entry == null) || (entry.key != oldKey)) { // cleared
+                    continue;
+                }
+                if (entry.referenced) { // second chance
+                    entry.referenced = false;
+                    _clock.addLast(oldKey);
+                    continue;
+                }
+                if (table.remove(entry)) {
+                    oldKey.removed = true;
+                    oldKey.queued = false;
+                    _size.decrementAndGet();
+                    _evictions.increment();
+                    if (_evictionListener != null) {
+                        if (evicted == null) {
+                            evicted = new ArrayList<>();
+                        }
+                        evicted.add(oldType);
+                        evicted.add(entry);
+                    }
+                }
+            }
+        } finally {
+            _clockLock.unlock();
+        }
+        if (evicted != null) {
+            _notifyEvicted(evicted);
+        }
+    }
+
+    /**
+     * Method called (with lock held) to mark key of a removed entry, so that
+     * it gets skipped (and eventually dropped) from clock.
+     */
+    private void _removeKey(ClockKey key) {
+        if (!key.removed) {
+            key.removed = true;
+            if (key.queued) {
+                ++_removedKeys;
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void _notifyEvicted(List<Object> evicted) {
+        for (int i = 0, end = evicted.size(); i < end; i += 2) {
+            Entry<V> entry = (Entry<V>) evicted.get(i+1);
+            _evictionListener.evicted((Class<?>) evicted.get(i), entry.features, entry.value);
+        }
+    }
+
+    /*
+    /**********************************************************************
+    /* Helper classes
+    /**********************************************************************
+     */
+
+    /**
+     * Per-class table of values, indexed by feature mask; since there are
+     * typically just one or two distinct masks in use, a simple copy-on-write
+     * array is used, updated using compare-and-set.
+     */
+    @SuppressWarnings("serial")
+    private final static class Table<V> extends AtomicReference<Entry<V>[]>
+    {
+        @SuppressWarnings("unchecked")
+        Table() {
+            super((Entry<V>[]) new Entry<?>[0]);
+        }
+
+        public Entry<V>[] entries() {
+            return get();
+        }
+
+        public Entry<V> find(int features) {
+            for (Entry<V> entry : get()) {
+                if (entry.features == features) {
+                    return entry;
+                }
+            }
+            return null;
+        }
+
+        /**
+         * @param key Clock key for entry, if added (replacing entry retains
+         *    key of the entry replaced)
+         *
+         * @return Entry replaced or retained (depending on {@code replace}), if any
+         */
+        public Entry<V> add(ClockKey key, V value, boolean replace)
+        {
+            final int features = key.features;
+            while (true) {
+                final Entry<V>[] entries = get();
+                int i = 0;
+                for (; i < entries.length; ++i) {
+                    if (entries[i].features == features) {
+                        break;
+                    }
+                }
+                final Entry<V> old;
+                final Entry<V>[] copy;
+                if (i < entries.length) {
+                    old = entries[i];
+                    if (!replace) {
+                        return old;
+                    }
+                    copy = entries.clone();
+                } else {
+                    old = null;
+                    copy = Arrays.copyOf(entries, entries.length + 1);
+                }
+                copy[i] = new Entry<>((old == null) ? key : old.key, value);
+                if (compareAndSet(entries, copy)) {
+                    return old;
+                }
+            }
+        }
+
+        public boolean remove(Entry<V> entry)
+        {
+            while (true) {
+                final Entry<V>[] entries = get();
+                int i = 0;
+                for (; i < entries.length; ++i) {
+                    if (entries[i] == entry) {
+                        break;
+                    }
+                }
+                if (i == entries.length) {
+                    return false;
+                }
+                @SuppressWarnings("unchecked")
+                Entry<V>[] copy = (Entry<V>[]) new Entry<?>[entries.length - 1];
+                System.arraycopy(entries, 0, copy, 0, i);
+                System.arraycopy(entries, i+1, copy, i, copy.length - i);
+                if (compareAndSet(entries, copy)) {
+                    return true;
+                }
+            }
+        }
+    }
+
+    private final static class Entry<V>
+    {
+        final int features;
+
+        final V value;
+
+        /**
+         * Key of this entry in clock; one per entry, so that removal of
+         * entry can be reflected in clock
+         */
+        final ClockKey key;
+
+        volatile boolean referenced;
+
+        Entry(ClockKey key, V value) {
+            this.features = key.features;
+            this.key = key;
+            this.value = value;
+        }
+    }
+
+    /**
+     * Key of an entry in clock; only weakly refers to class (and not at all
+     * to the entry, so as not to retain value).
+     */
+    private final static class ClockKey extends WeakReference<Class<?>>
+    {
+        final int features;
+
+        /**
+         * Whether entry has been removed from cache (and size updated accordingly);
+         * guarded by clock lock.
+         */
+        boolean removed;
+
+        /**
+         * Whether key is currently in clock; guarded by clock lock.
+         */
+        boolean queued;
+
+        ClockKey(Class<?> type, int features) {
+            super(type);
+            this.features = features;
+        }
+    }
+}
@@ -0,0 +1,423 @@
+package com.fasterxml.jackson.jr.ob.impl;
+
+import java.io.IOException;
+import java.util.*;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.jr.ob.ColumnarData;
+import com.fasterxml.jackson.jr.ob.JSONObjectException;
+import com.fasterxml.jackson.jr.ob.api.ValueReader;
+
+import static com.fasterxml.jackson.jr.ob.impl.ValueLocatorBase.*;
+
+/**
+ * Reader for reading a JSON Array of JSON Objects into {@link ColumnarData},
+ * using properties of a {@link BeanReader} as columns, without constructing
+ * Bean instances (or {@link java.util.Map}s) for rows: values are read directly
+ * into per-column arrays.
+ *<p>
+ * Properties with standard readers for {@code int}, {@code long}, {@code double}
+ * and {@code boolean} are read without boxing; {@link String} values are
+ * dictionary-encoded; values of all other properties are read using
+ * property's {@link ValueReader}. Missing and {@code null} values are stored
+ * as default values ({@code 0}, {@code false} or {@code null}).
+ *
+ * @since 2.19
+ */
+public class ColumnarReader
+{
+    private final static int INITIAL_CAPACITY = 16;
+
+    protected final BeanReader _beanReader;
+
+    public ColumnarReader(BeanReader beanReader) {
+        _beanReader = beanReader;
+    }
+
+    /**
+     * Method for reading rows, starting with parser pointing to the START_ARRAY
+     * token (or {@code null} token, in which case {@code null} is returned).
+     */
+    public ColumnarData read(JSONReader r, JsonParser p) throws IOException
+    {
+        if (p.hasToken(JsonToken.VALUE_NULL)) {
+            return null;
+        }
+        if (!p.hasToken(JsonToken.START_ARRAY)) {
+            throw JSONObjectException.from(p,
+                    "Can not read columns: expect to see START_ARRAY ('['), instead got: "
+                    +ValueReader._tokenDesc(p));
+        }
+        final Map<String, BeanPropertyReader> props = _beanReader.propertiesByName();
+        final Values[] columns = new Values[props.size()];
+        // Columns by name; aliases (and names of ignored properties) added as encountered
+        final Map<String, Values> columnsByName = new HashMap<>();
+        int ix = 0;
+        for (BeanPropertyReader prop : props.values()) {
+            Values col = _values(prop);
+            columns[ix++] = col;
+            columnsByName.put(prop.getName(), col);
+        }
+        int capacity = INITIAL_CAPACITY;
+        for (Values col : columns) {
+            col.resize(capacity);
+        }
+        int row = 0;
+        JsonToken t;
+        while ((t = p.nextToken()) != JsonToken.END_ARRAY) {
+            if (t != JsonToken.START_OBJECT) {
+                if (t == null) {
+                    throw JSONObjectException.from(p, "Unexpected end-of-input: expected START_OBJECT or END_ARRAY");
+                }
+                throw JSONObjectException.from(p,
+                        "Can not read row #%d: expect to see START_OBJECT ('{'), instead got: %s",
+                        row, ValueReader._tokenDesc(p));
+            }
+            if (row == capacity) {
+                capacity = (capacity < 64000) ? (capacity << 1) : (capacity + (capacity >> 1));
+                for (Values col : columns) {
+                    col.resize(capacity);
+                }
+            }
+            String name;
+            while ((name = p.nextFieldName()) != null) {
+                Values col = columnsByName.get(name);
+                if (col == null) {
+                    col = _findColumn(columnsByName, name);
+                    if (col == null) {
+                        _beanReader.handleUnknown(r, p, name);
+                        continue;
+                    }
+                }
+                col.readNext(r, p, row);
+            }
+            if (!p.hasToken(JsonToken.END_OBJECT)) {
+                throw _beanReader._reportProblem(p);
+            }
+            ++row;
+        }
+        ColumnarData.Builder b = ColumnarData.builder(row);
+        for (Values col : columns) {
+            col.resize(row);
+            col.addTo(b);
+        }
+        return b.build();
+    }
+
+    protected Values _findColumn(Map<String, Values> columnsByName, String name)
+    {
+        BeanPropertyReader prop = _beanReader.findProperty(name);
+        if (prop == null) {
+            return null;
+        }
+        Values col = columnsByName.get(prop.getName());
+        columnsByName.put(name, col);
+        return col;
+    }
+
+    protected Values _values(BeanPropertyReader prop)
+    {
+        final String name = prop.getName();
+        final ValueReader vr = prop.getReader();
+        // Only standard readers of simple types can be replaced
+        if ((vr != null) && (vr.getClass() == SimpleValueReader.class)) {
+            final SimpleValueReader svr = (SimpleValueReader) vr;
+            switch (svr._typeId) {
+            case SER_NUMBER_INTEGER:
+                return new IntValues(name, svr);
+            case SER_NUMBER_LONG:
+                return new LongValues(name, svr);
+            case SER_NUMBER_DOUBLE:
+                return new DoubleValues(name, svr);
+            case SER_BOOLEAN:
+                return new BooleanValues(name, svr);
+            case SER_STRING:
+                return new StringValues(name);
+            }
+        }
+        return new ObjectValues(name, vr);
+    }
+
+    /*
+    /**********************************************************************
+    /* Helper classes: per-column value buffers
+    /**********************************************************************
+     */
+
+    protected abstract static class Values
+    {
+        protected final String _name;
+
+        protected Values(String name) {
+            _name = name;
+        }
+
+        /**
+         * Method for reading the next value (parser pointing to the property name)
+         * as the value for given row.
+         */
+        public abstract void readNext(JSONReader r, JsonParser p, int row) throws IOException;
+
+        /**
+         * Method for changing capacity: called both for growing and for
+         * trimming to final size.
+         */
+        public abstract void resize(int capacity);
+
+        public abstract void addTo(ColumnarData.Builder b);
+    }
+
+    protected final static class IntValues extends Values
+    {
+        private final SimpleValueReader _reader;
+        private int[] _values = new int[0];
+
+        IntValues(String name, SimpleValueReader r) {
+            super(name);
+            _reader = r;
+        }
+
+        @Override
+        public void readNext(JSONReader r, JsonParser p, int row) throws IOException {
+            _values[row] = _reader.readNextInt(r, p);
+        }
+
+        @Override
+        public void resize(int capacity) {
+            if (_values.length != capacity) {
+                _values = Arrays.copyOf(_values, capacity);
+            }
+        }
+
+        @Override
+        public void addTo(ColumnarData.Builder b) {
+            b.ints(_name, _values);
+        }
+    }
+
+    protected final static class LongValues extends Values
+    {
+        private final SimpleValueReader _reader;
+        private long[] _values = new long[0];
+
+        LongValues(String name, SimpleValueReader r) {
+            super(name);
+            _reader = r;
+        }
+
+        @Override
+        public void readNext(JSONReader r, JsonParser p, int row) throws IOException {
+            _values[row] = _reader.readNextLong(r, p);
+        }
+
+        @Override
+        public void resize(int capacity) {
+            if (_values.length != capacity) {
+                _values = Arrays.copyOf(_values, capacity);
+            }
+        }
+
+        @Override
+        public void addTo(ColumnarData.Builder b) {
+            b.longs(_name, _values);
+        }
+    }
+
+    protected final static class DoubleValues extends Values
+    {
+        private final SimpleValueReader _reader;
+        private double[] _values = new double[0];
+
+        DoubleValues(String name, SimpleValueReader r) {
+            super(name);
+            _reader = r;
+        }
+
+        @Override
+        public void readNext(JSONReader r, JsonParser p, int row) throws IOException {
+            _values[row] = _reader.readNextDouble(r, p);
+        }
+
+        @Override
+        public void resize(int capacity) {
+            if (_values.length != capacity) {
+                _values = Arrays.copyOf(_values, capacity);
+            }
+        }
+
+        @Override
+        public void addTo(ColumnarData.Builder b) {
+            b.doubles(_name, _values);
+        }
+    }
+
+    protected final static class BooleanValues extends Values
+    {
+        private final SimpleValueReader _reader;
+        private boolean[] _values = new boolean[0];
+
+        BooleanValues(String name, SimpleValueReader r) {
+            super(name);
+            _reader = r;
+        }
+
+        @Override
+        public void readNext(JSONReader r, JsonParser p, int row) throws IOException {
+            _values[row] = _reader.readNextBoolean(r, p);
+        }
+
+        @Override
+        public void resize(int capacity) {
+            if (_values.length != capacity) {
+                _values = Arrays.copyOf(_values, capacity);
+            }
+        }
+
+        @Override
+        public void addTo(ColumnarData.Builder b) {
+            b.booleans(_name, _values);
+        }
+    }
+
+    /**
+     * Values of {@link String} properties: stored as codes, indexes into
+     * dictionary of distinct values (with {@code null} as the first entry).
+     * Dictionary is looked up using parser's text buffer, so that
+     * {@link String}s are only constructed for distinct values.
+     */
+    protected final static class StringValues extends Values
+    {
+        private String[] _dictionary = new String[] { null };
+        private int _dictSize = 1;
+
+        /**
+         * Hash index of dictionary entries: codes (indexes into {@link #_dictionary}),
+         * or {@code 0} for empty slots. Length is a power of two.
+         */
+        private int[] _index = new int[16];
+
+        private int[] _codes = new int[0];
+
+        StringValues(String name) {
+            super(name);
+        }
+
+        @Override
+        public void readNext(JSONReader r, JsonParser p, int row) throws IOException {
+            final JsonToken t = p.nextToken();
+            if (t == JsonToken.VALUE_STRING) {
+                _codes[row] = _code(p.getTextCharacters(), p.getTextOffset(), p.getTextLength());
+            } else if (t == JsonToken.VALUE_NULL) {
+                _codes[row] = 0;
+            } else if ((t != null) && t.isScalarValue()) {
+                // same coercions as with standard String reader
+                final String str = p.getValueAsString();
+                _codes[row] = _code(str.toCharArray(), 0, str.length());
+            } else {
+                throw JSONObjectException.from(p, "Can not read a String for property '%s' from %s",
+                        _name, ValueReader._tokenDesc(p));
+            }
+        }
+
+        private int _code(char[] buf, int offset, int len) {
+            int hash = 0;
+            for (int i = offset, end = offset + len; i < end; ++i) {
+                hash = (hash * 31) + buf[i];
+            }
+            final int mask = _index.length - 1;
+            int slot = _mix(hash) & mask;
+            int code;
+            while ((code = _index[slot]) != 0) {
+                if (_matches(_dictionary[code], buf, offset, len)) {
+                    return code;
+                }
+                slot = (slot + 1) & mask;
+            }
+            // Not found; add (same hash code as computed above)
+            code = _dictSize;
+            if (code == _dictionary.length) {
+                _dictionary = Arrays.copyOf(_dictionary, code << 1);
+            }
+            _dictionary[code] = new String(buf, offset, len);
+            ++_dictSize;
+            // keep load factor at most 50%
+            if ((_dictSize << 1) > _index.length) {
+                _rehash();
+            } else {
+                _index[slot] = code;
+            }
+            return code;
+        }
+
+        private void _rehash() {
+            final int[] index = new int[_index.length << 1];
+            final int mask = index.length - 1;
+            for (int code = 1; code < _dictSize; ++code) {
+                int slot = _mix(_dictionary[code].hashCode()) & mask;
+                while (index[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                index[slot] = code;
+            }
+            _index = index;
+        }
+
+        private static boolean _matches(String str, char[] buf, int offset, int len) {
+            if (str.length() != len) {
+                return false;
+            }
+            for (int i = 0; i < len; ++i) {
+                if (str.charAt(i) != buf[offset + i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static int _mix(int hash) {
+            final int h = hash * 0x9E3779B9;
+            return h ^ (h >>> 16);
+        }
+
+        @Override
+        public void resize(int capacity) {
+            if (_codes.length != capacity) {
+                _codes = Arrays.copyOf(_codes, capacity);
+            }
+        }
+
+        @Override
+        public void addTo(ColumnarData.Builder b) {
+            b.strings(_name, Arrays.copyOf(_dictionary, _dictSize), _codes);
+        }
+    }
+
+    protected final static class ObjectValues extends Values
+    {
+        private final ValueReader _reader;
+        private Object[] _values = new Object[0];
+
+        ObjectValues(String name, ValueReader r) {
+            super(name);
+            _reader = r;
+        }
+
+        @Override
+        public void readNext(JSONReader r, JsonParser p, int row) throws IOException {
+            _values[row] = _reader.readNext(r, p);
+        }
+
+        @Override
+        public void resize(int capacity) {
+            if (_values.length != capacity) {
+                _values = Arrays.copyOf(_values, capacity);
+            }
+        }
+
+        @Override
+        public void addTo(ColumnarData.Builder b) {
+            b.objects(_name, _values);
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.fasterxml.jackson.jr.ob.impl;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.jr.ob.ColumnarData;
+import com.fasterxml.jackson.jr.ob.api.ValueWriter;
+
+/**
+ * Writer for {@link ColumnarData}: writes data as row-oriented JSON, that is,
+ * as a JSON Array with a JSON Object (with a property per column) for each row.
+ * Primitive values are written without boxing; {@code null} values are
+ * omitted unless {@link com.fasterxml.jackson.jr.ob.JSON.Feature#WRITE_NULL_PROPERTIES}
+ * is enabled, same as with Beans.
+ *
+ * @since 2.19
+ */
+public class ColumnarWriter implements ValueWriter
+{
+    protected final Class<?> _type;
+
+    public ColumnarWriter(Class<?> type) {
+        _type = type;
+    }
+
+    @Override
+    public void writeValue(JSONWriter context, JsonGenerator g, Object value)
+        throws IOException
+    {
+        final ColumnarData data = (ColumnarData) value;
+        final int rows = data.rowCount();
+        final int columnCount = data.columnCount();
+        final boolean writeNulls = context._writeNullValues;
+
+        // Resolve arrays and encode names just once, not per row
+        final ColumnarData.ColumnType[] types = new ColumnarData.ColumnType[columnCount];
+        final SerializedString[] names = new SerializedString[columnCount];
+        final Object[] values = new Object[columnCount];
+        final SerializedString[][] dictionaries = new SerializedString[columnCount][];
+        for (int i = 0; i < columnCount; ++i) {
+            final ColumnarData.Column col = data.column(i);
+            types[i] = col.type();
+            names[i] = new SerializedString(col.name());
+            switch (col.type()) {
+            case INT:
+                values[i] = col.ints();
+                break;
+            case LONG:
+                values[i] = col.longs();
+                break;
+            case DOUBLE:
+                values[i] = col.doubles();
+                break;
+            case BOOLEAN:
+                values[i] = col.booleans();
+                break;
+            case STRING:
+                values[i] = col.codes();
+                dictionaries[i] = _dictionary(col.dictionary());
+                break;
+            default:
+                values[i] = col.objects();
+            }
+        }
+
+        g.writeStartArray(data, rows);
+        for (int row = 0; row < rows; ++row) {
+            g.writeStartObject();
+            for (int i = 0; i < columnCount; ++i) {
+                switch (types[i]) {
+                case INT:
+                    g.writeFieldName(names[i]);
+                    g.writeNumber(((int[]) values[i])[row]);
+                    break;
+                case LONG:
+                    g.writeFieldName(names[i]);
+                    g.writeNumber(((long[]) values[i])[row]);
+                    break;
+                case DOUBLE:
+                    g.writeFieldName(names[i]);
+                    g.writeNumber(((double[]) values[i])[row]);
+                    break;
+                case BOOLEAN:
+                    g.writeFieldName(names[i]);
+                    g.writeBoolean(((boolean[]) values[i])[row]);
+                    break;
+                case STRING:
+                    {
+                        final int code = ((int[]) values[i])[row];
+                        if (code == 0) {
+                            if (writeNulls) {
+                                g.writeFieldName(names[i]);
+                                g.writeNull();
+                            }
+                        } else {
+                            g.writeFieldName(names[i]);
+                            g.writeString(dictionaries[i][code]);
+                        }
+                    }
+                    break;
+                default:
+                    {
+                        final Object v = ((Object[]) values[i])[row];
+                        if (v == null) {
+                            if (writeNulls) {
+                                g.writeFieldName(names[i]);
+                                g.writeNull();
+                            }
+                        } else {
+                            g.writeFieldName(names[i]);
+                            context.writeValue(v);
+                        }
+                    }
+                }
+            }
+            g.writeEndObject();
+        }
+        g.writeEndArray();
+    }
+
+    // Dictionary values are (usually) written many times, so worth pre-encoding
+    private static SerializedString[] _dictionary(String[] dict) {
+        final SerializedString[] result = new SerializedString[dict.length];
+        // first entry is always null
+        for (int i = 1; i < dict.length; ++i) {
+            result[i] = new SerializedString(dict[i]);
+        }
+        return result;
+    }
+
+    @Override
+    public Class<?> valueType() {
+        return _type;
+    }
+}
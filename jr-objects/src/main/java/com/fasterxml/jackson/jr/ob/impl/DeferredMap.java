@@ -8,6 +8,11 @@ import java.util.*;
  * when needed; that is, actual building of hash lookup is deferred.
  *<p>
  * Inspired by lazily initialized Map used by Boon library.
+ *<p>
+ * Since 2.19, may also be constructed with a {@link MapShape} shared with
+ * other Maps built with the same key sequence, in which case only values are
+ * stored per Map: lookups, iteration and replacing values of existing keys
+ * then do not require building of a hash lookup at all.
  */
 public class DeferredMap extends AbstractMap<String, Object>
 {
@@ -16,6 +21,20 @@ public class DeferredMap extends AbstractMap<String, Object>
     private int _end;
     private final boolean _ordered;
 
+    /**
+     * Shared key layout, if Map constructed with one (and not yet materialized)
+     *
+     * @since 2.19
+     */
+    private MapShape _shape;
+
+    /**
+     * Values matching keys of {@link #_shape}, if Map constructed with one
+     *
+     * @since 2.19
+     */
+    private Object[] _values;
+
     public DeferredMap(boolean ordered) {
         this(ordered, 4);
     }
@@ -24,9 +43,50 @@ public class DeferredMap extends AbstractMap<String, Object>
         _ordered = ordered;
     }
 
+    /**
+     * Constructor for Maps with shared key layout: {@code values} must
+     * have exactly one value for each key of {@code shape}, and is not copied.
+     *
+     * @since 2.19
+     */
+    public DeferredMap(boolean ordered, MapShape shape, Object[] values) {
+        if (shape.size() != values.length) {
+            throw new IllegalArgumentException("Shape has "+shape.size()+" keys, but got "
+                    +values.length+" values");
+        }
+        _ordered = ordered;
+        _shape = shape;
+        _values = values;
+    }
+
+    /**
+     * Accessor for the shared key layout, if Map is (still) using one.
+     *
+     * @return Shape of this Map, if any; {@code null} if none
+     *
+     * @since 2.19
+     */
+    public MapShape shape() {
+        return _shape;
+    }
+
+    // Only for tests: values matching keys of shape, if any
+    Object[] shapeValues() {
+        return (_shape == null) ? null : _values;
+    }
+
     @Override
     public Object put(String key, Object value)
     {
+        if (_shape != null) {
+            final int ix = _shape.indexOf(key);
+            if (ix >= 0) {
+                Object old = _values[ix];
+                _values[ix] = value;
+                return old;
+            }
+            buildIfNeeded();
+        }
         if (_map == null) {
             if (_entries == null) {
                 _entries = new Object[8];
@@ -45,47 +105,71 @@ public class DeferredMap extends AbstractMap<String, Object>
     
     @Override
     public Set<Entry<String, Object>> entrySet() {
+        if (_shape != null) {
+            return new ShapeEntrySet();
+        }
         buildIfNeeded();
         return _map.entrySet();
     }
 
     @Override
     public int size() {
+        if (_shape != null) {
+            return _values.length;
+        }
         // assuming no dups; otherwise could overestimate
         return (_map == null) ? (_end >> 1) : _map.size();
     }
 
     @Override
     public boolean isEmpty() {
+        if (_shape != null) {
+            return _values.length == 0;
+        }
         return (_map == null) ? (_end == 0) : _map.isEmpty();
     }
 
     @Override
     public boolean containsValue(Object value) {
+        if (_shape != null) {
+            return super.containsValue(value);
+        }
         buildIfNeeded();
         return _map.containsValue(value);
     }
 
     @Override
     public boolean containsKey(Object key) {
+        if (_shape != null) {
+            return _shape.indexOf(key) >= 0;
+        }
         buildIfNeeded();
         return _map.containsKey(key);
     }
 
     @Override
     public Object get(Object key) {
+        if (_shape != null) {
+            final int ix = _shape.indexOf(key);
+            return (ix < 0) ? null : _values[ix];
+        }
         buildIfNeeded();
         return _map.get( key );
     }
 
     @Override
     public Object remove(Object key) {
+        if ((_shape != null) && (_shape.indexOf(key) < 0)) {
+            return null;
+        }
         buildIfNeeded();
         return _map.remove( key );
     }
 
     @Override
     public void clear() {
+        _shape = null;
+        _values = null;
         if (_map != null ) {
             _map.clear();
         } else {
@@ -95,32 +179,48 @@ public class DeferredMap extends AbstractMap<String, Object>
 
     @Override
     public Set<String> keySet() {
+        if (_shape != null) {
+            // view over entrySet(), so remains valid if materialized later
+            return super.keySet();
+        }
         buildIfNeeded();
         return _map.keySet();
     }
 
     @Override
     public Collection<Object> values() {
+        if (_shape != null) {
+            return super.values();
+        }
         buildIfNeeded();
         return _map.values();
     }
 
     @Override
     public boolean equals(Object other) {
-       buildIfNeeded();
-       return _map.equals(other);
+        if (_shape != null) {
+            return super.equals(other);
+        }
+        buildIfNeeded();
+        return _map.equals(other);
     }
 
     @Override
     public int hashCode() {
-       buildIfNeeded();
-       return _map.hashCode();
+        if (_shape != null) {
+            return super.hashCode();
+        }
+        buildIfNeeded();
+        return _map.hashCode();
     }
 
     @Override
     public String toString() {
-       buildIfNeeded();
-       return _map.toString();
+        if (_shape != null) {
+            return super.toString();
+        }
+        buildIfNeeded();
+        return _map.toString();
     }
 
     @Override
@@ -133,6 +233,17 @@ public class DeferredMap extends AbstractMap<String, Object>
     }
 
     protected void buildIfNeeded() {
+        if (_shape != null) {
+            final MapShape shape = _shape;
+            final Object[] values = _values;
+            _map = _buildMap((values.length * 3) >> 2);
+            for (int i = 0; i < values.length; ++i) {
+                _map.put(shape.keyAt(i), values[i]);
+            }
+            _shape = null;
+            _values = null;
+            return;
+        }
         if (_map == null) {
             // translate from entry count (which is 2 * size) bit down; trying to avoid
             // having to resize... i.e. use 3/4 of entry count
@@ -171,4 +282,120 @@ public class DeferredMap extends AbstractMap<String, Object>
         }
         return new HashMap<String, Object>(size);
     }
+
+    /*
+    /**********************************************************************
+    /* Helper classes for shared-shape Maps
+    /**********************************************************************
+     */
+
+    /**
+     * View of entries of a Map with shared shape. Iteration is over the state
+     * at the time iterator was constructed; modifications through entries
+     * and iterator are applied to the Map (materializing it, if necessary).
+     */
+    private final class ShapeEntrySet extends AbstractSet<Entry<String, Object>>
+    {
+        @Override
+        public int size() {
+            return DeferredMap.this.size();
+        }
+
+        @Override
+        public Iterator<Entry<String, Object>> iterator() {
+            if (_shape == null) { // materialized since view was created
+                return _map.entrySet().iterator();
+            }
+            return new ShapeIterator(_shape, _values);
+        }
+
+        @Override
+        public void clear() {
+            DeferredMap.this.clear();
+        }
+    }
+
+    private final class ShapeIterator implements Iterator<Entry<String, Object>>
+    {
+        private final MapShape _iterShape;
+        private final Object[] _iterValues;
+        private int _next;
+        private int _last = -1;
+
+        ShapeIterator(MapShape shape, Object[] values) {
+            _iterShape = shape;
+            _iterValues = values;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return _next < _iterValues.length;
+        }
+
+        @Override
+        public Entry<String, Object> next() {
+            if (_next >= _iterValues.length) {
+                throw new NoSuchElementException();
+            }
+            _last = _next++;
+            return new ShapeEntry(_iterShape.keyAt(_last), _iterValues, _last);
+        }
+
+        @Override
+        public void remove() {
+            if (_last < 0) {
+                throw new IllegalStateException();
+            }
+            DeferredMap.this.remove(_iterShape.keyAt(_last));
+            _last = -1;
+        }
+    }
+
+    private final class ShapeEntry implements Entry<String, Object>
+    {
+        private final String _key;
+        private final Object[] _entryValues;
+        private final int _index;
+
+        ShapeEntry(String key, Object[] values, int index) {
+            _key = key;
+            _entryValues = values;
+            _index = index;
+        }
+
+        @Override
+        public String getKey() {
+            return _key;
+        }
+
+        @Override
+        public Object getValue() {
+            // values array no longer used by the Map if it has been materialized
+            return (_values == _entryValues) ? _entryValues[_index] : get(_key);
+        }
+
+        @Override
+        public Object setValue(Object value) {
+            return put(_key, value);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Entry<?,?>)) {
+                return false;
+            }
+            Entry<?,?> other = (Entry<?,?>) o;
+            return _key.equals(other.getKey()) && Objects.equals(getValue(), other.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return _key.hashCode() ^ Objects.hashCode(getValue());
+        }
+
+        @Override
+        public String toString() {
+            return _key+"="+getValue();
+        }
+    }
 }
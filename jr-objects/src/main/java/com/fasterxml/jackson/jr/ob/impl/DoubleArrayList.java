@@ -0,0 +1,214 @@
+package com.fasterxml.jackson.jr.ob.impl;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.RandomAccess;
+
+/**
+ * Compact {@link java.util.List} implementation for {@link Double} values,
+ * backed by a {@code double[]}: values are only boxed when accessed using
+ * {@link java.util.List} methods, and accessors like {@link #getDouble(int)}
+ * can be used to avoid boxing altogether.
+ * Does not allow {@code null} values.
+ *<p>
+ * Instances are produced when reading {@code List<Double>} values if
+ * {@link com.fasterxml.jackson.jr.ob.PrimitiveCollectionsExtension} is registered.
+ *
+ * @since 2.19
+ */
+public class DoubleArrayList extends AbstractList<Double>
+    implements RandomAccess
+{
+    private final static double[] NO_VALUES = new double[0];
+
+    protected double[] _values;
+
+    protected int _size;
+
+    public DoubleArrayList() {
+        _values = NO_VALUES;
+    }
+
+    public DoubleArrayList(int initialCapacity) {
+        _values = (initialCapacity == 0) ? NO_VALUES : new double[initialCapacity];
+    }
+
+    /**
+     * Constructor for a list that contains copy of given values.
+     */
+    public DoubleArrayList(double[] values) {
+        this(values, values.length);
+    }
+
+    /**
+     * Constructor for a list that contains copy of first {@code size} values
+     * of given array.
+     */
+    public DoubleArrayList(double[] values, int size) {
+        _values = Arrays.copyOf(values, size);
+        _size = size;
+    }
+
+    /*
+    /**********************************************************************
+    /* Unboxed access
+    /**********************************************************************
+     */
+
+    public double getDouble(int index) {
+        _checkIndex(index);
+        return _values[index];
+    }
+
+    public double setDouble(int index, double value) {
+        _checkIndex(index);
+        double old = _values[index];
+        _values[index] = value;
+        return old;
+    }
+
+    public void addDouble(double value) {
+        if (_size == _values.length) {
+            _grow(_size + 1);
+        }
+        _values[_size++] = value;
+        ++modCount;
+    }
+
+    public double[] toDoubleArray() {
+        return Arrays.copyOf(_values, _size);
+    }
+
+    /**
+     * Method for reducing capacity of the backing array to match size of the list.
+     */
+    public void trimToSize() {
+        if (_values.length > _size) {
+            _values = (_size == 0) ? NO_VALUES : Arrays.copyOf(_values, _size);
+        }
+    }
+
+    /*
+    /**********************************************************************
+    /* List implementation
+    /**********************************************************************
+     */
+
+    @Override
+    public int size() {
+        return _size;
+    }
+
+    @Override
+    public Double get(int index) {
+        return getDouble(index);
+    }
+
+    @Override
+    public Double set(int index, Double value) {
+        return setDouble(index, value.doubleValue());
+    }
+
+    @Override
+    public boolean add(Double value) {
+        addDouble(value.doubleValue());
+        return true;
+    }
+
+    @Override
+    public void add(int index, Double value) {
+        if ((index < 0) || (index > _size)) {
+            throw new IndexOutOfBoundsException("Index: "+index+", Size: "+_size);
+        }
+        final double v = value.doubleValue();
+        if (_size == _values.length) {
+            _grow(_size + 1);
+        }
+        System.arraycopy(_values, index, _values, index + 1, _size - index);
+        _values[index] = v;
+        ++_size;
+        ++modCount;
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends Double> c) {
+        final int count = c.size();
+        if (count == 0) {
+            return false;
+        }
+        if (_size + count > _values.length) {
+            _grow(_size + count);
+        }
+        for (Double value : c) {
+            _values[_size++] = value.doubleValue();
+        }
+        ++modCount;
+        return true;
+    }
+
+    @Override
+    public Double remove(int index) {
+        _checkIndex(index);
+        double old = _values[index];
+        System.arraycopy(_values, index + 1, _values, index, _size - index - 1);
+        --_size;
+        ++modCount;
+        return old;
+    }
+
+    @Override
+    public void clear() {
+        _size = 0;
+        ++modCount;
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        if (o instanceof Double) {
+            final double v = ((Double) o).doubleValue();
+            for (int i = 0; i < _size; ++i) {
+                if (Double.compare(_values[i], v) == 0) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int lastIndexOf(Object o) {
+        if (o instanceof Double) {
+            final double v = ((Double) o).doubleValue();
+            for (int i = _size; --i >= 0; ) {
+                if (Double.compare(_values[i], v) == 0) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) >= 0;
+    }
+
+    /*
+    /**********************************************************************
+    /* Internal methods
+    /**********************************************************************
+     */
+
+    private void _checkIndex(int index) {
+        if ((index < 0) || (index >= _size)) {
+            throw new IndexOutOfBoundsException("Index: "+index+", Size: "+_size);
+        }
+    }
+
+    private void _grow(int minCapacity) {
+        final int len = _values.length;
+        _values = Arrays.copyOf(_values, Math.max(minCapacity,
+                (len < 1000) ? Math.max(len << 1, 8) : (len + (len >> 1))));
+    }
+}
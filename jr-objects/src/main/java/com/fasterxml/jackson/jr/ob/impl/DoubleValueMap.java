@@ -0,0 +1,103 @@
+package com.fasterxml.jackson.jr.ob.impl;
+
+import java.util.Arrays;
+
+/**
+ * Compact {@link java.util.Map} implementation with {@link String} keys and
+ * {@link Double} values, backed by a {@code double[]}: values are only boxed
+ * when accessed using {@link java.util.Map} methods, and accessors like
+ * {@link #getDouble(String, double)} can be used to avoid boxing altogether.
+ * Entries are kept in insertion order.
+ *<p>
+ * Instances are produced when reading {@code Map<String,Double>} values if
+ * {@link com.fasterxml.jackson.jr.ob.PrimitiveCollectionsExtension} is registered.
+ *
+ * @since 2.19
+ */
+public class DoubleValueMap extends PrimitiveValueMap<Double>
+{
+    private final static double[] NO_VALUES = new double[0];
+
+    protected double[] _values;
+
+    public DoubleValueMap() {
+        this(0);
+    }
+
+    public DoubleValueMap(int initialCapacity) {
+        super(initialCapacity);
+        _values = (initialCapacity == 0) ? NO_VALUES : new double[initialCapacity];
+    }
+
+    /*
+    /**********************************************************************
+    /* Unboxed access
+    /**********************************************************************
+     */
+
+    /**
+     * @return Value for given key, if any; {@code defaultValue} if none
+     */
+    public double getDouble(String key, double defaultValue) {
+        final int pos = _find(key);
+        return (pos < 0) ? defaultValue : _values[pos];
+    }
+
+    public void putDouble(String key, double value) {
+        int pos = _find(key);
+        if (pos < 0) {
+            pos = _append(key);
+        }
+        _values[pos] = value;
+    }
+
+    /**
+     * Accessor for key of entry at given position (in insertion order)
+     */
+    public String keyAt(int index) {
+        _checkIndex(index);
+        return _keys[index];
+    }
+
+    /**
+     * Accessor for value of entry at given position (in insertion order)
+     */
+    public double doubleAt(int index) {
+        _checkIndex(index);
+        return _values[index];
+    }
+
+    /*
+    /**********************************************************************
+    /* Value storage
+    /**********************************************************************
+     */
+
+    @Override
+    protected Double _valueAt(int pos) {
+        return _values[pos];
+    }
+
+    @Override
+    protected Double _setValueAt(int pos, Double value, boolean existing) {
+        final Double old = existing ? _values[pos] : null;
+        _values[pos] = value.doubleValue();
+        return old;
+    }
+
+    @Override
+    protected void _resizeValues(int capacity) {
+        _values = (capacity == 0) ? NO_VALUES : Arrays.copyOf(_values, capacity);
+    }
+
+    @Override
+    protected void _removeValueAt(int pos) {
+        System.arraycopy(_values, pos + 1, _values, pos, _size - pos - 1);
+    }
+
+    private void _checkIndex(int index) {
+        if ((index < 0) || (index >= _size)) {
+            throw new IndexOutOfBoundsException("Index: "+index+", Size: "+_size);
+        }
+    }
+}
@@ -0,0 +1,214 @@
+package com.fasterxml.jackson.jr.ob.impl;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.RandomAccess;
+
+/**
+ * Compact {@link java.util.List} implementation for {@link Integer} values,
+ * backed by a {@code int[]}: values are only boxed when accessed using
+ * {@link java.util.List} methods, and accessors like {@link #getInt(int)}
+ * can be used to avoid boxing altogether.
+ * Does not allow {@code null} values.
+ *<p>
+ * Instances are produced when reading {@code List<Integer>} values if
+ * {@link com.fasterxml.jackson.jr.ob.PrimitiveCollectionsExtension} is registered.
+ *
+ * @since 2.19
+ */
+public class IntArrayList extends AbstractList<Integer>
+    implements RandomAccess
+{
+    private final static int[] NO_VALUES = new int[0];
+
+    protected int[] _values;
+
+    protected int _size;
+
+    public IntArrayList() {
+        _values = NO_VALUES;
+    }
+
+    public IntArrayList(int initialCapacity) {
+        _values = (initialCapacity == 0) ? NO_VALUES : new int[initialCapacity];
+    }
+
+    /**
+     * Constructor for a list that contains copy of given values.
+     */
+    public IntArrayList(int[] values) {
+        this(values, values.length);
+    }
+
+    /**
+     * Constructor for a list that contains copy of first {@code size} values
+     * of given array.
+     */
+    public IntArrayList(int[] values, int size) {
+        _values = Arrays.copyOf(values, size);
+        _size = size;
+    }
+
+    /*
+    /**********************************************************************
+    /* Unboxed access
+    /**********************************************************************
+     */
+
+    public int getInt(int index) {
+        _checkIndex(index);
+        return _values[index];
+    }
+
+    public int setInt(int index, int value) {
+        _checkIndex(index);
+        int old = _values[index];
+        _values[index] = value;
+        return old;
+    }
+
+    public void addInt(int value) {
+        if (_size == _values.length) {
+            _grow(_size + 1);
+        }
+        _values[_size++] = value;
+        ++modCount;
+    }
+
+    public int[] toIntArray() {
+        return Arrays.copyOf(_values, _size);
+    }
+
+    /**
+     * Method for reducing capacity of the backing array to match size of the list.
+     */
+    public void trimToSize() {
+        if (_values.length > _size) {
+            _values = (_size == 0) ? NO_VALUES : Arrays.copyOf(_values, _size);
+        }
+    }
+
+    /*
+    /**********************************************************************
+    /* List implementation
+    /**********************************************************************
+     */
+
+    @Override
+    public int size() {
+        return _size;
+    }
+
+    @Override
+    public Integer get(int index) {
+        return getInt(index);
+    }
+
+    @Override
+    public Integer set(int index, Integer value) {
+        return setInt(index, value.intValue());
+    }
+
+    @Override
+    public boolean add(Integer value) {
+        addInt(value.intValue());
+        return true;
+    }
+
+    @Override
+    public void add(int index, Integer value) {
+        if ((index < 0) || (index > _size)) {
+            throw new IndexOutOfBoundsException("Index: "+index+", Size: "+_size);
+        }
+        final int v = value.intValue();
+        if (_size == _values.length) {
+            _grow(_size + 1);
+        }
+        System.arraycopy(_values, index, _values, index + 1, _size - index);
+        _values[index] = v;
+        ++_size;
+        ++modCount;
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends Integer> c) {
+        final int count = c.size();
+        if (count == 0) {
+            return false;
+        }
+        if (_size + count > _values.length) {
+            _grow(_size + count);
+        }
+        for (Integer value : c) {
+            _values[_size++] = value.intValue();
+        }
+        ++modCount;
+        return true;
+    }
+
+    @Override
+    public Integer remove(int index) {
+        _checkIndex(index);
+        int old = _values[index];
+        System.arraycopy(_values, index + 1, _values, index, _size - index - 1);
+        --_size;
+        ++modCount;
+        return old;
+    }
+
+    @Override
+    public void clear() {
+        _size = 0;
+        ++modCount;
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        if (o instanceof Integer) {
+            final int v = ((Integer) o).intValue();
+            for (int i = 0; i < _size; ++i) {
+                if (_values[i] == v) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int lastIndexOf(Object o) {
+        if (o instanceof Integer) {
+            final int v = ((Integer) o).intValue();
+            for (int i = _size; --i >= 0; ) {
+                if (_values[i] == v) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) >= 0;
+    }
+
+    /*
+    /**********************************************************************
+    /* Internal methods
+    /**********************************************************************
+     */
+
+    private void _checkIndex(int index) {
+        if ((index < 0) || (index >= _size)) {
+            throw new IndexOutOfBoundsException("Index: "+index+", Size: "+_size);
+        }
+    }
+
+    private void _grow(int minCapacity) {
+        final int len = _values.length;
+        _values = Arrays.copyOf(_values, Math.max(minCapacity,
+                (len < 1000) ? Math.max(len << 1, 8) : (len + (len >> 1))));
+    }
+}
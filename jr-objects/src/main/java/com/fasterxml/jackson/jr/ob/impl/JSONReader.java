@@ -4,10 +4,12 @@ import java.io.*;
 import java.util.*;
 
 import com.fasterxml.jackson.core.*;
+import com.fasterxml.jackson.jr.ob.ColumnarData;
 import com.fasterxml.jackson.jr.ob.JSON;
 import com.fasterxml.jackson.jr.ob.JSONObjectException;
 import com.fasterxml.jackson.jr.ob.api.CollectionBuilder;
 import com.fasterxml.jackson.jr.ob.api.MapBuilder;
+import com.fasterxml.jackson.jr.ob.api.ReaderWriterModifier;
 import com.fasterxml.jackson.jr.ob.api.ValueReader;
 
 /**
@@ -61,8 +63,11 @@ public class JSONReader
 
     /**
      * Parser used by this reader instance.
+     *<p>
+     * NOTE: no longer final since 2.19, to allow reuse of per-operation
+     * instances via {@link #reset(JsonParser)}.
      */
-    protected final JsonParser _parser;
+    protected JsonParser _parser;
 
     /**
      * Minor performance optimization: {@code Object[1]} reused to avoid
@@ -72,6 +77,14 @@ public class JSONReader
      */
     protected final Object[] _setterBuffer;
 
+    /**
+     * Buffers used for reading primitive arrays, retained across reads
+     * by this (per-operation) instance; constructed lazily.
+     *
+     * @since 2.19
+     */
+    protected PrimitiveArrayBuffer _primitiveArrayBuffer;
+
     /*
     /**********************************************************************
     /* Blueprint construction
@@ -157,6 +170,30 @@ public class JSONReader
         return new JSONReader(this, features, loc, tc, p);
     }
 
+    /**
+     * Method for re-targeting this per-operation instance to read content
+     * using given parser (or, if {@code null}, to just release the parser
+     * used so far), so that it may be reused for another operation instead
+     * of constructing a new instance with {@link #perOperationInstance}.
+     * All other per-operation state (including caching done by
+     * {@link ValueReaderLocator}) is retained.
+     *<p>
+     * NOTE: as with per-operation instances in general, reuse is only safe
+     * for a single thread at a time.
+     *
+     * @return This instance, after resetting
+     *
+     * @since 2.19
+     */
+    public JSONReader reset(JsonParser p)
+    {
+        if (_readerLocator == null) { // sanity check
+            throw new IllegalStateException("Can not reset blueprint instance");
+        }
+        _parser = p;
+        return this;
+    }
+
     /*
     /**********************************************************************
     /* Simple accessors
@@ -184,6 +221,15 @@ public class JSONReader
         return _features;
     }
 
+    /**
+     * Accessor for {@link ReaderWriterModifier} configured, if any.
+     *
+     * @since 2.19
+     */
+    public ReaderWriterModifier readerWriterModifier() {
+        return (_readerLocator == null) ? null : _readerLocator.readerWriterModifier();
+    }
+
     /*
     /**********************************************************************
     /* Public entry points for reading Simple objects from JSON
@@ -302,8 +348,7 @@ public class JSONReader
             throw JSONObjectException.from(_parser,
                     "Can not read a List: expect to see START_ARRAY ('['), instead got: "+ValueReader._tokenDesc(_parser));
         }
-        return (List<T>) new CollectionReader(List.class, _readerLocator.findReader(type))
-                .read(this, _parser);
+        return (List<T>) _readerLocator.listOfReader(type).read(this, _parser);
     }
 
     /**
@@ -324,8 +369,25 @@ public class JSONReader
             throw JSONObjectException.from(_parser,
                     "Can not read a Map: expect to see START_OBJECT ('{'), instead got: "+ValueReader._tokenDesc(_parser));
         }
-        return (Map<String, T>) new MapReader(Map.class, _readerLocator.findReader(type))
-                .read(this, _parser);
+        return (Map<String, T>) _readerLocator.mapOfReader(type).read(this, _parser);
+    }
+
+    /**
+     * Method for reading a JSON Array of JSON Objects from input into
+     * {@link ColumnarData}, with a column for each property of given
+     * Bean type, but without constructing Bean instances.
+     * Note that if input does NOT contain a JSON Array, {@link JSONObjectException} will be thrown.
+     *
+     * @since 2.19
+     */
+    public ColumnarData readColumnsOf(Class<?> rowType) throws IOException
+    {
+        final ValueReader vr = _readerLocator.findReader(rowType);
+        if (!(vr instanceof BeanReader)) {
+            throw JSONObjectException.from(_parser,
+                    "Can not read columns of type %s: not a Bean type", rowType.getName());
+        }
+        return new ColumnarReader((BeanReader) vr).read(this, _parser);
     }
 
     /**
@@ -351,4 +413,14 @@ public class JSONReader
     protected CollectionBuilder _collectionBuilder(Class<?> collType) {
         return (collType == null) ? _collectionBuilder : _collectionBuilder.newBuilder(collType);
     }
+
+    /**
+     * @since 2.19
+     */
+    protected PrimitiveArrayBuffer _primitiveArrayBuffer() {
+        if (_primitiveArrayBuffer == null) {
+            _primitiveArrayBuffer = new PrimitiveArrayBuffer();
+        }
+        return _primitiveArrayBuffer;
+    }
 }
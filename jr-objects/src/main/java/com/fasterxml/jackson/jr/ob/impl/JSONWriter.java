@@ -10,6 +10,7 @@ import com.fasterxml.jackson.core.*;
 import com.fasterxml.jackson.core.io.SerializedString;
 import com.fasterxml.jackson.jr.ob.JSON;
 import com.fasterxml.jackson.jr.ob.JSONObjectException;
+import com.fasterxml.jackson.jr.ob.api.ReaderWriterModifier;
 import com.fasterxml.jackson.jr.ob.api.ValueWriter;
 
 import static com.fasterxml.jackson.jr.ob.impl.ValueWriterLocator.*;
@@ -50,7 +51,13 @@ public class JSONWriter
      */
     protected final ValueWriterLocator _writerLocator;
 
-    protected final JsonGenerator _generator;
+    /**
+     * Generator used by this writer instance.
+     *<p>
+     * NOTE: no longer final since 2.19, to allow reuse of per-operation
+     * instances via {@link #reset(JsonGenerator)}.
+     */
+    protected JsonGenerator _generator;
 
     protected final TimeZone _timezone;
 
@@ -127,6 +134,30 @@ public class JSONWriter
         return new JSONWriter(this, features, loc, tc, g);
     }
 
+    /**
+     * Method for re-targeting this per-operation instance to write content
+     * using given generator (or, if {@code null}, to just release the generator
+     * used so far), so that it may be reused for another operation instead
+     * of constructing a new instance with {@link #perOperationInstance}.
+     * All other per-operation state (including caching done by
+     * {@link ValueWriterLocator}) is retained.
+     *<p>
+     * NOTE: as with per-operation instances in general, reuse is only safe
+     * for a single thread at a time.
+     *
+     * @return This instance, after resetting
+     *
+     * @since 2.19
+     */
+    public JSONWriter reset(JsonGenerator g)
+    {
+        if (_writerLocator == null) { // sanity check
+            throw new IllegalStateException("Can not reset blueprint instance");
+        }
+        _generator = g;
+        return this;
+    }
+
     /*
     /**********************************************************************
     /* Simple accessors
@@ -147,6 +178,15 @@ public class JSONWriter
         return _features;
     }
 
+    /**
+     * Accessor for {@link ReaderWriterModifier} configured, if any.
+     *
+     * @since 2.19
+     */
+    public ReaderWriterModifier readerWriterModifier() {
+        return (_writerLocator == null) ? null : _writerLocator.readerWriterModifier();
+    }
+
     /*
     /**********************************************************************
     /* Public write methods
@@ -191,6 +231,15 @@ public class JSONWriter
         case SER_BOOLEAN_ARRAY:
             writeBooleanArrayField(fieldName, (boolean[]) value);
             return;
+        case SER_SHORT_ARRAY:
+            writeShortArrayField(fieldName, (short[]) value);
+            return;
+        case SER_FLOAT_ARRAY:
+            writeFloatArrayField(fieldName, (float[]) value);
+            return;
+        case SER_DOUBLE_ARRAY:
+            writeDoubleArrayField(fieldName, (double[]) value);
+            return;
         case SER_TREE_NODE:
             writeTreeNodeField(fieldName, (TreeNode) value);
             return;
@@ -319,6 +368,15 @@ public class JSONWriter
         case SER_BOOLEAN_ARRAY:
             writeBooleanArrayValue((boolean[]) value);
             return;
+        case SER_SHORT_ARRAY:
+            writeShortArrayValue((short[]) value);
+            return;
+        case SER_FLOAT_ARRAY:
+            writeFloatArrayValue((float[]) value);
+            return;
+        case SER_DOUBLE_ARRAY:
+            writeDoubleArrayValue((double[]) value);
+            return;
         case SER_TREE_NODE:
             writeTreeNodeValue((TreeNode) value);
             return;
@@ -517,11 +575,8 @@ public class JSONWriter
     }
 
     protected void writeIntArrayValue(int[] v) throws IOException {
-        _generator.writeStartArray();
-        for (int i = 0, len = v.length; i < len; ++i) {
-            _generator.writeNumber(v[i]);
-        }
-        _generator.writeEndArray();
+        // bulk write method, for generators that can optimize it
+        _generator.writeArray(v, 0, v.length);
     }
 
     protected void writeIntArrayField(String fieldName, int[] v) throws IOException {
@@ -530,11 +585,7 @@ public class JSONWriter
     }
 
     protected void writeLongArrayValue(long[] v) throws IOException {
-        _generator.writeStartArray();
-        for (int i = 0, len = v.length; i < len; ++i) {
-            _generator.writeNumber(v[i]);
-        }
-        _generator.writeEndArray();
+        _generator.writeArray(v, 0, v.length);
     }
 
     protected void writeLongArrayField(String fieldName, long[] v) throws IOException {
@@ -555,6 +606,59 @@ public class JSONWriter
         writeBooleanArrayValue(v);
     }
 
+    /**
+     * @since 2.19
+     */
+    protected void writeShortArrayValue(short[] v) throws IOException {
+        _generator.writeStartArray(v, v.length);
+        for (int i = 0, len = v.length; i < len; ++i) {
+            _generator.writeNumber(v[i]);
+        }
+        _generator.writeEndArray();
+    }
+
+    /**
+     * @since 2.19
+     */
+    protected void writeShortArrayField(String fieldName, short[] v) throws IOException {
+        _generator.writeFieldName(fieldName);
+        writeShortArrayValue(v);
+    }
+
+    /**
+     * @since 2.19
+     */
+    protected void writeFloatArrayValue(float[] v) throws IOException {
+        _generator.writeStartArray(v, v.length);
+        for (int i = 0, len = v.length; i < len; ++i) {
+            _generator.writeNumber(v[i]);
+        }
+        _generator.writeEndArray();
+    }
+
+    /**
+     * @since 2.19
+     */
+    protected void writeFloatArrayField(String fieldName, float[] v) throws IOException {
+        _generator.writeFieldName(fieldName);
+        writeFloatArrayValue(v);
+    }
+
+    /**
+     * @since 2.19
+     */
+    protected void writeDoubleArrayValue(double[] v) throws IOException {
+        _generator.writeArray(v, 0, v.length);
+    }
+
+    /**
+     * @since 2.19
+     */
+    protected void writeDoubleArrayField(String fieldName, double[] v) throws IOException {
+        _generator.writeFieldName(fieldName);
+        writeDoubleArrayValue(v);
+    }
+
     protected void writeTreeNodeValue(TreeNode v) throws IOException {
         if (_treeCodec == null) {
             throw new JSONObjectException("No `TreeCodec` configured: can not serialize `TreeNode` values");
@@ -722,6 +826,27 @@ public class JSONWriter
         for (int i = 0, end = props.length; i < end; ++i) {
             BeanPropertyWriter property = props[i];
             SerializedString name = property.name;
+            // Primitive-valued properties can be written without boxing
+            switch (property.scalarTypeId()) {
+            case 0:
+                break;
+            case SER_NUMBER_INTEGER:
+                _generator.writeFieldName(name);
+                writeIntValue(property.getIntFor(bean));
+                continue;
+            case SER_NUMBER_LONG:
+                _generator.writeFieldName(name);
+                writeLongValue(property.getLongFor(bean));
+                continue;
+            case SER_NUMBER_DOUBLE:
+                _generator.writeFieldName(name);
+                writeDoubleValue(property.getDoubleFor(bean));
+                continue;
+            case SER_BOOLEAN:
+                _generator.writeFieldName(name);
+                writeBooleanValue(property.getBooleanFor(bean));
+                continue;
+            }
             Object value = property.getValueFor(bean);
             if (value == null) {
                 if (_writeNullValues) {
@@ -0,0 +1,75 @@
+package com.fasterxml.jackson.jr.ob.impl;
+
+/**
+ * Helper methods for open-addressing hash indexes over arrays of
+ * {@code String} keys, shared by {@link MapShape} and {@link LazyMap}.
+ * Index is an {@code int[]} with power-of-two length, at least twice the
+ * number of keys; each slot contains position of a key plus one, or 0
+ * for empty slots. Collisions are resolved with linear probing.
+ *
+ * @since 2.19
+ */
+final class KeyIndex
+{
+    private KeyIndex() { }
+
+    /**
+     * Method for building index for first {@code size} entries of {@code keys}.
+     */
+    public static int[] build(String[] keys, int size) {
+        // power of two, at least twice the size, to keep probe sequences short
+        final int[] index = new int[Integer.highestOneBit(Math.max(size, 2) - 1) << 2];
+        for (int i = 0; i < size; ++i) {
+            insert(index, keys, i);
+        }
+        return index;
+    }
+
+    /**
+     * Method called after a key has been appended (as entry {@code size - 1})
+     * to {@code keys}, to either add it to given index or, if index would become
+     * more than half full, build a bigger one.
+     *
+     * @return Index to use (either {@code index} or a new one)
+     */
+    public static int[] append(String[] keys, int size, int[] index) {
+        if ((size << 1) > index.length) {
+            return build(keys, size);
+        }
+        insert(index, keys, size - 1);
+        return index;
+    }
+
+    /**
+     * @return Position of given key in {@code keys}, if included in index; -1 if not
+     */
+    public static int find(String[] keys, int[] index, Object key) {
+        final int mask = index.length - 1;
+        int slot = mix(key.hashCode()) & mask;
+        int ix;
+        while ((ix = index[slot]) != 0) {
+            final String k = keys[ix - 1];
+            // keys from parser are usually canonicalized, so identity check first
+            if ((k == key) || k.equals(key)) {
+                return ix - 1;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    private static void insert(int[] index, String[] keys, int pos) {
+        final int mask = index.length - 1;
+        int slot = mix(keys[pos].hashCode()) & mask;
+        while (index[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        index[slot] = pos + 1;
+    }
+
+    private static int mix(int hash) {
+        // similar keys ("field1", "field2") have consecutive hash codes
+        final int h = hash * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
@@ -0,0 +1,249 @@
+package com.fasterxml.jackson.jr.ob.impl;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.jr.ob.JSON;
+import com.fasterxml.jackson.jr.ob.JSONObjectException;
+import com.fasterxml.jackson.jr.ob.api.ValueReader;
+
+/**
+ * Helper object used for reading JSON content from a {@code byte[]} into
+ * lazily decoded {@link java.util.Map} ({@link LazyMap}) and {@link java.util.List}
+ * ({@link LazyList}) views (see {@link JSON.Feature#USE_LAZY_MAPS}).
+ * Reading only indexes JSON Objects and Arrays at the root level: keys and
+ * offsets of values within input are stored, and values (including nested
+ * Objects and Arrays, which are indexed the same way) are only decoded
+ * when accessed. Content must be UTF-8 encoded, since values are located
+ * by byte offsets reported by parser.
+ *<p>
+ * Instances are shared by all views of a single document and retain both
+ * the input (which must not be modified by caller afterwards) and
+ * a dedicated per-operation {@link JSONReader} used for decoding values;
+ * like views themselves, instances are not thread-safe.
+ *
+ * @since 2.19
+ */
+public class LazyContent
+{
+    protected final JsonFactory _jsonFactory;
+
+    protected final byte[] _data;
+
+    /**
+     * Per-operation reader used only for decoding values of this content
+     */
+    protected final JSONReader _reader;
+
+    protected final boolean _ordered;
+
+    protected final boolean _failOnDups;
+
+    public LazyContent(JsonFactory f, byte[] data, JSONReader r) {
+        _jsonFactory = f;
+        _data = data;
+        _reader = r;
+        _ordered = r.isEnabled(JSON.Feature.PRESERVE_FIELD_ORDERING);
+        _failOnDups = r.isEnabled(JSON.Feature.FAIL_ON_DUPLICATE_MAP_KEYS);
+    }
+
+    /*
+    /**********************************************************************
+    /* Public API
+    /**********************************************************************
+     */
+
+    /**
+     * Method for reading a JSON Object as a {@link LazyMap}, starting with
+     * parser (constructed for the whole input) pointing to the START_OBJECT
+     * token (or {@code null} token, in which case {@code null} is returned).
+     */
+    public Map<String, Object> readMap(JsonParser p) throws IOException
+    {
+        JsonToken t = p.currentToken();
+        if (t == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (t != JsonToken.START_OBJECT) {
+            throw JSONObjectException.from(p,
+                    "Can not read a Map: expect to see START_OBJECT ('{'), instead got: "+ValueReader._tokenDesc(p));
+        }
+        return _indexObject(p, 0);
+    }
+
+    /**
+     * Method for reading any JSON value, starting with parser (constructed
+     * for the whole input) pointing to its first token: JSON Objects are read
+     * as {@link LazyMap}s and JSON Arrays (unless read as Java arrays)
+     * as {@link LazyList}s; scalar values are decoded as usual.
+     */
+    public Object readValue(JsonParser p) throws IOException
+    {
+        return _read(p, 0);
+    }
+
+    /*
+    /**********************************************************************
+    /* Internal methods for views
+    /**********************************************************************
+     */
+
+    /**
+     * Method called by views to decode value at given offset of input.
+     */
+    protected Object _decode(int offset) throws IOException
+    {
+        final byte[] data = _data;
+        // Common simple cases handled without constructing a parser
+        // (input is known to be valid, having been parsed when indexing)
+        switch (data[offset]) {
+        case '"':
+            for (int i = offset + 1; ; ++i) {
+                final byte b = data[i];
+                if (b == '"') {
+                    return new String(data, offset + 1, i - offset - 1, StandardCharsets.UTF_8);
+                }
+                if (b == '\\') { // escapes need decoding
+                    break;
+                }
+            }
+            break;
+        case 't':
+            return Boolean.TRUE;
+        case 'f':
+            return Boolean.FALSE;
+        case 'n':
+            return null;
+        default:
+            final int value = _decodeSmallInt(data, offset);
+            if (value != Integer.MIN_VALUE) {
+                return Integer.valueOf(value);
+            }
+        }
+        int end = data.length;
+        // Numbers are only accepted at root level if followed by white space
+        // (or end-of-input), so need to limit input to the number itself
+        if (_isNumberChar(data[offset])) {
+            end = offset + 1;
+            while ((end < data.length) && _isNumberChar(data[end])) {
+                ++end;
+            }
+        }
+        try (JsonParser p = _jsonFactory.createParser(data, offset, end - offset)) {
+            p.nextToken();
+            return _read(p, offset);
+        }
+    }
+
+    /**
+     * @param base Offset of the start of parser input within {@link #_data}
+     */
+    protected Object _read(JsonParser p, int base) throws IOException
+    {
+        final JsonToken t = p.currentToken();
+        if (t == JsonToken.START_OBJECT) {
+            return _indexObject(p, base);
+        }
+        if ((t == JsonToken.START_ARRAY) && _reader.arraysAsLists()) {
+            return _indexArray(p, base);
+        }
+        try {
+            return _reader.reset(p).readValue();
+        } finally {
+            _reader.reset(null);
+        }
+    }
+
+    /**
+     * @return Value of JSON integer number (with at most 9 digits) at given
+     *    offset, if there is one; {@code Integer.MIN_VALUE} if not
+     */
+    private static int _decodeSmallInt(byte[] data, int offset) {
+        final boolean neg = (data[offset] == '-');
+        int i = neg ? (offset + 1) : offset;
+        final int start = i;
+        int value = 0;
+        for (final int end = Math.min(data.length, start + 10); i < end; ++i) {
+            final int digit = data[i] - '0';
+            if ((digit < 0) || (digit > 9)) {
+                break;
+            }
+            value = (value * 10) + digit;
+        }
+        if ((i == start) || ((i - start) > 9)
+                || ((i < data.length) && _isNumberChar(data[i]))) { // fraction, exponent
+            return Integer.MIN_VALUE;
+        }
+        return neg ? -value : value;
+    }
+
+    private static boolean _isNumberChar(byte b) {
+        return ((b >= '0') && (b <= '9'))
+                || (b == '-') || (b == '+') || (b == '.') || (b == 'e') || (b == 'E');
+    }
+
+    protected LazyMap _indexObject(JsonParser p, int base) throws IOException
+    {
+        String[] keys = new String[4];
+        int[] offsets = new int[4];
+        int[] index = null;
+        int size = 0;
+        String key;
+
+        while ((key = p.nextFieldName()) != null) {
+            p.nextToken();
+            final int offset = base + (int) p.currentTokenLocation().getByteOffset();
+            p.skipChildren();
+            final int ix = LazyMap._find(keys, size, index, key);
+            if (ix >= 0) {
+                if (_failOnDups) {
+                    throw JSONObjectException.from(p, "Duplicate key (key '"+key+"')");
+                }
+                // as with regular Maps, last value wins
+                offsets[ix] = offset;
+                continue;
+            }
+            if (size == keys.length) {
+                keys = Arrays.copyOf(keys, size << 1);
+                offsets = Arrays.copyOf(offsets, size << 1);
+            }
+            keys[size] = key;
+            offsets[size] = offset;
+            ++size;
+            index = LazyMap._indexed(keys, size, index);
+        }
+        if (!p.hasToken(JsonToken.END_OBJECT)) {
+            throw JSONObjectException.from(p,
+                    "Unexpected token: %s (should get FIELD_NAME or END_OBJECT)", ValueReader._tokenDesc(p));
+        }
+        if (size < keys.length) {
+            keys = Arrays.copyOf(keys, size);
+            offsets = Arrays.copyOf(offsets, size);
+        }
+        return new LazyMap(this, keys, offsets, index, _ordered);
+    }
+
+    protected LazyList _indexArray(JsonParser p, int base) throws IOException
+    {
+        int[] offsets = new int[8];
+        int size = 0;
+        JsonToken t;
+
+        while ((t = p.nextToken()) != JsonToken.END_ARRAY) {
+            if (t == null) {
+                throw JSONObjectException.from(p, "Unexpected end-of-input: expected a value or END_ARRAY");
+            }
+            if (size == offsets.length) {
+                offsets = Arrays.copyOf(offsets, size << 1);
+            }
+            offsets[size++] = base + (int) p.currentTokenLocation().getByteOffset();
+            p.skipChildren();
+        }
+        return new LazyList(this, Arrays.copyOf(offsets, size));
+    }
+}
@@ -0,0 +1,147 @@
+package com.fasterxml.jackson.jr.ob.impl;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.*;
+
+/**
+ * {@link java.util.List} view of a JSON Array read by {@link LazyContent}:
+ * only offsets of elements within input are stored when reading, and
+ * elements are decoded (and cached) on first access. Nested JSON Objects
+ * and Arrays are decoded as further lazy views.
+ *<p>
+ * Replacing elements is supported as is; adding or removing elements
+ * decodes all remaining elements and switches to a regular {@link ArrayList}.
+ * Since decoding may occur on any access, failures are reported as
+ * {@link UncheckedIOException}s. Instances are not thread-safe.
+ *
+ * @since 2.19
+ */
+public class LazyList extends AbstractList<Object>
+    implements RandomAccess
+{
+    private final LazyContent _content;
+
+    /**
+     * Offsets of elements within input; {@code -1} for elements already
+     * decoded (into {@link #_values}).
+     */
+    private int[] _offsets;
+
+    /**
+     * Decoded elements; allocated on first access.
+     */
+    private Object[] _values;
+
+    /**
+     * Regular List into which elements are copied if elements are added or removed
+     */
+    private List<Object> _list;
+
+    protected LazyList(LazyContent content, int[] offsets) {
+        _content = content;
+        _offsets = offsets;
+    }
+
+    /*
+    /**********************************************************************
+    /* List implementation
+    /**********************************************************************
+     */
+
+    @Override
+    public int size() {
+        return (_list == null) ? _offsets.length : _list.size();
+    }
+
+    @Override
+    public Object get(int index) {
+        if (_list != null) {
+            return _list.get(index);
+        }
+        _checkIndex(index);
+        return _value(index);
+    }
+
+    @Override
+    public Object set(int index, Object value) {
+        if (_list != null) {
+            return _list.set(index, value);
+        }
+        _checkIndex(index);
+        final Object old = _value(index);
+        _values[index] = value;
+        return old;
+    }
+
+    @Override
+    public void add(int index, Object value) {
+        _materialize().add(index, value);
+        ++modCount;
+    }
+
+    @Override
+    public Object remove(int index) {
+        final Object old = _materialize().remove(index);
+        ++modCount;
+        return old;
+    }
+
+    @Override
+    public void clear() {
+        _list = new ArrayList<>();
+        _offsets = null;
+        _values = null;
+        ++modCount;
+    }
+
+    /**
+     * Accessor for checking whether element at given index has been decoded
+     * (or List materialized); mostly useful for testing.
+     */
+    public boolean isDecoded(int index) {
+        return (_list != null) || (_offsets[index] < 0);
+    }
+
+    /*
+    /**********************************************************************
+    /* Internal methods
+    /**********************************************************************
+     */
+
+    private void _checkIndex(int index) {
+        if ((index < 0) || (index >= _offsets.length)) {
+            throw new IndexOutOfBoundsException("Index: "+index+", Size: "+_offsets.length);
+        }
+    }
+
+    protected Object _value(int index) {
+        if (_values == null) {
+            _values = new Object[_offsets.length];
+        }
+        final int offset = _offsets[index];
+        if (offset >= 0) {
+            try {
+                _values[index] = _content._decode(offset);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e.getMessage(), e);
+            }
+            _offsets[index] = -1;
+        }
+        return _values[index];
+    }
+
+    protected List<Object> _materialize() {
+        if (_list == null) {
+            final int size = _offsets.length;
+            final List<Object> list = new ArrayList<>(size + 4);
+            for (int i = 0; i < size; ++i) {
+                list.add(_value(i));
+            }
+            _list = list;
+            _offsets = null;
+            _values = null;
+        }
+        return _list;
+    }
+}
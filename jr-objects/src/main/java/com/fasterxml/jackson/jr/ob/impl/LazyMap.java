@@ -0,0 +1,353 @@
+package com.fasterxml.jackson.jr.ob.impl;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.*;
+
+/**
+ * {@link java.util.Map} view of a JSON Object read by {@link LazyContent}:
+ * only keys and offsets of values within input are stored when reading,
+ * and values are decoded (and cached) on first access. Nested JSON Objects
+ * and Arrays are decoded as further lazy views.
+ *<p>
+ * Replacing values of existing keys is supported as is; adding or removing
+ * keys decodes all remaining values and switches to a regular
+ * {@link java.util.Map}, similar to {@link DeferredMap}.
+ * Since decoding may occur on any access, failures are reported as
+ * {@link UncheckedIOException}s. Instances are not thread-safe.
+ *
+ * @since 2.19
+ */
+public class LazyMap extends AbstractMap<String, Object>
+{
+    /**
+     * Maximum number of keys for which no hash index is built; lookups
+     * use linear search instead.
+     */
+    private final static int MAX_LINEAR_KEYS = 8;
+
+    private final LazyContent _content;
+
+    private final boolean _ordered;
+
+    private String[] _keys;
+
+    /**
+     * Offsets of values within input; {@code -1} for values already decoded
+     * (into {@link #_values}).
+     */
+    private int[] _offsets;
+
+    /**
+     * Decoded values; allocated on first access.
+     */
+    private Object[] _values;
+
+    /**
+     * Hash index for keys (positions plus one; 0 for empty slots), if Map
+     * has more than {@link #MAX_LINEAR_KEYS} keys.
+     */
+    private final int[] _index;
+
+    /**
+     * Regular Map into which entries are copied if keys are added or removed
+     */
+    private Map<String, Object> _map;
+
+    protected LazyMap(LazyContent content, String[] keys, int[] offsets, int[] index,
+            boolean ordered)
+    {
+        _content = content;
+        _keys = keys;
+        _offsets = offsets;
+        _index = index;
+        _ordered = ordered;
+    }
+
+    /*
+    /**********************************************************************
+    /* Map implementation
+    /**********************************************************************
+     */
+
+    @Override
+    public int size() {
+        return (_map == null) ? _keys.length : _map.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return (_map == null) ? (_keys.length == 0) : _map.isEmpty();
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        if (_map != null) {
+            return _map.containsKey(key);
+        }
+        return _indexOf(key) >= 0;
+    }
+
+    @Override
+    public Object get(Object key) {
+        if (_map != null) {
+            return _map.get(key);
+        }
+        final int ix = _indexOf(key);
+        return (ix < 0) ? null : _value(ix);
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        if (_map == null) {
+            final int ix = _indexOf(key);
+            if (ix >= 0) {
+                final Object old = _value(ix);
+                _values[ix] = value;
+                return old;
+            }
+            _materialize();
+        }
+        return _map.put(key, value);
+    }
+
+    @Override
+    public Object remove(Object key) {
+        if (_map == null) {
+            if (_indexOf(key) < 0) {
+                return null;
+            }
+            _materialize();
+        }
+        return _map.remove(key);
+    }
+
+    @Override
+    public void clear() {
+        _map = _buildMap(4);
+        _keys = null;
+        _offsets = null;
+        _values = null;
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        if (_map != null) {
+            return _map.entrySet();
+        }
+        return new LazyEntrySet();
+    }
+
+    /**
+     * Accessor for checking whether value for given key has been decoded
+     * (or Map materialized); mostly useful for testing.
+     */
+    public boolean isDecoded(String key) {
+        if (_map != null) {
+            return true;
+        }
+        final int ix = _indexOf(key);
+        return (ix >= 0) && (_offsets[ix] < 0);
+    }
+
+    /*
+    /**********************************************************************
+    /* Internal methods
+    /**********************************************************************
+     */
+
+    protected int _indexOf(Object key) {
+        if (!(key instanceof String)) {
+            return -1;
+        }
+        return _find(_keys, _keys.length, _index, (String) key);
+    }
+
+    protected Object _value(int ix) {
+        if (_values == null) {
+            _values = new Object[_keys.length];
+        }
+        final int offset = _offsets[ix];
+        if (offset >= 0) {
+            try {
+                _values[ix] = _content._decode(offset);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e.getMessage(), e);
+            }
+            _offsets[ix] = -1;
+        }
+        return _values[ix];
+    }
+
+    protected void _materialize() {
+        final String[] keys = _keys;
+        final Map<String, Object> map = _buildMap(keys.length + 1);
+        for (int i = 0; i < keys.length; ++i) {
+            map.put(keys[i], _value(i));
+        }
+        _map = map;
+        _keys = null;
+        _offsets = null;
+        _values = null;
+    }
+
+    protected Map<String, Object> _buildMap(int expSize) {
+        final int size = Math.max(4, expSize + (expSize / 3));
+        if (_ordered) {
+            return new LinkedHashMap<String, Object>(size);
+        }
+        return new HashMap<String, Object>(size);
+    }
+
+    /*
+    /**********************************************************************
+    /* Key lookup helpers, also used by LazyContent when indexing
+    /**********************************************************************
+     */
+
+    /**
+     * @return Position of given key within first {@code size} entries of
+     *    {@code keys}, if included; -1 if not
+     */
+    static int _find(String[] keys, int size, int[] index, String key) {
+        if (index == null) {
+            for (int i = 0; i < size; ++i) {
+                final String k = keys[i];
+                // keys from parser are usually canonicalized, so identity check first
+                if ((k == key) || k.equals(key)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+        return KeyIndex.find(keys, index, key);
+    }
+
+    /**
+     * Method called after a key has been appended to {@code keys}, to update
+     * (or, if necessary, build) hash index
+     *
+     * @return Index to use; {@code null} if none needed (yet)
+     */
+    static int[] _indexed(String[] keys, int size, int[] index) {
+        if (size <= MAX_LINEAR_KEYS) {
+            return null;
+        }
+        if (index == null) {
+            return KeyIndex.build(keys, size);
+        }
+        return KeyIndex.append(keys, size, index);
+    }
+
+    /*
+    /**********************************************************************
+    /* Helper classes
+    /**********************************************************************
+     */
+
+    /**
+     * View of entries of a Map not yet materialized: values are only decoded
+     * when accessed through entries. Modifications through entries and
+     * iterator are applied to the Map (materializing it, if necessary).
+     */
+    private final class LazyEntrySet extends AbstractSet<Entry<String, Object>>
+    {
+        @Override
+        public int size() {
+            return LazyMap.this.size();
+        }
+
+        @Override
+        public Iterator<Entry<String, Object>> iterator() {
+            if (_map != null) { // materialized since view was created
+                return _map.entrySet().iterator();
+            }
+            return new LazyIterator(_keys);
+        }
+
+        @Override
+        public void clear() {
+            LazyMap.this.clear();
+        }
+    }
+
+    private final class LazyIterator implements Iterator<Entry<String, Object>>
+    {
+        private final String[] _iterKeys;
+        private int _next;
+        private int _last = -1;
+
+        LazyIterator(String[] keys) {
+            _iterKeys = keys;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return _next < _iterKeys.length;
+        }
+
+        @Override
+        public Entry<String, Object> next() {
+            if (_next >= _iterKeys.length) {
+                throw new NoSuchElementException();
+            }
+            _last = _next++;
+            return new LazyEntry(_iterKeys, _last);
+        }
+
+        @Override
+        public void remove() {
+            if (_last < 0) {
+                throw new IllegalStateException();
+            }
+            LazyMap.this.remove(_iterKeys[_last]);
+            _last = -1;
+        }
+    }
+
+    private final class LazyEntry implements Entry<String, Object>
+    {
+        private final String[] _entryKeys;
+        private final int _index;
+
+        LazyEntry(String[] keys, int index) {
+            _entryKeys = keys;
+            _index = index;
+        }
+
+        @Override
+        public String getKey() {
+            return _entryKeys[_index];
+        }
+
+        @Override
+        public Object getValue() {
+            // positions no longer valid if Map has been materialized
+            return (_keys == _entryKeys) ? _value(_index) : get(getKey());
+        }
+
+        @Override
+        public Object setValue(Object value) {
+            return put(getKey(), value);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Entry<?,?>)) {
+                return false;
+            }
+            Entry<?,?> other = (Entry<?,?>) o;
+            return getKey().equals(other.getKey()) && Objects.equals(getValue(), other.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return getKey().hashCode() ^ Objects.hashCode(getValue());
+        }
+
+        @Override
+        public String toString() {
+            return getKey()+"="+getValue();
+        }
+    }
+}
@@ -0,0 +1,292 @@
+package com.fasterxml.jackson.jr.ob.impl;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+import com.fasterxml.jackson.jr.ob.ValueIterator;
+
+/**
+ * {@link Spliterator} for reading values from line-delimited JSON content
+ * (like NDJSON, "JSON Lines"), stored in a file or {@link ByteBuffer}, in
+ * parallel: content is split into chunks on linefeed boundaries, and each
+ * chunk is read using its own {@link ValueIterator} (opened using
+ * {@link ChunkOpener}). Splitting is done by stream framework as necessary
+ * (typically for parallel streams using {@link java.util.concurrent.ForkJoinPool}),
+ * but never into chunks smaller than configured minimum size.
+ *<p>
+ * NOTE: since content is only split on linefeeds, each value must be contained
+ * on a single line (but lines may contain more than one value).
+ *
+ * @since 2.19
+ */
+public class LineDelimitedSpliterator<T> implements Spliterator<T>
+{
+    /**
+     * Default minimum size of chunks to split content to: 256 kB
+     */
+    public final static int DEFAULT_MIN_CHUNK_SIZE = 256 * 1024;
+
+    /**
+     * Size of buffer used for finding linefeeds
+     */
+    private final static int SCAN_BUFFER_SIZE = 4000;
+
+    /**
+     * Interface for objects used for constructing {@link ValueIterator}s
+     * for reading chunks of content.
+     */
+    public interface ChunkOpener<T> {
+        public ValueIterator<T> open(InputStream in) throws IOException;
+    }
+
+    /**
+     * Interface for random-access content sources; needs to be safe
+     * for concurrent access.
+     */
+    public interface Content {
+        public long length() throws IOException;
+
+        /**
+         * @return Number of bytes read (at least 1), or -1 if offset is at
+         *    or beyond end of content.
+         */
+        public int read(long offset, byte[] buffer, int off, int len) throws IOException;
+    }
+
+    protected final Content _content;
+
+    protected final ChunkOpener<T> _opener;
+
+    protected final int _minChunkSize;
+
+    protected final int _characteristics;
+
+    /**
+     * Start offset of the range this spliterator has yet to read
+     */
+    protected long _start;
+
+    /**
+     * End offset (exclusive) of the range this spliterator covers
+     */
+    protected final long _end;
+
+    /**
+     * Iterator for reading the range, once reading has started
+     */
+    protected ValueIterator<T> _iterator;
+
+    public LineDelimitedSpliterator(Content content, ChunkOpener<T> opener,
+            int minChunkSize, boolean ordered)
+        throws IOException
+    {
+        if (minChunkSize < 1) {
+            throw new IllegalArgumentException("Minimum chunk size must be positive, was "+minChunkSize);
+        }
+        _content = content;
+        _opener = opener;
+        _minChunkSize = minChunkSize;
+        _characteristics = ordered ? ORDERED : 0;
+        _start = 0L;
+        _end = content.length();
+    }
+
+    protected LineDelimitedSpliterator(LineDelimitedSpliterator<T> base,
+            long start, long end)
+    {
+        _content = base._content;
+        _opener = base._opener;
+        _minChunkSize = base._minChunkSize;
+        _characteristics = base._characteristics;
+        _start = start;
+        _end = end;
+    }
+
+    /*
+    /**********************************************************************
+    /* Factory methods for content
+    /**********************************************************************
+     */
+
+    public static Content content(final FileChannel channel) {
+        return new Content() {
+            @Override
+            public long length() throws IOException {
+                return channel.size();
+            }
+
+            @Override
+            public int read(long offset, byte[] buffer, int off, int len) throws IOException {
+                // positional reads are safe for concurrent access
+                return channel.read(ByteBuffer.wrap(buffer, off, len), offset);
+            }
+        };
+    }
+
+    public static Content content(final ByteBuffer buffer) {
+        final ByteBuffer base = buffer.slice();
+        return new Content() {
+            @Override
+            public long length() {
+                return base.remaining();
+            }
+
+            @Override
+            public int read(long offset, byte[] b, int off, int len) {
+                if (offset >= base.limit()) {
+                    return -1;
+                }
+                // need to duplicate since positions are not thread-safe
+                ByteBuffer bb = base.duplicate();
+                bb.position((int) offset);
+                len = Math.min(len, bb.remaining());
+                bb.get(b, off, len);
+                return len;
+            }
+        };
+    }
+
+    /*
+    /**********************************************************************
+    /* Spliterator implementation
+    /**********************************************************************
+     */
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action)
+    {
+        try {
+            if (_iterator == null) {
+                if (_start >= _end) {
+                    return false;
+                }
+                _iterator = _opener.open(new RangeInputStream(_content, _start, _end));
+            }
+            if (!_iterator.hasNextValue()) {
+                _iterator.close();
+                _start = _end;
+                return false;
+            }
+            action.accept(_iterator.nextValue());
+            return true;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public Spliterator<T> trySplit()
+    {
+        // can not split once reading has started
+        if ((_iterator != null) || ((_end - _start) < (2L * _minChunkSize))) {
+            return null;
+        }
+        final long split;
+        try {
+            split = _findLineStart(_start + (_end - _start) / 2);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e.getMessage(), e);
+        }
+        if (split >= _end) {
+            return null;
+        }
+        // Must return prefix, to retain encounter order
+        LineDelimitedSpliterator<T> prefix = new LineDelimitedSpliterator<T>(this, _start, split);
+        _start = split;
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        // Not known; length in bytes is the best estimate we have
+        return _end - _start;
+    }
+
+    @Override
+    public int characteristics() {
+        return _characteristics;
+    }
+
+    /*
+    /**********************************************************************
+    /* Internal methods
+    /**********************************************************************
+     */
+
+    /**
+     * @return Offset of the first byte following the first linefeed at or
+     *    after given offset; or end offset if there is no such linefeed
+     */
+    protected long _findLineStart(long offset) throws IOException
+    {
+        final byte[] buffer = new byte[SCAN_BUFFER_SIZE];
+        while (offset < _end) {
+            int count = _content.read(offset, buffer, 0,
+                    (int) Math.min(buffer.length, _end - offset));
+            if (count < 0) {
+                break;
+            }
+            for (int i = 0; i < count; ++i) {
+                if (buffer[i] == '\n') {
+                    return offset + i + 1;
+                }
+            }
+            offset += count;
+        }
+        return _end;
+    }
+
+    /**
+     * {@link InputStream} for reading a range of {@link Content}.
+     */
+    protected static class RangeInputStream extends InputStream
+    {
+        protected final Content _content;
+
+        protected final long _end;
+
+        protected long _offset;
+
+        public RangeInputStream(Content content, long start, long end) {
+            _content = content;
+            _offset = start;
+            _end = end;
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] b = new byte[1];
+            return (read(b, 0, 1) < 0) ? -1 : (b[0] & 0xFF);
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException
+        {
+            if (len == 0) {
+                return 0;
+            }
+            if (_offset >= _end) {
+                return -1;
+            }
+            int count;
+            // should not get 0 (parser would fail), but just in case
+            do {
+                count = _content.read(_offset, b, off, (int) Math.min(len, _end - _offset));
+            } while (count == 0);
+            if (count > 0) {
+                _offset += count;
+            }
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return (int) Math.min(Integer.MAX_VALUE, _end - _offset);
+        }
+    }
+}
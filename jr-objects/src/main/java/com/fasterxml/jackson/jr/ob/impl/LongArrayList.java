@@ -0,0 +1,214 @@
+package com.fasterxml.jackson.jr.ob.impl;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.RandomAccess;
+
+/**
+ * Compact {@link java.util.List} implementation for {@link Long} values,
+ * backed by a {@code long[]}: values are only boxed when accessed using
+ * {@link java.util.List} methods, and accessors like {@link #getLong(int)}
+ * can be used to avoid boxing altogether.
+ * Does not allow {@code null} values.
+ *<p>
+ * Instances are produced when reading {@code List<Long>} values if
+ * {@link com.fasterxml.jackson.jr.ob.PrimitiveCollectionsExtension} is registered.
+ *
+ * @since 2.19
+ */
+public class LongArrayList extends AbstractList<Long>
+    implements RandomAccess
+{
+    private final static long[] NO_VALUES = new long[0];
+
+    protected long[] _values;
+
+    protected int _size;
+
+    public LongArrayList() {
+        _values = NO_VALUES;
+    }
+
+    public LongArrayList(int initialCapacity) {
+        _values = (initialCapacity == 0) ? NO_VALUES : new long[initialCapacity];
+    }
+
+    /**
+     * Constructor for a list that contains copy of given values.
+     */
+    public LongArrayList(long[] values) {
+        this(values, values.length);
+    }
+
+    /**
+     * Constructor for a list that contains copy of first {@code size} values
+     * of given array.
+     */
+    public LongArrayList(long[] values, int size) {
+        _values = Arrays.copyOf(values, size);
+        _size = size;
+    }
+
+    /*
+    /**********************************************************************
+    /* Unboxed access
+    /**********************************************************************
+     */
+
+    public long getLong(int index) {
+        _checkIndex(index);
+        return _values[index];
+    }
+
+    public long setLong(int index, long value) {
+        _checkIndex(index);
+        long old = _values[index];
+        _values[index] = value;
+        return old;
+    }
+
+    public void addLong(long value) {
+        if (_size == _values.length) {
+            _grow(_size + 1);
+        }
+        _values[_size++] = value;
+        ++modCount;
+    }
+
+    public long[] toLongArray() {
+        return Arrays.copyOf(_values, _size);
+    }
+
+    /**
+     * Method for reducing capacity of the backing array to match size of the list.
+     */
+    public void trimToSize() {
+        if (_values.length > _size) {
+            _values = (_size == 0) ? NO_VALUES : Arrays.copyOf(_values, _size);
+        }
+    }
+
+    /*
+    /**********************************************************************
+    /* List implementation
+    /**********************************************************************
+     */
+
+    @Override
+    public int size() {
+        return _size;
+    }
+
+    @Override
+    public Long get(int index) {
+        return getLong(index);
+    }
+
+    @Override
+    public Long set(int index, Long value) {
+        return setLong(index, value.longValue());
+    }
+
+    @Override
+    public boolean add(Long value) {
+        addLong(value.longValue());
+        return true;
+    }
+
+    @Override
+    public void add(int index, Long value) {
+        if ((index < 0) || (index > _size)) {
+            throw new IndexOutOfBoundsException("Index: "+index+", Size: "+_size);
+        }
+        final long v = value.longValue();
+        if (_size == _values.length) {
+            _grow(_size + 1);
+        }
+        System.arraycopy(_values, index, _values, index + 1, _size - index);
+        _values[index] = v;
+        ++_size;
+        ++modCount;
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends Long> c) {
+        final int count = c.size();
+        if (count == 0) {
+            return false;
+        }
+        if (_size + count > _values.length) {
+            _grow(_size + count);
+        }
+        for (Long value : c) {
+            _values[_size++] = value.longValue();
+        }
+        ++modCount;
+        return true;
+    }
+
+    @Override
+    public Long remove(int index) {
+        _checkIndex(index);
+        long old = _values[index];
+        System.arraycopy(_values, index + 1, _values, index, _size - index - 1);
+        --_size;
+        ++modCount;
+        return old;
+    }
+
+    @Override
+    public void clear() {
+        _size = 0;
+        ++modCount;
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        if (o instanceof Long) {
+            final long v = ((Long) o).longValue();
+            for (int i = 0; i < _size; ++i) {
+                if (_values[i] == v) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int lastIndexOf(Object o) {
+        if (o instanceof Long) {
+            final long v = ((Long) o).longValue();
+            for (int i = _size; --i >= 0; ) {
+                if (_values[i] == v) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) >= 0;
+    }
+
+    /*
+    /**********************************************************************
+    /* Internal methods
+    /**********************************************************************
+     */
+
+    private void _checkIndex(int index) {
+        if ((index < 0) || (index >= _size)) {
+            throw new IndexOutOfBoundsException("Index: "+index+", Size: "+_size);
+        }
+    }
+
+    private void _grow(int minCapacity) {
+        final int len = _values.length;
+        _values = Arrays.copyOf(_values, Math.max(minCapacity,
+                (len < 1000) ? Math.max(len << 1, 8) : (len + (len >> 1))));
+    }
+}
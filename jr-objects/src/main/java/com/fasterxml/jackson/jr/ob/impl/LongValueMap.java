@@ -0,0 +1,103 @@
+package com.fasterxml.jackson.jr.ob.impl;
+
+import java.util.Arrays;
+
+/**
+ * Compact {@link java.util.Map} implementation with {@link String} keys and
+ * {@link Long} values, backed by a {@code long[]}: values are only boxed
+ * when accessed using {@link java.util.Map} methods, and accessors like
+ * {@link #getLong(String, long)} can be used to avoid boxing altogether.
+ * Entries are kept in insertion order.
+ *<p>
+ * Instances are produced when reading {@code Map<String,Long>} values if
+ * {@link com.fasterxml.jackson.jr.ob.PrimitiveCollectionsExtension} is registered.
+ *
+ * @since 2.19
+ */
+public class LongValueMap extends PrimitiveValueMap<Long>
+{
+    private final static long[] NO_VALUES = new long[0];
+
+    protected long[] _values;
+
+    public LongValueMap() {
+        this(0);
+    }
+
+    public LongValueMap(int initialCapacity) {
+        super(initialCapacity);
+        _values = (initialCapacity == 0) ? NO_VALUES : new long[initialCapacity];
+    }
+
+    /*
+    /**********************************************************************
+    /* Unboxed access
+    /**********************************************************************
+     */
+
+    /**
+     * @return Value for given key, if any; {@code defaultValue} if none
+     */
+    public long getLong(String key, long defaultValue) {
+        final int pos = _find(key);
+        return (pos < 0) ? defaultValue : _values[pos];
+    }
+
+    public void putLong(String key, long value) {
+        int pos = _find(key);
+        if (pos < 0) {
+            pos = _append(key);
+        }
+        _values[pos] = value;
+    }
+
+    /**
+     * Accessor for key of entry at given position (in insertion order)
+     */
+    public String keyAt(int index) {
+        _checkIndex(index);
+        return _keys[index];
+    }
+
+    /**
+     * Accessor for value of entry at given position (in insertion order)
+     */
+    public long longAt(int index) {
+        _checkIndex(index);
+        return _values[index];
+    }
+
+    /*
+    /**********************************************************************
+    /* Value storage
+    /**********************************************************************
+     */
+
+    @Override
+    protected Long _valueAt(int pos) {
+        return _values[pos];
+    }
+
+    @Override
+    protected Long _setValueAt(int pos, Long value, boolean existing) {
+        final Long old = existing ? _values[pos] : null;
+        _values[pos] = value.longValue();
+        return old;
+    }
+
+    @Override
+    protected void _resizeValues(int capacity) {
+        _values = (capacity == 0) ? NO_VALUES : Arrays.copyOf(_values, capacity);
+    }
+
+    @Override
+    protected void _removeValueAt(int pos) {
+        System.arraycopy(_values, pos + 1, _values, pos, _size - pos - 1);
+    }
+
+    private void _checkIndex(int index) {
+        if ((index < 0) || (index >= _size)) {
+            throw new IndexOutOfBoundsException("Index: "+index+", Size: "+_size);
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package com.fasterxml.jackson.jr.ob.impl;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Immutable key layout ("shape") shared by {@link DeferredMap}s that were
+ * built with the same sequence of keys: keys and the hash index for looking
+ * them up are stored just once per shape, and each Map only stores an array
+ * of values (in key order).
+ *<p>
+ * Shapes form a tree, rooted at the empty shape, with a transition
+ * from each shape to the shape with one more key: Maps are built by following
+ * (and, if necessary, creating) transitions for keys as they are read.
+ * Trees are not thread-safe for building, and are meant to be used by
+ * a single read operation (including reads of nested Maps); but completed
+ * shapes are immutable, and Maps using them may be freely shared.
+ *<p>
+ * To bound the size of the tree for content without repeating key sequences
+ * (such as Maps used as dictionaries), number of shapes in a tree, as well as
+ * number of keys per shape, are limited: if a limit is reached, no new
+ * shape is created and the Map being built is not shared.
+ *
+ * @since 2.19
+ */
+public final class MapShape
+{
+    /**
+     * Maximum number of shapes (not counting the root) in a tree.
+     */
+    public final static int MAX_SHAPES = 4000;
+
+    /**
+     * Maximum number of keys in a shape.
+     */
+    public final static int MAX_KEYS = 256;
+
+    private final static String[] NO_KEYS = new String[0];
+
+    /**
+     * Keys of this shape; only first {@link #_size} entries belong to this
+     * shape. Array is shared with the first child shape (and its first child,
+     * and so on) as long as there is room.
+     */
+    private final String[] _keys;
+
+    private final int _size;
+
+    /**
+     * Shared counter of shapes in the tree this shape belongs to
+     */
+    private final int[] _shapeCount;
+
+    /**
+     * Hash index for keys (positions plus one; 0 for empty slots); built
+     * on first lookup, since shapes for intermediate key sequences are
+     * usually not used by any Map.
+     */
+    private volatile int[] _index;
+
+    // Transitions: most shapes only ever have one child, so no Map for that
+    private String _nextKey;
+    private MapShape _next;
+    private Map<String, MapShape> _moreNext;
+
+    private MapShape(String[] keys, int size, int[] shapeCount) {
+        _keys = keys;
+        _size = size;
+        _shapeCount = shapeCount;
+    }
+
+    /**
+     * Factory method for constructing the root (empty) shape of a new tree.
+     */
+    public static MapShape root() {
+        return new MapShape(NO_KEYS, 0, new int[1]);
+    }
+
+    /*
+    /**********************************************************************
+    /* Accessors
+    /**********************************************************************
+     */
+
+    public int size() {
+        return _size;
+    }
+
+    public String keyAt(int index) {
+        if (index >= _size) {
+            throw new IndexOutOfBoundsException("Index: "+index+", Size: "+_size);
+        }
+        return _keys[index];
+    }
+
+    /**
+     * @return Index of given key in this shape, if included; -1 if not
+     */
+    public int indexOf(Object key) {
+        int[] index = _index;
+        if (index == null) {
+            _index = index = _buildIndex();
+        }
+        if (!(key instanceof String) || (index.length == 0)) {
+            return -1;
+        }
+        return KeyIndex.find(_keys, index, key);
+    }
+
+    /*
+    /**********************************************************************
+    /* Building
+    /**********************************************************************
+     */
+
+    /**
+     * Method for finding (or, if necessary, creating) shape that has the keys
+     * of this shape followed by given key.
+     *
+     * @return Shape with the key added; or {@code null} if no such shape
+     *    can be used (key already included in this shape, or limits reached)
+     */
+    public MapShape with(String key) {
+        if ((key == _nextKey) || ((_nextKey != null) && _nextKey.equals(key))) {
+            return _next;
+        }
+        if (_moreNext != null) {
+            MapShape next = _moreNext.get(key);
+            if (next != null) {
+                return next;
+            }
+        }
+        if ((_size >= MAX_KEYS) || (_shapeCount[0] >= MAX_SHAPES)
+                || _contains(key)) {
+            return null;
+        }
+        final MapShape next = new MapShape(_keysWith(key), _size + 1, _shapeCount);
+        ++_shapeCount[0];
+        if (_nextKey == null) {
+            _nextKey = key;
+            _next = next;
+        } else {
+            if (_moreNext == null) {
+                _moreNext = new HashMap<>();
+            }
+            _moreNext.put(key, next);
+        }
+        return next;
+    }
+
+    private String[] _keysWith(String key) {
+        // Can we share the key array? Only if there's room and no other child has
+        // claimed the slot
+        if ((_size < _keys.length) && (_keys[_size] == null)) {
+            _keys[_size] = key;
+            return _keys;
+        }
+        String[] keys = Arrays.copyOf(_keys, Math.min(MAX_KEYS, Math.max(4, _size << 1)));
+        keys[_size] = key;
+        return keys;
+    }
+
+    // Called only when a new transition is created, so linear scan is fine
+    private boolean _contains(String key) {
+        for (int i = 0; i < _size; ++i) {
+            if (_keys[i].equals(key)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int[] _buildIndex() {
+        if (_size == 0) {
+            return new int[0];
+        }
+        return KeyIndex.build(_keys, _size);
+    }
+
+    @Override
+    public String toString() {
+        return "[MapShape: "+Arrays.asList(_keys).subList(0, _size)+"]";
+    }
+}
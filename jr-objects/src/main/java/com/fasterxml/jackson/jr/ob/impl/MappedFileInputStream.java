@@ -0,0 +1,195 @@
+package com.fasterxml.jackson.jr.ob.impl;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * {@link InputStream} implementation that reads content of a file by
+ * memory-mapping it in windows of fixed size (except for the last one),
+ * one window at a time, mapping the next window when the current one
+ * has been fully read. This allows reading files of any size (including
+ * ones bigger than 2 GB) without having to copy content through
+ * {@link java.io.FileInputStream} buffers; content is transferred
+ * directly from mapped region into buffer of the reader (parser).
+ *<p>
+ * Since windows are only exposed as a contiguous stream, values that
+ * straddle window boundaries need no special handling by parser.
+ *<p>
+ * NOTE: mappings are released when garbage-collected, as there is no
+ * portable way to unmap them explicitly; only one window is referenced
+ * at any given time.
+ *
+ * @since 2.19
+ */
+public class MappedFileInputStream extends InputStream
+{
+    /**
+     * Default size of windows to map: 64 megabytes
+     */
+    public final static int DEFAULT_WINDOW_SIZE = 64 * 1024 * 1024;
+
+    protected final FileChannel _channel;
+
+    /**
+     * Length of the file (at time of opening)
+     */
+    protected final long _length;
+
+    protected final int _windowSize;
+
+    /**
+     * Offset of the current window (if one mapped), or of the next window
+     * to map (if none currently mapped), within file.
+     */
+    protected long _windowOffset;
+
+    /**
+     * Currently mapped window, if any
+     */
+    protected MappedByteBuffer _window;
+
+    protected boolean _closed;
+
+    public MappedFileInputStream(Path path) throws IOException {
+        this(path, DEFAULT_WINDOW_SIZE);
+    }
+
+    public MappedFileInputStream(Path path, int windowSize) throws IOException
+    {
+        if (windowSize < 1) {
+            throw new IllegalArgumentException("Window size must be positive, was "+windowSize);
+        }
+        _windowSize = windowSize;
+        _channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            _length = _channel.size();
+        } catch (IOException e) {
+            _channel.close();
+            throw e;
+        }
+    }
+
+    /*
+    /**********************************************************************
+    /* InputStream implementation
+    /**********************************************************************
+     */
+
+    @Override
+    public int available() throws IOException {
+        _checkClosed();
+        return (int) Math.min(Integer.MAX_VALUE, _length - position());
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (!_ensureWindow()) {
+            return -1;
+        }
+        return _window.get() & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException
+    {
+        if (len == 0) {
+            _checkClosed();
+            return 0;
+        }
+        if (!_ensureWindow()) {
+            return -1;
+        }
+        // Only read from current window: caller will need to call again for more
+        len = Math.min(len, _window.remaining());
+        _window.get(b, off, len);
+        return len;
+    }
+
+    @Override
+    public long skip(long n) throws IOException
+    {
+        _checkClosed();
+        if (n <= 0L) {
+            return 0L;
+        }
+        final long pos = position();
+        final long count = Math.min(n, _length - pos);
+        if ((_window != null) && (count <= _window.remaining())) {
+            _window.position(_window.position() + (int) count);
+        } else { // beyond current window; map lazily when reading
+            _window = null;
+            _windowOffset = pos + count;
+        }
+        return count;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (!_closed) {
+            _closed = true;
+            _window = null;
+            _channel.close();
+        }
+    }
+
+    /*
+    /**********************************************************************
+    /* Extended API
+    /**********************************************************************
+     */
+
+    /**
+     * @return Offset of the next byte to read within the file
+     */
+    public long position() {
+        return (_window == null) ? _windowOffset
+                : (_windowOffset + _window.position());
+    }
+
+    public long length() {
+        return _length;
+    }
+
+    public int windowSize() {
+        return _windowSize;
+    }
+
+    /*
+    /**********************************************************************
+    /* Internal methods
+    /**********************************************************************
+     */
+
+    /**
+     * @return True if there is content to read in (possibly newly mapped) window;
+     *    false if end of file reached
+     */
+    protected boolean _ensureWindow() throws IOException
+    {
+        if ((_window != null) && _window.hasRemaining()) {
+            return true;
+        }
+        _checkClosed();
+        final long offset = (_window == null) ? _windowOffset
+                : (_windowOffset + _window.capacity());
+        if (offset >= _length) {
+            return false;
+        }
+        final int len = (int) Math.min(_windowSize, _length - offset);
+        // release reference to the previous window before mapping the next one
+        _window = null;
+        _windowOffset = offset;
+        _window = _channel.map(FileChannel.MapMode.READ_ONLY, offset, len);
+        return true;
+    }
+
+    protected void _checkClosed() throws IOException {
+        if (_closed) {
+            throw new IOException("Stream closed");
+        }
+    }
+}
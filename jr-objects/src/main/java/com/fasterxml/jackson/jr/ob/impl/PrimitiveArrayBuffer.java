@@ -0,0 +1,159 @@
+package com.fasterxml.jackson.jr.ob.impl;
+
+import java.util.Arrays;
+
+/**
+ * Helper object used for reading primitive arrays without boxing:
+ * elements are collected into a growable primitive buffer (one per
+ * element type) which is retained for reuse by subsequent reads
+ * using the same {@link JSONReader}, so that the only allocation for
+ * an array read is usually that of the exact-length result array.
+ *<p>
+ * Usage is such that caller gets the buffer with no-arguments accessor
+ * (like {@link #ints()}), fills it, calling matching {@code grow} method
+ * (like {@link #grow(int[])}) whenever it is full, and finally calls
+ * matching {@code finish} method (like {@link #finish(int[], int)}) to
+ * get the result array.
+ * Since elements of primitive arrays are scalars, reads can not be nested,
+ * and a single buffer per type suffices.
+ *<p>
+ * Instances are not thread-safe.
+ *
+ * @since 2.19
+ */
+public final class PrimitiveArrayBuffer
+{
+    private final static int INITIAL_LENGTH = 16;
+
+    /**
+     * Maximum length of buffers retained for reuse: bigger ones are
+     * dropped after use, to avoid holding on to large amounts of memory
+     * after reading a single big array.
+     */
+    private final static int MAX_RETAINED_LENGTH = 64000;
+
+    private final static int[] NO_INTS = new int[0];
+    private final static long[] NO_LONGS = new long[0];
+    private final static short[] NO_SHORTS = new short[0];
+    private final static float[] NO_FLOATS = new float[0];
+    private final static double[] NO_DOUBLES = new double[0];
+    private final static boolean[] NO_BOOLEANS = new boolean[0];
+
+    private int[] _ints;
+    private long[] _longs;
+    private short[] _shorts;
+    private float[] _floats;
+    private double[] _doubles;
+    private boolean[] _booleans;
+
+    /*
+    /**********************************************************************
+    /* Buffer access
+    /**********************************************************************
+     */
+
+    public int[] ints() {
+        return (_ints == null) ? new int[INITIAL_LENGTH] : _ints;
+    }
+
+    public long[] longs() {
+        return (_longs == null) ? new long[INITIAL_LENGTH] : _longs;
+    }
+
+    public short[] shorts() {
+        return (_shorts == null) ? new short[INITIAL_LENGTH] : _shorts;
+    }
+
+    public float[] floats() {
+        return (_floats == null) ? new float[INITIAL_LENGTH] : _floats;
+    }
+
+    public double[] doubles() {
+        return (_doubles == null) ? new double[INITIAL_LENGTH] : _doubles;
+    }
+
+    public boolean[] booleans() {
+        return (_booleans == null) ? new boolean[INITIAL_LENGTH] : _booleans;
+    }
+
+    /*
+    /**********************************************************************
+    /* Growing full buffers
+    /**********************************************************************
+     */
+
+    public int[] grow(int[] full) {
+        return Arrays.copyOf(full, _newLength(full.length));
+    }
+
+    public long[] grow(long[] full) {
+        return Arrays.copyOf(full, _newLength(full.length));
+    }
+
+    public short[] grow(short[] full) {
+        return Arrays.copyOf(full, _newLength(full.length));
+    }
+
+    public float[] grow(float[] full) {
+        return Arrays.copyOf(full, _newLength(full.length));
+    }
+
+    public double[] grow(double[] full) {
+        return Arrays.copyOf(full, _newLength(full.length));
+    }
+
+    public boolean[] grow(boolean[] full) {
+        return Arrays.copyOf(full, _newLength(full.length));
+    }
+
+    /*
+    /**********************************************************************
+    /* Completing arrays
+    /**********************************************************************
+     */
+
+    public int[] finish(int[] buffer, int count) {
+        _ints = _retain(buffer.length) ? buffer : null;
+        return (count == 0) ? NO_INTS : Arrays.copyOf(buffer, count);
+    }
+
+    public long[] finish(long[] buffer, int count) {
+        _longs = _retain(buffer.length) ? buffer : null;
+        return (count == 0) ? NO_LONGS : Arrays.copyOf(buffer, count);
+    }
+
+    public short[] finish(short[] buffer, int count) {
+        _shorts = _retain(buffer.length) ? buffer : null;
+        return (count == 0) ? NO_SHORTS : Arrays.copyOf(buffer, count);
+    }
+
+    public float[] finish(float[] buffer, int count) {
+        _floats = _retain(buffer.length) ? buffer : null;
+        return (count == 0) ? NO_FLOATS : Arrays.copyOf(buffer, count);
+    }
+
+    public double[] finish(double[] buffer, int count) {
+        _doubles = _retain(buffer.length) ? buffer : null;
+        return (count == 0) ? NO_DOUBLES : Arrays.copyOf(buffer, count);
+    }
+
+    public boolean[] finish(boolean[] buffer, int count) {
+        _booleans = _retain(buffer.length) ? buffer : null;
+        return (count == 0) ? NO_BOOLEANS : Arrays.copyOf(buffer, count);
+    }
+
+    /*
+    /**********************************************************************
+    /* Internal methods
+    /**********************************************************************
+     */
+
+    private static int _newLength(int length) {
+        // double while small, then grow by 50%
+        return (length < 1000) ? (length << 1) : (length + (length >> 1));
+    }
+
+    private static boolean _retain(int length) {
+        return length <= MAX_RETAINED_LENGTH;
+    }
+}
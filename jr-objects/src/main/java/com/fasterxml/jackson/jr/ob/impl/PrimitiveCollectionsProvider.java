@@ -0,0 +1,203 @@
+package com.fasterxml.jackson.jr.ob.impl;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.jr.ob.api.ReaderWriterProvider;
+import com.fasterxml.jackson.jr.ob.api.ValueReader;
+import com.fasterxml.jackson.jr.ob.api.ValueWriter;
+import com.fasterxml.jackson.jr.type.ResolvedType;
+
+/**
+ * {@link ReaderWriterProvider} that provides readers for reading
+ * {@link java.util.List}s and {@link java.util.Map}s of enabled numeric
+ * element types into primitive-backed implementations, and writers for
+ * writing these implementations without boxing.
+ * Registered using {@link com.fasterxml.jackson.jr.ob.PrimitiveCollectionsExtension}.
+ *<p>
+ * Readers are only provided if declared container type is compatible with
+ * the implementation type: for example, for {@code List<Integer>},
+ * {@code Collection<Integer>} and {@code IntArrayList}, but not for
+ * {@code ArrayList<Integer>} or {@code Set<Integer>}.
+ *
+ * @since 2.19
+ */
+public class PrimitiveCollectionsProvider extends ReaderWriterProvider
+{
+    protected final boolean _ints, _longs, _doubles;
+
+    public PrimitiveCollectionsProvider(boolean ints, boolean longs, boolean doubles) {
+        _ints = ints;
+        _longs = longs;
+        _doubles = doubles;
+    }
+
+    /*
+    /**********************************************************************
+    /* Reader access
+    /**********************************************************************
+     */
+
+    @Override
+    public ValueReader findCollectionReader(JSONReader readContext, Class<?> type,
+            ResolvedType valueType, ValueReader readerForValues)
+    {
+        final int typeId = _elementTypeId(valueType.erasedType());
+        final Class<?> implType;
+        switch (typeId) {
+        case ValueLocatorBase.SER_NUMBER_INTEGER_WRAPPER:
+            implType = IntArrayList.class;
+            break;
+        case ValueLocatorBase.SER_NUMBER_LONG_WRAPPER:
+            implType = LongArrayList.class;
+            break;
+        case ValueLocatorBase.SER_NUMBER_DOUBLE_WRAPPER:
+            implType = DoubleArrayList.class;
+            break;
+        default:
+            return null;
+        }
+        if (!type.isAssignableFrom(implType)) {
+            return null;
+        }
+        return new PrimitiveListReader(implType, typeId);
+    }
+
+    @Override
+    public ValueReader findMapReader(JSONReader readContext, Class<?> type,
+            ResolvedType valueType, ValueReader readerForValues)
+    {
+        final int typeId = _elementTypeId(valueType.erasedType());
+        final Class<?> implType;
+        switch (typeId) {
+        case ValueLocatorBase.SER_NUMBER_INTEGER_WRAPPER:
+            implType = IntValueMap.class;
+            break;
+        case ValueLocatorBase.SER_NUMBER_LONG_WRAPPER:
+            implType = LongValueMap.class;
+            break;
+        case ValueLocatorBase.SER_NUMBER_DOUBLE_WRAPPER:
+            implType = DoubleValueMap.class;
+            break;
+        default:
+            return null;
+        }
+        if (!type.isAssignableFrom(implType)) {
+            return null;
+        }
+        return new PrimitiveMapReader(implType, typeId);
+    }
+
+    protected int _elementTypeId(Class<?> raw) {
+        if (raw == Integer.class) {
+            return _ints ? ValueLocatorBase.SER_NUMBER_INTEGER_WRAPPER : 0;
+        }
+        if (raw == Long.class) {
+            return _longs ? ValueLocatorBase.SER_NUMBER_LONG_WRAPPER : 0;
+        }
+        if (raw == Double.class) {
+            return _doubles ? ValueLocatorBase.SER_NUMBER_DOUBLE_WRAPPER : 0;
+        }
+        return 0;
+    }
+
+    /*
+    /**********************************************************************
+    /* Writer access
+    /**********************************************************************
+     */
+
+    @Override
+    public ValueWriter findValueWriter(JSONWriter writeContext, Class<?> type)
+    {
+        // Writers used regardless of enabled types: no harm in avoiding boxing
+        if (IntArrayList.class.isAssignableFrom(type)
+                || LongArrayList.class.isAssignableFrom(type)
+                || DoubleArrayList.class.isAssignableFrom(type)) {
+            return new ListWriter(type);
+        }
+        if (PrimitiveValueMap.class.isAssignableFrom(type)) {
+            return new MapWriter(type);
+        }
+        return null;
+    }
+
+    protected static class ListWriter implements ValueWriter
+    {
+        protected final Class<?> _type;
+
+        public ListWriter(Class<?> type) {
+            _type = type;
+        }
+
+        @Override
+        public void writeValue(JSONWriter context, JsonGenerator g, Object value)
+            throws IOException
+        {
+            if (value instanceof IntArrayList) {
+                IntArrayList list = (IntArrayList) value;
+                g.writeArray(list._values, 0, list._size);
+            } else if (value instanceof LongArrayList) {
+                LongArrayList list = (LongArrayList) value;
+                g.writeArray(list._values, 0, list._size);
+            } else {
+                DoubleArrayList list = (DoubleArrayList) value;
+                g.writeArray(list._values, 0, list._size);
+            }
+        }
+
+        @Override
+        public Class<?> valueType() {
+            return _type;
+        }
+    }
+
+    protected static class MapWriter implements ValueWriter
+    {
+        protected final Class<?> _type;
+
+        public MapWriter(Class<?> type) {
+            _type = type;
+        }
+
+        @Override
+        public void writeValue(JSONWriter context, JsonGenerator g, Object value)
+            throws IOException
+        {
+            final PrimitiveValueMap<?> map = (PrimitiveValueMap<?>) value;
+            final String[] keys = map._keys;
+            final int size = map._size;
+            g.writeStartObject(value, size);
+            if (map instanceof IntValueMap) {
+                final int[] values = ((IntValueMap) map)._values;
+                for (int i = 0; i < size; ++i) {
+                    g.writeFieldName(keys[i]);
+                    g.writeNumber(values[i]);
+                }
+            } else if (map instanceof LongValueMap) {
+                final long[] values = ((LongValueMap) map)._values;
+                for (int i = 0; i < size; ++i) {
+                    g.writeFieldName(keys[i]);
+                    g.writeNumber(values[i]);
+                }
+            } else if (map instanceof DoubleValueMap) {
+                final double[] values = ((DoubleValueMap) map)._values;
+                for (int i = 0; i < size; ++i) {
+                    g.writeFieldName(keys[i]);
+                    g.writeNumber(values[i]);
+                }
+            } else { // custom sub-class: use boxed values
+                for (int i = 0; i < size; ++i) {
+                    g.writeFieldName(keys[i]);
+                    context.writeValue(map._valueAt(i));
+                }
+            }
+            g.writeEndObject();
+        }
+
+        @Override
+        public Class<?> valueType() {
+            return _type;
+        }
+    }
+}
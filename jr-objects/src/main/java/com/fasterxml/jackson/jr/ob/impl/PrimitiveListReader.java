@@ -0,0 +1,103 @@
+package com.fasterxml.jackson.jr.ob.impl;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.jr.ob.JSONObjectException;
+import com.fasterxml.jackson.jr.ob.api.ValueReader;
+
+/**
+ * Reader for {@link java.util.List}s of {@link Integer}s, {@link Long}s or
+ * {@link Double}s that reads values into primitive-backed lists
+ * ({@link IntArrayList}, {@link LongArrayList}, {@link DoubleArrayList}),
+ * without boxing.
+ * As with primitive arrays, JSON {@code null}s are read as zeroes.
+ *
+ * @since 2.19
+ */
+public class PrimitiveListReader extends ValueReader
+{
+    /**
+     * Type of elements: one of {@link ValueLocatorBase#SER_NUMBER_INTEGER_WRAPPER},
+     * {@link ValueLocatorBase#SER_NUMBER_LONG_WRAPPER} or
+     * {@link ValueLocatorBase#SER_NUMBER_DOUBLE_WRAPPER}
+     */
+    protected final int _elementTypeId;
+
+    public PrimitiveListReader(Class<?> listType, int elementTypeId) {
+        super(listType);
+        _elementTypeId = elementTypeId;
+    }
+
+    @Override
+    public Object readNext(JSONReader r, JsonParser p) throws IOException {
+        if (p.nextToken() != JsonToken.START_ARRAY) {
+            if (p.hasToken(JsonToken.VALUE_NULL)) {
+                return null;
+            }
+            throw JSONObjectException.from(p, "Unexpected token "+p.currentToken()+"; should get START_ARRAY");
+        }
+        return read(r, p);
+    }
+
+    @Override
+    public Object read(JSONReader r, JsonParser p) throws IOException {
+        switch (_elementTypeId) {
+        case ValueLocatorBase.SER_NUMBER_INTEGER_WRAPPER:
+            {
+                IntArrayList list = new IntArrayList();
+                while (_nextElement(p)) {
+                    list.addInt(p.getValueAsInt());
+                }
+                list.trimToSize();
+                return list;
+            }
+        case ValueLocatorBase.SER_NUMBER_LONG_WRAPPER:
+            {
+                LongArrayList list = new LongArrayList();
+                while (_nextElement(p)) {
+                    list.addLong(p.getValueAsLong());
+                }
+                list.trimToSize();
+                return list;
+            }
+        case ValueLocatorBase.SER_NUMBER_DOUBLE_WRAPPER:
+            {
+                DoubleArrayList list = new DoubleArrayList();
+                while (_nextElement(p)) {
+                    list.addDouble(p.getValueAsDouble());
+                }
+                list.trimToSize();
+                return list;
+            }
+        }
+        throw new IllegalStateException("Invalid element type id: "+_elementTypeId);
+    }
+
+    /**
+     * Helper method for advancing to the next element, if any, and verifying
+     * it is a scalar value that can be coerced into a number.
+     *
+     * @return True if parser points to an element; false if to the end of array
+     */
+    static boolean _nextElement(JsonParser p) throws IOException {
+        final JsonToken t = p.nextToken();
+        if (t == JsonToken.END_ARRAY) {
+            return false;
+        }
+        return _verifyNumeric(p, t);
+    }
+
+    static boolean _verifyNumeric(JsonParser p, JsonToken t) throws IOException {
+        // Strings allowed, same as for boxed values (and for "NaN" with doubles)
+        if ((t == JsonToken.VALUE_NUMBER_INT) || (t == JsonToken.VALUE_NUMBER_FLOAT)
+                || (t == JsonToken.VALUE_STRING) || (t == JsonToken.VALUE_NULL)) {
+            return true;
+        }
+        if (t == null) {
+            throw JSONObjectException.from(p, "Unexpected end-of-input: expected a number");
+        }
+        throw JSONObjectException.from(p, "Can not read a number from "+_tokenDesc(p, t));
+    }
+}
@@ -0,0 +1,104 @@
+package com.fasterxml.jackson.jr.ob.impl;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.jr.ob.JSON;
+import com.fasterxml.jackson.jr.ob.JSONObjectException;
+import com.fasterxml.jackson.jr.ob.api.ValueReader;
+
+/**
+ * Reader for {@link java.util.Map}s with {@link Integer}, {@link Long} or
+ * {@link Double} values that reads values into primitive-backed maps
+ * ({@link IntValueMap}, {@link LongValueMap}, {@link DoubleValueMap}),
+ * without boxing.
+ * As with primitive arrays, JSON {@code null}s are read as zeroes.
+ *
+ * @since 2.19
+ */
+public class PrimitiveMapReader extends ValueReader
+{
+    /**
+     * Type of values: one of {@link ValueLocatorBase#SER_NUMBER_INTEGER_WRAPPER},
+     * {@link ValueLocatorBase#SER_NUMBER_LONG_WRAPPER} or
+     * {@link ValueLocatorBase#SER_NUMBER_DOUBLE_WRAPPER}
+     */
+    protected final int _valueTypeId;
+
+    public PrimitiveMapReader(Class<?> mapType, int valueTypeId) {
+        super(mapType);
+        _valueTypeId = valueTypeId;
+    }
+
+    @Override
+    public Object readNext(JSONReader r, JsonParser p) throws IOException {
+        if (p.nextToken() != JsonToken.START_OBJECT) {
+            if (p.hasToken(JsonToken.VALUE_NULL)) {
+                return null;
+            }
+            throw JSONObjectException.from(p, "Unexpected token "+p.currentToken()+"; should get START_OBJECT");
+        }
+        return read(r, p);
+    }
+
+    @Override
+    public Object read(JSONReader r, JsonParser p) throws IOException {
+        final boolean failOnDuplicates = r.isEnabled(JSON.Feature.FAIL_ON_DUPLICATE_MAP_KEYS);
+        String key;
+        switch (_valueTypeId) {
+        case ValueLocatorBase.SER_NUMBER_INTEGER_WRAPPER:
+            {
+                IntValueMap map = new IntValueMap();
+                while ((key = _nextKey(p, map, failOnDuplicates)) != null) {
+                    map.putInt(key, p.getValueAsInt());
+                }
+                map.trimToSize();
+                return map;
+            }
+        case ValueLocatorBase.SER_NUMBER_LONG_WRAPPER:
+            {
+                LongValueMap map = new LongValueMap();
+                while ((key = _nextKey(p, map, failOnDuplicates)) != null) {
+                    map.putLong(key, p.getValueAsLong());
+                }
+                map.trimToSize();
+                return map;
+            }
+        case ValueLocatorBase.SER_NUMBER_DOUBLE_WRAPPER:
+            {
+                DoubleValueMap map = new DoubleValueMap();
+                while ((key = _nextKey(p, map, failOnDuplicates)) != null) {
+                    map.putDouble(key, p.getValueAsDouble());
+                }
+                map.trimToSize();
+                return map;
+            }
+        }
+        throw new IllegalStateException("Invalid value type id: "+_valueTypeId);
+    }
+
+    /**
+     * Helper method for advancing to the next entry, if any: returns its key,
+     * with parser pointing to its (verified) value.
+     *
+     * @return Key of the next entry; {@code null} at the end of Object
+     */
+    private static String _nextKey(JsonParser p, PrimitiveValueMap<?> map,
+            boolean failOnDuplicates) throws IOException
+    {
+        final String key = p.nextFieldName();
+        if (key == null) {
+            if (p.hasToken(JsonToken.END_OBJECT)) {
+                return null;
+            }
+            throw JSONObjectException.from(p, "Unexpected token "+p.currentToken()
+                +"; should get FIELD_NAME or END_OBJECT");
+        }
+        if (failOnDuplicates && map.containsKey(key)) {
+            throw JSONObjectException.from(p, "Duplicate key (key '"+key+"')");
+        }
+        PrimitiveListReader._verifyNumeric(p, p.nextToken());
+        return key;
+    }
+}
@@ -0,0 +1,324 @@
+package com.fasterxml.jackson.jr.ob.impl;
+
+import java.util.*;
+
+/**
+ * Base class for compact {@link java.util.Map} implementations with
+ * {@link String} keys and primitive-backed values: keys and values are
+ * stored in parallel arrays (in insertion order), and looked up using an
+ * open-addressing hash index of {@code int}s, instead of having an entry
+ * object (and a boxed value) per mapping.
+ * Does not allow {@code null} keys or values.
+ *<p>
+ * Removal of entries is supported but is a linear-time operation, as entries
+ * following removed one are moved: implementations are meant for (mostly)
+ * read-only use, like data read from JSON.
+ *
+ * @since 2.19
+ */
+public abstract class PrimitiveValueMap<V> extends AbstractMap<String,V>
+{
+    private final static String[] NO_KEYS = new String[0];
+
+    private final static int[] NO_INDEX = new int[0];
+
+    protected String[] _keys;
+
+    /**
+     * Hash index: positions of entries (plus one) in {@link #_keys}, or
+     * {@code 0} for empty slots. Length is a power of two, at least twice
+     * the capacity.
+     */
+    protected int[] _index;
+
+    protected int _size;
+
+    protected int _modCount;
+
+    protected PrimitiveValueMap(int initialCapacity) {
+        if (initialCapacity == 0) {
+            _keys = NO_KEYS;
+            _index = NO_INDEX;
+        } else {
+            _keys = new String[initialCapacity];
+            _index = new int[_indexSize(initialCapacity)];
+        }
+    }
+
+    /*
+    /**********************************************************************
+    /* Abstract methods for value storage
+    /**********************************************************************
+     */
+
+    protected abstract V _valueAt(int pos);
+
+    /**
+     * @return Previous value at position if any; {@code null} if none
+     */
+    protected abstract V _setValueAt(int pos, V value, boolean existing);
+
+    protected abstract void _resizeValues(int capacity);
+
+    /**
+     * Method called to remove value at given position, moving following
+     * values (up to current size) by one.
+     */
+    protected abstract void _removeValueAt(int pos);
+
+    /*
+    /**********************************************************************
+    /* Map implementation
+    /**********************************************************************
+     */
+
+    @Override
+    public int size() {
+        return _size;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return (key instanceof String) && (_find((String) key) >= 0);
+    }
+
+    @Override
+    public V get(Object key) {
+        final int pos = (key instanceof String) ? _find((String) key) : -1;
+        return (pos < 0) ? null : _valueAt(pos);
+    }
+
+    @Override
+    public V put(String key, V value) {
+        Objects.requireNonNull(value, "Null values not supported");
+        int pos = _find(key);
+        if (pos >= 0) {
+            return _setValueAt(pos, value, true);
+        }
+        _setValueAt(_append(key), value, false);
+        return null;
+    }
+
+    @Override
+    public V remove(Object key) {
+        final int pos = (key instanceof String) ? _find((String) key) : -1;
+        if (pos < 0) {
+            return null;
+        }
+        V old = _valueAt(pos);
+        _removeAt(pos);
+        return old;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(_keys, 0, _size, null);
+        Arrays.fill(_index, 0);
+        _size = 0;
+        ++_modCount;
+    }
+
+    @Override
+    public Set<Map.Entry<String,V>> entrySet() {
+        return new AbstractSet<Map.Entry<String,V>>() {
+            @Override
+            public int size() {
+                return _size;
+            }
+
+            @Override
+            public Iterator<Map.Entry<String,V>> iterator() {
+                return new EntryIterator();
+            }
+
+            @Override
+            public void clear() {
+                PrimitiveValueMap.this.clear();
+            }
+        };
+    }
+
+    /**
+     * Method for reducing capacity of backing arrays to match size of the map.
+     */
+    public void trimToSize() {
+        if (_keys.length > _size) {
+            _keys = (_size == 0) ? NO_KEYS : Arrays.copyOf(_keys, _size);
+            _resizeValues(_size);
+            _reindex(_size);
+        }
+    }
+
+    /*
+    /**********************************************************************
+    /* Internal methods
+    /**********************************************************************
+     */
+
+    /**
+     * @return Position of entry with given key, if any; -1 if none
+     */
+    protected int _find(String key) {
+        final int[] index = _index;
+        if (index.length == 0) {
+            return -1;
+        }
+        final int mask = index.length - 1;
+        int slot = _hash(key) & mask;
+        int ix;
+        while ((ix = index[slot]) != 0) {
+            if (key.equals(_keys[ix - 1])) {
+                return ix - 1;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * Method for adding given key (which is known not to be included)
+     *
+     * @return Position for value of the key
+     */
+    protected int _append(String key) {
+        Objects.requireNonNull(key, "Null keys not supported");
+        final int pos = _size;
+        if (pos == _keys.length) {
+            final int capacity = (pos < 1000) ? Math.max(pos << 1, 8) : (pos + (pos >> 1));
+            _keys = Arrays.copyOf(_keys, capacity);
+            _resizeValues(capacity);
+            _reindex(capacity);
+        }
+        _keys[pos] = key;
+        _insert(key, pos);
+        ++_size;
+        ++_modCount;
+        return pos;
+    }
+
+    protected void _removeAt(int pos) {
+        System.arraycopy(_keys, pos + 1, _keys, pos, _size - pos - 1);
+        _removeValueAt(pos);
+        _keys[--_size] = null;
+        ++_modCount;
+        // positions changed, so need to rebuild the index
+        _reindex(_keys.length);
+    }
+
+    private void _reindex(int capacity) {
+        final int indexSize = (capacity == 0) ? 0 : _indexSize(capacity);
+        if (_index.length == indexSize) {
+            Arrays.fill(_index, 0);
+        } else {
+            _index = (indexSize == 0) ? NO_INDEX : new int[indexSize];
+        }
+        for (int i = 0; i < _size; ++i) {
+            _insert(_keys[i], i);
+        }
+    }
+
+    private void _insert(String key, int pos) {
+        final int mask = _index.length - 1;
+        int slot = _hash(key) & mask;
+        while (_index[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        _index[slot] = pos + 1;
+    }
+
+    private static int _indexSize(int capacity) {
+        // power of two, at least twice the capacity, to keep probe sequences short
+        return Integer.highestOneBit(Math.max(capacity, 2) - 1) << 2;
+    }
+
+    private static int _hash(String key) {
+        // multiplicative mixing: similar keys ("field1", "field2", ...) have
+        // consecutive hash codes, which would form long runs with linear probing
+        final int h = key.hashCode() * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    private class EntryIterator implements Iterator<Map.Entry<String,V>>
+    {
+        private int _next;
+
+        private int _last = -1;
+
+        private int _expModCount = _modCount;
+
+        @Override
+        public boolean hasNext() {
+            return _next < _size;
+        }
+
+        @Override
+        public Map.Entry<String,V> next() {
+            if (_modCount != _expModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (_next >= _size) {
+                throw new NoSuchElementException();
+            }
+            _last = _next++;
+            return new Entry(_last);
+        }
+
+        @Override
+        public void remove() {
+            if (_last < 0) {
+                throw new IllegalStateException();
+            }
+            if (_modCount != _expModCount) {
+                throw new ConcurrentModificationException();
+            }
+            _removeAt(_last);
+            _next = _last;
+            _last = -1;
+            _expModCount = _modCount;
+        }
+    }
+
+    private class Entry implements Map.Entry<String,V>
+    {
+        private final int _pos;
+
+        Entry(int pos) {
+            _pos = pos;
+        }
+
+        @Override
+        public String getKey() {
+            return _keys[_pos];
+        }
+
+        @Override
+        public V getValue() {
+            return _valueAt(_pos);
+        }
+
+        @Override
+        public V setValue(V value) {
+            Objects.requireNonNull(value, "Null values not supported");
+            return _setValueAt(_pos, value, true);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Map.Entry<?,?>)) {
+                return false;
+            }
+            Map.Entry<?,?> other = (Map.Entry<?,?>) o;
+            return getKey().equals(other.getKey()) && getValue().equals(other.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return getKey().hashCode() ^ getValue().hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return getKey()+"="+getValue();
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.fasterxml.jackson.jr.ob.impl;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Field;
+import java.util.function.*;
+
+/**
+ * Helper class used for setting and getting values of Bean properties
+ * of primitive types {@code int}, {@code long}, {@code double} and
+ * {@code boolean} without boxing.
+ * Type is indicated by {@link #typeId()}, one of
+ * {@link ValueLocatorBase#SER_NUMBER_INTEGER},
+ * {@link ValueLocatorBase#SER_NUMBER_LONG},
+ * {@link ValueLocatorBase#SER_NUMBER_DOUBLE} or
+ * {@link ValueLocatorBase#SER_BOOLEAN}; only accessors for
+ * that type are supported by an instance.
+ *<p>
+ * Instances are created by {@link AccessorHelpers}.
+ *
+ * @since 2.19
+ */
+public abstract class ScalarAccessor
+{
+    protected final int _typeId;
+
+    protected ScalarAccessor(int typeId) {
+        _typeId = typeId;
+    }
+
+    public final int typeId() { return _typeId; }
+
+    public void setInt(Object bean, int v) throws Throwable { throw _unsupported(); }
+    public void setLong(Object bean, long v) throws Throwable { throw _unsupported(); }
+    public void setDouble(Object bean, double v) throws Throwable { throw _unsupported(); }
+    public void setBoolean(Object bean, boolean v) throws Throwable { throw _unsupported(); }
+
+    public int getInt(Object bean) throws Throwable { throw _unsupported(); }
+    public long getLong(Object bean) throws Throwable { throw _unsupported(); }
+    public double getDouble(Object bean) throws Throwable { throw _unsupported(); }
+    public boolean getBoolean(Object bean) throws Throwable { throw _unsupported(); }
+
+    protected IllegalStateException _unsupported() {
+        return new IllegalStateException("Operation not supported by "+getClass().getName()
+                +" (type id "+_typeId+")");
+    }
+
+    /*
+    /**********************************************************************
+    /* Implementations
+    /**********************************************************************
+     */
+
+    /**
+     * Accessor that uses typed {@link Field} accessors like
+     * {@link Field#setInt} and {@link Field#getInt}.
+     */
+    final static class FieldAccessor extends ScalarAccessor
+    {
+        private final Field _field;
+
+        FieldAccessor(int typeId, Field f) {
+            super(typeId);
+            _field = f;
+        }
+
+        @Override
+        public void setInt(Object bean, int v) throws Throwable { _field.setInt(bean, v); }
+        @Override
+        public void setLong(Object bean, long v) throws Throwable { _field.setLong(bean, v); }
+        @Override
+        public void setDouble(Object bean, double v) throws Throwable { _field.setDouble(bean, v); }
+        @Override
+        public void setBoolean(Object bean, boolean v) throws Throwable { _field.setBoolean(bean, v); }
+
+        @Override
+        public int getInt(Object bean) throws Throwable { return _field.getInt(bean); }
+        @Override
+        public long getLong(Object bean) throws Throwable { return _field.getLong(bean); }
+        @Override
+        public double getDouble(Object bean) throws Throwable { return _field.getDouble(bean); }
+        @Override
+        public boolean getBoolean(Object bean) throws Throwable { return _field.getBoolean(bean); }
+    }
+
+    /**
+     * Accessor that uses a {@link MethodHandle} of type {@code (Object,T)void}
+     * (setter) or {@code (Object)T} (getter), where {@code T} is the primitive type.
+     */
+    final static class HandleAccessor extends ScalarAccessor
+    {
+        private final MethodHandle _handle;
+
+        HandleAccessor(int typeId, MethodHandle h) {
+            super(typeId);
+            _handle = h;
+        }
+
+        @Override
+        public void setInt(Object bean, int v) throws Throwable { _handle.invokeExact(bean, v); }
+        @Override
+        public void setLong(Object bean, long v) throws Throwable { _handle.invokeExact(bean, v); }
+        @Override
+        public void setDouble(Object bean, double v) throws Throwable { _handle.invokeExact(bean, v); }
+        @Override
+        public void setBoolean(Object bean, boolean v) throws Throwable { _handle.invokeExact(bean, v); }
+
+        @Override
+        public int getInt(Object bean) throws Throwable { return (int) _handle.invokeExact(bean); }
+        @Override
+        public long getLong(Object bean) throws Throwable { return (long) _handle.invokeExact(bean); }
+        @Override
+        public double getDouble(Object bean) throws Throwable { return (double) _handle.invokeExact(bean); }
+        @Override
+        public boolean getBoolean(Object bean) throws Throwable { return (boolean) _handle.invokeExact(bean); }
+    }
+
+    /**
+     * Accessor that uses generated primitive functional interface implementations:
+     * {@link ObjIntConsumer}, {@link ObjLongConsumer}, {@link ObjDoubleConsumer}
+     * for setters; {@link ToIntFunction}, {@link ToLongFunction},
+     * {@link ToDoubleFunction} and {@link Predicate} for getters.
+     */
+    @SuppressWarnings("unchecked")
+    final static class FunctionAccessor extends ScalarAccessor
+    {
+        private final Object _function;
+
+        FunctionAccessor(int typeId, Object f) {
+            super(typeId);
+            _function = f;
+        }
+
+        @Override
+        public void setInt(Object bean, int v) {
+            ((ObjIntConsumer<Object>) _function).accept(bean, v);
+        }
+        @Override
+        public void setLong(Object bean, long v) {
+            ((ObjLongConsumer<Object>) _function).accept(bean, v);
+        }
+        @Override
+        public void setDouble(Object bean, double v) {
+            ((ObjDoubleConsumer<Object>) _function).accept(bean, v);
+        }
+
+        @Override
+        public int getInt(Object bean) {
+            return ((ToIntFunction<Object>) _function).applyAsInt(bean);
+        }
+        @Override
+        public long getLong(Object bean) {
+            return ((ToLongFunction<Object>) _function).applyAsLong(bean);
+        }
+        @Override
+        public double getDouble(Object bean) {
+            return ((ToDoubleFunction<Object>) _function).applyAsDouble(bean);
+        }
+        @Override
+        public boolean getBoolean(Object bean) {
+            return ((Predicate<Object>) _function).test(bean);
+        }
+    }
+}
@@ -9,7 +9,6 @@ import java.nio.file.Paths;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.UUID;
-import java.util.stream.IntStream;
 
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonToken;
@@ -26,8 +25,6 @@ import static com.fasterxml.jackson.jr.ob.impl.ValueWriterLocator.*;
  */
 public class SimpleValueReader extends ValueReader
 {
-    private final static int[] NO_INTS = new int[0];
-
     protected final int _typeId;
 
     public SimpleValueReader(Class<?> raw, int typeId) {
@@ -103,13 +100,78 @@ public class SimpleValueReader extends ValueReader
         return read(reader, p);
     }    
     
+    /**
+     * Method for reading next value as {@code int}, without boxing; same
+     * as {@link #readNext} for type {@code int}.
+     *
+     * @since 2.19
+     */
+    public int readNextInt(JSONReader reader, JsonParser p) throws IOException
+    {
+        int i = p.nextIntValue(-2);
+        if (i == -2) { // either not an int, or -2: either way, fine
+            i = p.getValueAsInt();
+        }
+        return i;
+    }
+
+    /**
+     * Method for reading next value as {@code long}, without boxing; same
+     * as {@link #readNext} for type {@code long}.
+     *
+     * @since 2.19
+     */
+    public long readNextLong(JSONReader reader, JsonParser p) throws IOException
+    {
+        long l = p.nextLongValue(-2L);
+        if (l == -2L) {
+            l = p.getValueAsLong();
+        }
+        return l;
+    }
+
+    /**
+     * Method for reading next value as {@code double}, without boxing; same
+     * as {@link #readNext} for type {@code double}.
+     *
+     * @since 2.19
+     */
+    public double readNextDouble(JSONReader reader, JsonParser p) throws IOException
+    {
+        p.nextToken();
+        return p.getValueAsDouble();
+    }
+
+    /**
+     * Method for reading next value as {@code boolean}; same
+     * as {@link #readNext} for type {@code boolean}.
+     *
+     * @since 2.19
+     */
+    public boolean readNextBoolean(JSONReader reader, JsonParser p) throws IOException
+    {
+        // No allocation for Booleans, can just delegate
+        return ((Boolean) readNext(reader, p)).booleanValue();
+    }
+
     @Override
     public Object read(JSONReader reader, JsonParser p) throws IOException
     {
         switch (_typeId) {
 
+        // Primitive arrays (other than `byte[]`, `char[]`)
         case SER_INT_ARRAY:
-            return _readIntArray(p);
+            return _readIntArray(reader, p);
+        case SER_LONG_ARRAY:
+            return _readLongArray(reader, p);
+        case SER_SHORT_ARRAY:
+            return _readShortArray(reader, p);
+        case SER_FLOAT_ARRAY:
+            return _readFloatArray(reader, p);
+        case SER_DOUBLE_ARRAY:
+            return _readDoubleArray(reader, p);
+        case SER_BOOLEAN_ARRAY:
+            return _readBooleanArray(reader, p);
 
         case SER_TREE_NODE:
             return reader.readTree();
@@ -295,46 +357,213 @@ public class SimpleValueReader extends ValueReader
         }
     }
 
+    protected long _fetchLong(JsonParser p) throws IOException
+    {
+        JsonToken t = p.currentToken();
+        if (t == JsonToken.VALUE_NUMBER_INT) {
+            return p.getLongValue();
+        }
+        throw JSONObjectException.from(p, "Can not get long numeric value from JSON (to construct "
+                +_valueType.getName()+") from "+_tokenDesc(p, t));
+    }
+
+    /*
+    /**********************************************************************
+    /* Read methods for primitive arrays
+    /**********************************************************************
+     */
+
+    // Elements are read into reusable buffer of the reader, to avoid boxing
+    // and intermediate allocations; only result array is allocated
+
+    /**
+     * @deprecated Since 2.19 use {@link #_readIntArray(JSONReader, JsonParser)}
+     */
+    @Deprecated
     protected int[] _readIntArray(JsonParser p) throws IOException {
-        if (JsonToken.START_ARRAY.equals(p.currentToken())) {
-            p.nextToken();
+        if (!_startArray(p)) {
+            return null;
         }
+        return _readIntElements(new PrimitiveArrayBuffer(), p);
+    }
 
-        final IntStream.Builder builder = IntStream.builder();
-        int t = p.currentTokenId();
+    /**
+     * @since 2.19
+     */
+    protected int[] _readIntArray(JSONReader r, JsonParser p) throws IOException {
+        if (!_startArray(p)) {
+            return null;
+        }
+        return _readIntElements(r._primitiveArrayBuffer(), p);
+    }
 
-        // Tiny optimization
-        if (t == JsonTokenId.ID_END_ARRAY) {
-            return NO_INTS;
+    private int[] _readIntElements(PrimitiveArrayBuffer buffers, JsonParser p) throws IOException {
+        int[] buffer = buffers.ints();
+        int count = 0;
+        JsonToken t;
+        while ((t = p.nextToken()) != JsonToken.END_ARRAY) {
+            if (!_isNumberOrNull(t)) {
+                throw _elementFailure(p, "int");
+            }
+            if (count == buffer.length) {
+                buffer = buffers.grow(buffer);
+            }
+            buffer[count++] = p.getValueAsInt();
         }
-        
-        main_loop:
-        while (true) {
-            switch (t) {
-            case JsonTokenId.ID_NUMBER_FLOAT:
-            case JsonTokenId.ID_NUMBER_INT:
-            case JsonTokenId.ID_NULL:
-                builder.add(p.getValueAsInt());
-                break;
-            case JsonTokenId.ID_END_ARRAY:
-                break main_loop;
-            default:
-                throw new JSONObjectException("Failed to bind `int` element if `int[]` from value: "+
-                        _tokenDesc(p));
-            }
-            p.nextToken();
-            t = p.currentTokenId();
+        return buffers.finish(buffer, count);
+    }
+
+    /**
+     * @since 2.19
+     */
+    protected long[] _readLongArray(JSONReader r, JsonParser p) throws IOException {
+        if (!_startArray(p)) {
+            return null;
         }
-        return builder.build().toArray();
+        final PrimitiveArrayBuffer buffers = r._primitiveArrayBuffer();
+        long[] buffer = buffers.longs();
+        int count = 0;
+        JsonToken t;
+        while ((t = p.nextToken()) != JsonToken.END_ARRAY) {
+            if (!_isNumberOrNull(t)) {
+                throw _elementFailure(p, "long");
+            }
+            if (count == buffer.length) {
+                buffer = buffers.grow(buffer);
+            }
+            buffer[count++] = p.getValueAsLong();
+        }
+        return buffers.finish(buffer, count);
     }
 
-    protected long _fetchLong(JsonParser p) throws IOException
-    {
-        JsonToken t = p.currentToken();
-        if (t == JsonToken.VALUE_NUMBER_INT) {
-            return p.getLongValue();
+    /**
+     * @since 2.19
+     */
+    protected short[] _readShortArray(JSONReader r, JsonParser p) throws IOException {
+        if (!_startArray(p)) {
+            return null;
         }
-        throw JSONObjectException.from(p, "Can not get long numeric value from JSON (to construct "
-                +_valueType.getName()+") from "+_tokenDesc(p, t));
+        final PrimitiveArrayBuffer buffers = r._primitiveArrayBuffer();
+        short[] buffer = buffers.shorts();
+        int count = 0;
+        JsonToken t;
+        while ((t = p.nextToken()) != JsonToken.END_ARRAY) {
+            if (!_isNumberOrNull(t)) {
+                throw _elementFailure(p, "short");
+            }
+            if (count == buffer.length) {
+                buffer = buffers.grow(buffer);
+            }
+            // same as with `short` values: no range checks
+            buffer[count++] = (short) p.getValueAsInt();
+        }
+        return buffers.finish(buffer, count);
+    }
+
+    /**
+     * @since 2.19
+     */
+    protected float[] _readFloatArray(JSONReader r, JsonParser p) throws IOException {
+        if (!_startArray(p)) {
+            return null;
+        }
+        final PrimitiveArrayBuffer buffers = r._primitiveArrayBuffer();
+        float[] buffer = buffers.floats();
+        int count = 0;
+        JsonToken t;
+        while ((t = p.nextToken()) != JsonToken.END_ARRAY) {
+            if (!_isFloatingPointElement(t)) {
+                throw _elementFailure(p, "float");
+            }
+            if (count == buffer.length) {
+                buffer = buffers.grow(buffer);
+            }
+            buffer[count++] = (float) p.getValueAsDouble();
+        }
+        return buffers.finish(buffer, count);
+    }
+
+    /**
+     * @since 2.19
+     */
+    protected double[] _readDoubleArray(JSONReader r, JsonParser p) throws IOException {
+        if (!_startArray(p)) {
+            return null;
+        }
+        final PrimitiveArrayBuffer buffers = r._primitiveArrayBuffer();
+        double[] buffer = buffers.doubles();
+        int count = 0;
+        JsonToken t;
+        while ((t = p.nextToken()) != JsonToken.END_ARRAY) {
+            if (!_isFloatingPointElement(t)) {
+                throw _elementFailure(p, "double");
+            }
+            if (count == buffer.length) {
+                buffer = buffers.grow(buffer);
+            }
+            buffer[count++] = p.getValueAsDouble();
+        }
+        return buffers.finish(buffer, count);
+    }
+
+    /**
+     * @since 2.19
+     */
+    protected boolean[] _readBooleanArray(JSONReader r, JsonParser p) throws IOException {
+        if (!_startArray(p)) {
+            return null;
+        }
+        final PrimitiveArrayBuffer buffers = r._primitiveArrayBuffer();
+        boolean[] buffer = buffers.booleans();
+        int count = 0;
+        JsonToken t;
+        while ((t = p.nextToken()) != JsonToken.END_ARRAY) {
+            boolean b;
+            if (t == JsonToken.VALUE_TRUE) {
+                b = true;
+            } else if ((t == JsonToken.VALUE_FALSE) || (t == JsonToken.VALUE_NULL)) {
+                b = false;
+            } else {
+                throw _elementFailure(p, "boolean");
+            }
+            if (count == buffer.length) {
+                buffer = buffers.grow(buffer);
+            }
+            buffer[count++] = b;
+        }
+        return buffers.finish(buffer, count);
+    }
+
+    /**
+     * @return True if current token starts an array; false if it is {@code null}
+     */
+    private boolean _startArray(JsonParser p) throws IOException {
+        if (p.hasToken(JsonToken.START_ARRAY)) {
+            return true;
+        }
+        if (p.hasToken(JsonToken.VALUE_NULL)) {
+            return false;
+        }
+        throw JSONObjectException.from(p,
+                "Can not create a `"+_valueType.getSimpleName()+"` instance out of "+_tokenDesc(p));
+    }
+
+    private static boolean _isNumberOrNull(JsonToken t) {
+        return (t == JsonToken.VALUE_NUMBER_INT) || (t == JsonToken.VALUE_NUMBER_FLOAT)
+                || (t == JsonToken.VALUE_NULL);
+    }
+
+    private static boolean _isFloatingPointElement(JsonToken t) {
+        // Strings allowed for "NaN" and infinities, which are written as Strings by default
+        return _isNumberOrNull(t) || (t == JsonToken.VALUE_STRING);
+    }
+
+    private JSONObjectException _elementFailure(JsonParser p, String elemType) throws IOException {
+        if (p.currentToken() == null) {
+            return JSONObjectException.from(p,
+                    "Unexpected end-of-input: expected close marker for `"+elemType+"[]`");
+        }
+        return JSONObjectException.from(p, "Failed to bind `"+elemType+"` element of `"
+                +elemType+"[]` from value: "+_tokenDesc(p));
     }
 }
@@ -0,0 +1,106 @@
+package com.fasterxml.jackson.jr.ob.impl;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Helper class used by {@link ValueReaderLocator} and {@link ValueWriterLocator}
+ * to ensure that only one thread at a time resolves reader or writer for
+ * a given type (and feature set): other threads needing the same type
+ * wait for the result instead of duplicating introspection.
+ *<p>
+ * Since resolution of a type may require resolution of other types, and those
+ * may refer back to the first one (cyclic type references), waiting could lead
+ * to a deadlock between threads. To avoid this, threads register what they are
+ * waiting for, and if waiting would complete a cycle, thread resolves type itself
+ * instead of waiting. Same is done for recursive resolution by the thread already
+ * resolving the type: such cases are left for the locator to handle.
+ *<p>
+ * No monitor locks are used, so waiting does not pin virtual threads.
+ *
+ * @since 2.19
+ */
+public final class SingleFlight<V>
+{
+    /**
+     * Resolutions in progress
+     */
+    private final ConcurrentHashMap<ClassKey, Flight<V>> _flights = new ConcurrentHashMap<>();
+
+    /**
+     * Resolutions that threads are currently waiting for; used for detecting
+     * potential deadlocks.
+     */
+    private final ConcurrentHashMap<Thread, Flight<?>> _waiting = new ConcurrentHashMap<>();
+
+    public SingleFlight() { }
+
+    /**
+     * Method for resolving value for given type and feature flags, using given
+     * resolver unless another thread is already resolving it, in which case
+     * result of that resolution is returned. Resolver is expected to add
+     * the result to cache as necessary.
+     */
+    public V resolve(Class<?> type, int features, Supplier<V> resolver)
+    {
+        final ClassKey key = new ClassKey(type, features);
+        final Flight<V> flight = new Flight<V>();
+        final Flight<V> existing = _flights.putIfAbsent(key, flight);
+        if (existing == null) {
+            try {
+                V result = resolver.get();
+                flight.complete(result);
+                return result;
+            } catch (RuntimeException | Error e) {
+                flight.completeExceptionally(e);
+                throw e;
+            } finally {
+                _flights.remove(key, flight);
+            }
+        }
+        // Recursive call for the type being resolved by this thread?
+        if (existing.owner == Thread.currentThread()) {
+            return resolver.get();
+        }
+        final Thread me = Thread.currentThread();
+        // NOTE: must register before checking, so that of concurrently checking
+        // threads at least one will see the cycle
+        _waiting.put(me, existing);
+        try {
+            if (!_wouldDeadlock(me, existing)) {
+                try {
+                    return existing.join();
+                } catch (CompletionException e) {
+                    // Resolution failed; retry to report failure with our context
+                }
+            }
+        } finally {
+            _waiting.remove(me);
+        }
+        return resolver.get();
+    }
+
+    private boolean _wouldDeadlock(Thread me, Flight<?> flight)
+    {
+        Thread owner = flight.owner;
+        // Bounded, to guard against cycles that do not involve this thread
+        for (int i = 0, max = _waiting.size(); i <= max; ++i) {
+            if (owner == me) {
+                return true;
+            }
+            Flight<?> next = _waiting.get(owner);
+            if (next == null) {
+                return false;
+            }
+            owner = next.owner;
+        }
+        return false;
+    }
+
+    private final static class Flight<V> extends CompletableFuture<V>
+    {
+        final Thread owner = Thread.currentThread();
+    }
+}
@@ -0,0 +1,226 @@
+package com.fasterxml.jackson.jr.ob.impl;
+
+import java.util.Map;
+import java.util.Set;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.SerializedString;
+
+import static com.fasterxml.jackson.jr.ob.impl.ValueLocatorBase.*;
+
+/**
+ * {@link BeanReader} specialized for a single Bean type, used when
+ * {@link com.fasterxml.jackson.jr.ob.JSON.Feature#USE_GENERATED_ACCESSORS}
+ * is enabled. Once all properties are resolved, binding of each property is
+ * fixed: properties with standard readers for primitive types and
+ * {@link String} are read and assigned directly (without boxing or
+ * calls through {@link com.fasterxml.jackson.jr.ob.api.ValueReader}),
+ * and names not matching the expected order are dispatched through a
+ * hash index of names (and aliases) of the type.
+ *<p>
+ * Instances are constructed as the standard Bean reader of the type,
+ * so readers from {@link com.fasterxml.jackson.jr.ob.api.ReaderWriterProvider}s
+ * and {@link com.fasterxml.jackson.jr.ob.api.ReaderWriterModifier}s
+ * are used as usual.
+ *
+ * @since 2.19
+ */
+public class SpecializedBeanReader extends BeanReader
+{
+    /**
+     * Per-type binding information, constructed once all property readers have
+     * been resolved; {@code null} until then, or if {@link #findProperty} is
+     * overridden (in which case general-purpose handling of {@link BeanReader}
+     * is used).
+     */
+    protected volatile Binding _binding;
+
+    public SpecializedBeanReader(Class<?> type, Map<String, BeanPropertyReader> props,
+            BeanConstructors constructors,
+            Set<String> ignorableNames, Map<String, String> aliasMapping,
+            boolean countMatches)
+    {
+        super(type, props, constructors, ignorableNames, aliasMapping, countMatches);
+    }
+
+    /**
+     * Accessor for checking whether specialized binding has been resolved
+     * (which happens once all property readers have been resolved).
+     */
+    public boolean isSpecialized() {
+        return _binding != null;
+    }
+
+    @Override
+    public void resolveMatcher() {
+        super.resolveMatcher();
+        // Sub-classes with custom property lookup need general-purpose handling
+        if (!_customLookup) {
+            _binding = new Binding(_matcher);
+        }
+    }
+
+    @Override
+    protected Object readBean(JSONReader r, JsonParser p) throws Exception
+    {
+        final Binding b = _binding;
+        if (b == null) { // cyclic type still being resolved, or custom lookup
+            return super.readBean(r, p);
+        }
+        final Object bean = _constructors.create();
+        final PropertyMatcher matcher = b.matcher;
+        final BeanPropertyReader[] props = matcher.props;
+        final SerializedString[] names = matcher.names;
+        final int[] next = matcher.nextIndex;
+        final int[] kinds = b.kinds;
+        final ScalarAccessor[] scalars = b.scalarSetters;
+        final Object[] valueBuf = r._setterBuffer;
+        final int len = props.length;
+        int prev = len;
+        int hits = 0, misses = 0;
+
+        while (true) {
+            int ix = next[prev];
+            if ((ix < len) && p.nextFieldName(names[ix])) {
+                ++hits;
+            } else {
+                if (ix < len) { // name checked but did not match
+                    if (!p.hasToken(JsonToken.FIELD_NAME)) {
+                        break;
+                    }
+                } else if (p.nextToken() != JsonToken.FIELD_NAME) {
+                    break;
+                }
+                ++misses;
+                final String propName = p.currentName();
+                ix = matcher.find(propName);
+                if (ix < 0) {
+                    handleUnknown(r, p, propName);
+                    continue;
+                }
+                // Racy, but fine: just a prediction
+                next[prev] = ix;
+            }
+            prev = ix;
+            final BeanPropertyReader prop = props[ix];
+            switch (kinds[ix]) {
+            case SER_NUMBER_INTEGER:
+                {
+                    int v = p.nextIntValue(-2);
+                    if (v == -2) { // either not an int, or -2: either way, fine
+                        v = p.getValueAsInt();
+                    }
+                    try {
+                        scalars[ix].setInt(bean, v);
+                    } catch (Error e) {
+                        throw e;
+                    } catch (Throwable t) {
+                        throw prop._failedToSet(v, t, t);
+                    }
+                }
+                continue;
+            case SER_NUMBER_LONG:
+                {
+                    long v = p.nextLongValue(-2L);
+                    if (v == -2L) {
+                        v = p.getValueAsLong();
+                    }
+                    try {
+                        scalars[ix].setLong(bean, v);
+                    } catch (Error e) {
+                        throw e;
+                    } catch (Throwable t) {
+                        throw prop._failedToSet(v, t, t);
+                    }
+                }
+                continue;
+            case SER_NUMBER_DOUBLE:
+                {
+                    p.nextToken();
+                    final double v = p.getValueAsDouble();
+                    try {
+                        scalars[ix].setDouble(bean, v);
+                    } catch (Error e) {
+                        throw e;
+                    } catch (Throwable t) {
+                        throw prop._failedToSet(v, t, t);
+                    }
+                }
+                continue;
+            case SER_BOOLEAN:
+                {
+                    final boolean v = ((SimpleValueReader) prop.getReader()).readNextBoolean(r, p);
+                    try {
+                        scalars[ix].setBoolean(bean, v);
+                    } catch (Error e) {
+                        throw e;
+                    } catch (Throwable t) {
+                        throw prop._failedToSet(v, t, t);
+                    }
+                }
+                continue;
+            case SER_STRING:
+                {
+                    String str = p.nextTextValue();
+                    if (str == null) { // same as `SimpleValueReader` for non-String tokens
+                        str = p.getValueAsString();
+                    }
+                    valueBuf[0] = str;
+                }
+                break;
+            default:
+                valueBuf[0] = prop.getReader().readNext(r, p);
+            }
+            prop.setValueFor(bean, valueBuf);
+        }
+        if (_matchHits != null) {
+            _updateMatchStats(hits, misses);
+        }
+        // also verify we are not confused...
+        if (!p.hasToken(JsonToken.END_OBJECT)) {
+            throw _reportProblem(p);
+        }
+        return bean;
+    }
+
+    /**
+     * Container for information on how each property (by index of
+     * {@link PropertyMatcher}) is to be read and assigned.
+     */
+    protected final static class Binding
+    {
+        public final PropertyMatcher matcher;
+
+        /**
+         * Kind of binding for each property: one of {@code SER_NUMBER_INTEGER},
+         * {@code SER_NUMBER_LONG}, {@code SER_NUMBER_DOUBLE}, {@code SER_BOOLEAN}
+         * (for unboxed primitives), {@code SER_STRING} (for {@link String}s read
+         * with the standard reader) or {@code SER_UNKNOWN} (for all other values).
+         */
+        public final int[] kinds;
+
+        public final ScalarAccessor[] scalarSetters;
+
+        public Binding(PropertyMatcher matcher)
+        {
+            this.matcher = matcher;
+            final BeanPropertyReader[] props = matcher.props;
+            kinds = new int[props.length];
+            scalarSetters = new ScalarAccessor[props.length];
+            for (int i = 0; i < props.length; ++i) {
+                final BeanPropertyReader prop = props[i];
+                final int scalarType = prop.scalarTypeId();
+                if (scalarType != 0) {
+                    kinds[i] = scalarType;
+                    scalarSetters[i] = prop.scalarSetter();
+                } else if ((prop.getReader().getClass() == SimpleValueReader.class)
+                        && (((SimpleValueReader) prop.getReader())._typeId == SER_STRING)) {
+                    kinds[i] = SER_STRING;
+                } else {
+                    kinds[i] = SER_UNKNOWN;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.fasterxml.jackson.jr.ob.impl;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+
+import static com.fasterxml.jackson.jr.ob.impl.ValueLocatorBase.*;
+
+/**
+ * {@link BeanWriter} specialized for a single Bean type, used when
+ * {@link com.fasterxml.jackson.jr.ob.JSON.Feature#USE_GENERATED_ACCESSORS}
+ * is enabled. Handling of each property is fixed at construction:
+ * properties of primitive types and {@link String} are accessed and written
+ * directly, without boxing or type lookups by {@link JSONWriter}.
+ *<p>
+ * Specialized handling is only used with the standard {@link JSONWriter};
+ * with sub-classes (that may override typed write methods)
+ * {@link JSONWriter#writeBeanValue} is called as with {@link BeanWriter}.
+ *
+ * @since 2.19
+ */
+public class SpecializedBeanWriter extends BeanWriter
+{
+    /**
+     * Kind of handling for each property: one of {@code SER_NUMBER_INTEGER},
+     * {@code SER_NUMBER_LONG}, {@code SER_NUMBER_DOUBLE}, {@code SER_BOOLEAN}
+     * (for unboxed primitives), {@code SER_STRING} or {@code SER_UNKNOWN}
+     * (for all other values).
+     */
+    protected final int[] _kinds;
+
+    public SpecializedBeanWriter(Class<?> type, BeanPropertyWriter[] props) {
+        super(type, props);
+        _kinds = new int[props.length];
+        for (int i = 0; i < props.length; ++i) {
+            final BeanPropertyWriter prop = props[i];
+            if (prop.scalarTypeId() != 0) {
+                _kinds[i] = prop.scalarTypeId();
+            } else if (prop.typeId == SER_STRING) {
+                _kinds[i] = SER_STRING;
+            } else {
+                _kinds[i] = SER_UNKNOWN;
+            }
+        }
+    }
+
+    @Override
+    public void writeValue(JSONWriter context, JsonGenerator g, Object value)
+        throws IOException
+    {
+        if (context.getClass() != JSONWriter.class) {
+            context.writeBeanValue(_properties, value);
+            return;
+        }
+        final BeanPropertyWriter[] props = _properties;
+        final int[] kinds = _kinds;
+        g.writeStartObject();
+        for (int i = 0, end = props.length; i < end; ++i) {
+            final BeanPropertyWriter prop = props[i];
+            final SerializedString name = prop.name;
+            switch (kinds[i]) {
+            case SER_NUMBER_INTEGER:
+                g.writeFieldName(name);
+                g.writeNumber(prop.getIntFor(value));
+                continue;
+            case SER_NUMBER_LONG:
+                g.writeFieldName(name);
+                g.writeNumber(prop.getLongFor(value));
+                continue;
+            case SER_NUMBER_DOUBLE:
+                g.writeFieldName(name);
+                g.writeNumber(prop.getDoubleFor(value));
+                continue;
+            case SER_BOOLEAN:
+                g.writeFieldName(name);
+                g.writeBoolean(prop.getBooleanFor(value));
+                continue;
+            }
+            final Object propValue = prop.getValueFor(value);
+            if (propValue == null) {
+                if (context._writeNullValues) {
+                    g.writeFieldName(name);
+                    g.writeNull();
+                }
+                continue;
+            }
+            g.writeFieldName(name);
+            if (kinds[i] == SER_STRING) {
+                g.writeString((String) propValue);
+                continue;
+            }
+            int typeId = prop.typeId;
+            if (typeId == 0) {
+                typeId = context._writerLocator.findSerializationType(propValue.getClass());
+            }
+            context._writeValue(propValue, typeId);
+        }
+        g.writeEndObject();
+    }
+}
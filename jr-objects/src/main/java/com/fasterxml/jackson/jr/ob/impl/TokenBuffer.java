@@ -0,0 +1,470 @@
+package com.fasterxml.jackson.jr.ob.impl;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+
+import com.fasterxml.jackson.core.*;
+import com.fasterxml.jackson.core.base.ParserMinimalBase;
+import com.fasterxml.jackson.core.json.JsonReadContext;
+import com.fasterxml.jackson.jr.ob.JSONObjectException;
+import com.fasterxml.jackson.jr.ob.PackageVersion;
+
+/**
+ * Compact in-memory representation of a sequence of JSON tokens (usually,
+ * a single JSON value), copied from a {@link JsonParser}, that can be
+ * read back (possibly by another thread) using {@link #asParser()}.
+ * Used to separate tokenization of content (which is inherently sequential)
+ * from binding of values (which need not be).
+ *<p>
+ * Textual values and names are decoded when copied; integral numbers are
+ * copied as decoded {@link Number}s, but floating-point numbers as text,
+ * to be decoded only if and as needed (which also retains full precision).
+ *
+ * @since 2.19
+ */
+public final class TokenBuffer
+{
+    private final static JsonToken[] TOKENS = JsonToken.values();
+
+    private byte[] _types;
+
+    private Object[] _values;
+
+    private int _size;
+
+    public TokenBuffer() {
+        this(16);
+    }
+
+    public TokenBuffer(int initialCapacity) {
+        _types = new byte[initialCapacity];
+        _values = new Object[initialCapacity];
+    }
+
+    /**
+     * Factory method for constructing a buffer that contains current token
+     * of given parser, along with all its contents (if current token is
+     * {@link JsonToken#START_OBJECT} or {@link JsonToken#START_ARRAY});
+     * parser is left pointing to the last token copied.
+     */
+    public static TokenBuffer copyOf(JsonParser p) throws IOException
+    {
+        TokenBuffer buffer = new TokenBuffer();
+        JsonToken t = p.currentToken();
+        if (t == null) {
+            return buffer;
+        }
+        int depth = 0;
+        while (true) {
+            buffer.append(p);
+            if (t.isStructStart()) {
+                ++depth;
+            } else if (t.isStructEnd()) {
+                --depth;
+            }
+            if (depth == 0) {
+                return buffer;
+            }
+            t = p.nextToken();
+            if (t == null) {
+                throw JSONObjectException.from(p,
+                        "Unexpected end-of-input: expected close marker for "
+                        +((p.getParsingContext().inArray()) ? "Array" : "Object"));
+            }
+        }
+    }
+
+    /**
+     * @return Number of tokens buffered
+     */
+    public int size() {
+        return _size;
+    }
+
+    /**
+     * Method for removing all buffered tokens, to allow reuse of the buffer.
+     * Note that parsers constructed before clearing must not be used afterwards.
+     */
+    public void clear() {
+        Arrays.fill(_values, 0, _size, null);
+        _size = 0;
+    }
+
+    /**
+     * Method for constructing a new {@link JsonParser} for reading buffered
+     * tokens; parser is not yet pointing to the first token.
+     * Multiple parsers may be constructed and used concurrently.
+     */
+    public JsonParser asParser() {
+        return new Parser(this);
+    }
+
+    /**
+     * Method for appending the current token of given parser (but not its
+     * contents, if any) to this buffer: used for incremental copying.
+     */
+    public void append(JsonParser p) throws IOException
+    {
+        final JsonToken t = p.currentToken();
+        Object value;
+        switch (t) {
+        case FIELD_NAME:
+            value = p.currentName();
+            break;
+        case VALUE_STRING:
+            value = p.getText();
+            break;
+        case VALUE_NUMBER_INT:
+            value = p.getNumberValue();
+            break;
+        case VALUE_NUMBER_FLOAT:
+            value = p.getText();
+            break;
+        case VALUE_EMBEDDED_OBJECT:
+            value = p.getEmbeddedObject();
+            break;
+        default:
+            value = null;
+        }
+        if (_size == _types.length) {
+            final int newSize = _size + (_size >> 1) + 8;
+            _types = Arrays.copyOf(_types, newSize);
+            _values = Arrays.copyOf(_values, newSize);
+        }
+        _types[_size] = (byte) t.ordinal();
+        _values[_size] = value;
+        ++_size;
+    }
+
+    /*
+    /**********************************************************************
+    /* Parser implementation
+    /**********************************************************************
+     */
+
+    private final static class Parser extends ParserMinimalBase
+    {
+        private final TokenBuffer _buffer;
+
+        private int _index = -1;
+
+        /**
+         * Value of the current token, if any
+         */
+        private Object _value;
+
+        /**
+         * Decoded value of current floating-point token, if decoded
+         */
+        private Number _fpValue;
+
+        private JsonReadContext _context = JsonReadContext.createRootContext(null);
+
+        private ObjectCodec _codec;
+
+        private boolean _closed;
+
+        Parser(TokenBuffer buffer) {
+            _buffer = buffer;
+        }
+
+        @Override
+        public Version version() {
+            return PackageVersion.VERSION;
+        }
+
+        @Override
+        public ObjectCodec getCodec() {
+            return _codec;
+        }
+
+        @Override
+        public void setCodec(ObjectCodec c) {
+            _codec = c;
+        }
+
+        @Override
+        public void close() {
+            _closed = true;
+        }
+
+        @Override
+        public boolean isClosed() {
+            return _closed;
+        }
+
+        /*
+        /******************************************************************
+        /* Traversal
+        /******************************************************************
+         */
+
+        @Override
+        public JsonToken nextToken() throws IOException
+        {
+            if (_closed || (++_index >= _buffer._size)) {
+                _index = _buffer._size;
+                _value = null;
+                return (_currToken = null);
+            }
+            final JsonToken t = TOKENS[_buffer._types[_index]];
+            _value = _buffer._values[_index];
+            _fpValue = null;
+            if (t == JsonToken.FIELD_NAME) {
+                _context.expectComma();
+                _context.setCurrentName((String) _value);
+            } else if (t.isStructEnd()) {
+                _context = _context.clearAndGetParent();
+            } else {
+                if (!_context.inObject()) {
+                    _context.expectComma();
+                }
+                if (t == JsonToken.START_OBJECT) {
+                    _context = _context.createChildObjectContext(-1, -1);
+                } else if (t == JsonToken.START_ARRAY) {
+                    _context = _context.createChildArrayContext(-1, -1);
+                }
+            }
+            return (_currToken = t);
+        }
+
+        @Override
+        protected void _handleEOF() { }
+
+        @Override
+        public JsonStreamContext getParsingContext() {
+            return _context;
+        }
+
+        @Override
+        public String getCurrentName() {
+            return currentName();
+        }
+
+        @Override
+        public String currentName() {
+            // for Object/Array start markers name is that of the parent context
+            if ((_currToken == JsonToken.START_OBJECT) || (_currToken == JsonToken.START_ARRAY)) {
+                return _context.getParent().getCurrentName();
+            }
+            return _context.getCurrentName();
+        }
+
+        @Override
+        public void overrideCurrentName(String name) {
+            JsonReadContext ctxt = _context;
+            if ((_currToken == JsonToken.START_OBJECT) || (_currToken == JsonToken.START_ARRAY)) {
+                ctxt = ctxt.getParent();
+            }
+            try {
+                ctxt.setCurrentName(name);
+            } catch (IOException e) { // only thrown for duplicates, not detected here
+                throw new IllegalStateException(e);
+            }
+        }
+
+        @Override
+        public JsonLocation getCurrentLocation() {
+            return JsonLocation.NA;
+        }
+
+        @Override
+        public JsonLocation currentLocation() {
+            return JsonLocation.NA;
+        }
+
+        @Override
+        public JsonLocation getTokenLocation() {
+            return JsonLocation.NA;
+        }
+
+        @Override
+        public JsonLocation currentTokenLocation() {
+            return JsonLocation.NA;
+        }
+
+        /*
+        /******************************************************************
+        /* Textual values
+        /******************************************************************
+         */
+
+        @Override
+        public String getText()
+        {
+            if (_currToken == null) {
+                return null;
+            }
+            switch (_currToken) {
+            case FIELD_NAME:
+            case VALUE_STRING:
+            case VALUE_NUMBER_FLOAT:
+                return (String) _value;
+            case VALUE_NUMBER_INT:
+            case VALUE_EMBEDDED_OBJECT:
+                return (_value == null) ? null : _value.toString();
+            default:
+                return _currToken.asString();
+            }
+        }
+
+        @Override
+        public char[] getTextCharacters() {
+            String text = getText();
+            return (text == null) ? null : text.toCharArray();
+        }
+
+        @Override
+        public int getTextLength() {
+            String text = getText();
+            return (text == null) ? 0 : text.length();
+        }
+
+        @Override
+        public int getTextOffset() {
+            return 0;
+        }
+
+        @Override
+        public boolean hasTextCharacters() {
+            return false;
+        }
+
+        @Override
+        public byte[] getBinaryValue(Base64Variant b64variant) throws IOException
+        {
+            if ((_currToken == JsonToken.VALUE_EMBEDDED_OBJECT) && (_value instanceof byte[])) {
+                return (byte[]) _value;
+            }
+            if (_currToken != JsonToken.VALUE_STRING) {
+                _reportError("Current token ("+_currToken+") not VALUE_STRING or VALUE_EMBEDDED_OBJECT, can not access as binary");
+            }
+            try {
+                return b64variant.decode((String) _value);
+            } catch (IllegalArgumentException e) {
+                _reportError(e.getMessage());
+                return null; // never gets here
+            }
+        }
+
+        @Override
+        public Object getEmbeddedObject() {
+            return (_currToken == JsonToken.VALUE_EMBEDDED_OBJECT) ? _value : null;
+        }
+
+        /*
+        /******************************************************************
+        /* Numeric values
+        /******************************************************************
+         */
+
+        @Override
+        public Number getNumberValue() throws IOException
+        {
+            if (_currToken == JsonToken.VALUE_NUMBER_INT) {
+                return (Number) _value;
+            }
+            if (_currToken == JsonToken.VALUE_NUMBER_FLOAT) {
+                if (_fpValue == null) {
+                    try {
+                        _fpValue = Double.valueOf((String) _value);
+                    } catch (NumberFormatException e) {
+                        _reportError("Malformed numeric value ("+_value+")");
+                    }
+                }
+                return _fpValue;
+            }
+            _reportError("Current token ("+_currToken+") not numeric, can not use numeric value accessors");
+            return null; // never gets here
+        }
+
+        @Override
+        public NumberType getNumberType() throws IOException
+        {
+            if (_currToken == JsonToken.VALUE_NUMBER_FLOAT) {
+                return NumberType.DOUBLE;
+            }
+            Number n = getNumberValue();
+            if (n instanceof Integer) {
+                return NumberType.INT;
+            }
+            if (n instanceof Long) {
+                return NumberType.LONG;
+            }
+            return NumberType.BIG_INTEGER;
+        }
+
+        @Override
+        public int getIntValue() throws IOException
+        {
+            Number n = getNumberValue();
+            if (n instanceof Integer) {
+                return n.intValue();
+            }
+            if (_currToken == JsonToken.VALUE_NUMBER_INT) {
+                // Long or BigInteger: must be within range
+                if ((n instanceof Long) && (n.longValue() == n.intValue())) {
+                    return n.intValue();
+                }
+                _reportError("Numeric value ("+getText()+") out of range of int");
+            }
+            return n.intValue();
+        }
+
+        @Override
+        public long getLongValue() throws IOException
+        {
+            Number n = getNumberValue();
+            if (n instanceof BigInteger) {
+                try {
+                    return ((BigInteger) n).longValueExact();
+                } catch (ArithmeticException e) {
+                    _reportError("Numeric value ("+getText()+") out of range of long");
+                }
+            }
+            return n.longValue();
+        }
+
+        @Override
+        public BigInteger getBigIntegerValue() throws IOException
+        {
+            Number n = getNumberValue();
+            if (n instanceof BigInteger) {
+                return (BigInteger) n;
+            }
+            if (_currToken == JsonToken.VALUE_NUMBER_FLOAT) {
+                return getDecimalValue().toBigInteger();
+            }
+            return BigInteger.valueOf(n.longValue());
+        }
+
+        @Override
+        public float getFloatValue() throws IOException {
+            return getNumberValue().floatValue();
+        }
+
+        @Override
+        public double getDoubleValue() throws IOException {
+            return getNumberValue().doubleValue();
+        }
+
+        @Override
+        public BigDecimal getDecimalValue() throws IOException
+        {
+            if (_currToken == JsonToken.VALUE_NUMBER_FLOAT) {
+                try {
+                    return new BigDecimal((String) _value);
+                } catch (NumberFormatException e) {
+                    _reportError("Malformed numeric value ("+_value+")");
+                }
+            }
+            Number n = getNumberValue();
+            if (n instanceof BigInteger) {
+                return new BigDecimal((BigInteger) n);
+            }
+            return BigDecimal.valueOf(n.longValue());
+        }
+    }
+}
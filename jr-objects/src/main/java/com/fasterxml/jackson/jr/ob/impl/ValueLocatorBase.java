@@ -122,6 +122,23 @@ public abstract class ValueLocatorBase
      */
     public final static int SER_ITERABLE = 37;
 
+    // // // Primitive arrays added later on
+
+    /**
+     * @since 2.19
+     */
+    public final static int SER_SHORT_ARRAY = 38;
+
+    /**
+     * @since 2.19
+     */
+    public final static int SER_FLOAT_ARRAY = 39;
+
+    /**
+     * @since 2.19
+     */
+    public final static int SER_DOUBLE_ARRAY = 40;
+
     /*
     /**********************************************************************
     /* Other constants
@@ -159,7 +176,15 @@ public abstract class ValueLocatorBase
                 if (raw == boolean[].class) {
                     return SER_BOOLEAN_ARRAY;
                 }
-                // Hmmh. Could support all types; add as/when needed
+                if (raw == double[].class) {
+                    return SER_DOUBLE_ARRAY;
+                }
+                if (raw == float[].class) {
+                    return SER_FLOAT_ARRAY;
+                }
+                if (raw == short[].class) {
+                    return SER_SHORT_ARRAY;
+                }
                 return SER_UNKNOWN;
             }
             return SER_OBJECT_ARRAY;
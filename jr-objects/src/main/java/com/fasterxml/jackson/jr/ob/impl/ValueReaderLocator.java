@@ -1,8 +1,10 @@
 package com.fasterxml.jackson.jr.ob.impl;
 
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.*;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
 
 import com.fasterxml.jackson.jr.ob.JSON;
 import com.fasterxml.jackson.jr.ob.api.ReaderWriterModifier;
@@ -30,8 +32,11 @@ public class ValueReaderLocator
      * While we should be able to cache all types in the active working set,
      * we should also avoid potential unbounded retention, since there is
      * often just one big instance per JVM (or at least ClassLoader).
+     *<p>
+     * Default maximum size of reader cache; may be changed using
+     * {@link com.fasterxml.jackson.jr.ob.JSON.Builder#readerCacheSize(int)}.
      */
-    protected final static int MAX_CACHED_READERS = 500;
+    public final static int MAX_CACHED_READERS = 500;
 
     /*
     /**********************************************************************
@@ -66,21 +71,39 @@ public class ValueReaderLocator
      */
 
     /**
-     * Set of {@link ValueReader}s that we have resolved
+     * Set of {@link ValueReader}s that we have resolved; bounded in size,
+     * with least recently used entries evicted if necessary.
+     *<p>
+     * NOTE: type changed in 2.19 from {@code ConcurrentHashMap}
      */
-    protected final ConcurrentHashMap<ClassKey, ValueReader> _knownReaders;
+    protected final ClassValueCache<ValueReader> _knownReaders;
 
     /**
      * During resolution, some readers may be in-progress, but need to be
      * linked: for example, with cyclic type references.
+     *<p>
+     * NOTE: since 2.19 only accessed by the thread using per-operation instance.
      */
     protected Map<ClassKey, ValueReader> _incompleteReaders;
 
     /**
-     * Object used for mutex during construction of a Bean deserializer: necessary
-     * to avoid race conditions during handling of cyclic dependencies.
+     * Helper object used to ensure that only one thread at a time resolves reader
+     * for given type, other threads waiting for the result.
+     *<p>
+     * NOTE: replaced global {@code _readerLock} in 2.19
+     *
+     * @since 2.19
+     */
+    protected final SingleFlight<ValueReader> _readerFlights;
+
+    /**
+     * Readers for generic container types (Collections, Maps), keyed by
+     * resolved type and features, so that same readers are shared by
+     * all properties (of all Bean types) with same declared type.
+     *
+     * @since 2.19
      */
-    protected final Object _readerLock;
+    protected final BoundedCache<ContainerKey, ValueReader> _containerReaders;
 
     /*
     /**********************************************************************
@@ -97,14 +120,16 @@ public class ValueReaderLocator
 
     /*
     /**********************************************************************
-    /* Instance state, caching
+    /* Instance state
     /**********************************************************************
      */
 
     /**
-     * Reusable lookup key; only used by per-thread instances.
+     * Number of times an incomplete reader (from {@link #_incompleteReaders})
+     * has been returned: used to detect container readers that must not be
+     * shared before all readers they refer to are complete.
      */
-    private ClassKey _key;
+    private int _incompleteReaderUses;
 
     /*
     /**********************************************************************
@@ -116,13 +141,25 @@ public class ValueReaderLocator
      * Constructor for the blueprint instance
      */
     protected ValueReaderLocator(ReaderWriterProvider rwp, ReaderWriterModifier rwm)
+    {
+        this(rwp, rwm, MAX_CACHED_READERS, false);
+    }
+
+    /**
+     * Constructor for the blueprint instance
+     *
+     * @since 2.19
+     */
+    protected ValueReaderLocator(ReaderWriterProvider rwp, ReaderWriterModifier rwm,
+            int maxCachedReaders, boolean countCacheHits)
     {
         _features = 0;
         _readerProvider = rwp;
         _readerModifier = rwm;
-        _knownReaders = new ConcurrentHashMap<ClassKey, ValueReader>(10, 0.75f, 2);
+        _knownReaders = new ClassValueCache<>(maxCachedReaders, countCacheHits);
         _typeResolver = new TypeResolver();
-        _readerLock = new Object();
+        _readerFlights = new SingleFlight<>();
+        _containerReaders = new BoundedCache<>(maxCachedReaders);
         _readContext = null;
     }
 
@@ -134,15 +171,18 @@ public class ValueReaderLocator
         _readerModifier = base._readerModifier;
         _knownReaders = base._knownReaders;
         _typeResolver = base._typeResolver;
-        _readerLock = base._readerLock;
+        _readerFlights = base._readerFlights;
+        _containerReaders = base._containerReaders;
     }
 
     protected ValueReaderLocator(ValueReaderLocator base,
             ReaderWriterProvider rwp, ReaderWriterModifier rwm)
     {
         // create new cache as there may be custom writers:
-        _knownReaders = new ConcurrentHashMap<ClassKey, ValueReader>(10, 0.75f, 2);
-        _readerLock = new Object();
+        _knownReaders = new ClassValueCache<>(base._knownReaders.maxSize(),
+                base._knownReaders.countsHits());
+        _readerFlights = new SingleFlight<>();
+        _containerReaders = new BoundedCache<>(base._containerReaders.maxSize());
 
         _features = base._features;
         _readContext = base._readContext;
@@ -155,6 +195,14 @@ public class ValueReaderLocator
         return new ValueReaderLocator(rwp, rwm);
     }
 
+    /**
+     * @since 2.19
+     */
+    public final static ValueReaderLocator blueprint(ReaderWriterProvider rwp, ReaderWriterModifier rwm,
+            int maxCachedReaders, boolean countCacheHits) {
+        return new ValueReaderLocator(rwp, rwm, maxCachedReaders, countCacheHits);
+    }
+
     public ValueReaderLocator with(ReaderWriterProvider rwp) {
         if (rwp == _readerProvider) {
             return this;
@@ -183,6 +231,16 @@ public class ValueReaderLocator
 
     public ReaderWriterModifier readerWriterModifier() { return _readerModifier; }
 
+    /**
+     * Accessor for statistics of the reader cache (shared by all
+     * per-operation instances of the same blueprint).
+     *
+     * @since 2.19
+     */
+    public CacheStatistics cacheStatistics() {
+        return _knownReaders.statistics();
+    }
+
     /*
     /**********************************************************************
     /* Public API, operations
@@ -201,19 +259,19 @@ public class ValueReaderLocator
      */
     public ValueReader findReader(Class<?> raw)
     {
-        ClassKey k = (_key == null) ? new ClassKey(raw, _features) : _key.with(raw, _features);
-        ValueReader vr = _knownReaders.get(k);
+        ValueReader vr = _knownReaders.get(raw, _features);
         if (vr != null) {
             return vr;
         }
-        vr = createReader(null, raw, raw);
-        // 15-Jun-2016, tatu: Let's limit maximum number of readers to prevent
-        //   unbounded memory retention (at least wrt readers)
-        if (_knownReaders.size() >= MAX_CACHED_READERS) {
-            _knownReaders.clear();
-        }
-        _knownReaders.putIfAbsent(new ClassKey(raw, _features), vr);
-        return vr;
+        // 2.19: avoid concurrent resolution of the same type by multiple threads
+        return _readerFlights.resolve(raw, _features, () -> {
+            ValueReader r = createReader(null, raw, raw);
+            // 15-Jun-2016, tatu: Let's limit maximum number of readers to prevent
+            //   unbounded memory retention (at least wrt readers)
+            // 2.19: ... by evicting least recently used ones, instead of clearing all
+            ValueReader old = _knownReaders.putIfAbsent(raw, _features, r);
+            return (old == null) ? r : old;
+        });
     }
 
     /**
@@ -329,9 +387,11 @@ public class ValueReaderLocator
 
     protected ValueReader collectionReader(Class<?> contextType, Type collectionType)
     {
-        ResolvedType t = _typeResolver.resolve(_bindings(contextType), collectionType);
-        List<ResolvedType> params = t.typeParametersFor(Collection.class);
-        return collectionReader(t.erasedType(), params.get(0));
+        final ResolvedType t = _typeResolver.resolve(_bindings(contextType), collectionType);
+        return _containerReader(t, () -> {
+            List<ResolvedType> params = t.typeParametersFor(Collection.class);
+            return collectionReader(t.erasedType(), params.get(0));
+        });
     }
 
     protected ValueReader collectionReader(Class<?> collectionType, ResolvedType valueType)
@@ -358,11 +418,82 @@ public class ValueReaderLocator
         return new CollectionReader(collectionType, valueReader);
     }
 
+    /**
+     * Method for finding reader for reading {@link List}s with elements of given
+     * type, as done by {@link JSONReader#readListOf}: similar to readers for
+     * declared {@code List} types, custom reader may be provided by
+     * {@link ReaderWriterProvider}.
+     *
+     * @since 2.19
+     */
+    public ValueReader listOfReader(Class<?> elementType)
+    {
+        final ValueReader valueReader = findReader(elementType);
+        if (_readerProvider != null) {
+            ValueReader r = _readerProvider.findCollectionReader(_readContext, List.class,
+                    _typeResolver.resolve(TypeBindings.emptyBindings(), elementType), valueReader);
+            if (r != null) {
+                return r;
+            }
+        }
+        return new CollectionReader(List.class, valueReader);
+    }
+
+    /**
+     * Method for finding reader for reading {@link Map}s with values of given
+     * type, as done by {@link JSONReader#readMapOf}: similar to readers for
+     * declared {@code Map} types, custom reader may be provided by
+     * {@link ReaderWriterProvider}.
+     *
+     * @since 2.19
+     */
+    public ValueReader mapOfReader(Class<?> valueType)
+    {
+        final ValueReader valueReader = findReader(valueType);
+        if (_readerProvider != null) {
+            ValueReader r = _readerProvider.findMapReader(_readContext, Map.class,
+                    _typeResolver.resolve(TypeBindings.emptyBindings(), valueType), valueReader);
+            if (r != null) {
+                return r;
+            }
+        }
+        return new MapReader(Map.class, valueReader);
+    }
+
     protected ValueReader mapReader(Class<?> contextType, Type mapType)
     {
-        ResolvedType t = _typeResolver.resolve(_bindings(contextType), mapType);
-        List<ResolvedType> params = t.typeParametersFor(Map.class);
-        return mapReader(t.erasedType(), params.get(1));
+        final ResolvedType t = _typeResolver.resolve(_bindings(contextType), mapType);
+        return _containerReader(t, () -> {
+            List<ResolvedType> params = t.typeParametersFor(Map.class);
+            return mapReader(t.erasedType(), params.get(1));
+        });
+    }
+
+    /**
+     * Helper method for finding shared reader for given resolved container type,
+     * or if none yet, constructing one using given factory and sharing it if possible.
+     *
+     * @since 2.19
+     */
+    protected ValueReader _containerReader(ResolvedType type, Supplier<ValueReader> factory)
+    {
+        if (!type.typeBindings().isCacheable()) {
+            return factory.get();
+        }
+        final ContainerKey key = new ContainerKey(type, _features);
+        ValueReader r = _containerReaders.get(key);
+        if (r == null) {
+            final int incompleteUses = _incompleteReaderUses;
+            r = factory.get();
+            // Can only share if no incomplete (cyclic) Bean readers were linked
+            if (incompleteUses == _incompleteReaderUses) {
+                ValueReader old = _containerReaders.putIfAbsent(key, r);
+                if (old != null) {
+                    r = old;
+                }
+            }
+        }
+        return r;
     }
 
     protected ValueReader mapReader(Class<?> mapType, ResolvedType valueType)
@@ -392,28 +523,31 @@ public class ValueReaderLocator
     {
         // NOTE: caller (must) handle custom reader lookup earlier, not done here
 
+        // 2.19: no locking needed since per-operation instances are not shared
+        //   between threads; coordination between threads done by `findReader()`
         final ClassKey key = new ClassKey(type, _features);
-        synchronized (_readerLock) {
-            if (_incompleteReaders == null) {
-                _incompleteReaders = new HashMap<ClassKey, ValueReader>();
-            } else { // perhaps it has already been resolved?
-                ValueReader vr = _incompleteReaders.get(key);
-                if (vr != null) {
-                    return vr;
-                }
+        if (_incompleteReaders == null) {
+            _incompleteReaders = new HashMap<ClassKey, ValueReader>();
+        } else { // perhaps it has already been resolved?
+            ValueReader vr = _incompleteReaders.get(key);
+            if (vr != null) {
+                ++_incompleteReaderUses;
+                return vr;
             }
-            final BeanReader def = _resolveBeanForDeser(type, _resolveBeanDef(type));
-            try {
-                _incompleteReaders.put(key, def);
-                for (Map.Entry<String, BeanPropertyReader> entry : def.propertiesByName().entrySet()) {
-                    BeanPropertyReader prop = entry.getValue();
-                    entry.setValue(prop.withReader(createReader(type, prop.rawSetterType(), prop.genericSetterType())));
-                }
-            } finally {
-                _incompleteReaders.remove(key);
+        }
+        final BeanReader def = _resolveBeanForDeser(type, _resolveBeanDef(type));
+        try {
+            _incompleteReaders.put(key, def);
+            for (Map.Entry<String, BeanPropertyReader> entry : def.propertiesByName().entrySet()) {
+                BeanPropertyReader prop = entry.getValue();
+                entry.setValue(prop.withReader(createReader(type, prop.rawSetterType(), prop.genericSetterType())));
             }
-            return def;
+            // 2.19: property matching needs fully resolved property readers
+            def.resolveMatcher();
+        } finally {
+            _incompleteReaders.remove(key);
         }
+        return def;
     }
 
     /*
@@ -463,6 +597,11 @@ public class ValueReaderLocator
                     // 13-May-2021, tatu: Let's retain ordering here:
                     : new LinkedHashMap<>();
             final boolean useFields = JSON.Feature.USE_FIELDS.isEnabled(_features);
+            // Records are created via constructor, no need for setter handles
+            final boolean useHandles = !isRecord
+                    && JSON.Feature.USE_METHOD_HANDLES.isEnabled(_features);
+            final boolean useGenerated = !isRecord
+                    && JSON.Feature.USE_GENERATED_ACCESSORS.isEnabled(_features);
             for (int i = 0; i < len; ++i) {
                 POJODefinition.Prop rawProp = rawProps.get(i);
                 Method setter = rawProp.setter;
@@ -503,7 +642,16 @@ public class ValueReaderLocator
                     }
                 }
 
-                propMap.put(rawProp.name, new BeanPropertyReader(rawProp.name, field, setter, i));
+                // Generated accessors preferred, if available; method handles second
+                BiConsumer<Object,Object> setterFunction = useGenerated
+                        ? AccessorHelpers.setterFunction(setter) : null;
+                MethodHandle setterHandle = (useHandles && (setterFunction == null))
+                        ? AccessorHelpers.setterHandle(field, setter) : null;
+                // Primitive-valued properties may also be assigned without boxing
+                ScalarAccessor scalarSetter = isRecord ? null
+                        : AccessorHelpers.scalarSetter(field, setter, useHandles, useGenerated);
+                propMap.put(rawProp.name, new BeanPropertyReader(rawProp.name, field, setter, i,
+                        setterHandle, setterFunction, scalarSetter));
 
                 // 25-Jan-2020, tatu: Aliases are a bit different because we can not tie them into
                 //   specific reader instance, due to resolution of cyclic dependencies. Instead,
@@ -520,8 +668,13 @@ public class ValueReaderLocator
                 }
             }
         }
+        // 2.19: may use reader specialized for the type (not for Records)
+        if (!isRecord && JSON.Feature.USE_GENERATED_ACCESSORS.isEnabled(_features)) {
+            return new SpecializedBeanReader(raw, propMap, constructors,
+                    beanDef.getIgnorableNames(), aliasMapping, _knownReaders.countsHits());
+        }
         return new BeanReader(raw, propMap, constructors,
-                beanDef.getIgnorableNames(), aliasMapping);
+                beanDef.getIgnorableNames(), aliasMapping, _knownReaders.countsHits());
     }
 
     private TypeBindings _bindings(Class<?> ctxt) {
@@ -530,4 +683,33 @@ public class ValueReaderLocator
         }
         return TypeBindings.create(ctxt, (ResolvedType[]) null);
     }
+
+    /**
+     * Key for {@link #_containerReaders}
+     *
+     * @since 2.19
+     */
+    protected final static class ContainerKey
+    {
+        private final ResolvedType _type;
+        private final int _features;
+        private final int _hashCode;
+
+        public ContainerKey(ResolvedType type, int features) {
+            _type = type;
+            _features = features;
+            _hashCode = type.hashCode() + features;
+        }
+
+        @Override
+        public int hashCode() { return _hashCode; }
+
+        @Override
+        public boolean equals(Object o) {
+            if (o == this) return true;
+            if (o == null || o.getClass() != getClass()) return false;
+            ContainerKey other = (ContainerKey) o;
+            return (other._features == _features) && other._type.equals(_type);
+        }
+    }
 }
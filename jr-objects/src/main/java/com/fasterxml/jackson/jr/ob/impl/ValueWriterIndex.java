@@ -0,0 +1,106 @@
+package com.fasterxml.jackson.jr.ob.impl;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import com.fasterxml.jackson.jr.ob.api.ValueWriter;
+
+/**
+ * Append-only index of {@link ValueWriter}s registered by
+ * {@link ValueWriterLocator}, accessed by (non-negative) index derived from
+ * type id. Writers are stored in chunks of geometrically increasing size
+ * (16, 32, 64, ...), so that neither appends nor lookups need to copy
+ * or lock anything, and lookup is constant-time.
+ *<p>
+ * Entries are never removed (since type ids may be retained by other writers)
+ * but may be replaced using {@link #set}.
+ *
+ * @since 2.19
+ */
+public final class ValueWriterIndex
+{
+    private final static int FIRST_CHUNK_BITS = 4;
+
+    private final static int FIRST_CHUNK_SIZE = 1 << FIRST_CHUNK_BITS;
+
+    /**
+     * Enough chunks to cover all non-negative {@code int} indexes
+     */
+    private final static int MAX_CHUNKS = 32 - FIRST_CHUNK_BITS;
+
+    private final AtomicReferenceArray<AtomicReferenceArray<ValueWriter>> _chunks
+        = new AtomicReferenceArray<>(MAX_CHUNKS);
+
+    private final AtomicInteger _size = new AtomicInteger();
+
+    public ValueWriterIndex() { }
+
+    /**
+     * @return Index assigned to the writer appended
+     */
+    public int append(ValueWriter w)
+    {
+        final int index = _size.getAndIncrement();
+        if (index < 0) { // overflow, should never occur in practice
+            _size.decrementAndGet();
+            throw new IllegalStateException("Too many ValueWriters registered");
+        }
+        final int chunkIndex = _chunkIndex(index);
+        AtomicReferenceArray<ValueWriter> chunk = _chunks.get(chunkIndex);
+        if (chunk == null) {
+            chunk = new AtomicReferenceArray<>(FIRST_CHUNK_SIZE << chunkIndex);
+            if (!_chunks.compareAndSet(chunkIndex, null, chunk)) {
+                chunk = _chunks.get(chunkIndex);
+            }
+        }
+        chunk.set(_offset(index, chunkIndex), w);
+        return index;
+    }
+
+    /**
+     * @return Writer at given index, if any; {@code null} if none
+     */
+    public ValueWriter get(int index)
+    {
+        final int chunkIndex = _chunkIndex(index);
+        final AtomicReferenceArray<ValueWriter> chunk = _chunks.get(chunkIndex);
+        return (chunk == null) ? null : chunk.get(_offset(index, chunkIndex));
+    }
+
+    /**
+     * Method for replacing writer at given (already assigned) index
+     */
+    public void set(int index, ValueWriter w)
+    {
+        if (index >= _size.get()) {
+            throw new IndexOutOfBoundsException("Index "+index+" not assigned (size "+_size.get()+")");
+        }
+        final int chunkIndex = _chunkIndex(index);
+        AtomicReferenceArray<ValueWriter> chunk = _chunks.get(chunkIndex);
+        // appender may have assigned index without having installed chunk yet
+        while (chunk == null) {
+            Thread.yield();
+            chunk = _chunks.get(chunkIndex);
+        }
+        chunk.set(_offset(index, chunkIndex), w);
+    }
+
+    public int size() {
+        return _size.get();
+    }
+
+    /*
+    /**********************************************************************
+    /* Internal methods
+    /**********************************************************************
+     */
+
+    // Chunk k contains indexes [16 * (2^k - 1), 16 * (2^(k+1) - 1))
+    private static int _chunkIndex(int index) {
+        return 31 - Integer.numberOfLeadingZeros((index >>> FIRST_CHUNK_BITS) + 1);
+    }
+
+    private static int _offset(int index, int chunkIndex) {
+        return index - (FIRST_CHUNK_SIZE * ((1 << chunkIndex) - 1));
+    }
+}
@@ -1,10 +1,15 @@
 package com.fasterxml.jackson.jr.ob.impl;
 
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.ref.WeakReference;
 import java.lang.reflect.*;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.jr.ob.ColumnarData;
 import com.fasterxml.jackson.jr.ob.JSON;
 import com.fasterxml.jackson.jr.ob.api.ReaderWriterModifier;
 import com.fasterxml.jackson.jr.ob.api.ReaderWriterProvider;
@@ -26,6 +31,14 @@ public class ValueWriterLocator extends ValueLocatorBase
 {
     protected final static BeanPropertyWriter[] NO_PROPS_FOR_WRITE = new BeanPropertyWriter[0];
 
+    /**
+     * Default maximum number of type mappings to cache; may be changed using
+     * {@link com.fasterxml.jackson.jr.ob.JSON.Builder#writerCacheSize(int)}.
+     *
+     * @since 2.19
+     */
+    public final static int MAX_CACHED_SER_TYPES = 1000;
+
     /*
     /**********************************************************************
     /* Helper objects, serialization
@@ -34,11 +47,48 @@ public class ValueWriterLocator extends ValueLocatorBase
 
     /**
      * Mapping from classes to resolved type constants or indexes, to use
-     * for serialization.
+     * for serialization; bounded in size, with least recently used entries
+     * evicted if necessary.
+     *<p>
+     * NOTE: type changed in 2.19 from {@code ConcurrentHashMap}
+     */
+    protected final ClassValueCache<Integer> _knownSerTypes;
+
+    /**
+     * Writers registered, indexed by {@code -(typeId+1)} for (negative) type ids.
+     *<p>
+     * NOTE: type changed in 2.19 from {@code CopyOnWriteArrayList}
+     */
+    protected final ValueWriterIndex _knownWriters;
+
+    /**
+     * Indexes of {@link #_knownWriters} for which mapping has been evicted
+     * from {@link #_knownSerTypes}: reused if writer for the same type
+     * is registered again. Since slots may still be referenced by type id,
+     * a slot is only ever reused for the type it was assigned to; and
+     * for the same reason this cache is not bounded (it can not have more
+     * entries than there are slots in {@link #_knownWriters}), as losing
+     * an entry would leak the slot.
+     *
+     * @since 2.19
+     */
+    protected final ClassValueCache<Integer> _evictedWriterSlots;
+
+    /**
+     * Lock used for registering writers and handling evictions (instead of
+     * monitor, to avoid pinning virtual threads).
+     *
+     * @since 2.19
      */
-    protected final ConcurrentHashMap<ClassKey, Integer> _knownSerTypes;
+    protected final ReentrantLock _writerLock;
 
-    protected final CopyOnWriteArrayList<ValueWriter> _knownWriters;
+    /**
+     * Helper object used to ensure that only one thread at a time resolves
+     * writer for given type, other threads waiting for the result.
+     *
+     * @since 2.19
+     */
+    protected final SingleFlight<Integer> _writerFlights;
 
     /**
      * Provider for custom writers, if any; may be null.
@@ -70,11 +120,6 @@ public class ValueWriterLocator extends ValueLocatorBase
     /**********************************************************************
      */
 
-    /**
-     * Reusable lookup key; only used by per-thread instances.
-     */
-    private final ClassKey _key;
-
     private Class<?> _prevClass;
 
     private int _prevType;
@@ -90,15 +135,29 @@ public class ValueWriterLocator extends ValueLocatorBase
      */
     protected ValueWriterLocator(int features,
             ReaderWriterProvider rwp, ReaderWriterModifier rwm)
+    {
+        this(features, rwp, rwm, MAX_CACHED_SER_TYPES, false);
+    }
+
+    /**
+     * Constructor for the blueprint instance (and variations)
+     *
+     * @since 2.19
+     */
+    protected ValueWriterLocator(int features,
+            ReaderWriterProvider rwp, ReaderWriterModifier rwm,
+            int maxCachedSerTypes, boolean countCacheHits)
     {
         _features = features;
-        _knownSerTypes = new ConcurrentHashMap<ClassKey, Integer>(20, 0.75f, 2);
-        _knownWriters = new CopyOnWriteArrayList<ValueWriter>();
+        _knownSerTypes = new ClassValueCache<>(maxCachedSerTypes, countCacheHits,
+                this::_serTypeEvicted);
+        _knownWriters = new ValueWriterIndex();
+        _evictedWriterSlots = new ClassValueCache<>(Integer.MAX_VALUE);
+        _writerLock = new ReentrantLock();
+        _writerFlights = new SingleFlight<>();
         _writeContext = null;
         _writerProvider = rwp;
         _writerModifier = rwm;
-        // should not be needed for blueprint instance
-        _key = null;
     }
 
     // for per-call instances
@@ -109,21 +168,32 @@ public class ValueWriterLocator extends ValueLocatorBase
         _writeContext = w;
         _knownSerTypes = base._knownSerTypes;
         _knownWriters = base._knownWriters;
+        _evictedWriterSlots = base._evictedWriterSlots;
+        _writerLock = base._writerLock;
+        _writerFlights = base._writerFlights;
         _writerProvider = base._writerProvider;
         _writerModifier = base._writerModifier;
-        _key = new ClassKey();
     }
 
     public final static ValueWriterLocator blueprint(ReaderWriterProvider rwp, ReaderWriterModifier rwm) {
         return new ValueWriterLocator(0, rwp, rwm);
     }
 
+    /**
+     * @since 2.19
+     */
+    public final static ValueWriterLocator blueprint(ReaderWriterProvider rwp, ReaderWriterModifier rwm,
+            int maxCachedSerTypes, boolean countCacheHits) {
+        return new ValueWriterLocator(0, rwp, rwm, maxCachedSerTypes, countCacheHits);
+    }
+
     public ValueWriterLocator with(ReaderWriterProvider rwp) {
         if (rwp == _writerProvider) {
             return this;
         }
         // nothing much to reuse if so, use blueprint ctor
-        return new ValueWriterLocator(_features, rwp, _writerModifier);
+        return new ValueWriterLocator(_features, rwp, _writerModifier,
+                _knownSerTypes.maxSize(), _knownSerTypes.countsHits());
     }
 
     public ValueWriterLocator with(ReaderWriterModifier rwm) {
@@ -131,13 +201,45 @@ public class ValueWriterLocator extends ValueLocatorBase
             return this;
         }
         // nothing much to reuse if so, use blueprint ctor
-        return new ValueWriterLocator(_features, _writerProvider, rwm);
+        return new ValueWriterLocator(_features, _writerProvider, rwm,
+                _knownSerTypes.maxSize(), _knownSerTypes.countsHits());
     }
 
     public ValueWriterLocator perOperationInstance(JSONWriter w, int features) {
         return new ValueWriterLocator(this, features & CACHE_FLAGS, w);
     }
 
+    /**
+     * @since 2.19
+     */
+    public ReaderWriterModifier readerWriterModifier() { return _writerModifier; }
+
+    /**
+     * Accessor for statistics of the type mapping cache (shared by all
+     * per-operation instances of the same blueprint).
+     *
+     * @since 2.19
+     */
+    public CacheStatistics cacheStatistics() {
+        return _knownSerTypes.statistics();
+    }
+
+    /**
+     * Method for releasing writers resolved for given type (for all feature
+     * combinations), same as if they had been evicted from cache: writers
+     * will be resolved again if needed. Useful for releasing references to
+     * types of a class loader that is to be discarded; note, however, that
+     * readers and other writers (of containers, say) may still refer to them
+     * (see {@link ClassValueCache}).
+     *
+     * @return Number of cached type mappings released
+     *
+     * @since 2.19
+     */
+    public int releaseWriters(Class<?> type) {
+        return _knownSerTypes.remove(type);
+    }
+
     /*
     /**********************************************************************
     /* Public API: writer lookup
@@ -164,13 +266,16 @@ public class ValueWriterLocator extends ValueLocatorBase
         if (raw == String.class && (_writerModifier == null)) {
             return SER_STRING;
         }
-        final ClassKey k = _key.with(raw, _features);
         int type;
-        Integer I = _knownSerTypes.get(k);
+        Integer I = _knownSerTypes.get(raw, _features);
 
         if (I == null) {
-            type = _findPOJOSerializationType(raw);
-            _knownSerTypes.put(new ClassKey(raw, _features), Integer.valueOf(type));
+            // 2.19: avoid concurrent resolution of the same type by multiple threads
+            type = _writerFlights.resolve(raw, _features, () -> {
+                Integer t = Integer.valueOf(_findPOJOSerializationType(raw));
+                _knownSerTypes.put(raw, _features, t);
+                return t;
+            }).intValue();
         } else {
             type = I.intValue();
         }
@@ -226,10 +331,18 @@ public class ValueWriterLocator extends ValueLocatorBase
 
         int type = _findSimpleType(raw, true);
         if (type == SER_UNKNOWN) {
+            // 2.19: columnar data written as rows, not as a Bean
+            if (ColumnarData.class.isAssignableFrom(raw)) {
+                return _modifyAndRegisterWriter(raw, new ColumnarWriter(raw));
+            }
             if (JSON.Feature.HANDLE_JAVA_BEANS.isEnabled(_features)) {
                 final BeanPropertyWriter[] props = _resolveBeanForSer(raw,
                         _resolveBeanDef(raw));
-                return _modifyAndRegisterWriter(raw, new BeanWriter(raw, props));
+                // 2.19: may use writer specialized for the type
+                return _modifyAndRegisterWriter(raw,
+                        JSON.Feature.USE_GENERATED_ACCESSORS.isEnabled(_features)
+                        ? new SpecializedBeanWriter(raw, props)
+                        : new BeanWriter(raw, props));
             }
         } else {
             if (_writerModifier != null) {
@@ -254,22 +367,61 @@ public class ValueWriterLocator extends ValueLocatorBase
 
     private int _registerWriter(Class<?> rawType, ValueWriter valueWriter) {
         // Due to concurrent access, possible that someone might have added it
-        synchronized (_knownWriters) {
+        _writerLock.lock();
+        try {
             // Important: do NOT try to reuse shared instance; caller needs it
-            ClassKey k = new ClassKey(rawType, _features);
-            Integer I = _knownSerTypes.get(k);
+            Integer I = _knownSerTypes.get(rawType, _features);
             // if it was already concurrently added, we'll just discard this copy, return earlier
             if (I != null) {
                 return I.intValue();
             }
-            // otherwise add at the end, use -(index+1) as id
-            _knownWriters.add(valueWriter);
-            int typeId = -_knownWriters.size();
-            _knownSerTypes.put(k, Integer.valueOf(typeId));
+            // If mapping was evicted earlier, reuse its slot: otherwise add
+            // at the end; use -(index+1) as id
+            int typeId;
+            Integer slot = _evictedWriterSlots.get(rawType, _features);
+            if (slot == null) {
+                typeId = -(_knownWriters.append(valueWriter) + 1);
+            } else {
+                // NOTE: entry retained, as slot remains that of the type
+                _knownWriters.set(slot.intValue(), valueWriter);
+                typeId = -(slot.intValue() + 1);
+            }
+            _knownSerTypes.put(rawType, _features, Integer.valueOf(typeId));
             return typeId;
+        } finally {
+            _writerLock.unlock();
+        }
+    }
+
+    /**
+     * Callback for mappings evicted from {@link #_knownSerTypes}: writers
+     * may still be referenced by type id (by other writers), so they are replaced
+     * with placeholders that re-resolve writer as necessary.
+     */
+    private void _serTypeEvicted(Class<?> type, int features, Integer typeId)
+    {
+        final int id = typeId.intValue();
+        if (id < 0) {
+            final int index = -(id + 1);
+            _writerLock.lock();
+            try {
+                _knownWriters.set(index, new EvictedWriter(type));
+                _evictedWriterSlots.put(type, features, index);
+            } finally {
+                _writerLock.unlock();
+            }
         }
     }
 
+    /**
+     * Method called by {@link EvictedWriter} to re-resolve type id of
+     * given type, bypassing per-operation caching.
+     */
+    int _reResolveSerializationType(Class<?> raw) {
+        _prevClass = null;
+        return findSerializationType(raw);
+    }
+
     protected BeanPropertyWriter[] _resolveBeanForSer(Class<?> raw, POJODefinition beanDef)
     {
         final List<POJODefinition.Prop> rawProps = beanDef.getProperties();
@@ -278,6 +430,8 @@ public class ValueWriterLocator extends ValueLocatorBase
         final boolean includeReadOnly = JSON.Feature.WRITE_READONLY_BEAN_PROPERTIES.isEnabled(_features);
         final boolean forceAccess = JSON.Feature.FORCE_REFLECTION_ACCESS.isEnabled(_features);
         final boolean useFields = JSON.Feature.USE_FIELDS.isEnabled(_features);
+        final boolean useHandles = JSON.Feature.USE_METHOD_HANDLES.isEnabled(_features);
+        final boolean useGenerated = JSON.Feature.USE_GENERATED_ACCESSORS.isEnabled(_features);
 
         for (int i = 0; i < len; ++i) {
             POJODefinition.Prop rawProp = rawProps.get(i);
@@ -313,7 +467,7 @@ public class ValueWriterLocator extends ValueLocatorBase
             // cyclic type definitions.
 
             int typeId;
-            Integer I = _knownSerTypes.get(new ClassKey(type, _features));
+            Integer I = _knownSerTypes.get(type, _features);
 
             if (I != null) {
                 typeId = I.intValue();
@@ -333,7 +487,7 @@ public class ValueWriterLocator extends ValueLocatorBase
             int typeId = _findSimpleType(type, true);
             // Give plugin the opportunity to override standard value writer
             if (_writerModifier != null && typeId != 0) {
-                Integer I = _knownSerTypes.get(new ClassKey(type, _features));
+                Integer I = _knownSerTypes.get(type, _features);
                 if (I == null) {
                     ValueWriter w = _writerModifier.overrideStandardValueWriter(_writeContext, type, typeId);
                     if (w != null) {
@@ -344,11 +498,54 @@ public class ValueWriterLocator extends ValueLocatorBase
                 }
             }
             */
-            props.add(new BeanPropertyWriter(typeId, rawProp.name, rawProp.field, m));
+            // Generated accessors preferred, if available; method handles second
+            Function<Object,Object> getterFunction = useGenerated
+                    ? AccessorHelpers.getterFunction(m) : null;
+            MethodHandle getterHandle = (useHandles && (getterFunction == null))
+                    ? AccessorHelpers.getterHandle(f, m) : null;
+            // Primitive-valued properties may also be accessed without boxing
+            ScalarAccessor scalarGetter = AccessorHelpers.scalarGetter((m == null) ? f : null, m,
+                    useHandles, useGenerated);
+            props.add(new BeanPropertyWriter(typeId, rawProp.name, rawProp.field, m,
+                    getterHandle, getterFunction, scalarGetter));
         }
         int plen = props.size();
         BeanPropertyWriter[] propArray = (plen == 0) ? NO_PROPS_FOR_WRITE
                 : props.toArray(NO_PROPS_FOR_WRITE);
         return propArray;
     }
+
+    /*
+    /**********************************************************************
+    /* Helper classes
+    /**********************************************************************
+     */
+
+    /**
+     * Placeholder for a {@link ValueWriter} whose type mapping has been evicted,
+     * but that may still be referenced by its type id: delegates to writer
+     * resolved again for the type.
+     *
+     * @since 2.19
+     */
+    final static class EvictedWriter implements ValueWriter
+    {
+        // weak reference to allow unloading of type
+        private final WeakReference<Class<?>> _type;
+
+        EvictedWriter(Class<?> type) {
+            _type = new WeakReference<Class<?>>(type);
+        }
+
+        @Override
+        public void writeValue(JSONWriter context, JsonGenerator g, Object value) throws IOException {
+            // if called, type must still be loaded (being class of value)
+            context._writeValue(value, context._writerLocator._reResolveSerializationType(_type.get()));
+        }
+
+        @Override
+        public Class<?> valueType() {
+            return _type.get();
+        }
+    }
 }
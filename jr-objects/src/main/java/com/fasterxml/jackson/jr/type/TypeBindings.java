@@ -101,6 +101,26 @@ public final class TypeBindings
 
     public boolean isEmpty() { return (_types.length == 0); }
 
+    /**
+     * Method for checking whether types resolved using these bindings may be
+     * cached and shared: this is not the case if there are unbound variables,
+     * or if any of bound types is (or contains) an incomplete self-reference,
+     * since {@link #equals} does not consider those.
+     *
+     * @since 2.19
+     */
+    public boolean isCacheable() {
+        if (_unboundVariables != null) {
+            return false;
+        }
+        for (ResolvedType type : _types) {
+            if ((type instanceof RecursiveType) || !type.typeBindings().isCacheable()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     public int size() { return _types.length; }
 
     public String getBoundName(int index) {
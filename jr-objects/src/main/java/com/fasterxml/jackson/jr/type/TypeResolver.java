@@ -4,6 +4,7 @@ import java.io.Serializable;
 import java.lang.reflect.*;
 import java.util.*;
 
+import com.fasterxml.jackson.jr.ob.impl.BoundedCache;
 import com.fasterxml.jackson.jr.ob.impl.ClassKey;
 
 /**
@@ -14,7 +15,7 @@ import com.fasterxml.jackson.jr.ob.impl.ClassKey;
  *<p>
  * Note that resolver instances are stateful in that resolvers cache resolved
  * types for efficiency. Since this is internal state and not directly visible
- * to callers, access to state is fully synchronized so that access from
+ * to callers, cache is concurrent (and bounded in size) so that access from
  * multiple threads is safe.
  */
 public class TypeResolver implements Serializable
@@ -22,7 +23,14 @@ public class TypeResolver implements Serializable
     private static final long serialVersionUID = 1L;
 
     private final static ResolvedType[] NO_TYPES = ResolvedType.NO_TYPES;
-    
+
+    /**
+     * Maximum number of resolved types to cache
+     *
+     * @since 2.19
+     */
+    public final static int MAX_CACHED_TYPES = 500;
+
     // // Pre-created instances
 
     private final static ResolvedType TYPE_OBJECT =
@@ -51,8 +59,16 @@ public class TypeResolver implements Serializable
     }
 
     // // Caching
-    
-    protected final transient Map<ClassKey,ResolvedType> _cache = new HashMap<ClassKey,ResolvedType>(16, 0.8f);
+
+    /**
+     * Cache of resolved types: keys are either {@link Class}es (for types
+     * without bindings), generic {@link Type}s (for resolution without bindings)
+     * or {@link TypeKey}s.
+     *<p>
+     * NOTE: type changed in 2.19 from {@code Map<ClassKey,ResolvedType>}
+     */
+    protected final transient BoundedCache<Object,ResolvedType> _cache
+        = new BoundedCache<Object,ResolvedType>(MAX_CACHED_TYPES);
 
     public TypeResolver() { }
 
@@ -73,7 +89,18 @@ public class TypeResolver implements Serializable
      * instance of declaring class (or interface).
      */
     public ResolvedType resolve(TypeBindings typeBindings, Type jdkType) {
-        return _fromAny(null, jdkType, typeBindings);
+        // 2.19: Cache resolution of generic types, if no bindings needed
+        //   (classes are cached by `_fromClass()`)
+        if ((jdkType instanceof Class<?>) || (jdkType instanceof ResolvedType)
+                || !typeBindings.isEmpty() || !typeBindings.isCacheable()) {
+            return _fromAny(null, jdkType, typeBindings);
+        }
+        ResolvedType type = _cache.get(jdkType);
+        if (type == null) {
+            type = _fromAny(null, jdkType, typeBindings);
+            _cache.putIfAbsent(jdkType, type);
+        }
+        return type;
     }
 
     private ResolvedType _fromAny(ClassStack context, Type mainType, TypeBindings typeBindings) {
@@ -125,20 +152,16 @@ public class TypeResolver implements Serializable
         }
 
         ResolvedType type;
-        if (typeBindings.isEmpty()) {
-            synchronized (_cache) {
-                type = _cache.get(key);
-                if (type != null) {
-                    return type;
-                }
+        // 2.19: Cache types with bindings too, if possible
+        if (typeBindings.isCacheable()) {
+            final Object cacheKey = typeBindings.isEmpty() ? rawType
+                    : new TypeKey(rawType, typeBindings);
+            type = _cache.get(cacheKey);
+            if (type != null) {
+                return type;
             }
             type = _constructType(context, rawType, typeBindings);
-            synchronized (_cache) {
-                if (_cache.size() >= 100) { // so hash table max 128 entries
-                    _cache.clear();
-                }
-                _cache.put(key, type);
-            }
+            _cache.putIfAbsent(cacheKey, type);
         } else {
             type = _constructType(context, rawType, typeBindings);
         }
@@ -213,4 +236,31 @@ public class TypeResolver implements Serializable
         Type[] bounds = variable.getBounds();
         return _fromAny(context, bounds[0], typeBindings);
     }
+
+    /**
+     * Key for cached types with non-empty bindings
+     */
+    private final static class TypeKey
+    {
+        private final Class<?> _rawType;
+        private final TypeBindings _bindings;
+        private final int _hashCode;
+
+        TypeKey(Class<?> rawType, TypeBindings bindings) {
+            _rawType = rawType;
+            _bindings = bindings;
+            _hashCode = rawType.getName().hashCode() * 31 + bindings.hashCode();
+        }
+
+        @Override
+        public int hashCode() { return _hashCode; }
+
+        @Override
+        public boolean equals(Object o) {
+            if (o == this) return true;
+            if (o == null || o.getClass() != getClass()) return false;
+            TypeKey other = (TypeKey) o;
+            return (other._rawType == _rawType) && other._bindings.equals(_bindings);
+        }
+    }
 }
@@ -0,0 +1,106 @@
+package com.fasterxml.jackson.jr.ob;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static com.fasterxml.jackson.jr.ob.BenchmarkHelper.measure;
+
+/**
+ * Simple single-threaded micro-benchmark for comparing throughput (and
+ * per-operation allocation) of reading and writing Beans with getters and
+ * setters, using different property accessors: basic reflection (default),
+ * {@link JSON.Feature#USE_METHOD_HANDLES} and
+ * {@link JSON.Feature#USE_GENERATED_ACCESSORS}.
+ * Allocation is measured using {@code com.sun.management.ThreadMXBean}
+ * if available.
+ *<p>
+ * Not run as part of test suite; run with:
+ *<pre>
+ *  java -cp ... com.fasterxml.jackson.jr.ob.AccessorBenchmark
+ *</pre>
+ */
+public class AccessorBenchmark
+{
+    private final static int ROUNDS = 10;
+
+    private final static int OPS_PER_ROUND = 300_000;
+
+    public static class Measurement {
+        private long id;
+        private String sensor;
+        private int channel;
+        private double value;
+        private double min, max;
+        private boolean valid;
+        private List<String> tags;
+
+        public long getId() { return id; }
+        public void setId(long id) { this.id = id; }
+        public String getSensor() { return sensor; }
+        public void setSensor(String sensor) { this.sensor = sensor; }
+        public int getChannel() { return channel; }
+        public void setChannel(int channel) { this.channel = channel; }
+        public double getValue() { return value; }
+        public void setValue(double value) { this.value = value; }
+        public double getMin() { return min; }
+        public void setMin(double min) { this.min = min; }
+        public double getMax() { return max; }
+        public void setMax(double max) { this.max = max; }
+        public boolean isValid() { return valid; }
+        public void setValid(boolean valid) { this.valid = valid; }
+        public List<String> getTags() { return tags; }
+        public void setTags(List<String> tags) { this.tags = tags; }
+    }
+
+    private final JSONSession _reflection = JSON.std.session();
+
+    private final JSONSession _handles = JSON.std
+            .with(JSON.Feature.USE_METHOD_HANDLES).session();
+
+    private final JSONSession _generated = JSON.std
+            .with(JSON.Feature.USE_GENERATED_ACCESSORS).session();
+
+    private final Measurement _bean;
+
+    private final byte[] _doc;
+
+    public AccessorBenchmark() throws Exception {
+        _bean = new Measurement();
+        _bean.setId(1234567890123L);
+        _bean.setSensor("thermo-17");
+        _bean.setChannel(3);
+        _bean.setValue(21.25);
+        _bean.setMin(-40.0);
+        _bean.setMax(125.5);
+        _bean.setValid(true);
+        _bean.setTags(Arrays.asList("indoor", "calibrated"));
+        _doc = JSON.std.asBytes(_bean);
+    }
+
+    public static void main(String[] args) throws Exception
+    {
+        new AccessorBenchmark().run();
+    }
+
+    public void run() throws Exception
+    {
+        System.out.printf("Document of %d bytes, %d operations per round%n",
+                _doc.length, OPS_PER_ROUND);
+        for (int round = 1; round <= ROUNDS; ++round) {
+            // first half of rounds just for warmup
+            final boolean report = (round > ROUNDS/2);
+            measure(report, "read,  reflection    ", OPS_PER_ROUND,
+                    () -> _reflection.beanFrom(Measurement.class, _doc).getChannel());
+            measure(report, "read,  method handles", OPS_PER_ROUND,
+                    () -> _handles.beanFrom(Measurement.class, _doc).getChannel());
+            measure(report, "read,  generated     ", OPS_PER_ROUND,
+                    () -> _generated.beanFrom(Measurement.class, _doc).getChannel());
+            measure(report, "write, reflection    ", OPS_PER_ROUND,
+                    () -> _reflection.asBytes(_bean).length);
+            measure(report, "write, method handles", OPS_PER_ROUND,
+                    () -> _handles.asBytes(_bean).length);
+            measure(report, "write, generated     ", OPS_PER_ROUND,
+                    () -> _generated.asBytes(_bean).length);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.fasterxml.jackson.jr.ob;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * Helper methods shared by the simple micro-benchmarks of this package
+ * (like {@link SessionAllocationBenchmark}): measuring time and,
+ * if {@code com.sun.management.ThreadMXBean} is available, memory allocated
+ * per operation.
+ */
+final class BenchmarkHelper
+{
+    /**
+     * Operation to measure; returns a value derived from its result, to
+     * prevent dead-code elimination.
+     */
+    interface Op {
+        int run() throws Exception;
+    }
+
+    // to prevent dead-code elimination
+    private static volatile int _sink;
+
+    private BenchmarkHelper() { }
+
+    /**
+     * Method for running given operation given number of times (in the
+     * calling thread), and printing out time and allocation per operation
+     * if {@code report} is true (during warmup rounds, it is not).
+     */
+    public static void measure(boolean report, String desc, int ops, Op op) throws Exception
+    {
+        final long startBytes = allocatedBytes();
+        final long start = System.nanoTime();
+        int sink = 0;
+        for (int i = 0; i < ops; ++i) {
+            sink += op.run();
+        }
+        final long nanos = System.nanoTime() - start;
+        final long bytes = (startBytes < 0L) ? -1L : (allocatedBytes() - startBytes);
+        consume(sink);
+        if (report) {
+            report(desc, nanos, bytes, ops);
+        }
+    }
+
+    /**
+     * @param bytes Bytes allocated by all operations; negative if not available
+     */
+    public static void report(String desc, long nanos, long bytes, int ops)
+    {
+        System.out.printf(" %s: %7d ns/op, %s%n", desc, nanos / ops,
+                (bytes < 0L) ? "(allocation not available)"
+                        : String.format("%8d bytes/op", bytes / ops));
+    }
+
+    /**
+     * @return Number of bytes allocated by the current thread so far;
+     *    -1 if not available
+     */
+    public static long allocatedBytes() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean) {
+            return ((com.sun.management.ThreadMXBean) bean).getThreadAllocatedBytes(
+                    Thread.currentThread().getId());
+        }
+        return -1L;
+    }
+
+    /**
+     * @return Heap in use after (requesting) garbage collection; only an
+     *    approximation, so only meaningful for large differences
+     */
+    public static long usedHeap() throws InterruptedException {
+        final Runtime rt = Runtime.getRuntime();
+        for (int i = 0; i < 3; ++i) {
+            System.gc();
+            Thread.sleep(50L);
+        }
+        return rt.totalMemory() - rt.freeMemory();
+    }
+
+    public static void consume(int value) {
+        _sink = value;
+    }
+}
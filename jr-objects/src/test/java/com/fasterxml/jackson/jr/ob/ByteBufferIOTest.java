@@ -0,0 +1,188 @@
+package com.fasterxml.jackson.jr.ob;
+
+import java.io.*;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.jr.ob.impl.ByteBufferBackedOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ByteBufferIOTest extends TestBase
+{
+    static class Point {
+        public int x, y;
+
+        public Point() { }
+        public Point(int x, int y) {
+            this.x = x;
+            this.y = y;
+        }
+    }
+
+    private final JSON JSON_STD = JSON.std;
+
+    private final String POINT_JSON = a2q("{'x':1,'y':2}");
+
+    /*
+    /**********************************************************************
+    /* Reading
+    /**********************************************************************
+     */
+
+    @Test
+    public void testReadFromHeapBuffer() throws Exception
+    {
+        byte[] doc = ("xx"+POINT_JSON+"yy").getBytes(StandardCharsets.UTF_8);
+        ByteBuffer bb = ByteBuffer.wrap(doc, 2, doc.length - 4).slice();
+        Point p = JSON_STD.beanFrom(Point.class, bb);
+        assertEquals(1, p.x);
+        assertEquals(2, p.y);
+        // position should not be modified
+        assertEquals(0, bb.position());
+
+        // and then with non-zero position (and array offset)
+        bb = ByteBuffer.wrap(doc);
+        bb.position(2);
+        bb.limit(doc.length - 2);
+        assertEquals(2, JSON_STD.beanFrom(Point.class, bb).y);
+        assertEquals(2, bb.position());
+    }
+
+    @Test
+    public void testReadFromDirectBuffer() throws Exception
+    {
+        ByteBuffer bb = _direct(POINT_JSON);
+        assertEquals(2, JSON_STD.beanFrom(Point.class, bb).y);
+        assertEquals(0, bb.position());
+        // read-only heap buffers do not expose array either
+        assertEquals(Arrays.asList(1, 2, 3),
+                JSON_STD.listFrom(ByteBuffer.wrap("[1,2,3]".getBytes("UTF-8")).asReadOnlyBuffer()));
+        // and sessions should work too
+        assertEquals(1, JSON_STD.session().beanFrom(Point.class, _direct(POINT_JSON)).x);
+    }
+
+    @Test
+    public void testReadLongDirectBuffer() throws Exception
+    {
+        List<Integer> values = new ArrayList<>();
+        for (int i = 0; i < 10000; ++i) {
+            values.add(i);
+        }
+        String doc = JSON_STD.asString(values);
+        assertEquals(values, JSON_STD.listOfFrom(Integer.class, _direct(doc)));
+    }
+
+    @Test
+    public void testReadFromChannel() throws Exception
+    {
+        ReadableByteChannel ch = Channels.newChannel(
+                new ByteArrayInputStream(POINT_JSON.getBytes(StandardCharsets.UTF_8)));
+        assertEquals(2, JSON_STD.beanFrom(Point.class, ch).y);
+        // closed by default
+        assertFalse(ch.isOpen());
+
+        ch = Channels.newChannel(new ByteArrayInputStream(
+                "{'x':1} {'x':2}".replace('\'', '"').getBytes(StandardCharsets.UTF_8)));
+        try (ValueIterator<Point> it = JSON_STD.beanSequenceFrom(Point.class, ch)) {
+            assertEquals(1, it.next().x);
+            assertEquals(2, it.next().x);
+            assertFalse(it.hasNext());
+        }
+    }
+
+    /*
+    /**********************************************************************
+    /* Writing
+    /**********************************************************************
+     */
+
+    @Test
+    public void testWriteToBuffers() throws Exception
+    {
+        for (ByteBuffer bb : new ByteBuffer[] { ByteBuffer.allocate(100), ByteBuffer.allocateDirect(100) }) {
+            bb.position(3);
+            JSON_STD.write(new Point(1, 2), bb);
+            assertEquals(3 + POINT_JSON.length(), bb.position());
+            bb.flip();
+            bb.position(3);
+            assertEquals(POINT_JSON, StandardCharsets.UTF_8.decode(bb).toString());
+        }
+    }
+
+    @Test
+    public void testWriteToBufferOverflow() throws Exception
+    {
+        List<String> values = new ArrayList<>();
+        for (int i = 0; i < 1000; ++i) {
+            values.add("value #"+i);
+        }
+        final String EXP = JSON_STD.asString(values);
+        for (ByteBuffer bb : new ByteBuffer[] { ByteBuffer.allocate(2000), ByteBuffer.allocateDirect(2000),
+                ByteBuffer.allocate(EXP.length() - 1) }) {
+            bb.position(1);
+            try {
+                JSON_STD.write(values, bb);
+                fail("Should not pass");
+            } catch (BufferOverflowException e) {
+                // should indicate length needed
+                assertEquals(ByteBufferBackedOutputStream.Overflow.class, e.getClass());
+                assertEquals(EXP.length(), ((ByteBufferBackedOutputStream.Overflow) e).getRequiredLength());
+                assertEquals(bb.capacity() - 1, ((ByteBufferBackedOutputStream.Overflow) e).getAvailableLength());
+                verifyException(e, "Content of "+EXP.length()+" bytes does not fit in remaining "
+                        +(bb.capacity() - 1)+" bytes");
+            }
+            // should not have moved
+            assertEquals(1, bb.position());
+        }
+
+        // but with exactly enough space, fine; both via JSON and session
+        ByteBuffer bb = ByteBuffer.allocateDirect(EXP.length());
+        JSON_STD.write(values, bb);
+        assertFalse(bb.hasRemaining());
+        bb.flip();
+        assertEquals(values, JSON_STD.listOfFrom(String.class, bb));
+
+        bb = ByteBuffer.allocateDirect(EXP.length() - 1);
+        JSONSession session = JSON_STD.session();
+        try {
+            session.write(values, bb);
+            fail("Should not pass");
+        } catch (BufferOverflowException e) {
+            verifyException(e, "Content of "+EXP.length()+" bytes");
+        }
+        assertEquals(0, bb.position());
+        bb = ByteBuffer.allocateDirect(EXP.length() + 10);
+        session.write(values, bb);
+        assertEquals(EXP.length(), bb.position());
+    }
+
+    @Test
+    public void testWriteToChannel() throws Exception
+    {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        WritableByteChannel ch = Channels.newChannel(bytes);
+        JSON_STD.write(new Point(1, 2), ch);
+        assertEquals(POINT_JSON, bytes.toString("UTF-8"));
+        assertFalse(ch.isOpen());
+
+        bytes = new ByteArrayOutputStream();
+        JSON_STD.session().write(new Point(1, 2), Channels.newChannel(bytes));
+        assertEquals(POINT_JSON, bytes.toString("UTF-8"));
+    }
+
+    private ByteBuffer _direct(String doc) {
+        byte[] bytes = doc.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer bb = ByteBuffer.allocateDirect(bytes.length);
+        bb.put(bytes);
+        bb.flip();
+        return bb;
+    }
+}
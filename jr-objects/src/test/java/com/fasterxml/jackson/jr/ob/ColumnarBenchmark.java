@@ -0,0 +1,83 @@
+package com.fasterxml.jackson.jr.ob;
+
+import java.util.List;
+
+import static com.fasterxml.jackson.jr.ob.BenchmarkHelper.measure;
+
+/**
+ * Simple single-threaded micro-benchmark for comparing throughput and
+ * per-operation allocation of reading (and writing) an array of homogeneous
+ * JSON Objects as {@link ColumnarData} against reading it as a {@code List}
+ * of Beans (and {@code Map}s).
+ * Allocation is measured using {@code com.sun.management.ThreadMXBean}
+ * if available.
+ *<p>
+ * Not run as part of test suite; run with:
+ *<pre>
+ *  java -cp ... com.fasterxml.jackson.jr.ob.ColumnarBenchmark
+ *</pre>
+ */
+public class ColumnarBenchmark
+{
+    public static class Trade {
+        public long ts;
+        public String symbol;
+        public double price;
+        public int qty;
+        public boolean buy;
+    }
+
+    private final static int ROUNDS = 10;
+
+    private final static int ROWS = 10_000;
+
+    private final static int OPS_PER_ROUND = 100;
+
+    private final static String[] SYMBOLS = { "AAPL", "MSFT", "GOOG", "AMZN", "NVDA", "META", "TSLA", "ORCL" };
+
+    private final JSONSession _session = JSON.std.session();
+
+    private final byte[] _doc;
+
+    private final ColumnarData _columns;
+
+    private final List<Trade> _beans;
+
+    public ColumnarBenchmark() throws Exception {
+        StringBuilder sb = new StringBuilder(ROWS * 80).append('[');
+        for (int i = 0; i < ROWS; ++i) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append("{\"ts\":").append(1_700_000_000_000L + i)
+                .append(",\"symbol\":\"").append(SYMBOLS[(i * 7) % SYMBOLS.length])
+                .append("\",\"price\":").append(100.0 + ((i * 37) % 1000) / 64.0)
+                .append(",\"qty\":").append((i * 13) % 500)
+                .append(",\"buy\":").append((i % 3) == 0)
+                .append('}');
+        }
+        _doc = sb.append(']').toString().getBytes("UTF-8");
+        _columns = JSON.std.columnsFrom(Trade.class, _doc);
+        _beans = JSON.std.listOfFrom(Trade.class, _doc);
+    }
+
+    public static void main(String[] args) throws Exception
+    {
+        new ColumnarBenchmark().run();
+    }
+
+    public void run() throws Exception
+    {
+        System.out.printf("Array of %d objects (%d bytes), %d operations per round%n",
+                ROWS, _doc.length, OPS_PER_ROUND);
+        for (int round = 1; round <= ROUNDS; ++round) {
+            // first half of rounds just for warmup
+            final boolean report = (round > ROUNDS/2);
+            measure(report, "read,  List<Trade>", OPS_PER_ROUND, () -> _session.listOfFrom(Trade.class, _doc).size());
+            measure(report, "read,  List<Map>  ", OPS_PER_ROUND, () -> _session.listFrom(_doc).size());
+            measure(report, "read,  columns    ", OPS_PER_ROUND, () -> _session.columnsFrom(Trade.class, _doc).rowCount());
+            measure(report, "write, List<Trade>", OPS_PER_ROUND, () -> _session.asBytes(_beans).length);
+            measure(report, "write, columns    ", OPS_PER_ROUND, () -> _session.asBytes(_columns).length);
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.fasterxml.jackson.jr.ob;
+
+import java.io.*;
+import java.util.*;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.jr.ob.api.ExtensionContext;
+import com.fasterxml.jackson.jr.ob.api.ReaderWriterProvider;
+import com.fasterxml.jackson.jr.ob.api.ValueReader;
+import com.fasterxml.jackson.jr.ob.impl.JSONReader;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JSONSessionTest extends TestBase
+{
+    static class Point {
+        public int x, y;
+
+        public Point() { }
+        public Point(int x, int y) {
+            this.x = x;
+            this.y = y;
+        }
+    }
+
+    static class Wrapper {
+        public Point point;
+        public List<Point> points;
+    }
+
+    // Reader that uses given session for nested reading
+    static class NestedPointReader extends ValueReader {
+        private final JSONSession _session;
+
+        public NestedPointReader(JSONSession session) {
+            super(Point.class);
+            _session = session;
+        }
+
+        @Override
+        public Object read(JSONReader reader, JsonParser p) throws IOException {
+            Map<String,Object> map = _session.mapFrom(p);
+            return new Point(((Number) map.get("x")).intValue() * 10,
+                    ((Number) map.get("y")).intValue() * 10);
+        }
+    }
+
+    private final JSON JSON_W_SESSION = JSON.builder().build();
+
+    @Test
+    public void testReadReuse() throws Exception
+    {
+        JSONSession session = JSON_W_SESSION.session();
+        assertSame(JSON_W_SESSION, session.json());
+        for (int i = 0; i < 5; ++i) {
+            Point p = session.beanFrom(Point.class, a2q("{'x':"+i+",'y':-"+i+"}"));
+            assertEquals(i, p.x);
+            assertEquals(-i, p.y);
+        }
+        Wrapper w = session.beanFrom(Wrapper.class,
+                a2q("{'point':{'x':1,'y':2},'points':[{'x':3,'y':4}]}").getBytes("UTF-8"));
+        assertEquals(2, w.point.y);
+        assertEquals(1, w.points.size());
+        assertEquals(4, w.points.get(0).y);
+
+        assertEquals(Arrays.asList(1, 2, 3), session.listFrom("[1,2,3]"));
+        assertEquals(Collections.singletonMap("a", true), session.mapFrom(a2q("{'a':true}")));
+        assertEquals("abc", session.anyFrom(q("abc")));
+        List<Point> points = session.listOfFrom(Point.class, a2q("[{'x':1},{'y':2}]"));
+        assertEquals(2, points.size());
+        assertEquals(2, points.get(1).y);
+        Map<String,Point> pointMap = session.mapOfFrom(Point.class, a2q("{'p':{'x':7}}"));
+        assertEquals(7, pointMap.get("p").x);
+    }
+
+    @Test
+    public void testWriteReuse() throws Exception
+    {
+        JSONSession session = JSON_W_SESSION.session();
+        for (int i = 0; i < 3; ++i) {
+            assertEquals(a2q("{'x':"+i+",'y':3}"), session.asString(new Point(i, 3)));
+            assertEquals(a2q("[1,2]"), new String(session.asBytes(new int[] { 1, 2 }), "UTF-8"));
+        }
+        StringWriter sw = new StringWriter();
+        session.write(new Point(1, 2), sw);
+        assertEquals(a2q("{'x':1,'y':2}"), sw.toString());
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        session.write(new Point(1, 2), bytes);
+        assertEquals(a2q("{'x':1,'y':2}"), bytes.toString("UTF-8"));
+        session.reset();
+        assertEquals(a2q("{'x':5,'y':6}"), session.asString(new Point(5, 6)));
+    }
+
+    @Test
+    public void testReuseAfterFailure() throws Exception
+    {
+        JSONSession session = JSON_W_SESSION.session();
+        try {
+            session.beanFrom(Point.class, a2q("{'x':[1]}"));
+            fail("Should not pass");
+        } catch (JSONObjectException e) {
+            verifyException(e, "Unexpected token");
+        }
+        try {
+            session.beanFrom(Point.class, a2q("{'x':1 'y':2}"));
+            fail("Should not pass");
+        } catch (IOException e) {
+            verifyException(e, "Unexpected character");
+        }
+        Point p = session.beanFrom(Point.class, a2q("{'x':1,'y':2}"));
+        assertEquals(2, p.y);
+    }
+
+    @Test
+    public void testReadSequenceFromParser() throws Exception
+    {
+        JSONSession session = JSON_W_SESSION.session();
+        try (JsonParser p = JSON_W_SESSION.createParser(a2q("{'x':1} {'x':2} {'x':3}"))) {
+            for (int i = 1; i <= 3; ++i) {
+                assertEquals(i, session.beanFrom(Point.class, p).x);
+            }
+        }
+    }
+
+    @Test
+    public void testNestedUse() throws Exception
+    {
+        final JSONSession[] holder = new JSONSession[1];
+        JSON json = JSON.builder()
+                .register(new JacksonJrExtension() {
+                    @Override
+                    protected void register(ExtensionContext ctxt) {
+                        ctxt.insertProvider(new ReaderWriterProvider() {
+                            @Override
+                            public ValueReader findValueReader(JSONReader readContext, Class<?> type) {
+                                return (type == Point.class) ? new NestedPointReader(holder[0]) : null;
+                            }
+                        });
+                    }
+                }).build();
+        JSONSession session = json.session();
+        holder[0] = session;
+        Wrapper w = session.beanFrom(Wrapper.class,
+                a2q("{'point':{'x':1,'y':2},'points':[{'x':3,'y':4}]}"));
+        assertEquals(10, w.point.x);
+        assertEquals(40, w.points.get(0).y);
+        // and should be fine for later reuse too
+        assertEquals(30, session.beanFrom(Point.class, a2q("{'x':3,'y':4}")).x);
+    }
+}
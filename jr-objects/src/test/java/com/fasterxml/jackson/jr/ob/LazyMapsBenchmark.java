@@ -0,0 +1,79 @@
+package com.fasterxml.jackson.jr.ob;
+
+import java.util.List;
+import java.util.Map;
+
+import static com.fasterxml.jackson.jr.ob.BenchmarkHelper.measure;
+
+/**
+ * Simple single-threaded micro-benchmark for comparing throughput and
+ * per-operation allocation of reading a large JSON document and accessing
+ * just a few of its values, with and without
+ * {@link JSON.Feature#USE_LAZY_MAPS}.
+ * Allocation is measured using {@code com.sun.management.ThreadMXBean}
+ * if available.
+ *<p>
+ * Not run as part of test suite; run with:
+ *<pre>
+ *  java -cp ... com.fasterxml.jackson.jr.ob.LazyMapsBenchmark
+ *</pre>
+ */
+public class LazyMapsBenchmark
+{
+    private final static int ROUNDS = 10;
+
+    private final static int ITEMS = 2_000;
+
+    private final static int OPS_PER_ROUND = 100;
+
+    private final JSONSession _eager = JSON.std.session();
+
+    private final JSONSession _lazy = JSON.std.with(JSON.Feature.USE_LAZY_MAPS).session();
+
+    private final byte[] _doc;
+
+    public LazyMapsBenchmark() throws Exception {
+        StringBuilder sb = new StringBuilder(ITEMS * 120)
+                .append("{\"id\":\"req-1\",\"status\":200,\"meta\":{\"page\":1,\"total\":")
+                .append(ITEMS).append("},\"items\":[");
+        for (int i = 0; i < ITEMS; ++i) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append("{\"id\":").append(i)
+                .append(",\"name\":\"item #").append(i)
+                .append("\",\"price\":").append(i * 0.25)
+                .append(",\"tags\":[\"a\",\"b\",\"c\"],\"attrs\":{\"color\":\"red\",\"size\":").append(i % 10)
+                .append("}}");
+        }
+        _doc = sb.append("]}").toString().getBytes("UTF-8");
+    }
+
+    public static void main(String[] args) throws Exception
+    {
+        new LazyMapsBenchmark().run();
+    }
+
+    public void run() throws Exception
+    {
+        System.out.printf("Document with %d items (%d bytes), %d operations per round%n",
+                ITEMS, _doc.length, OPS_PER_ROUND);
+        for (int round = 1; round <= ROUNDS; ++round) {
+            // first half of rounds just for warmup
+            final boolean report = (round > ROUNDS/2);
+            measure(report, "eager, few values", OPS_PER_ROUND, () -> _access(_eager.mapFrom(_doc)));
+            measure(report, "lazy,  few values", OPS_PER_ROUND, () -> _access(_lazy.mapFrom(_doc)));
+            measure(report, "eager, all values", OPS_PER_ROUND, () -> _eager.mapFrom(_doc).hashCode());
+            measure(report, "lazy,  all values", OPS_PER_ROUND, () -> _lazy.mapFrom(_doc).hashCode());
+        }
+    }
+
+    // Typical handler: checks a few top-level values, and one nested one
+    private static int _access(Map<String,Object> doc) {
+        int result = ((Integer) doc.get("status")).intValue();
+        result += ((String) doc.get("id")).length();
+        result += ((Integer) ((Map<?,?>) doc.get("meta")).get("total")).intValue();
+        result += ((List<?>) doc.get("items")).size();
+        return result;
+    }
+}
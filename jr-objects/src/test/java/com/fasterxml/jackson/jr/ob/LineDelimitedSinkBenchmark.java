@@ -0,0 +1,165 @@
+package com.fasterxml.jackson.jr.ob;
+
+import java.io.*;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+/**
+ * Simple multi-threaded throughput benchmark for writing line-delimited JSON
+ * from 1 to 64 producer threads, comparing {@link LineDelimitedSink} with
+ * the straight-forward alternative of all producers writing through a single
+ * lock-guarded generator.
+ * Output is written to a temporary file (or, if first argument is {@code "null"},
+ * discarded) to include cost of actual I/O.
+ *<p>
+ * Not run as part of test suite; run with:
+ *<pre>
+ *  java -cp ... com.fasterxml.jackson.jr.ob.LineDelimitedSinkBenchmark [null]
+ *</pre>
+ */
+public class LineDelimitedSinkBenchmark
+{
+    private final static int ROUNDS = 6;
+
+    private final static int VALUES_PER_ROUND = 1_000_000;
+
+    private final static int[] PRODUCERS = { 1, 2, 4, 8, 16, 32, 64 };
+
+    public static class Message {
+        public long id;
+        public String type;
+        public String user;
+        public int priority;
+        public boolean urgent;
+        public double score;
+        public String text;
+    }
+
+    private final JSON _json = JSON.std;
+
+    private final boolean _discard;
+
+    public LineDelimitedSinkBenchmark(boolean discard) {
+        _discard = discard;
+    }
+
+    public static void main(String[] args) throws Exception
+    {
+        new LineDelimitedSinkBenchmark(args.length > 0 && "null".equals(args[0])).run();
+    }
+
+    public void run() throws Exception
+    {
+        System.out.printf("%d values per round, %d CPUs, output to %s%n",
+                VALUES_PER_ROUND, Runtime.getRuntime().availableProcessors(),
+                _discard ? "null stream" : "temporary file");
+        for (int round = 1; round <= ROUNDS; ++round) {
+            // first half of rounds just for warmup
+            final boolean report = (round > ROUNDS/2);
+            for (int producers : PRODUCERS) {
+                _measure(report, "sink  ", producers, this::_writeWithSink);
+                _measure(report, "locked", producers, this::_writeWithLock);
+            }
+        }
+    }
+
+    private void _measure(boolean report, String desc, int producers, Writer writer)
+        throws Exception
+    {
+        File f = null;
+        OutputStream out;
+        if (_discard) {
+            out = new OutputStream() {
+                @Override
+                public void write(int b) { }
+
+                @Override
+                public void write(byte[] b, int off, int len) { }
+            };
+        } else {
+            f = File.createTempFile("jr-sink-bench", ".ndjson");
+            out = new FileOutputStream(f);
+        }
+        try {
+            final long start = System.nanoTime();
+            writer.write(producers, out);
+            final long nanos = System.nanoTime() - start;
+            if (report) {
+                System.out.printf(" %s, %2d producers: %6d values/ms%n", desc, producers,
+                        VALUES_PER_ROUND * 1_000_000L / nanos);
+            }
+        } finally {
+            if (f != null) {
+                f.delete();
+            }
+        }
+    }
+
+    private void _writeWithSink(int producers, OutputStream out) throws Exception
+    {
+        final LineDelimitedSink sink = _json.lineDelimitedSink(out);
+        _runProducers(producers, sink::write);
+        sink.close();
+    }
+
+    private void _writeWithLock(int producers, OutputStream out) throws Exception
+    {
+        final ReentrantLock lock = new ReentrantLock();
+        final JsonGenerator g = _json.getStreamingFactory().createGenerator(out);
+        g.setRootValueSeparator(null);
+        final JSONSession session = _json.session();
+        _runProducers(producers, value -> {
+            lock.lock();
+            try {
+                session.write(value, g);
+                g.writeRaw('\n');
+            } finally {
+                lock.unlock();
+            }
+        });
+        g.close();
+    }
+
+    private void _runProducers(int producers, ValueWriter writer) throws Exception
+    {
+        final int perProducer = VALUES_PER_ROUND / producers;
+        final CountDownLatch start = new CountDownLatch(1);
+        Thread[] threads = new Thread[producers];
+        for (int i = 0; i < producers; ++i) {
+            final int producer = i;
+            threads[i] = new Thread(() -> {
+                final Message msg = new Message();
+                msg.type = "notification";
+                msg.user = "user"+producer+"@example.com";
+                msg.priority = producer % 5;
+                msg.text = "Something happened that you may want to know about, or not.";
+                try {
+                    start.await();
+                    for (int n = 0; n < perProducer; ++n) {
+                        msg.id = n;
+                        msg.urgent = (n & 1) != 0;
+                        msg.score = n / 8.0;
+                        writer.write(msg);
+                    }
+                } catch (Exception e) {
+                    throw new RuntimeException(e);
+                }
+            });
+            threads[i].start();
+        }
+        start.countDown();
+        for (Thread t : threads) {
+            t.join();
+        }
+    }
+
+    private interface Writer {
+        void write(int producers, OutputStream out) throws Exception;
+    }
+
+    private interface ValueWriter {
+        void write(Object value) throws Exception;
+    }
+}
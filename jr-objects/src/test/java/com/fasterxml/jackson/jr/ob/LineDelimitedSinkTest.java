@@ -0,0 +1,233 @@
+package com.fasterxml.jackson.jr.ob;
+
+import java.io.*;
+import java.nio.channels.Channels;
+import java.nio.file.Files;
+import java.util.*;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LineDelimitedSinkTest extends TestBase
+{
+    static class Event {
+        public int producer;
+        public int seq;
+        public String msg;
+
+        protected Event() { }
+
+        public Event(int producer, int seq) {
+            this.producer = producer;
+            this.seq = seq;
+            msg = "Event \u00e9\u20ac "+producer+"/"+seq;
+        }
+    }
+
+    static class Failing {
+        public int getA() { return 1; }
+        public int getB() { throw new IllegalArgumentException("Fail!"); }
+    }
+
+    private final JSON JSON_STD = JSON.std;
+
+    @Test
+    public void testConcurrentProducers() throws Exception
+    {
+        final int PRODUCERS = 8;
+        final int PER_PRODUCER = 2000;
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        // small buffers and pending limit, to exercise hand-off and blocking
+        final LineDelimitedSink sink = LineDelimitedSink.builder(JSON_STD)
+                .bufferSize(500)
+                .maxBatchSize(2000)
+                .maxPendingSize(5000)
+                .build(bytes);
+        final CountDownLatch start = new CountDownLatch(1);
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < PRODUCERS; ++i) {
+            final int producer = i;
+            Thread t = new Thread(() -> {
+                try {
+                    start.await();
+                    for (int seq = 0; seq < PER_PRODUCER; ++seq) {
+                        sink.write(new Event(producer, seq));
+                    }
+                } catch (Throwable e) {
+                    failure.set(e);
+                }
+            });
+            t.start();
+            threads.add(t);
+        }
+        start.countDown();
+        for (Thread t : threads) {
+            t.join();
+        }
+        sink.close();
+        assertNull(failure.get());
+
+        int[] nextSeq = new int[PRODUCERS];
+        int count = 0;
+        try (ValueIterator<Event> it = JSON_STD.beanSequenceFrom(Event.class,
+                bytes.toByteArray())) {
+            while (it.hasNext()) {
+                Event ev = it.next();
+                // per-producer order must be retained
+                assertEquals(nextSeq[ev.producer], ev.seq);
+                ++nextSeq[ev.producer];
+                assertEquals("Event \u00e9\u20ac "+ev.producer+"/"+ev.seq, ev.msg);
+                ++count;
+            }
+        }
+        assertEquals(PRODUCERS * PER_PRODUCER, count);
+        // and each value on a line of its own
+        String[] lines = new String(bytes.toByteArray(), "UTF-8").split("\n");
+        assertEquals(count, lines.length);
+    }
+
+    @Test
+    public void testFlushInterval() throws Exception
+    {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (LineDelimitedSink sink = LineDelimitedSink.builder(JSON_STD)
+                .flushInterval(5L)
+                .build(bytes)) {
+            sink.write(Collections.singletonMap("a", 1));
+            // content written without explicit flush, within flush interval
+            final long end = System.currentTimeMillis() + 5000L;
+            while ((bytes.size() == 0) && (System.currentTimeMillis() < end)) {
+                Thread.sleep(5L);
+            }
+            assertEquals("{\"a\":1}\n", new String(bytes.toByteArray(), "UTF-8"));
+        }
+    }
+
+    @Test
+    public void testExplicitFlush() throws Exception
+    {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        LineDelimitedSink sink = LineDelimitedSink.builder(JSON_STD)
+                .flushInterval(60000L)
+                .closeTarget(false)
+                .build(bytes);
+        sink.write(Arrays.asList(1, 2));
+        sink.write("abc");
+        sink.flush();
+        assertEquals("[1,2]\n\"abc\"\n", new String(bytes.toByteArray(), "UTF-8"));
+        assertEquals(0L, sink.pendingSize());
+        sink.write(true);
+        sink.close();
+        assertTrue(sink.isClosed());
+        assertEquals("[1,2]\n\"abc\"\ntrue\n", new String(bytes.toByteArray(), "UTF-8"));
+    }
+
+    @Test
+    public void testFailedValueNotWritten() throws Exception
+    {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (LineDelimitedSink sink = JSON_STD.lineDelimitedSink(bytes)) {
+            sink.write(Collections.singletonMap("x", 1));
+            try {
+                sink.write(Collections.singletonMap("bad", new Failing()));
+                fail("Should not pass");
+            } catch (Exception e) {
+                verifyException(e, "Failed to access property");
+            }
+            sink.write(Collections.singletonMap("x", 2));
+        }
+        assertEquals("{\"x\":1}\n{\"x\":2}\n", new String(bytes.toByteArray(), "UTF-8"));
+    }
+
+    @Test
+    public void testWriteAfterClose() throws Exception
+    {
+        LineDelimitedSink sink = JSON_STD.lineDelimitedSink(new ByteArrayOutputStream());
+        sink.close();
+        try {
+            sink.write("x");
+            fail("Should not pass");
+        } catch (IllegalStateException e) {
+            verifyException(e, "closed");
+        }
+        // but closing again is fine
+        sink.close();
+    }
+
+    @Test
+    public void testTargetFailure() throws Exception
+    {
+        OutputStream out = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("Disk full");
+            }
+        };
+        LineDelimitedSink sink = JSON_STD.lineDelimitedSink(out);
+        sink.write("x");
+        try {
+            sink.flush();
+            fail("Should not pass");
+        } catch (IOException e) {
+            verifyException(e, "Disk full");
+        }
+        try {
+            sink.write("y");
+            fail("Should not pass");
+        } catch (IOException e) {
+            verifyException(e, "Disk full");
+        }
+    }
+
+    @Test
+    public void testChannelTargets() throws Exception
+    {
+        // First, non-gathering channel
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (LineDelimitedSink sink = JSON_STD.lineDelimitedSink(Channels.newChannel(bytes))) {
+            for (int i = 0; i < 100; ++i) {
+                sink.write(new Event(0, i));
+            }
+        }
+        _verifyEvents(bytes.toByteArray(), 100);
+
+        // Then file (written using FileChannel)
+        File f = File.createTempFile("jr-sink", ".ndjson");
+        try {
+            try (LineDelimitedSink sink = JSON_STD.lineDelimitedSink(f)) {
+                for (int i = 0; i < 100; ++i) {
+                    sink.write(new Event(0, i));
+                }
+            }
+            _verifyEvents(Files.readAllBytes(f.toPath()), 100);
+        } finally {
+            f.delete();
+        }
+    }
+
+    @Test
+    public void testInvalidTarget() throws Exception
+    {
+        try {
+            JSON_STD.lineDelimitedSink("file.json");
+            fail("Should not pass");
+        } catch (JSONObjectException e) {
+            verifyException(e, "Can not use target of type `java.lang.String`");
+        }
+    }
+
+    private void _verifyEvents(byte[] doc, int count) throws IOException
+    {
+        int seq = 0;
+        try (ValueIterator<Event> it = JSON_STD.beanSequenceFrom(Event.class, doc)) {
+            while (it.hasNext()) {
+                assertEquals(seq++, it.next().seq);
+            }
+        }
+        assertEquals(count, seq);
+    }
+}
@@ -0,0 +1,134 @@
+package com.fasterxml.jackson.jr.ob;
+
+import java.io.InputStream;
+import java.util.List;
+import java.util.Map;
+
+import static com.fasterxml.jackson.jr.ob.BenchmarkHelper.usedHeap;
+
+/**
+ * Simple benchmark for comparing heap footprint of a large number of
+ * small JSON Objects (rows) read as {@link Map}s, with and without
+ * {@link JSON.Feature#SHARE_MAP_SHAPES} (and with
+ * {@link JSON.Feature#USE_DEFERRED_MAPS} disabled, as
+ * {@link java.util.LinkedHashMap}s). Footprint is measured as the
+ * difference of heap in use, after garbage collection, before reading
+ * and after (typical) access of some values.
+ *<p>
+ * Not run as part of test suite; run with (large enough heap):
+ *<pre>
+ *  java -Xmx1g -cp ... com.fasterxml.jackson.jr.ob.MapShapeFootprintBenchmark
+ *</pre>
+ */
+public class MapShapeFootprintBenchmark
+{
+    private final static int ROUNDS = 4;
+
+    private final static int ROWS = 1_000_000;
+
+    private final JSON _shared = JSON.std.with(JSON.Feature.SHARE_MAP_SHAPES);
+
+    private final JSON _deferred = JSON.std.without(JSON.Feature.SHARE_MAP_SHAPES);
+
+    private final JSON _linked = JSON.std.without(JSON.Feature.SHARE_MAP_SHAPES,
+            JSON.Feature.USE_DEFERRED_MAPS);
+
+    public static void main(String[] args) throws Exception
+    {
+        new MapShapeFootprintBenchmark().run();
+    }
+
+    public void run() throws Exception
+    {
+        System.out.printf("%d rows of 6 entries%n", ROWS);
+        for (int round = 1; round <= ROUNDS; ++round) {
+            // first round just for warmup
+            final boolean report = (round > 1);
+            measure(report, "shared shapes  ", _shared);
+            measure(report, "deferred maps  ", _deferred);
+            measure(report, "LinkedHashMaps ", _linked);
+        }
+    }
+
+    private void measure(boolean report, String desc, JSON json) throws Exception
+    {
+        final long before = usedHeap();
+        final long start = System.nanoTime();
+        List<Object> rows = json.listFrom(new RowStream(ROWS));
+        long sum = 0L;
+        for (Object row : rows) {
+            sum += ((Integer) ((Map<?,?>) row).get("qty")).intValue();
+        }
+        final long nanos = System.nanoTime() - start;
+        final long after = usedHeap();
+        if (sum != ROWS * 49L) {
+            throw new IllegalStateException("Unexpected sum: "+sum);
+        }
+        if (report) {
+            System.out.printf(" %s: %5d bytes/row, %4d ns/row%n", desc,
+                    (after - before) / rows.size(), nanos / ROWS);
+        }
+        BenchmarkHelper.consume(rows.size());
+    }
+
+    /**
+     * Stream of a JSON Array of rows (with values that do not require allocation
+     * of value instances), generated as read, to avoid buffering content.
+     */
+    static class RowStream extends InputStream
+    {
+        private final int _rows;
+        private int _row = -1;
+        private byte[] _current = "[".getBytes();
+        private int _ptr;
+
+        RowStream(int rows) {
+            _rows = rows;
+        }
+
+        @Override
+        public int read() {
+            if (_ptr == _current.length) {
+                if (!_nextChunk()) {
+                    return -1;
+                }
+            }
+            return _current[_ptr++] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] buf, int offset, int len) {
+            if (_ptr == _current.length) {
+                if (!_nextChunk()) {
+                    return -1;
+                }
+            }
+            final int count = Math.min(len, _current.length - _ptr);
+            System.arraycopy(_current, _ptr, buf, offset, count);
+            _ptr += count;
+            return count;
+        }
+
+        private boolean _nextChunk() {
+            if (_row >= _rows) {
+                return false;
+            }
+            StringBuilder sb = new StringBuilder(4000);
+            for (int i = 0; (i < 50) && (++_row < _rows); ++i) {
+                if (_row > 0) {
+                    sb.append(',');
+                }
+                sb.append("{\"id\":").append(_row % 100)
+                    .append(",\"type\":7,\"qty\":").append(49)
+                    .append(",\"buy\":").append((_row & 1) == 0)
+                    .append(",\"ref\":null,\"flag\":false}");
+            }
+            if (_row >= _rows) {
+                sb.append(']');
+            }
+            _current = sb.toString().getBytes();
+            _ptr = 0;
+            return true;
+        }
+    }
+}
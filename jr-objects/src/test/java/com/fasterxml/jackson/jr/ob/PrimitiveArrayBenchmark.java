@@ -0,0 +1,72 @@
+package com.fasterxml.jackson.jr.ob;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.fasterxml.jackson.jr.ob.BenchmarkHelper.measure;
+
+/**
+ * Simple single-threaded micro-benchmark for comparing throughput and
+ * per-operation allocation of reading and writing "feature vectors"
+ * as {@code double[]} and {@code float[]} against boxed {@code List<Double>}.
+ * Allocation is measured using {@code com.sun.management.ThreadMXBean}
+ * if available.
+ *<p>
+ * Not run as part of test suite; run with:
+ *<pre>
+ *  java -cp ... com.fasterxml.jackson.jr.ob.PrimitiveArrayBenchmark
+ *</pre>
+ */
+public class PrimitiveArrayBenchmark
+{
+    private final static int ROUNDS = 10;
+
+    private final static int VECTOR_LENGTH = 1024;
+
+    private final static int OPS_PER_ROUND = 4_000;
+
+    private final JSONSession _session = JSON.std.session();
+
+    private final double[] _doubles;
+
+    private final float[] _floats;
+
+    private final List<Double> _list;
+
+    private final byte[] _doc;
+
+    public PrimitiveArrayBenchmark() throws Exception {
+        _doubles = new double[VECTOR_LENGTH];
+        _floats = new float[VECTOR_LENGTH];
+        _list = new ArrayList<>(VECTOR_LENGTH);
+        for (int i = 0; i < VECTOR_LENGTH; ++i) {
+            // values with limited number of digits, so float/double round-trip similarly
+            double d = ((i * 37) % 1000 - 500) / 64.0;
+            _doubles[i] = d;
+            _floats[i] = (float) d;
+            _list.add(d);
+        }
+        _doc = JSON.std.asBytes(_doubles);
+    }
+
+    public static void main(String[] args) throws Exception
+    {
+        new PrimitiveArrayBenchmark().run();
+    }
+
+    public void run() throws Exception
+    {
+        System.out.printf("Vector of %d values (%d bytes), %d operations per round%n",
+                VECTOR_LENGTH, _doc.length, OPS_PER_ROUND);
+        for (int round = 1; round <= ROUNDS; ++round) {
+            // first half of rounds just for warmup
+            final boolean report = (round > ROUNDS/2);
+            measure(report, "read,  double[]    ", OPS_PER_ROUND, () -> _session.beanFrom(double[].class, _doc).length);
+            measure(report, "read,  float[]     ", OPS_PER_ROUND, () -> _session.beanFrom(float[].class, _doc).length);
+            measure(report, "read,  List<Double>", OPS_PER_ROUND, () -> _session.listOfFrom(Double.class, _doc).size());
+            measure(report, "write, double[]    ", OPS_PER_ROUND, () -> _session.asBytes(_doubles).length);
+            measure(report, "write, float[]     ", OPS_PER_ROUND, () -> _session.asBytes(_floats).length);
+            measure(report, "write, List<Double>", OPS_PER_ROUND, () -> _session.asBytes(_list).length);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.fasterxml.jackson.jr.ob;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.fasterxml.jackson.jr.ob.BenchmarkHelper.measure;
+
+/**
+ * Simple single-threaded micro-benchmark for comparing throughput, per-operation
+ * allocation and retained heap size of reading {@code List<Integer>} and
+ * {@code Map<String,Double>} with and without {@link PrimitiveCollectionsExtension}.
+ * Allocation is measured using {@code com.sun.management.ThreadMXBean}
+ * if available; retained size by comparing used heap (after GC) with and
+ * without results being held.
+ *<p>
+ * Not run as part of test suite; run with:
+ *<pre>
+ *  java -cp ... com.fasterxml.jackson.jr.ob.PrimitiveCollectionsBenchmark
+ *</pre>
+ */
+public class PrimitiveCollectionsBenchmark
+{
+    private final static int ROUNDS = 10;
+
+    private final static int LIST_LENGTH = 10_000;
+
+    private final static int MAP_SIZE = 1_000;
+
+    private final static int OPS_PER_ROUND = 500;
+
+    // number of results to hold when measuring retained size
+    private final static int RETAINED_COPIES = 200;
+
+    private final JSONSession _std = JSON.std.session();
+
+    private final JSONSession _prim = JSON.builder()
+            .register(new PrimitiveCollectionsExtension())
+            .build()
+            .session();
+
+    private final byte[] _listDoc, _mapDoc;
+
+    public PrimitiveCollectionsBenchmark() throws Exception {
+        StringBuilder sb = new StringBuilder(LIST_LENGTH * 6).append('[');
+        for (int i = 0; i < LIST_LENGTH; ++i) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            // mostly outside of Integer cache range of [-128, 127]
+            sb.append((i * 7919) % 100_000 - 50_000);
+        }
+        _listDoc = sb.append(']').toString().getBytes("UTF-8");
+        sb.setLength(0);
+        sb.append('{');
+        for (int i = 0; i < MAP_SIZE; ++i) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append("\"metric").append(i).append("\":").append(((i * 37) % 1000) / 64.0);
+        }
+        _mapDoc = sb.append('}').toString().getBytes("UTF-8");
+    }
+
+    public static void main(String[] args) throws Exception
+    {
+        new PrimitiveCollectionsBenchmark().run();
+    }
+
+    public void run() throws Exception
+    {
+        System.out.printf("List of %d ints (%d bytes), Map of %d doubles (%d bytes), %d operations per round%n",
+                LIST_LENGTH, _listDoc.length, MAP_SIZE, _mapDoc.length, OPS_PER_ROUND);
+        for (int round = 1; round <= ROUNDS; ++round) {
+            // first half of rounds just for warmup
+            final boolean report = (round > ROUNDS/2);
+            measure(report, "List<Integer>, boxed    ", OPS_PER_ROUND, () -> _std.listOfFrom(Integer.class, _listDoc).size());
+            measure(report, "List<Integer>, primitive", OPS_PER_ROUND, () -> _prim.listOfFrom(Integer.class, _listDoc).size());
+            measure(report, "Map<String,Double>, boxed    ", OPS_PER_ROUND, () -> _std.mapOfFrom(Double.class, _mapDoc).size());
+            measure(report, "Map<String,Double>, primitive", OPS_PER_ROUND, () -> _prim.mapOfFrom(Double.class, _mapDoc).size());
+        }
+        System.out.println("Retained heap:");
+        _retained("List<Integer>, boxed    ", () -> _std.listOfFrom(Integer.class, _listDoc), LIST_LENGTH);
+        _retained("List<Integer>, primitive", () -> _prim.listOfFrom(Integer.class, _listDoc), LIST_LENGTH);
+        _retained("Map<String,Double>, boxed    ", () -> _std.mapOfFrom(Double.class, _mapDoc), MAP_SIZE);
+        _retained("Map<String,Double>, primitive", () -> _prim.mapOfFrom(Double.class, _mapDoc), MAP_SIZE);
+    }
+
+    private void _retained(String desc, Read read, int entries) throws Exception
+    {
+        List<Object> held = new ArrayList<>(RETAINED_COPIES);
+        final long before = _usedHeap();
+        for (int i = 0; i < RETAINED_COPIES; ++i) {
+            held.add(read.run());
+        }
+        final long after = _usedHeap();
+        BenchmarkHelper.consume(held.size());
+        final double perEntry = (after - before) / (double) RETAINED_COPIES / entries;
+        System.out.printf(" %s: %6.1f bytes/entry%n", desc, perEntry);
+    }
+
+    private static long _usedHeap() throws InterruptedException {
+        final Runtime rt = Runtime.getRuntime();
+        for (int i = 0; i < 3; ++i) {
+            System.gc();
+            Thread.sleep(50L);
+        }
+        return rt.totalMemory() - rt.freeMemory();
+    }
+
+    private interface Read {
+        Object run() throws Exception;
+    }
+}
@@ -0,0 +1,227 @@
+package com.fasterxml.jackson.jr.ob;
+
+import java.util.*;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.jr.ob.ColumnarData.ColumnType;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ReadColumnarTest extends TestBase
+{
+    static class Trade {
+        public long ts;
+        public String symbol;
+        public double price;
+        public int qty;
+        public boolean buy;
+        public Integer venue;
+        public List<String> tags;
+
+        // should be ignored when reading columns
+        public Trade() {
+            throw new IllegalStateException("Should not be constructed");
+        }
+    }
+
+    static class Point {
+        private int x, y;
+
+        public void setX(int x) { this.x = x; }
+        public void setY(int y) { this.y = y; }
+        public void setLocation(String str) { }
+
+        // for writing
+        public int getX() { return x; }
+        public int getY() { return y; }
+    }
+
+    private final String TRADES = a2q(
+            "[{'ts':1000,'symbol':'ABC','price':10.25,'qty':100,'buy':true,'venue':3,'tags':['a']},"
+            +"{'symbol':'XYZ','ts':1001,'price':-1.5,'qty':7,'buy':false},"
+            +"{'ts':1002,'symbol':'ABC','price':10.5,'qty':'50','buy':true,'venue':null,'tags':null},"
+            +"{'ts':1003,'symbol':null,'price':0}"
+            +"]");
+
+    @Test
+    public void testReadColumns() throws Exception
+    {
+        ColumnarData data = JSON.std.columnsFrom(Trade.class, TRADES);
+        assertEquals(4, data.rowCount());
+        assertEquals(7, data.columnCount());
+
+        assertArrayEquals(new long[] { 1000, 1001, 1002, 1003 }, data.longColumn("ts"));
+        assertArrayEquals(new double[] { 10.25, -1.5, 10.5, 0.0 }, data.doubleColumn("price"));
+        assertArrayEquals(new int[] { 100, 7, 50, 0 }, data.intColumn("qty"));
+        assertArrayEquals(new boolean[] { true, false, true, false }, data.booleanColumn("buy"));
+        assertArrayEquals(new Object[] { 3, null, null, null }, data.objectColumn("venue"));
+        assertArrayEquals(new Object[] { Arrays.asList("a"), null, null, null },
+                data.objectColumn("tags"));
+
+        // Strings are dictionary-encoded
+        ColumnarData.Column symbols = data.column("symbol");
+        assertEquals(ColumnType.STRING, symbols.type());
+        assertArrayEquals(new String[] { null, "ABC", "XYZ" }, symbols.dictionary());
+        assertArrayEquals(new int[] { 1, 2, 1, 0 }, symbols.codes());
+        assertArrayEquals(new String[] { "ABC", "XYZ", "ABC", null }, data.stringColumn("symbol"));
+        assertEquals("XYZ", symbols.valueAt(1));
+        assertEquals(Long.valueOf(1003L), data.column("ts").valueAt(3));
+
+        assertNull(data.column("nosuch"));
+        try {
+            data.intColumn("price");
+            fail("Should not pass");
+        } catch (IllegalStateException e) {
+            verifyException(e, "Column 'price' is of type DOUBLE, not INT");
+        }
+        try {
+            data.intColumn("nosuch");
+            fail("Should not pass");
+        } catch (IllegalArgumentException e) {
+            verifyException(e, "No column 'nosuch'");
+        }
+    }
+
+    @Test
+    public void testReadManyRows() throws Exception
+    {
+        final int ROWS = 10_000;
+        StringBuilder sb = new StringBuilder().append('[');
+        for (int i = 0; i < ROWS; ++i) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append(a2q("{'x':"+i+",'y':"+(-i)+"}"));
+        }
+        sb.append(']');
+        ColumnarData data = JSON.std.columnsFrom(Point.class, sb.toString());
+        assertEquals(ROWS, data.rowCount());
+        int[] xs = data.intColumn("x");
+        int[] ys = data.intColumn("y");
+        assertEquals(ROWS, xs.length);
+        for (int i = 0; i < ROWS; ++i) {
+            assertEquals(i, xs[i]);
+            assertEquals(-i, ys[i]);
+        }
+
+        // and empty/null cases
+        assertEquals(0, JSON.std.columnsFrom(Point.class, "[]").rowCount());
+        assertEquals(0, JSON.std.columnsFrom(Point.class, "[]").intColumn("x").length);
+        assertNull(JSON.std.columnsFrom(Point.class, "null"));
+    }
+
+    @Test
+    public void testUnknownProperties() throws Exception
+    {
+        final String DOC = a2q("[{'x':1,'extra':{'a':[1,2]},'y':2}]");
+        ColumnarData data = JSON.std.columnsFrom(Point.class, DOC);
+        assertArrayEquals(new int[] { 1 }, data.intColumn("x"));
+        assertArrayEquals(new int[] { 2 }, data.intColumn("y"));
+
+        try {
+            JSON.std.with(JSON.Feature.FAIL_ON_UNKNOWN_BEAN_PROPERTY)
+                .columnsFrom(Point.class, DOC);
+            fail("Should not pass");
+        } catch (JSONObjectException e) {
+            verifyException(e, "Unrecognized JSON property \"extra\"");
+        }
+    }
+
+    @Test
+    public void testInvalidInput() throws Exception
+    {
+        try {
+            JSON.std.columnsFrom(Point.class, "{}");
+            fail("Should not pass");
+        } catch (JSONObjectException e) {
+            verifyException(e, "Can not read columns: expect to see START_ARRAY");
+        }
+        try {
+            JSON.std.columnsFrom(Point.class, a2q("[{'x':1},[]]"));
+            fail("Should not pass");
+        } catch (JSONObjectException e) {
+            verifyException(e, "Can not read row #1");
+        }
+        try {
+            JSON.std.columnsFrom(Trade.class, a2q("[{'symbol':{}}]"));
+            fail("Should not pass");
+        } catch (JSONObjectException e) {
+            verifyException(e, "Can not read a String for property 'symbol'");
+        }
+        try {
+            JSON.std.columnsFrom(String.class, "[]");
+            fail("Should not pass");
+        } catch (JSONObjectException e) {
+            verifyException(e, "not a Bean type");
+        }
+    }
+
+    @Test
+    public void testWriteColumns() throws Exception
+    {
+        ColumnarData data = JSON.std.columnsFrom(Trade.class, TRADES);
+        assertEquals(a2q("[{'ts':1000,'symbol':'ABC','price':10.25,'qty':100,'buy':true,'venue':3,'tags':['a']},"
+                +"{'ts':1001,'symbol':'XYZ','price':-1.5,'qty':7,'buy':false},"
+                +"{'ts':1002,'symbol':'ABC','price':10.5,'qty':50,'buy':true},"
+                +"{'ts':1003,'price':0.0,'qty':0,'buy':false}]"),
+                JSON.std.asString(data));
+        assertEquals(a2q("[{'ts':1003,'symbol':null,'price':0.0,'qty':0,'buy':false,'venue':null,'tags':null}]"),
+                JSON.std.with(JSON.Feature.WRITE_NULL_PROPERTIES).asString(
+                        ColumnarData.builder(1)
+                            .longs("ts", new long[] { 1003 })
+                            .strings("symbol", new String[] { null })
+                            .doubles("price", new double[] { 0.0 })
+                            .ints("qty", new int[1])
+                            .booleans("buy", new boolean[1])
+                            .objects("venue", new Object[1])
+                            .objects("tags", new Object[1])
+                            .build()));
+
+        // as well as when nested in other values
+        Map<String,Object> wrapper = new LinkedHashMap<>();
+        wrapper.put("points", ColumnarData.builder(2)
+                .ints("x", new int[] { 1, 2 })
+                .ints("y", new int[] { 3, 4 })
+                .build());
+        final String json = JSON.std.asString(wrapper);
+        assertEquals(a2q("{'points':[{'x':1,'y':3},{'x':2,'y':4}]}"), json);
+
+        // and round-trips to Beans
+        List<Point> points = JSON.std.listOfFrom(Point.class,
+                JSON.std.asString(JSON.std.columnsFrom(Point.class, a2q("[{'x':5,'y':6},{'y':-1}]"))));
+        assertEquals(2, points.size());
+        assertEquals(5, points.get(0).x);
+        assertEquals(6, points.get(0).y);
+        assertEquals(0, points.get(1).x);
+        assertEquals(-1, points.get(1).y);
+    }
+
+    @Test
+    public void testBuilderValidation() throws Exception
+    {
+        try {
+            ColumnarData.builder(2).ints("x", new int[3]).build();
+            fail("Should not pass");
+        } catch (IllegalArgumentException e) {
+            verifyException(e, "Column 'x' has 3 values; expected 2");
+        }
+        try {
+            ColumnarData.builder(1).ints("x", new int[1]).longs("x", new long[1]).build();
+            fail("Should not pass");
+        } catch (IllegalArgumentException e) {
+            verifyException(e, "Duplicate column 'x'");
+        }
+        try {
+            ColumnarData.builder(1).strings("s", new String[] { null, "a" }, new int[] { 2 });
+            fail("Should not pass");
+        } catch (IllegalArgumentException e) {
+            verifyException(e, "Invalid code 2");
+        }
+        ColumnarData data = ColumnarData.builder(3)
+                .strings("s", new String[] { "a", null, "a" })
+                .build();
+        assertArrayEquals(new String[] { null, "a" }, data.column("s").dictionary());
+        assertArrayEquals(new int[] { 1, 0, 1 }, data.column("s").codes());
+    }
+}
@@ -0,0 +1,256 @@
+package com.fasterxml.jackson.jr.ob;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.jr.ob.impl.LazyList;
+import com.fasterxml.jackson.jr.ob.impl.LazyMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ReadLazyMapsTest extends TestBase
+{
+    private final JSON LAZY = JSON.std.with(JSON.Feature.USE_LAZY_MAPS);
+
+    private final String DOC = a2q(
+            "{'id':123,'big':12345678901,'huge':123456789012345678901234567890,"
+            +"'price':0.25,'name':'caf\u00e9 \\\"x\\\"\\n','ok':true,'none':null,"
+            +"'nested':{'a':[1,{'b':2}],'c':'d'},'list':[1,'two',[3],{}]}");
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testLazyMap() throws Exception
+    {
+        final byte[] input = _bytes(DOC);
+        Map<String,Object> map = LAZY.mapFrom(input);
+        assertEquals(LazyMap.class, map.getClass());
+        LazyMap lazy = (LazyMap) map;
+        assertEquals(9, map.size());
+        assertFalse(lazy.isDecoded("id"));
+        assertFalse(lazy.isDecoded("nested"));
+        assertTrue(map.containsKey("name"));
+        assertFalse(map.containsKey("nosuch"));
+        assertNull(map.get("nosuch"));
+        assertFalse(lazy.isDecoded("name"));
+
+        // Values decoded only when accessed
+        assertEquals(Integer.valueOf(123), map.get("id"));
+        assertTrue(lazy.isDecoded("id"));
+        assertFalse(lazy.isDecoded("big"));
+        assertEquals(Long.valueOf(12345678901L), map.get("big"));
+        assertEquals(new BigInteger("123456789012345678901234567890"), map.get("huge"));
+        assertEquals(Double.valueOf(0.25), map.get("price"));
+        assertEquals("caf\u00e9 \"x\"\n", map.get("name"));
+        assertEquals(Boolean.TRUE, map.get("ok"));
+        assertNull(map.get("none"));
+        assertTrue(map.containsKey("none"));
+
+        // including nested Objects and Arrays, which are views themselves
+        Map<String,Object> nested = (Map<String,Object>) map.get("nested");
+        assertEquals(LazyMap.class, nested.getClass());
+        assertSame(nested, map.get("nested"));
+        assertEquals("d", nested.get("c"));
+        List<Object> a = (List<Object>) nested.get("a");
+        assertEquals(LazyList.class, a.getClass());
+        assertFalse(((LazyList) a).isDecoded(1));
+        assertEquals(Integer.valueOf(1), a.get(0));
+        assertEquals(Collections.singletonMap("b", 2), a.get(1));
+        assertTrue(((LazyList) a).isDecoded(1));
+
+        // and overall, content same as with regular reading
+        Map<String,Object> exp = JSON.std.mapFrom(input);
+        assertEquals(exp, map);
+        assertEquals(map, exp);
+        assertEquals(exp.hashCode(), map.hashCode());
+        assertEquals(exp.toString(), map.toString());
+        assertEquals(new ArrayList<>(exp.keySet()), new ArrayList<>(map.keySet()));
+        assertEquals(JSON.std.asString(exp), JSON.std.asString(LAZY.mapFrom(input)));
+    }
+
+    @Test
+    public void testLazyAny() throws Exception
+    {
+        Object ob = LAZY.anyFrom(_bytes(a2q("[1,'a',{'x':[]},null]")));
+        assertEquals(LazyList.class, ob.getClass());
+        List<?> list = (List<?>) ob;
+        assertEquals(4, list.size());
+        assertEquals(Arrays.asList(1, "a", Collections.singletonMap("x", Collections.emptyList()), null),
+                list);
+        try {
+            list.get(4);
+            fail("Should not pass");
+        } catch (IndexOutOfBoundsException e) {
+            verifyException(e, "Index: 4, Size: 4");
+        }
+
+        // scalars decoded as usual
+        assertEquals("abc", LAZY.anyFrom(_bytes(a2q("'abc'"))));
+        assertEquals(Integer.valueOf(3), LAZY.anyFrom(_bytes("3")));
+        assertNull(LAZY.anyFrom(_bytes("null")));
+        assertNull(LAZY.mapFrom(_bytes("null")));
+
+        // as are arrays, if read as Java arrays
+        Map<String,Object> map = LAZY.with(JSON.Feature.READ_JSON_ARRAYS_AS_JAVA_ARRAYS)
+                .mapFrom(_bytes(a2q("{'arr':[1,[2]]}")));
+        assertEquals(LazyMap.class, map.getClass());
+        Object[] arr = (Object[]) map.get("arr");
+        assertEquals(2, arr.length);
+        assertArrayEquals(new Object[] { 2 }, (Object[]) arr[1]);
+        assertTrue(LAZY.with(JSON.Feature.READ_JSON_ARRAYS_AS_JAVA_ARRAYS)
+                .anyFrom(_bytes("[1]")) instanceof Object[]);
+
+        // other sources (and default settings) read as usual
+        assertFalse(LAZY.mapFrom(DOC) instanceof LazyMap);
+        assertFalse(JSON.std.mapFrom(_bytes(DOC)) instanceof LazyMap);
+
+        // and sessions too
+        JSONSession session = LAZY.session();
+        assertEquals(LazyMap.class, session.mapFrom(_bytes(DOC)).getClass());
+        assertEquals(LazyList.class, session.anyFrom(_bytes("[]")).getClass());
+        assertEquals(Integer.valueOf(123), session.mapFrom(_bytes(DOC)).get("id"));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testModifications() throws Exception
+    {
+        Map<String,Object> map = LAZY.mapFrom(_bytes(a2q("{'a':1,'b':[1,2],'c':3}")));
+
+        // replacing values works on view
+        assertEquals(Integer.valueOf(1), map.put("a", 10));
+        assertEquals(Integer.valueOf(10), map.get("a"));
+        List<Object> b = (List<Object>) map.get("b");
+        assertEquals(Integer.valueOf(2), b.set(1, 20));
+        assertEquals(Arrays.asList(1, 20), b);
+        for (Map.Entry<String,Object> entry : map.entrySet()) {
+            if (entry.getKey().equals("c")) {
+                entry.setValue(30);
+            }
+        }
+        assertFalse(((LazyMap) map).isDecoded("nosuch"));
+        assertEquals(a2q("{'a':10,'b':[1,20],'c':30}"), JSON.std.asString(map));
+
+        // as do structural changes
+        b.add(3);
+        b.remove(0);
+        assertEquals(Arrays.asList(20, 3), b);
+        assertNull(map.remove("nosuch"));
+        assertEquals(Integer.valueOf(10), map.remove("a"));
+        assertNull(map.put("d", 4));
+        assertEquals(a2q("{'b':[20,3],'c':30,'d':4}"), JSON.std.asString(map));
+
+        Map<String,Object> map2 = LAZY.mapFrom(_bytes(a2q("{'a':1,'b':2,'c':3}")));
+        Iterator<String> it = map2.keySet().iterator();
+        assertEquals("a", it.next());
+        assertEquals("b", it.next());
+        it.remove();
+        assertEquals("c", it.next());
+        assertFalse(it.hasNext());
+        assertEquals(a2q("{'a':1,'c':3}"), JSON.std.asString(map2));
+
+        map2.clear();
+        assertTrue(map2.isEmpty());
+        map2.put("x", 1);
+        assertEquals(Collections.singletonMap("x", 1), map2);
+        b.clear();
+        assertTrue(b.isEmpty());
+    }
+
+    @Test
+    public void testManyKeys() throws Exception
+    {
+        final int COUNT = 200;
+        StringBuilder sb = new StringBuilder("{");
+        for (int i = 0; i < COUNT; ++i) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append("\"field").append(i).append("\":").append(i);
+        }
+        sb.append('}');
+        Map<String,Object> map = LAZY.mapFrom(_bytes(sb.toString()));
+        assertEquals(COUNT, map.size());
+        for (int i = COUNT; --i >= 0; ) {
+            assertEquals(Integer.valueOf(i), map.get("field"+i));
+        }
+        assertFalse(map.containsKey("field"+COUNT));
+        assertEquals(JSON.std.mapFrom(sb.toString()), map);
+    }
+
+    @Test
+    public void testDuplicateKeys() throws Exception
+    {
+        final byte[] input = _bytes(a2q("{'a':1,'b':2,'a':3}"));
+        try {
+            LAZY.mapFrom(input);
+            fail("Should not pass");
+        } catch (JSONObjectException e) {
+            verifyException(e, "Duplicate key (key 'a')");
+        }
+        Map<String,Object> map = LAZY.without(JSON.Feature.FAIL_ON_DUPLICATE_MAP_KEYS)
+                .mapFrom(input);
+        assertEquals(2, map.size());
+        assertEquals(Integer.valueOf(3), map.get("a"));
+    }
+
+    @Test
+    public void testInvalidInput() throws Exception
+    {
+        // Structure is fully checked when reading
+        try {
+            LAZY.mapFrom(_bytes(a2q("{'a':{'b':[1,2}}")));
+            fail("Should not pass");
+        } catch (JsonProcessingException e) {
+            verifyException(e, "Unexpected close marker");
+        }
+        try {
+            LAZY.mapFrom(_bytes("[1]"));
+            fail("Should not pass");
+        } catch (JSONObjectException e) {
+            verifyException(e, "Can not read a Map: expect to see START_OBJECT");
+        }
+    }
+
+    // Lazy views need byte offsets, so only used for UTF-8 content
+    @Test
+    public void testNonUTF8Input() throws Exception
+    {
+        for (String enc : new String[] { "UTF-16BE", "UTF-16LE", "UTF-32BE" }) {
+            final byte[] input = DOC.getBytes(enc);
+            Map<String,Object> map = LAZY.mapFrom(input);
+            assertFalse(map instanceof LazyMap, "Should not read "+enc+" lazily");
+            assertEquals(JSON.std.mapFrom(DOC), map);
+            assertEquals(Arrays.asList(1, "a"), LAZY.anyFrom(a2q("[1,'a']").getBytes(enc)));
+            assertFalse(LAZY.session().mapFrom(input) instanceof LazyMap);
+        }
+        // but UTF-8, with or without BOM, is
+        final byte[] doc = _bytes(DOC);
+        final byte[] withBOM = new byte[doc.length + 3];
+        withBOM[0] = (byte) 0xEF;
+        withBOM[1] = (byte) 0xBB;
+        withBOM[2] = (byte) 0xBF;
+        System.arraycopy(doc, 0, withBOM, 3, doc.length);
+        Map<String,Object> map = LAZY.mapFrom(withBOM);
+        assertEquals(LazyMap.class, map.getClass());
+        assertEquals(JSON.std.mapFrom(DOC), map);
+    }
+
+    // Features added in 2.19 must not change masks of existing ones
+    @Test
+    public void testFeatureMasks() throws Exception
+    {
+        assertEquals(1 << 4, JSON.Feature.USE_DEFERRED_MAPS.mask());
+        assertEquals(1 << 5, JSON.Feature.FAIL_ON_DUPLICATE_MAP_KEYS.mask());
+        assertEquals(1 << 22, JSON.Feature.ACCEPT_CASE_INSENSITIVE_ENUMS.mask());
+        assertFalse(JSON.std.isEnabled(JSON.Feature.USE_LAZY_MAPS));
+        assertFalse(JSON.std.isEnabled(JSON.Feature.SHARE_MAP_SHAPES));
+    }
+
+    private static byte[] _bytes(String json) {
+        return json.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,177 @@
+package com.fasterxml.jackson.jr.ob;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.jr.ob.impl.MappedFileInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ReadMappedFileTest extends TestBase
+{
+    static class Bean {
+        public int id;
+        public String msg;
+    }
+
+    private final static int COUNT = 500;
+
+    private final JSON MAPPED = JSON.std.with(JSON.Feature.USE_MEMORY_MAPPED_FILES);
+
+    @Test
+    public void testBeanSequenceFromPath() throws Exception
+    {
+        Path path = _writeNDJSON();
+        try {
+            try (ValueIterator<Bean> it = MAPPED.beanSequenceFrom(Bean.class, path)) {
+                _verifyBeans(it);
+            }
+            // and also single values
+            List<Object> list = MAPPED.listFrom(_writeTemp("[1,2,3]"));
+            assertEquals(Arrays.asList(1, 2, 3), list);
+        } finally {
+            _delete(path);
+        }
+    }
+
+    // Files are not memory-mapped by default, but read the same
+    @Test
+    public void testAnySequenceFromPath() throws Exception
+    {
+        assertFalse(JSON.std.isEnabled(JSON.Feature.USE_MEMORY_MAPPED_FILES));
+        Path path = _writeNDJSON();
+        try (ValueIterator<Object> it = JSON.std.anySequenceFrom(path)) {
+            for (int i = 0; i < COUNT; ++i) {
+                assertTrue(it.hasNext());
+                Map<?,?> map = (Map<?,?>) it.next();
+                assertEquals(i, map.get("id"));
+                assertEquals(_msg(i), map.get("msg"));
+            }
+            assertFalse(it.hasNext());
+        } finally {
+            _delete(path);
+        }
+    }
+
+    // Values (and multi-byte UTF-8 characters) straddling windows
+    @Test
+    public void testSmallWindows() throws Exception
+    {
+        Path path = _writeNDJSON();
+        try {
+            for (int windowSize : new int[] { 1, 2, 3, 7, 64, 1000 }) {
+                MappedFileInputStream in = new MappedFileInputStream(path, windowSize);
+                assertEquals(windowSize, in.windowSize());
+                try (ValueIterator<Bean> it = JSON.std.beanSequenceFrom(Bean.class, in)) {
+                    _verifyBeans(it);
+                }
+            }
+        } finally {
+            _delete(path);
+        }
+    }
+
+    @Test
+    public void testStreamAccess() throws Exception
+    {
+        byte[] content = new byte[100];
+        for (int i = 0; i < content.length; ++i) {
+            content[i] = (byte) i;
+        }
+        Path path = Files.createTempFile("jr-mapped", ".bin");
+        try {
+            Files.write(path, content);
+            try (MappedFileInputStream in = new MappedFileInputStream(path, 16)) {
+                assertEquals(100L, in.length());
+                assertEquals(100, in.available());
+                assertEquals(0, in.read());
+                byte[] buf = new byte[40];
+                // only reads up to end of window
+                assertEquals(15, in.read(buf, 0, buf.length));
+                assertEquals(15, buf[14]);
+                assertEquals(16, in.read());
+                // skip within window, then across
+                assertEquals(3L, in.skip(3L));
+                assertEquals(20, in.read());
+                assertEquals(30L, in.skip(30L));
+                assertEquals(51L, in.position());
+                assertEquals(51, in.read());
+                assertEquals(48L, in.skip(1000L));
+                assertEquals(0, in.available());
+                assertEquals(-1, in.read());
+                assertEquals(-1, in.read(buf, 0, 10));
+            }
+            MappedFileInputStream in = new MappedFileInputStream(path);
+            in.close();
+            try {
+                in.read();
+                fail("Should not pass");
+            } catch (IOException e) {
+                verifyException(e, "Stream closed");
+            }
+        } finally {
+            _delete(path);
+        }
+    }
+
+    @Test
+    public void testEmptyFile() throws Exception
+    {
+        Path path = _writeTemp("");
+        try {
+            try (MappedFileInputStream in = new MappedFileInputStream(path, 16)) {
+                assertEquals(0L, in.length());
+                assertEquals(-1, in.read());
+            }
+        } finally {
+            _delete(path);
+        }
+    }
+
+    private void _verifyBeans(ValueIterator<Bean> it) throws IOException
+    {
+        for (int i = 0; i < COUNT; ++i) {
+            assertTrue(it.hasNextValue());
+            Bean bean = it.nextValue();
+            assertEquals(i, bean.id);
+            assertEquals(_msg(i), bean.msg);
+        }
+        assertFalse(it.hasNextValue());
+    }
+
+    private Path _writeNDJSON() throws IOException
+    {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < COUNT; ++i) {
+            sb.append(a2q("{'id':")).append(i).append(a2q(",'msg':'"))
+                .append(_msg(i)).append(a2q("'}\n"));
+        }
+        return _writeTemp(sb.toString());
+    }
+
+    private Path _writeTemp(String content) throws IOException
+    {
+        Path path = Files.createTempFile("jr-mapped", ".json");
+        Files.write(path, content.getBytes(StandardCharsets.UTF_8));
+        path.toFile().deleteOnExit();
+        return path;
+    }
+
+    // NOTE: may fail on some platforms while file is still mapped; will be
+    // deleted on exit in that case
+    private void _delete(Path path) {
+        try {
+            Files.delete(path);
+        } catch (IOException e) { }
+    }
+
+    private static String _msg(int i) {
+        // include 2-, 3- and 4-byte UTF-8 characters
+        return "msg #"+i+" \u00E9\u20AC\uD83D\uDE00";
+    }
+}
@@ -0,0 +1,182 @@
+package com.fasterxml.jackson.jr.ob;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.jr.ob.impl.LineDelimitedSpliterator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ReadParallelSequenceTest extends TestBase
+{
+    static class Bean {
+        public int id;
+        public String msg;
+        public List<String> tags;
+    }
+
+    private final static int COUNT = 3000;
+
+    private final static int CHUNK_SIZE = 1000;
+
+    private final JSON JSON_STD = JSON.std;
+
+    @Test
+    public void testOrderedFromBytes() throws Exception
+    {
+        final byte[] doc = _ndjson(COUNT, "\n");
+        try (Stream<Bean> stream = JSON_STD.parallelBeanSequenceFrom(Bean.class, doc, true, CHUNK_SIZE)) {
+            assertTrue(stream.isParallel());
+            List<Bean> beans = stream.collect(Collectors.toList());
+            _verifyOrdered(beans, COUNT);
+        }
+        // CR+LF should work as well, as should empty lines
+        try (Stream<Bean> stream = JSON_STD.parallelBeanSequenceFrom(Bean.class,
+                _ndjson(COUNT, "\r\n\n"), true, CHUNK_SIZE)) {
+            _verifyOrdered(stream.collect(Collectors.toList()), COUNT);
+        }
+    }
+
+    @Test
+    public void testUnorderedFromBuffer() throws Exception
+    {
+        final byte[] doc = _ndjson(COUNT, "\n");
+        ByteBuffer bb = ByteBuffer.allocateDirect(doc.length + 10);
+        bb.position(10);
+        bb.put(doc);
+        bb.position(10);
+        try (Stream<Bean> stream = JSON_STD.parallelBeanSequenceFrom(Bean.class, bb, false, CHUNK_SIZE)) {
+            List<Integer> ids = stream.map(b -> b.id).collect(Collectors.toList());
+            Collections.sort(ids);
+            assertEquals(COUNT, ids.size());
+            for (int i = 0; i < COUNT; ++i) {
+                assertEquals(i, ids.get(i).intValue());
+            }
+        }
+    }
+
+    @Test
+    public void testFromFileWithCustomPool() throws Exception
+    {
+        Path path = Files.createTempFile("jr-parallel", ".ndjson");
+        path.toFile().deleteOnExit();
+        Files.write(path, _ndjson(COUNT, "\n"));
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            List<Bean> beans = pool.submit(() -> {
+                try (Stream<Bean> stream = JSON_STD.parallelBeanSequenceFrom(Bean.class, path, true, CHUNK_SIZE)) {
+                    return stream.collect(Collectors.toList());
+                }
+            }).get();
+            _verifyOrdered(beans, COUNT);
+            // and File too, with default chunk size
+            try (Stream<Bean> stream = JSON_STD.parallelBeanSequenceFrom(Bean.class, path.toFile(), true)) {
+                _verifyOrdered(stream.collect(Collectors.toList()), COUNT);
+            }
+        } finally {
+            pool.shutdown();
+            Files.delete(path);
+        }
+    }
+
+    @Test
+    public void testSplitting() throws Exception
+    {
+        final byte[] doc = _ndjson(COUNT, "\n");
+        LineDelimitedSpliterator<Bean> full = new LineDelimitedSpliterator<Bean>(
+                LineDelimitedSpliterator.content(ByteBuffer.wrap(doc)),
+                in -> JSON_STD.beanSequenceFrom(Bean.class, in), CHUNK_SIZE, true);
+        assertEquals(Spliterator.ORDERED, full.characteristics());
+        assertEquals(doc.length, full.estimateSize());
+
+        // split recursively, collect all chunks in order
+        List<Spliterator<Bean>> chunks = new ArrayList<>();
+        _split(full, chunks);
+        assertTrue(chunks.size() > 8, "Should have split to more chunks, got "+chunks.size());
+        long total = 0L;
+        List<Bean> beans = new ArrayList<>();
+        for (Spliterator<Bean> chunk : chunks) {
+            total += chunk.estimateSize();
+            chunk.forEachRemaining(beans::add);
+            // can not split after reading
+            assertNull(chunk.trySplit());
+        }
+        assertEquals(doc.length, total);
+        _verifyOrdered(beans, COUNT);
+
+        // and no splitting for small content
+        LineDelimitedSpliterator<Bean> small = new LineDelimitedSpliterator<Bean>(
+                LineDelimitedSpliterator.content(ByteBuffer.wrap(_ndjson(3, "\n"))),
+                in -> JSON_STD.beanSequenceFrom(Bean.class, in), CHUNK_SIZE, false);
+        assertEquals(0, small.characteristics());
+        assertNull(small.trySplit());
+    }
+
+    @Test
+    public void testInvalidContent() throws Exception
+    {
+        byte[] doc = _ndjson(COUNT, "\n");
+        // corrupt something in the middle
+        doc[doc.length / 2] = '}';
+        try (Stream<Bean> stream = JSON_STD.parallelBeanSequenceFrom(Bean.class, doc, true, CHUNK_SIZE)) {
+            stream.count();
+            fail("Should not pass");
+        } catch (RuntimeException e) {
+            Throwable t = e;
+            while (!(t instanceof IOException) && t.getCause() != null) {
+                t = t.getCause();
+            }
+            assertTrue(t instanceof IOException, "Unexpected exception: "+e);
+        }
+
+        try {
+            JSON_STD.parallelBeanSequenceFrom(Bean.class, "{}", true);
+            fail("Should not pass");
+        } catch (JSONObjectException e) {
+            verifyException(e, "Can not use Source of type");
+        }
+    }
+
+    private void _split(Spliterator<Bean> it, List<Spliterator<Bean>> chunks)
+    {
+        Spliterator<Bean> prefix = it.trySplit();
+        if (prefix == null) {
+            chunks.add(it);
+            return;
+        }
+        _split(prefix, chunks);
+        _split(it, chunks);
+    }
+
+    private void _verifyOrdered(List<Bean> beans, int count)
+    {
+        assertEquals(count, beans.size());
+        for (int i = 0; i < count; ++i) {
+            Bean bean = beans.get(i);
+            assertEquals(i, bean.id);
+            assertEquals("Message #"+i, bean.msg);
+            assertEquals(Arrays.asList("a", String.valueOf(i)), bean.tags);
+        }
+    }
+
+    private byte[] _ndjson(int count, String lf)
+    {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < count; ++i) {
+            sb.append(a2q("{'id':")).append(i)
+                .append(a2q(",'msg':'Message #")).append(i)
+                .append(a2q("','tags':['a','")).append(i).append(a2q("']}"))
+                .append(lf);
+        }
+        return sb.toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
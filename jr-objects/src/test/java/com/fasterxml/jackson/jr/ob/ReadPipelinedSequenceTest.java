@@ -0,0 +1,238 @@
+package com.fasterxml.jackson.jr.ob;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.jr.ob.impl.TokenBuffer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ReadPipelinedSequenceTest extends TestBase
+{
+    static class Bean {
+        public int id;
+        public String msg;
+        public double ratio;
+        public BigDecimal amount;
+        public BigInteger big;
+        public long stamp;
+        public byte[] data;
+        public List<String> tags;
+        public Map<String,Object> props;
+        public Bean child;
+    }
+
+    private final static int COUNT = 2000;
+
+    private final JSON JSON_STD = JSON.std;
+
+    // note: pool threads are daemon threads, so pool needs not be shut down
+    private final static ForkJoinPool _executor = new ForkJoinPool(4);
+
+    @Test
+    public void testOrderedFromArray() throws Exception
+    {
+        final String doc = _array(COUNT);
+        try (PipelinedValueIterator<Bean> it = JSON_STD.pipelinedBeanSequenceFrom(Bean.class,
+                doc, _executor, true)) {
+            _verifySame(JSON_STD.beanSequenceFrom(Bean.class, doc).readAll(), it.readAll());
+            assertFalse(it.hasNext());
+        }
+    }
+
+    @Test
+    public void testOrderedFromRootSequence() throws Exception
+    {
+        final byte[] doc = _array(COUNT).replaceAll("^\\[|\\]$", "").replace("},{", "}\n{")
+                .getBytes("UTF-8");
+        try (PipelinedValueIterator<Bean> it = JSON_STD.pipelinedBeanSequenceFrom(Bean.class,
+                doc, _executor, true, 3)) {
+            List<Bean> beans = new ArrayList<>();
+            while (it.hasNextValue()) {
+                assertTrue(it.inFlight() <= 3);
+                beans.add(it.nextValue());
+            }
+            _verifySame(JSON_STD.beanSequenceFrom(Bean.class, doc).readAll(), beans);
+        }
+    }
+
+    @Test
+    public void testUnordered() throws Exception
+    {
+        try (PipelinedValueIterator<Bean> it = JSON_STD.pipelinedBeanSequenceFrom(Bean.class,
+                _array(COUNT), _executor, false)) {
+            List<Integer> ids = new ArrayList<>();
+            while (it.hasNext()) {
+                ids.add(it.next().id);
+            }
+            Collections.sort(ids);
+            assertEquals(COUNT, ids.size());
+            for (int i = 0; i < COUNT; ++i) {
+                assertEquals(i, ids.get(i).intValue());
+            }
+        }
+    }
+
+    @Test
+    public void testFromParser() throws Exception
+    {
+        JsonParser p = JSON_STD.createParser("[{\"id\":1},{\"id\":2}] 3");
+        assertEquals(JsonToken.START_ARRAY, p.nextToken());
+        p.clearCurrentToken();
+        try (PipelinedValueIterator<Bean> it = JSON_STD.pipelinedBeanSequenceFrom(Bean.class,
+                p, _executor, true)) {
+            assertEquals(1, it.nextValue().id);
+            assertEquals(2, it.nextValue().id);
+            assertFalse(it.hasNextValue());
+        }
+        // caller-provided parser left where iteration stopped
+        assertEquals(JsonToken.END_ARRAY, p.currentToken());
+        assertEquals(JsonToken.VALUE_NUMBER_INT, p.nextToken());
+        p.close();
+    }
+
+    @Test
+    public void testBindingFailureDoesNotEndIteration() throws Exception
+    {
+        try (PipelinedValueIterator<Bean> it = JSON_STD.pipelinedBeanSequenceFrom(Bean.class,
+                "[{\"id\":1},{\"id\":[true]},{\"id\":3}]", _executor, true)) {
+            assertEquals(1, it.nextValue().id);
+            try {
+                it.nextValue();
+                fail("Should not pass");
+            } catch (JSONObjectException e) {
+                verifyException(e, "Unexpected token");
+            }
+            assertEquals(3, it.nextValue().id);
+            assertFalse(it.hasNextValue());
+        }
+    }
+
+    @Test
+    public void testTokenizationFailureEndsIteration() throws Exception
+    {
+        try (PipelinedValueIterator<Bean> it = JSON_STD.pipelinedBeanSequenceFrom(Bean.class,
+                "[{\"id\":1},{\"id\":2},{\"id\":3 ", _executor, true)) {
+            assertEquals(1, it.nextValue().id);
+            assertEquals(2, it.nextValue().id);
+            try {
+                it.nextValue();
+                fail("Should not pass");
+            } catch (java.io.IOException e) {
+                verifyException(e, "end-of-input");
+            }
+            assertFalse(it.hasNextValue());
+        }
+    }
+
+    // Tokenization failure must not be reported ahead of values before it,
+    // even if order is not kept and binding of those is slow
+    @Test
+    public void testTokenizationFailureUnordered() throws Exception
+    {
+        final java.util.concurrent.Executor slow = r -> new Thread(() -> {
+            try {
+                Thread.sleep(50L);
+            } catch (InterruptedException e) { }
+            r.run();
+        }).start();
+        try (PipelinedValueIterator<Bean> it = JSON_STD.pipelinedBeanSequenceFrom(Bean.class,
+                "[{\"id\":1},{\"id\":2},{\"id\":3 ", slow, false)) {
+            Set<Integer> ids = new HashSet<>();
+            ids.add(it.nextValue().id);
+            ids.add(it.nextValue().id);
+            assertEquals(new HashSet<>(Arrays.asList(1, 2)), ids);
+            try {
+                it.nextValue();
+                fail("Should not pass");
+            } catch (java.io.IOException e) {
+                verifyException(e, "end-of-input");
+            }
+            assertFalse(it.hasNextValue());
+        }
+    }
+
+    @Test
+    public void testCloseWithValuesInFlight() throws Exception
+    {
+        PipelinedValueIterator<Bean> it = JSON_STD.pipelinedBeanSequenceFrom(Bean.class,
+                _array(COUNT), _executor, true, 10);
+        assertEquals(0, it.nextValue().id);
+        assertTrue(it.inFlight() > 0);
+        it.close();
+        assertEquals(0, it.inFlight());
+        assertFalse(it.hasNext());
+        assertTrue(it.getParser().isClosed());
+    }
+
+    @Test
+    public void testTokenBufferReplay() throws Exception
+    {
+        final String doc = "{\"a\":[1,-2.50,{\"b\":null}],\"big\":123456789012345678901,"
+                +"\"c\":{\"d\":true,\"e\":\"x\"},\"f\":[]} [2]";
+        JsonParser src = JSON_STD.createParser(doc);
+        src.nextToken();
+        TokenBuffer buffer = TokenBuffer.copyOf(src);
+        // should only have copied the first value
+        assertEquals(JsonToken.END_OBJECT, src.currentToken());
+        assertEquals(JsonToken.START_ARRAY, src.nextToken());
+        src.close();
+        assertEquals(23, buffer.size());
+
+        JsonParser exp = JSON_STD.createParser(doc);
+        JsonParser act = buffer.asParser();
+        JsonToken t;
+        while ((t = act.nextToken()) != null) {
+            assertEquals(exp.nextToken(), t);
+            assertEquals(exp.currentName(), act.currentName());
+            assertEquals(exp.getText(), act.getText());
+            assertEquals(exp.getParsingContext().getNestingDepth(),
+                    act.getParsingContext().getNestingDepth());
+            if (t.isNumeric()) {
+                assertEquals(exp.getNumberType(), act.getNumberType());
+                assertEquals(exp.getDecimalValue(), act.getDecimalValue());
+            }
+        }
+        assertEquals(JsonToken.END_OBJECT, exp.currentToken());
+        exp.close();
+        act.close();
+    }
+
+    private String _array(int count) throws Exception
+    {
+        List<Object> list = new ArrayList<>();
+        for (int i = 0; i < count; ++i) {
+            Map<String,Object> bean = new LinkedHashMap<>();
+            bean.put("id", i);
+            bean.put("msg", "Message #"+i);
+            bean.put("ratio", i / 8.0);
+            bean.put("amount", new BigDecimal("1234567890.0123456789").add(BigDecimal.valueOf(i)));
+            bean.put("big", BigInteger.valueOf(Long.MAX_VALUE).multiply(BigInteger.valueOf(i + 2)));
+            bean.put("stamp", 1000000000000L + i);
+            bean.put("data", new byte[] { 1, 2, (byte) i });
+            bean.put("tags", Arrays.asList("a", "b"+i));
+            Map<String,Object> props = new LinkedHashMap<>();
+            props.put("x", i % 2 == 0);
+            props.put("y", Arrays.asList(1, 2.5, null));
+            bean.put("props", props);
+            bean.put("child", Collections.singletonMap("id", -i));
+            list.add(bean);
+        }
+        return JSON_STD.asString(list);
+    }
+
+    private void _verifySame(List<Bean> exp, List<Bean> act) throws Exception
+    {
+        assertEquals(exp.size(), act.size());
+        for (int i = 0, end = exp.size(); i < end; ++i) {
+            assertEquals(i, act.get(i).id);
+            assertEquals(JSON_STD.asString(exp.get(i)), JSON_STD.asString(act.get(i)));
+        }
+    }
+}
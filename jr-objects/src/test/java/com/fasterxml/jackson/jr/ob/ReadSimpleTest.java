@@ -27,6 +27,14 @@ public class ReadSimpleTest extends TestBase
         public int[] value;
     }
 
+    static class PrimitiveArrays {
+        public long[] longs;
+        public short[] shorts;
+        public float[] floats;
+        public double[] doubles;
+        public boolean[] booleans;
+    }
+
     static class TreeWrapper {
         public TreeNode value;
     }
@@ -53,6 +61,74 @@ public class ReadSimpleTest extends TestBase
         assertEquals("abc", new String(result));
     }
 
+    @Test
+    public void testPrimitiveArrays() throws Exception {
+        assertArrayEquals(new int[] { 1, -2, 3 }, JSON.std.beanFrom(int[].class, "[1,-2,3.25]"));
+        assertArrayEquals(new long[] { 1L, -2L, 123456789012L },
+                JSON.std.beanFrom(long[].class, "[1,-2,123456789012]"));
+        assertArrayEquals(new short[] { 1, -2, 0 }, JSON.std.beanFrom(short[].class, "[1,-2,null]"));
+        assertArrayEquals(new float[] { 0.25f, -1f, Float.NaN },
+                JSON.std.beanFrom(float[].class, a2q("[0.25,-1,'NaN']")));
+        assertArrayEquals(new double[] { 0.5, -1e100, Double.POSITIVE_INFINITY },
+                JSON.std.beanFrom(double[].class, a2q("[0.5,-1e100,'Infinity']")));
+        assertArrayEquals(new boolean[] { true, false, false },
+                JSON.std.beanFrom(boolean[].class, "[true,false,null]"));
+
+        assertEquals(0, JSON.std.beanFrom(double[].class, "[]").length);
+        assertNull(JSON.std.beanFrom(double[].class, "null"));
+    }
+
+    @Test
+    public void testPrimitiveArrayProperties() throws Exception {
+        PrimitiveArrays result = JSON.std.beanFrom(PrimitiveArrays.class, a2q(
+                "{'longs':[3],'shorts':[],'floats':[1.5,2],'doubles':null,'booleans':[true]}"));
+        assertArrayEquals(new long[] { 3L }, result.longs);
+        assertArrayEquals(new short[0], result.shorts);
+        assertArrayEquals(new float[] { 1.5f, 2f }, result.floats);
+        assertNull(result.doubles);
+        assertArrayEquals(new boolean[] { true }, result.booleans);
+    }
+
+    // Arrays longer than initial (and retained) buffer size, read using
+    // same reader to verify buffer reuse
+    @Test
+    public void testLongPrimitiveArrays() throws Exception {
+        for (int len : new int[] { 17, 1000, 70000, 3 }) {
+            double[] doubles = new double[len];
+            long[] longs = new long[len];
+            for (int i = 0; i < len; ++i) {
+                doubles[i] = i * 0.25;
+                longs[i] = i * 1000000000L;
+            }
+            final JSONSession session = JSON.std.session();
+            assertArrayEquals(doubles, session.beanFrom(double[].class, JSON.std.asString(doubles)));
+            assertArrayEquals(longs, session.beanFrom(long[].class, JSON.std.asString(longs)));
+            assertArrayEquals(doubles, session.beanFrom(double[].class, JSON.std.asString(doubles)));
+        }
+    }
+
+    @Test
+    public void testInvalidPrimitiveArrays() throws Exception {
+        try {
+            JSON.std.beanFrom(double[].class, "[1.0,[2.0]]");
+            fail("Should not pass");
+        } catch (JSONObjectException e) {
+            verifyException(e, "Failed to bind `double` element of `double[]`");
+        }
+        try {
+            JSON.std.beanFrom(boolean[].class, "[true,1]");
+            fail("Should not pass");
+        } catch (JSONObjectException e) {
+            verifyException(e, "Failed to bind `boolean` element of `boolean[]`");
+        }
+        try {
+            JSON.std.beanFrom(long[].class, "{}");
+            fail("Should not pass");
+        } catch (JSONObjectException e) {
+            verifyException(e, "Can not create a `long[]` instance");
+        }
+    }
+
     @Test
     public void testSimpleArray() throws Exception
     {
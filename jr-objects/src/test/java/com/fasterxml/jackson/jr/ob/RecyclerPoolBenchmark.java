@@ -0,0 +1,113 @@
+package com.fasterxml.jackson.jr.ob;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.fasterxml.jackson.core.util.BufferRecycler;
+import com.fasterxml.jackson.core.util.JsonRecyclerPools;
+import com.fasterxml.jackson.core.util.RecyclerPool;
+
+/**
+ * Simple micro-benchmark for comparing {@link RecyclerPool} implementations
+ * (configured using {@link JSON.Builder#recyclerPool}) when every operation
+ * is done by a new thread: a virtual thread, if running on JDK 21 or later,
+ * or a new platform thread otherwise.
+ * Reports time and (if measurable) allocation per operation.
+ *<p>
+ * Not run as part of test suite; run with:
+ *<pre>
+ *  java -cp ... com.fasterxml.jackson.jr.ob.RecyclerPoolBenchmark
+ *</pre>
+ */
+public class RecyclerPoolBenchmark
+{
+    private final static int ROUNDS = 8;
+
+    private final static int OPS_PER_ROUND = 20_000;
+
+    public static class Message {
+        public long id;
+        public String type;
+        public String text;
+    }
+
+    private final Message _message;
+
+    public RecyclerPoolBenchmark() {
+        _message = new Message();
+        _message.id = 123456789L;
+        _message.type = "notification";
+        _message.text = "Something happened that you may want to know about, or not.";
+    }
+
+    public static void main(String[] args) throws Exception
+    {
+        new RecyclerPoolBenchmark().run();
+    }
+
+    public void run() throws Exception
+    {
+        Map<String, RecyclerPool<BufferRecycler>> pools = new LinkedHashMap<>();
+        pools.put("thread-local    ", JsonRecyclerPools.threadLocalPool());
+        pools.put("concurrent-deque", JsonRecyclerPools.newConcurrentDequePool());
+        pools.put("lock-free       ", JsonRecyclerPools.newLockFreePool());
+        pools.put("bounded         ", JsonRecyclerPools.newBoundedPool(64));
+        pools.put("non-recycling   ", JsonRecyclerPools.nonRecyclingPool());
+
+        ExecutorService exec = _threadPerTaskExecutor();
+        System.out.printf("Using %s, %d operations per round%n",
+                exec.getClass().getSimpleName(), OPS_PER_ROUND);
+        try {
+            for (int round = 1; round <= ROUNDS; ++round) {
+                // first half of rounds just for warmup
+                final boolean report = (round > ROUNDS/2);
+                for (Map.Entry<String, RecyclerPool<BufferRecycler>> entry : pools.entrySet()) {
+                    JSON json = JSON.builder().recyclerPool(entry.getValue()).build();
+                    _measure(exec, report, entry.getKey(), json);
+                }
+            }
+        } finally {
+            exec.shutdown();
+        }
+    }
+
+    private void _measure(ExecutorService exec, boolean report, String desc,
+            final JSON json) throws Exception
+    {
+        final AtomicLong allocated = new AtomicLong();
+        final List<Future<Integer>> results = new ArrayList<>(OPS_PER_ROUND);
+        final long start = System.nanoTime();
+        for (int i = 0; i < OPS_PER_ROUND; ++i) {
+            results.add(exec.submit(() -> {
+                final long startBytes = BenchmarkHelper.allocatedBytes();
+                int len = json.asBytes(_message).length;
+                if (startBytes >= 0L) {
+                    allocated.addAndGet(BenchmarkHelper.allocatedBytes() - startBytes);
+                }
+                return len;
+            }));
+        }
+        int sink = 0;
+        for (Future<Integer> f : results) {
+            sink += f.get();
+        }
+        final long nanos = System.nanoTime() - start;
+        BenchmarkHelper.consume(sink);
+        if (report) {
+            final long bytes = allocated.get();
+            BenchmarkHelper.report(desc, nanos, (bytes <= 0L) ? -1L : bytes, OPS_PER_ROUND);
+        }
+    }
+
+    private static ExecutorService _threadPerTaskExecutor() {
+        try { // JDK 21+
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor")
+                    .invoke(null);
+        } catch (Exception e) {
+            // fall back to one new platform thread per task
+            return new ThreadPoolExecutor(0, Integer.MAX_VALUE, 0L, TimeUnit.MILLISECONDS,
+                    new SynchronousQueue<Runnable>());
+        }
+    }
+}
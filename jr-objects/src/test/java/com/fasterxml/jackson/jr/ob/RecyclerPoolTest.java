@@ -0,0 +1,121 @@
+package com.fasterxml.jackson.jr.ob;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.util.BufferRecycler;
+import com.fasterxml.jackson.core.util.JsonRecyclerPools;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RecyclerPoolTest extends TestBase
+{
+    static class Point {
+        public int x, y;
+
+        public Point() { }
+        public Point(int x, int y) {
+            this.x = x;
+            this.y = y;
+        }
+    }
+
+    // Shared pool that keeps track of number of recyclers created
+    @SuppressWarnings("serial")
+    static class CountingPool extends JsonRecyclerPools.ConcurrentDequePool {
+        final AtomicInteger created = new AtomicInteger();
+
+        CountingPool() {
+            super(SERIALIZATION_NON_SHARED);
+        }
+
+        @Override
+        public BufferRecycler createPooled() {
+            created.incrementAndGet();
+            return super.createPooled();
+        }
+
+        public int pooled() {
+            return pool.size();
+        }
+    }
+
+    @Test
+    public void testDefaultPool() throws Exception
+    {
+        JsonFactory f = new JsonFactory();
+        JSON json = JSON.builder(f).build();
+        assertNull(JSON.builder(f).recyclerPool());
+        assertSame(f, json.getStreamingFactory());
+    }
+
+    @Test
+    public void testCustomPool() throws Exception
+    {
+        JsonFactory f = new JsonFactory();
+        CountingPool pool = new CountingPool();
+        JSON json = JSON.builder(f).recyclerPool(pool).build();
+        // must not modify factory passed, but a copy
+        assertNotSame(f, json.getStreamingFactory());
+        assertNotSame(pool, f._getRecyclerPool());
+        assertSame(pool, json.getStreamingFactory()._getRecyclerPool());
+
+        for (int i = 0; i < 10; ++i) {
+            assertEquals(a2q("{'x':"+i+",'y':2}"), json.asString(new Point(i, 2)));
+            assertEquals(a2q("{'x':"+i+",'y':2}"), new String(json.asBytes(new Point(i, 2)), "UTF-8"));
+            assertEquals(i, json.beanFrom(Point.class, a2q("{'x':"+i+"}")).x);
+            JSONSession session = json.session();
+            assertEquals(a2q("[1]"), session.asString(Arrays.asList(1)));
+            assertEquals(a2q("[2]"), new String(session.asBytes(Arrays.asList(2)), "UTF-8"));
+        }
+        // `asBytes()` needs 2 recyclers (for generator, result buffer), others just 1
+        assertEquals(2, pool.created.get());
+        // and all must have been returned
+        assertEquals(2, pool.pooled());
+    }
+
+    // Simulate use with virtual threads (or other short-lived threads): every
+    // operation done by a new thread
+    @Test
+    public void testPoolWithThreadPerTask() throws Exception
+    {
+        final CountingPool pool = new CountingPool();
+        final JSON json = JSON.builder().recyclerPool(pool).build();
+        final int THREADS = 4;
+        final AtomicReference<Throwable> fail = new AtomicReference<>();
+
+        for (int round = 0; round < 25; ++round) {
+            final int r = round;
+            List<Thread> threads = new ArrayList<>();
+            for (int i = 0; i < THREADS; ++i) {
+                final int id = i;
+                Thread t = new Thread(() -> {
+                    try {
+                        Point p = json.beanFrom(Point.class, json.asBytes(new Point(r, id)));
+                        assertEquals(r, p.x);
+                        assertEquals(id, p.y);
+                        assertEquals(a2q("{'x':"+r+",'y':"+id+"}"), json.asString(p));
+                    } catch (Throwable e) {
+                        fail.set(e);
+                    }
+                });
+                t.start();
+                threads.add(t);
+            }
+            for (Thread t : threads) {
+                t.join();
+            }
+        }
+        if (fail.get() != null) {
+            fail("Failed: "+fail.get());
+        }
+        // with thread-local pool would have 100 separate recyclers
+        int created = pool.created.get();
+        assertTrue(created <= 2 * THREADS, "Should reuse recyclers, but created "+created);
+        assertEquals(created, pool.pooled());
+    }
+}
@@ -0,0 +1,71 @@
+package com.fasterxml.jackson.jr.ob;
+
+import static com.fasterxml.jackson.jr.ob.BenchmarkHelper.measure;
+
+/**
+ * Simple single-threaded micro-benchmark for comparing per-operation
+ * allocation (and throughput) of reading and writing small documents
+ * using {@link JSON} directly, and using a reused {@link JSONSession}.
+ * Allocation is measured using {@code com.sun.management.ThreadMXBean}
+ * if available.
+ *<p>
+ * Not run as part of test suite; run with:
+ *<pre>
+ *  java -cp ... com.fasterxml.jackson.jr.ob.SessionAllocationBenchmark
+ *</pre>
+ */
+public class SessionAllocationBenchmark
+{
+    private final static int ROUNDS = 10;
+
+    private final static int OPS_PER_ROUND = 500_000;
+
+    public static class Message {
+        public long id;
+        public String type;
+        public String user;
+        public int priority;
+        public boolean urgent;
+        public double score;
+        public String text;
+    }
+
+    private final JSON _json = JSON.std;
+
+    private final JSONSession _session = _json.session();
+
+    private final Message _message;
+
+    private final byte[] _doc;
+
+    public SessionAllocationBenchmark() throws Exception {
+        _message = new Message();
+        _message.id = 123456789L;
+        _message.type = "notification";
+        _message.user = "someone@example.com";
+        _message.priority = 3;
+        _message.urgent = true;
+        _message.score = 0.75;
+        _message.text = "Something happened that you may want to know about, or not.";
+        _doc = _json.asBytes(_message);
+    }
+
+    public static void main(String[] args) throws Exception
+    {
+        new SessionAllocationBenchmark().run();
+    }
+
+    public void run() throws Exception
+    {
+        System.out.printf("Document of %d bytes, %d operations per round%n",
+                _doc.length, OPS_PER_ROUND);
+        for (int round = 1; round <= ROUNDS; ++round) {
+            // first half of rounds just for warmup
+            final boolean report = (round > ROUNDS/2);
+            measure(report, "read,  JSON   ", OPS_PER_ROUND, () -> _json.beanFrom(Message.class, _doc).priority);
+            measure(report, "read,  session", OPS_PER_ROUND, () -> _session.beanFrom(Message.class, _doc).priority);
+            measure(report, "write, JSON   ", OPS_PER_ROUND, () -> _json.asBytes(_message).length);
+            measure(report, "write, session", OPS_PER_ROUND, () -> _session.asBytes(_message).length);
+        }
+    }
+}
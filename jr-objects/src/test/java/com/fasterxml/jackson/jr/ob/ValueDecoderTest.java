@@ -0,0 +1,213 @@
+package com.fasterxml.jackson.jr.ob;
+
+import java.nio.ByteBuffer;
+import java.util.*;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.core.JsonParseException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ValueDecoderTest extends TestBase
+{
+    static class Bean {
+        public int id;
+        public String msg;
+        public double ratio;
+        public List<String> tags;
+    }
+
+    private final JSON JSON_STD = JSON.std;
+
+    @Test
+    public void testBeansFedByteByByte() throws Exception
+    {
+        final byte[] doc = _beans(50, "\n").getBytes("UTF-8");
+        List<Bean> beans = new ArrayList<>();
+        int count = 0;
+        try (ValueDecoder<Bean> dec = JSON_STD.beanSequenceDecoder(Bean.class, beans::add)) {
+            for (int i = 0; i < doc.length; ++i) {
+                count += dec.feed(doc, i, 1);
+                assertEquals(count, beans.size());
+            }
+            assertFalse(dec.hasPartialValue());
+            count += dec.endOfInput();
+            assertTrue(dec.isClosed());
+        }
+        assertEquals(50, count);
+        _verify(beans, 50);
+    }
+
+    @Test
+    public void testWrappedMapsInChunks() throws Exception
+    {
+        final byte[] doc = ("["+_beans(40, ",")+"]").getBytes("UTF-8");
+        List<Map<String,Object>> maps = new ArrayList<>();
+        try (ValueDecoder<Map<String,Object>> dec = JSON_STD.mapSequenceDecoder(maps::add)) {
+            // feed in chunks of varying sizes, reusing the input buffer
+            final byte[] chunk = new byte[37];
+            int offset = 0;
+            for (int size = 1; offset < doc.length; size = (size % chunk.length) + 1) {
+                int len = Math.min(size, doc.length - offset);
+                System.arraycopy(doc, offset, chunk, 0, len);
+                dec.feed(chunk, 0, len);
+                offset += len;
+            }
+            dec.endOfInput();
+        }
+        assertEquals(40, maps.size());
+        for (int i = 0; i < 40; ++i) {
+            assertEquals(Integer.valueOf(i), maps.get(i).get("id"));
+            assertEquals("Message \u00e9\u20ac #"+i, maps.get(i).get("msg"));
+        }
+    }
+
+    @Test
+    public void testAnyRootValues() throws Exception
+    {
+        List<Object> values = new ArrayList<>();
+        ValueDecoder<Object> dec = JSON_STD.anySequenceDecoder(values::add);
+        assertEquals(3, dec.feed("1 true \"x\" [1,".getBytes("UTF-8")));
+        assertTrue(dec.hasPartialValue());
+        assertEquals(2, dec.feed("2] {\"a\":null} 2.5".getBytes("UTF-8")));
+        // last number only complete at end of input
+        assertEquals(1, dec.endOfInput());
+        assertEquals(Arrays.asList(1, true, "x", Arrays.asList(1, 2),
+                Collections.singletonMap("a", null), 2.5), values);
+    }
+
+    @Test
+    public void testFromByteBuffers() throws Exception
+    {
+        final byte[] doc = _beans(20, " ").getBytes("UTF-8");
+        List<Bean> beans = new ArrayList<>();
+        try (ValueDecoder<Bean> dec = JSON_STD.beanSequenceDecoder(Bean.class, beans::add)) {
+            ByteBuffer direct = ByteBuffer.allocateDirect(doc.length);
+            direct.put(doc, 0, doc.length / 2).flip();
+            dec.feed(direct);
+            assertEquals(0, direct.remaining());
+            dec.feed(ByteBuffer.wrap(doc, doc.length / 2, doc.length - doc.length / 2));
+            dec.endOfInput();
+        }
+        _verify(beans, 20);
+    }
+
+    @Test
+    public void testBindingFailureDoesNotEndDecoding() throws Exception
+    {
+        List<Bean> beans = new ArrayList<>();
+        try (ValueDecoder<Bean> dec = JSON_STD.beanSequenceDecoder(Bean.class, beans::add)) {
+            try {
+                dec.feed("{\"id\":1} {\"id\":[true]}".getBytes("UTF-8"));
+                fail("Should not pass");
+            } catch (JSONObjectException e) {
+                verifyException(e, "Unexpected token");
+            }
+            assertEquals(1, dec.feed(" {\"id\":3}".getBytes("UTF-8")));
+            dec.endOfInput();
+        }
+        assertEquals(2, beans.size());
+        assertEquals(1, beans.get(0).id);
+        assertEquals(3, beans.get(1).id);
+    }
+
+    // Failure in middle of a chunk must not leave rest of it undecoded
+    @Test
+    public void testBindingFailureInMiddleOfChunk() throws Exception
+    {
+        List<Bean> beans = new ArrayList<>();
+        try (ValueDecoder<Bean> dec = JSON_STD.beanSequenceDecoder(Bean.class, beans::add)) {
+            try {
+                dec.feed("{\"id\":1} {\"id\":[true]} {\"id\":2} {\"id\":".getBytes("UTF-8"));
+                fail("Should not pass");
+            } catch (JSONObjectException e) {
+                verifyException(e, "Unexpected token");
+            }
+            // values following the failed one still passed
+            assertEquals(2, beans.size());
+            assertTrue(dec.hasPartialValue());
+            assertEquals(2, dec.feed("3} {\"id\":4}".getBytes("UTF-8")));
+            dec.endOfInput();
+        }
+        assertEquals(4, beans.size());
+        for (int i = 0; i < 4; ++i) {
+            assertEquals(i + 1, beans.get(i).id);
+        }
+
+        // and same for failures by consumer
+        List<Object> values = new ArrayList<>();
+        try (ValueDecoder<Object> dec = JSON_STD.anySequenceDecoder(v -> {
+                if (Integer.valueOf(2).equals(v)) {
+                    throw new IllegalArgumentException("No 2s");
+                }
+                values.add(v);
+            })) {
+            try {
+                dec.feed("1 2 [3] ".getBytes("UTF-8"));
+                fail("Should not pass");
+            } catch (IllegalArgumentException e) {
+                verifyException(e, "No 2s");
+            }
+            assertEquals(1, dec.feed("4 ".getBytes("UTF-8")));
+            dec.endOfInput();
+        }
+        assertEquals(Arrays.asList(1, Arrays.asList(3), 4), values);
+    }
+
+    @Test
+    public void testInvalidContent() throws Exception
+    {
+        try (ValueDecoder<Object> dec = JSON_STD.anySequenceDecoder(v -> { })) {
+            dec.feed("{\"a\":1] ".getBytes("UTF-8"));
+            fail("Should not pass");
+        } catch (JsonParseException e) {
+            verifyException(e, "was expecting comma");
+        }
+        try (ValueDecoder<Object> dec = JSON_STD.anySequenceDecoder(v -> { })) {
+            dec.feed("[{\"a\":1}] 3 ".getBytes("UTF-8"));
+            fail("Should not pass");
+        } catch (JSONObjectException e) {
+            verifyException(e, "after end of wrapped value sequence");
+        }
+    }
+
+    @Test
+    public void testIncompleteContent() throws Exception
+    {
+        try (ValueDecoder<Object> dec = JSON_STD.anySequenceDecoder(v -> { })) {
+            dec.feed("{\"a\":[1,2]} {\"b\":".getBytes("UTF-8"));
+            dec.endOfInput();
+            fail("Should not pass");
+        } catch (JsonParseException e) {
+            verifyException(e, "end-of-input");
+        }
+    }
+
+    private String _beans(int count, String sep)
+    {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < count; ++i) {
+            if (i > 0) {
+                sb.append(sep);
+            }
+            sb.append("{\"id\":").append(i)
+                .append(",\"msg\":\"Message \\u00e9\u20ac #").append(i)
+                .append("\",\"ratio\":").append(i / 4.0)
+                .append(",\"tags\":[\"a\",\"b").append(i).append("\"]}");
+        }
+        return sb.toString();
+    }
+
+    private void _verify(List<Bean> beans, int count)
+    {
+        assertEquals(count, beans.size());
+        for (int i = 0; i < count; ++i) {
+            Bean bean = beans.get(i);
+            assertEquals(i, bean.id);
+            assertEquals("Message \u00e9\u20ac #"+i, bean.msg);
+            assertEquals(i / 4.0, bean.ratio);
+            assertEquals(Arrays.asList("a", "b"+i), bean.tags);
+        }
+    }
+}
@@ -92,6 +92,21 @@ public class WriteSimpleTest extends TestBase
         assertEquals("[4,-8]", JSON.std.asString(list));
     }
 
+    @Test
+    public void testSimpleFloatingPointArrays() throws Exception {
+        assertEquals("[0.5,-1.0E100,\"NaN\"]", JSON.std.asString(new double[] { 0.5, -1e100, Double.NaN }));
+        assertEquals("[0.25,-2.0]", JSON.std.asString(new float[] { 0.25f, -2f }));
+        assertEquals("[]", JSON.std.asString(new double[0]));
+        assertEquals(a2q("{'values':[1.5]}"),
+                JSON.std.asString(Collections.singletonMap("values", new double[] { 1.5 })));
+    }
+
+    @Test
+    public void testOtherIntegralArrays() throws Exception {
+        assertEquals("[1,-2,32767]", JSON.std.asString(new short[] { 1, -2, 32767 }));
+        assertEquals("[1,123456789012]", JSON.std.asString(new long[] { 1L, 123456789012L }));
+    }
+
     @Test
     public void testSimpleBooleanArray() throws Exception {
         assertEquals("[true,false]", JSON.std.asString(new boolean[] { true, false }));
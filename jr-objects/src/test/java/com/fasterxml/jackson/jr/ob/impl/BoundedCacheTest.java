@@ -0,0 +1,57 @@
+package com.fasterxml.jackson.jr.ob.impl;
+
+import java.util.*;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.jr.ob.TestBase;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BoundedCacheTest extends TestBase
+{
+    @Test
+    public void testEvictionAndStatistics()
+    {
+        List<String> evicted = new ArrayList<>();
+        BoundedCache<String, Integer> cache = new BoundedCache<>(3,
+                (k, v) -> evicted.add(k + "=" + v));
+        assertNull(cache.get("a"));
+        cache.put("a", 1);
+        cache.put("b", 2);
+        assertNull(cache.putIfAbsent("c", 3));
+        assertEquals(Integer.valueOf(3), cache.putIfAbsent("c", 4));
+        assertEquals(3, cache.size());
+
+        // "a" accessed, so gets second chance: "b" evicted instead
+        assertEquals(Integer.valueOf(1), cache.get("a"));
+        cache.put("d", 4);
+        assertEquals(3, cache.size());
+        assertEquals(Arrays.asList("b=2"), evicted);
+        assertEquals(Integer.valueOf(1), cache.get("a"));
+        assertNull(cache.get("b"));
+
+        CacheStatistics stats = cache.statistics();
+        assertEquals(3, stats.size());
+        assertEquals(3, stats.maxSize());
+        assertEquals(2L, stats.hits());
+        assertEquals(2L, stats.misses());
+        assertEquals(1L, stats.evictions());
+
+        cache.clear();
+        assertEquals(0, cache.size());
+        cache.put("e", 5);
+        assertEquals(Integer.valueOf(5), cache.get("e"));
+    }
+
+    @Test
+    public void testInvalidSize()
+    {
+        try {
+            new BoundedCache<String, String>(0);
+            fail("Should not pass");
+        } catch (IllegalArgumentException e) {
+            verifyException(e, "must be positive");
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.fasterxml.jackson.jr.ob.impl;
+
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.jr.ob.JSON;
+import com.fasterxml.jackson.jr.ob.TestBase;
+import com.fasterxml.jackson.jr.ob.api.ReaderWriterModifier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CachePrewarmerTest extends TestBase
+{
+    public static class Root {
+        public List<Child> children;
+        public Map<String, Leaf[]> leaves;
+        public String name;
+
+        public ABC getAbc() { return null; }
+        public void setAbc(ABC abc) { }
+    }
+
+    public static class Child {
+        public Leaf leaf;
+        public int value;
+    }
+
+    public static class Leaf {
+        public long id;
+    }
+
+    // Counts introspections done, to verify caching
+    static class CountingModifier extends ReaderWriterModifier {
+        final AtomicInteger readIntrospections = new AtomicInteger();
+        final AtomicInteger writeIntrospections = new AtomicInteger();
+
+        @Override
+        public POJODefinition pojoDefinitionForDeserialization(JSONReader ctxt, Class<?> pojoType) {
+            readIntrospections.incrementAndGet();
+            return null;
+        }
+
+        @Override
+        public POJODefinition pojoDefinitionForSerialization(JSONWriter ctxt, Class<?> pojoType) {
+            writeIntrospections.incrementAndGet();
+            return null;
+        }
+    }
+
+    interface NotIncluded { }
+
+    /*
+    /**********************************************************************
+    /* Test methods
+    /**********************************************************************
+     */
+
+    @Test
+    public void testPrewarmTypeGraph() throws Exception
+    {
+        CountingModifier mod = new CountingModifier();
+        JSON json = jsonWithModifier(mod);
+        Map<Class<?>, Long> timings = json.prewarm(Root.class);
+        assertEquals(new HashSet<>(Arrays.asList(Root.class, Child.class, Leaf.class, ABC.class)),
+                timings.keySet());
+        for (Long time : timings.values()) {
+            assertTrue(time >= 0L);
+        }
+        _verifyCached(json, mod);
+    }
+
+    @Test
+    public void testPrewarmWithExecutor() throws Exception
+    {
+        ExecutorService exec = Executors.newFixedThreadPool(3);
+        try {
+            CountingModifier mod = new CountingModifier();
+            JSON json = jsonWithModifier(mod);
+            Map<Class<?>, Long> timings = json.prewarm(exec, Root.class, Leaf.class);
+            assertEquals(4, timings.size());
+            _verifyCached(json, mod);
+
+            // and if already resolved, fast but still reported
+            assertEquals(4, json.prewarm(exec, Root.class).size());
+        } finally {
+            exec.shutdown();
+        }
+    }
+
+    // Must not deadlock if called from a thread of the executor itself,
+    // or if executor never gets to run tasks
+    @Test
+    public void testPrewarmFromExecutorThread() throws Exception
+    {
+        ExecutorService exec = Executors.newSingleThreadExecutor();
+        try {
+            CountingModifier mod = new CountingModifier();
+            JSON json = jsonWithModifier(mod);
+            Future<Map<Class<?>, Long>> f = exec.submit(() -> json.prewarm(exec, Root.class));
+            assertEquals(4, f.get(10, TimeUnit.SECONDS).size());
+            _verifyCached(json, mod);
+        } finally {
+            exec.shutdown();
+        }
+
+        CountingModifier mod = new CountingModifier();
+        JSON json = jsonWithModifier(mod);
+        assertEquals(4, json.prewarm(task -> { }, Root.class).size());
+        _verifyCached(json, mod);
+    }
+
+    @Test
+    public void testFindClasses() throws Exception
+    {
+        List<Class<?>> classes = CachePrewarmer.findClasses(getClass().getClassLoader(),
+                getClass().getPackage().getName());
+        assertTrue(classes.contains(Root.class));
+        assertTrue(classes.contains(Leaf.class));
+        assertTrue(classes.contains(CachePrewarmer.class));
+        assertFalse(classes.contains(NotIncluded.class));
+    }
+
+    private void _verifyCached(JSON json, CountingModifier mod) throws Exception
+    {
+        final int reads = mod.readIntrospections.get();
+        final int writes = mod.writeIntrospections.get();
+        assertTrue(reads > 0);
+        assertTrue(writes > 0);
+
+        final String DOC = a2q("{'abc':'B','children':[{'value':3,'leaf':{'id':1}}],'leaves':{'a':[{'id':2}]}}");
+        Root root = json.beanFrom(Root.class, DOC);
+        assertEquals(3, root.children.get(0).value);
+        assertEquals(2L, root.leaves.get("a")[0].id);
+        json.asString(root);
+        assertEquals(reads, mod.readIntrospections.get());
+        assertEquals(writes, mod.writeIntrospections.get());
+    }
+}
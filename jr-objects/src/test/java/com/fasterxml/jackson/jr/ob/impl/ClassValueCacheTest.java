@@ -0,0 +1,91 @@
+package com.fasterxml.jackson.jr.ob.impl;
+
+import java.util.*;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.jr.ob.TestBase;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ClassValueCacheTest extends TestBase
+{
+    public static class Other1 { public int a = 1; }
+    public static class Other2 { public int b = 2; }
+    public static class Other3 { public int c = 3; }
+
+    @Test
+    public void testEvictionAndStatistics()
+    {
+        List<String> evicted = new ArrayList<>();
+        ClassValueCache<Integer> cache = new ClassValueCache<>(3, true,
+                (t, f, v) -> evicted.add(t.getSimpleName() + "/" + f + "=" + v));
+        assertNull(cache.get(Other1.class, 0));
+        cache.put(Other1.class, 0, 1);
+        cache.put(Other2.class, 0, 2);
+        // different features, different entry
+        assertNull(cache.putIfAbsent(Other1.class, 1, 3));
+        assertEquals(Integer.valueOf(3), cache.putIfAbsent(Other1.class, 1, 4));
+        assertEquals(3, cache.size());
+
+        // first entry accessed, so gets second chance: second evicted instead
+        assertEquals(Integer.valueOf(1), cache.get(Other1.class, 0));
+        cache.put(Other3.class, 0, 4);
+        assertEquals(3, cache.size());
+        assertEquals(Arrays.asList("Other2/0=2"), evicted);
+        assertEquals(Integer.valueOf(1), cache.get(Other1.class, 0));
+        assertEquals(Integer.valueOf(3), cache.get(Other1.class, 1));
+        assertNull(cache.get(Other2.class, 0));
+
+        CacheStatistics stats = cache.statistics();
+        assertEquals(3, stats.size());
+        assertEquals(3, stats.maxSize());
+        assertEquals(3L, stats.hits());
+        assertEquals(2L, stats.misses());
+        assertEquals(1L, stats.evictions());
+
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertNull(cache.get(Other1.class, 0));
+        cache.put(Other2.class, 0, 5);
+        assertEquals(Integer.valueOf(5), cache.get(Other2.class, 0));
+    }
+
+    // Removing entries must not leave keys behind in clock, nor allow
+    // re-added entries to be counted twice
+    @Test
+    public void testRemoveAndReAdd()
+    {
+        ClassValueCache<Integer> cache = new ClassValueCache<>(3);
+        for (int i = 0; i < 1000; ++i) {
+            cache.put(Other1.class, 0, i);
+            if ((i & 1) == 0) {
+                cache.put(Other1.class, 0, -i); // replacing retains key
+            }
+            assertEquals(1, cache.remove(Other1.class));
+            assertEquals(0, cache.size());
+        }
+        assertTrue(cache.clockSize() <= 2, "Clock size "+cache.clockSize());
+
+        cache.put(Other1.class, 0, 1);
+        cache.put(Other2.class, 0, 2);
+        cache.put(Other3.class, 0, 3);
+        assertEquals(3, cache.size());
+        cache.put(Other1.class, 1, 4);
+        assertEquals(3, cache.size());
+        assertEquals(1L, cache.statistics().evictions());
+        assertNull(cache.get(Other1.class, 0));
+        assertEquals(Integer.valueOf(4), cache.get(Other1.class, 1));
+    }
+
+    @Test
+    public void testInvalidSize()
+    {
+        try {
+            new ClassValueCache<String>(0);
+            fail("Should not pass");
+        } catch (IllegalArgumentException e) {
+            verifyException(e, "must be positive");
+        }
+    }
+}
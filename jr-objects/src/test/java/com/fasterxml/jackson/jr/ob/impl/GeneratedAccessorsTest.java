@@ -0,0 +1,216 @@
+package com.fasterxml.jackson.jr.ob.impl;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.jr.ob.JSON;
+import com.fasterxml.jackson.jr.ob.JSONObjectException;
+import com.fasterxml.jackson.jr.ob.TestBase;
+import com.fasterxml.jackson.jr.ob.api.CollectionBuilder;
+import com.fasterxml.jackson.jr.ob.api.MapBuilder;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GeneratedAccessorsTest extends TestBase
+{
+    public static class Item {
+        private int id;
+        private boolean active;
+        private String name;
+        private int[] values;
+        public long count;
+
+        public int getId() { return id; }
+        public void setId(int id) { this.id = id; }
+
+        public boolean isActive() { return active; }
+        public void setActive(boolean b) { active = b; }
+
+        public String getName() { return name; }
+        public Item setName(String n) { // "fluent" setter
+            name = n;
+            return this;
+        }
+
+        public int[] getValues() { return values; }
+        public void setValues(int[] v) { values = v; }
+    }
+
+    // Non-public, so accessors can not be generated
+    static class HiddenItem {
+        private int id;
+
+        public int getId() { return id; }
+        public void setId(int id) { this.id = id; }
+    }
+
+    public static class Failing {
+        public int getValue() { throw new IllegalStateException("No value"); }
+        public void setValue(int v) {
+            throw new IllegalStateException("Bad value: "+v);
+        }
+    }
+
+    public static class Node {
+        public String name;
+        public double weight;
+        public Node next;
+    }
+
+    private final JSON GEN_JSON = JSON.std.with(JSON.Feature.USE_GENERATED_ACCESSORS);
+
+    private final int GEN_FEATURES = JSON.Feature.defaults()
+            | JSON.Feature.USE_GENERATED_ACCESSORS.mask();
+
+    /*
+    /**********************************************************************
+    /* Test methods
+    /**********************************************************************
+     */
+
+    @Test
+    public void testAccessorsGenerated() {
+        BeanReader r = (BeanReader) _readerLocator(GEN_FEATURES).findReader(Item.class);
+        assertEquals(5, r.propertiesByName().size());
+        for (BeanPropertyReader prop : r.propertiesByName().values()) {
+            // public field can not use generated accessor
+            assertEquals(!"count".equals(prop.getName()), prop.usesGeneratedAccessor(),
+                    "Property '"+prop.getName()+"'");
+        }
+        ValueWriterLocator loc = _writerLocator(GEN_FEATURES);
+        BeanWriter w = (BeanWriter) loc.getValueWriter(loc.findSerializationType(Item.class));
+        assertEquals(5, w._properties.length);
+        for (BeanPropertyWriter prop : w._properties) {
+            assertEquals(!"count".equals(prop.name.getValue()), prop.usesGeneratedAccessor(),
+                    "Property '"+prop.name+"'");
+        }
+    }
+
+    @Test
+    public void testFallbacks() {
+        // Non-public class: neither generated, nor (unless enabled) handles
+        BeanReader r = (BeanReader) _readerLocator(GEN_FEATURES).findReader(HiddenItem.class);
+        BeanPropertyReader prop = r.findProperty("id");
+        assertFalse(prop.usesGeneratedAccessor());
+        assertFalse(prop.usesMethodHandle());
+
+        r = (BeanReader) _readerLocator(GEN_FEATURES | JSON.Feature.USE_METHOD_HANDLES.mask())
+                .findReader(HiddenItem.class);
+        prop = r.findProperty("id");
+        assertFalse(prop.usesGeneratedAccessor());
+        assertTrue(prop.usesMethodHandle());
+    }
+
+    @Test
+    public void testRoundtrip() throws Exception
+    {
+        final String INPUT = a2q("{'active':true,'count':3,'id':42,'name':'Bob','values':[5,-1]}");
+        Item item = GEN_JSON.beanFrom(Item.class, INPUT);
+        assertEquals(42, item.id);
+        assertTrue(item.active);
+        assertEquals("Bob", item.name);
+        assertEquals(3L, item.count);
+        assertArrayEquals(new int[] { 5, -1 }, item.values);
+
+        assertEquals(INPUT, GEN_JSON.asString(item));
+        assertEquals(JSON.std.asString(item), GEN_JSON.asString(item));
+
+        HiddenItem hidden = GEN_JSON.beanFrom(HiddenItem.class, a2q("{'id':3}"));
+        assertEquals(3, hidden.id);
+        assertEquals(a2q("{'id':3}"), GEN_JSON.asString(hidden));
+    }
+
+    @Test
+    public void testAccessorFailures() throws Exception
+    {
+        try {
+            GEN_JSON.beanFrom(Failing.class, a2q("{'value':3}"));
+            fail("Should not pass");
+        } catch (JSONObjectException e) {
+            verifyException(e, "Failed to set property 'value'");
+            verifyException(e, "Bad value: 3");
+        }
+        try {
+            GEN_JSON.asString(new Failing());
+            fail("Should not pass");
+        } catch (JSONObjectException e) {
+            verifyException(e, "Failed to access property 'value'");
+            verifyException(e, "No value");
+        }
+    }
+
+    @Test
+    public void testSpecializedReaderWriter() throws Exception
+    {
+        ValueReaderLocator rloc = _readerLocator(GEN_FEATURES);
+        assertEquals(SpecializedBeanReader.class, rloc.findReader(Item.class).getClass());
+        assertTrue(((SpecializedBeanReader) rloc.findReader(Item.class)).isSpecialized());
+        // cyclic type also fully resolved
+        assertTrue(((SpecializedBeanReader) rloc.findReader(Node.class)).isSpecialized());
+        ValueWriterLocator wloc = _writerLocator(GEN_FEATURES);
+        assertEquals(SpecializedBeanWriter.class,
+                wloc.getValueWriter(wloc.findSerializationType(Item.class)).getClass());
+
+        // but not used by default
+        assertEquals(BeanReader.class,
+                _readerLocator(JSON.Feature.defaults()).findReader(Item.class).getClass());
+        wloc = _writerLocator(JSON.Feature.defaults());
+        assertEquals(BeanWriter.class,
+                wloc.getValueWriter(wloc.findSerializationType(Item.class)).getClass());
+    }
+
+    @Test
+    public void testSpecializedSameAsDefault() throws Exception
+    {
+        final String[] DOCS = new String[] {
+            a2q("{'name':'Bob','values':[1],'id':3,'count':-1,'active':true}"),
+            a2q("{'name':12,'id':'7','active':'true','count':2.5}"),
+            a2q("{'name':null,'values':null,'unknown':[1,{}],'id':null}"),
+            a2q("{'name':'x','name':'y','id':-2,'id':-2}"),
+            a2q("{}"),
+        };
+        for (JSON json : new JSON[] { GEN_JSON, GEN_JSON.with(JSON.Feature.WRITE_NULL_PROPERTIES) }) {
+            final JSON std = json.without(JSON.Feature.USE_GENERATED_ACCESSORS);
+            for (String doc : DOCS) {
+                Item exp = std.beanFrom(Item.class, doc);
+                Item act = json.beanFrom(Item.class, doc);
+                // same values read...
+                assertEquals(std.asString(exp), std.asString(act));
+                // and written
+                assertEquals(std.asString(exp), json.asString(exp));
+            }
+        }
+        try {
+            GEN_JSON.with(JSON.Feature.FAIL_ON_UNKNOWN_BEAN_PROPERTY)
+                .beanFrom(Item.class, a2q("{'id':1,'bogus':2}"));
+            fail("Should not pass");
+        } catch (JSONObjectException e) {
+            verifyException(e, "Unrecognized JSON property \"bogus\"");
+        }
+    }
+
+    @Test
+    public void testSpecializedCyclic() throws Exception
+    {
+        final String INPUT = a2q("{'name':'a','next':{'name':'b','next':null,'weight':0.5},'weight':1.25}");
+        Node n = GEN_JSON.beanFrom(Node.class, INPUT);
+        assertEquals("a", n.name);
+        assertEquals(1.25, n.weight);
+        assertEquals("b", n.next.name);
+        assertEquals(0.5, n.next.weight);
+        assertNull(n.next.next);
+        assertEquals(INPUT.replace("\"next\":null,", ""),
+                GEN_JSON.asString(n));
+        assertEquals(INPUT, GEN_JSON.with(JSON.Feature.WRITE_NULL_PROPERTIES).asString(n));
+    }
+
+    private ValueReaderLocator _readerLocator(int features) {
+        return new JSONReader(CollectionBuilder.defaultImpl(), MapBuilder.defaultImpl())
+                .perOperationInstance(features, ValueReaderLocator.blueprint(null, null), null, null)
+                ._readerLocator;
+    }
+
+    private ValueWriterLocator _writerLocator(int features) {
+        return new JSONWriter().perOperationInstance(features,
+                ValueWriterLocator.blueprint(null, null), null, null)._writerLocator;
+    }
+}
@@ -0,0 +1,222 @@
+package com.fasterxml.jackson.jr.ob.impl;
+
+import java.util.*;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.jr.ob.JSON;
+import com.fasterxml.jackson.jr.ob.JSONObjectException;
+import com.fasterxml.jackson.jr.ob.TestBase;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MapShapeTest extends TestBase
+{
+    private final JSON JSON_STD = JSON.std.with(JSON.Feature.SHARE_MAP_SHAPES);
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testSharedShapes() throws Exception
+    {
+        List<Object> rows = JSON_STD.listFrom(a2q(
+                "[{'id':1,'name':'a','tags':{'x':1,'y':2}},"
+                +"{'id':2,'name':'b','tags':{'x':3,'y':4}},"
+                +"{'id':3,'name':'c','tags':{'y':5,'x':6}},"
+                +"{'name':'d','id':4},"
+                +"{'id':5}, {'id':6}]"));
+        DeferredMap first = (DeferredMap) rows.get(0);
+        MapShape shape = first.shape();
+        assertNotNull(shape);
+        assertEquals(3, shape.size());
+        assertSame(shape, ((DeferredMap) rows.get(1)).shape());
+        assertSame(shape, ((DeferredMap) rows.get(2)).shape());
+        // different key order, different shape
+        assertNotSame(shape, ((DeferredMap) rows.get(3)).shape());
+        // singletons too
+        assertSame(((DeferredMap) rows.get(4)).shape(), ((DeferredMap) rows.get(5)).shape());
+
+        // nested Maps as well
+        Map<String,Object> tags1 = (Map<String,Object>) first.get("tags");
+        Map<String,Object> tags2 = (Map<String,Object>) ((Map<?,?>) rows.get(1)).get("tags");
+        Map<String,Object> tags3 = (Map<String,Object>) ((Map<?,?>) rows.get(2)).get("tags");
+        assertSame(((DeferredMap) tags1).shape(), ((DeferredMap) tags2).shape());
+        assertNotSame(((DeferredMap) tags1).shape(), ((DeferredMap) tags3).shape());
+
+        // and regular Map access works without materialization
+        assertEquals(3, first.size());
+        assertFalse(first.isEmpty());
+        assertEquals(Integer.valueOf(1), first.get("id"));
+        assertEquals("a", first.get("name"));
+        assertTrue(first.containsKey("name"));
+        assertFalse(first.containsKey("nosuch"));
+        assertFalse(first.containsKey(null));
+        assertNull(first.get("nosuch"));
+        assertTrue(first.containsValue("a"));
+        assertEquals(Arrays.asList("id", "name", "tags"), new ArrayList<>(first.keySet()));
+        assertEquals(Arrays.asList(1, "a", tags1), new ArrayList<>(first.values()));
+
+        Map<String,Object> exp = new LinkedHashMap<>();
+        exp.put("id", 1);
+        exp.put("name", "a");
+        exp.put("tags", tags1);
+        assertEquals(exp, first);
+        assertEquals(first, exp);
+        assertEquals(exp.hashCode(), first.hashCode());
+        assertEquals(exp.toString(), first.toString());
+        assertSame(shape, first.shape());
+
+        assertEquals(Integer.valueOf(6), tags3.get("x"));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testModifications() throws Exception
+    {
+        List<Object> rows = JSON_STD.listFrom(a2q("[{'a':1,'b':2},{'a':3,'b':4},{'a':5,'b':6}]"));
+        DeferredMap m1 = (DeferredMap) rows.get(0);
+        DeferredMap m2 = (DeferredMap) rows.get(1);
+        DeferredMap m3 = (DeferredMap) rows.get(2);
+
+        // replacing values does not need materialization...
+        assertEquals(Integer.valueOf(1), m1.put("a", 10));
+        assertNotNull(m1.shape());
+        for (Map.Entry<String,Object> entry : m1.entrySet()) {
+            entry.setValue(((Integer) entry.getValue()) * 2);
+        }
+        assertEquals(a2q("{'a':20,'b':4}"), JSON_STD.asString(m1));
+        assertNotNull(m1.shape());
+        // ... nor is it visible to other Maps
+        assertEquals(Integer.valueOf(3), m2.get("a"));
+
+        // but adding keys does
+        assertNull(m2.put("c", 7));
+        assertNull(m2.shape());
+        assertEquals(a2q("{'a':3,'b':4,'c':7}"), JSON_STD.asString(m2));
+        assertNotNull(m1.shape());
+
+        // as does removal, of keys that exist
+        assertNull(m3.remove("nosuch"));
+        assertNotNull(m3.shape());
+        assertEquals(Integer.valueOf(5), m3.remove("a"));
+        assertNull(m3.shape());
+        assertEquals(Collections.singletonMap("b", 6), m3);
+
+        // also via iterators
+        Map<String,Object> m4 = (Map<String,Object>) JSON_STD.anyFrom(a2q("{'a':1,'b':2,'c':3}"));
+        Iterator<String> it = m4.keySet().iterator();
+        assertEquals("a", it.next());
+        assertEquals("b", it.next());
+        it.remove();
+        assertEquals("c", it.next());
+        assertFalse(it.hasNext());
+        assertEquals(a2q("{'a':1,'c':3}"), JSON_STD.asString(m4));
+
+        m1.clear();
+        assertTrue(m1.isEmpty());
+        assertNull(m1.shape());
+        m1.put("x", 1);
+        assertEquals(Collections.singletonMap("x", 1), m1);
+    }
+
+    @Test
+    public void testDuplicateKeys() throws Exception
+    {
+        final String DOC = a2q("[{'a':1,'b':2},{'a':1,'b':2,'a':3}]");
+        try {
+            JSON_STD.listFrom(DOC);
+            fail("Should not pass");
+        } catch (JSONObjectException e) {
+            verifyException(e, "Duplicate key");
+        }
+        List<Object> rows = JSON_STD.without(JSON.Feature.FAIL_ON_DUPLICATE_MAP_KEYS)
+                .listFrom(DOC);
+        assertNotNull(((DeferredMap) rows.get(0)).shape());
+        assertNull(((DeferredMap) rows.get(1)).shape());
+        // (note: unshared DeferredMap over-counts size() with duplicates, until materialized)
+        assertEquals(a2q("{'a':3,'b':2}"), JSON_STD.asString(rows.get(1)));
+    }
+
+    @Test
+    public void testFeatureDisabled() throws Exception
+    {
+        final String DOC = a2q("[{'a':1,'b':2},{'a':3,'b':4}]");
+        // not enabled by default
+        List<Object> rows = JSON.std.listFrom(DOC);
+        assertEquals(DeferredMap.class, rows.get(0).getClass());
+        assertNull(((DeferredMap) rows.get(0)).shape());
+
+        rows = JSON_STD.without(JSON.Feature.SHARE_MAP_SHAPES).listFrom(DOC);
+        assertEquals(DeferredMap.class, rows.get(0).getClass());
+        assertNull(((DeferredMap) rows.get(0)).shape());
+        assertEquals(a2q("{'a':3,'b':4}"), JSON_STD.asString(rows.get(1)));
+
+        rows = JSON_STD.without(JSON.Feature.USE_DEFERRED_MAPS).listFrom(DOC);
+        assertEquals(LinkedHashMap.class, rows.get(0).getClass());
+    }
+
+    @Test
+    public void testLimits() throws Exception
+    {
+        // Maps with too many keys are not shared
+        StringBuilder sb = new StringBuilder("{");
+        for (int i = 0; i <= MapShape.MAX_KEYS; ++i) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append("\"key").append(i).append("\":").append(i);
+        }
+        sb.append('}');
+        Map<String,Object> big = JSON_STD.mapFrom(sb.toString());
+        assertNull(((DeferredMap) big).shape());
+        assertEquals(MapShape.MAX_KEYS + 1, big.size());
+        assertEquals(Integer.valueOf(MapShape.MAX_KEYS), big.get("key"+MapShape.MAX_KEYS));
+
+        // Nor, once tree is full, ones with new key sequences
+        sb = new StringBuilder("[");
+        final int COUNT = MapShape.MAX_SHAPES + 10;
+        for (int i = 0; i < COUNT; ++i) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append("{\"k").append(i).append("\":").append(i).append('}');
+        }
+        sb.append(']');
+        List<Object> rows = JSON_STD.listFrom(sb.toString());
+        assertNotNull(((DeferredMap) rows.get(0)).shape());
+        assertNull(((DeferredMap) rows.get(COUNT - 1)).shape());
+        for (int i = 0; i < COUNT; ++i) {
+            assertEquals(Collections.singletonMap("k"+i, i), rows.get(i));
+        }
+    }
+
+    // Rows share keys (shape), and only have value array of their own; see
+    // `MapShapeFootprintBenchmark` for actual heap footprint
+    @Test
+    public void testRowFootprint() throws Exception
+    {
+        final int ROWS = 200;
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < ROWS; ++i) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append("{\"id\":").append(i % 100)
+                .append(",\"type\":7,\"qty\":49,\"buy\":").append((i & 1) == 0)
+                .append(",\"ref\":null,\"flag\":false}");
+        }
+        sb.append(']');
+        List<Object> rows = JSON_STD.listFrom(sb.toString());
+        assertEquals(ROWS, rows.size());
+        final MapShape shape = ((DeferredMap) rows.get(0)).shape();
+        assertNotNull(shape);
+        assertEquals(6, shape.size());
+        for (int i = 0; i < ROWS; ++i) {
+            DeferredMap row = (DeferredMap) rows.get(i);
+            // (typical) access of values does not materialize Map
+            assertEquals(Integer.valueOf(49), row.get("qty"));
+            assertEquals(Boolean.valueOf((i & 1) == 0), row.get("buy"));
+            assertSame(shape, row.shape());
+            assertEquals(6, row.shapeValues().length);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.fasterxml.jackson.jr.ob.impl;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.jr.ob.JSON;
+import com.fasterxml.jackson.jr.ob.JSONObjectException;
+import com.fasterxml.jackson.jr.ob.TestBase;
+import com.fasterxml.jackson.jr.ob.api.CollectionBuilder;
+import com.fasterxml.jackson.jr.ob.api.MapBuilder;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MethodHandleAccessTest extends TestBase
+{
+    static class Point {
+        public int x;
+        protected long y;
+        private String label;
+        public List<Integer> values;
+
+        public long getY() { return y; }
+        public void setY(long y) { this.y = y; }
+
+        public String getLabel() { return label; }
+        public Point setLabel(String l) { // "fluent" setter
+            label = l;
+            return this;
+        }
+    }
+
+    static class Failing {
+        public int getValue() { return 1; }
+        public void setValue(int v) {
+            throw new IllegalStateException("Bad value: "+v);
+        }
+    }
+
+    private final JSON MH_JSON = JSON.std.with(JSON.Feature.USE_METHOD_HANDLES);
+
+    /*
+    /**********************************************************************
+    /* Test methods
+    /**********************************************************************
+     */
+
+    @Test
+    public void testDefaults() {
+        assertFalse(JSON.std.isEnabled(JSON.Feature.USE_METHOD_HANDLES));
+        assertTrue(MH_JSON.isEnabled(JSON.Feature.USE_METHOD_HANDLES));
+    }
+
+    @Test
+    public void testHandlesResolvedForRead() {
+        final int features = JSON.Feature.defaults() | JSON.Feature.USE_METHOD_HANDLES.mask();
+        BeanReader r = (BeanReader) _readerLocator(features).findReader(Point.class);
+        assertEquals(4, r.propertiesByName().size());
+        for (BeanPropertyReader prop : r.propertiesByName().values()) {
+            assertTrue(prop.usesMethodHandle(), "No handle for property '"+prop.getName()+"'");
+        }
+
+        // and without feature, none
+        r = (BeanReader) _readerLocator(JSON.Feature.defaults()).findReader(Point.class);
+        for (BeanPropertyReader prop : r.propertiesByName().values()) {
+            assertFalse(prop.usesMethodHandle());
+        }
+    }
+
+    @Test
+    public void testHandlesResolvedForWrite() {
+        final int features = JSON.Feature.defaults() | JSON.Feature.USE_METHOD_HANDLES.mask();
+        ValueWriterLocator loc = new JSONWriter().perOperationInstance(features,
+                ValueWriterLocator.blueprint(null, null), null, null)._writerLocator;
+        BeanWriter w = (BeanWriter) loc.getValueWriter(loc.findSerializationType(Point.class));
+        assertEquals(4, w._properties.length);
+        for (BeanPropertyWriter prop : w._properties) {
+            assertTrue(prop.usesMethodHandle(), "No handle for property '"+prop.name+"'");
+        }
+    }
+
+    @Test
+    public void testRoundtrip() throws Exception
+    {
+        final String INPUT = a2q("{'label':'abc','values':[1,2,3],'x':1,'y':-2}");
+        Point p = MH_JSON.beanFrom(Point.class, INPUT);
+        assertEquals(1, p.x);
+        assertEquals(-2L, p.y);
+        assertEquals("abc", p.label);
+        assertEquals(3, p.values.size());
+        assertEquals(Integer.valueOf(3), p.values.get(2));
+
+        assertEquals(INPUT, MH_JSON.asString(p));
+        // and results must match those of reflection-based access
+        assertEquals(JSON.std.asString(p), MH_JSON.asString(p));
+    }
+
+    @Test
+    public void testSetterFailure() throws Exception
+    {
+        try {
+            MH_JSON.beanFrom(Failing.class, a2q("{'value':3}"));
+            fail("Should not pass");
+        } catch (JSONObjectException e) {
+            verifyException(e, "Failed to set property 'value'");
+            verifyException(e, "Bad value: 3");
+        }
+    }
+
+    private ValueReaderLocator _readerLocator(int features) {
+        return new JSONReader(CollectionBuilder.defaultImpl(), MapBuilder.defaultImpl())
+                .perOperationInstance(features, ValueReaderLocator.blueprint(null, null), null, null)
+                ._readerLocator;
+    }
+}
@@ -0,0 +1,235 @@
+package com.fasterxml.jackson.jr.ob.impl;
+
+import java.util.*;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.jr.ob.*;
+import com.fasterxml.jackson.jr.ob.api.ExtensionContext;
+import com.fasterxml.jackson.jr.ob.api.ReaderWriterProvider;
+import com.fasterxml.jackson.jr.ob.api.ValueReader;
+import com.fasterxml.jackson.jr.type.ResolvedType;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PrimitiveCollectionsTest extends TestBase
+{
+    static class Dataset {
+        public List<Integer> ids;
+        public Collection<Long> timestamps;
+        public Map<String,Double> weights;
+        public ArrayList<Integer> plain;
+    }
+
+    private final JSON JSON_PRIM = JSON.builder()
+            .register(new PrimitiveCollectionsExtension())
+            .build();
+
+    @Test
+    public void testReadTypedRoots() throws Exception
+    {
+        List<Integer> ints = JSON_PRIM.listOfFrom(Integer.class, "[1,-2,null,3.5,\"4\"]");
+        assertEquals(IntArrayList.class, ints.getClass());
+        assertEquals(Arrays.asList(1, -2, 0, 3, 4), ints);
+
+        List<Double> doubles = JSON_PRIM.listOfFrom(Double.class, a2q("[0.5,-1e10,'NaN']"));
+        assertEquals(DoubleArrayList.class, doubles.getClass());
+        assertEquals(Arrays.asList(0.5, -1e10, Double.NaN), doubles);
+
+        Map<String,Long> longs = JSON_PRIM.mapOfFrom(Long.class, a2q("{'b':123456789012,'a':-1,'c':null}"));
+        assertEquals(LongValueMap.class, longs.getClass());
+        assertEquals(Long.valueOf(123456789012L), longs.get("b"));
+        assertEquals(Long.valueOf(0L), longs.get("c"));
+        // insertion order retained
+        assertEquals(Arrays.asList("b", "a", "c"), new ArrayList<>(longs.keySet()));
+
+        // but other types not affected
+        assertEquals(ArrayList.class, JSON_PRIM.listOfFrom(String.class, "[\"a\"]").getClass());
+        // nor untyped reads
+        assertEquals(ArrayList.class, JSON_PRIM.listFrom("[1,2]").getClass());
+    }
+
+    @Test
+    public void testReadBeanProperties() throws Exception
+    {
+        Dataset data = JSON_PRIM.beanFrom(Dataset.class, a2q(
+                "{'ids':[1,2,3],'timestamps':[],'weights':{'x':0.25,'y':2},"
+                +"'plain':[4]}"));
+        assertEquals(IntArrayList.class, data.ids.getClass());
+        assertEquals(Arrays.asList(1, 2, 3), data.ids);
+        assertEquals(LongArrayList.class, data.timestamps.getClass());
+        assertTrue(data.timestamps.isEmpty());
+        assertEquals(DoubleValueMap.class, data.weights.getClass());
+        assertEquals(2, data.weights.size());
+        assertEquals(0.25, ((DoubleValueMap) data.weights).getDouble("x", -1.0));
+        assertEquals(-1.0, ((DoubleValueMap) data.weights).getDouble("z", -1.0));
+        // incompatible declared types use standard implementations
+        assertEquals(ArrayList.class, data.plain.getClass());
+
+        // nulls for containers themselves are fine
+        data = JSON_PRIM.beanFrom(Dataset.class, a2q("{'ids':null,'weights':null}"));
+        assertNull(data.ids);
+        assertNull(data.weights);
+    }
+
+    @Test
+    public void testSelectedElementTypes() throws Exception
+    {
+        JSON json = JSON.builder()
+                .register(new PrimitiveCollectionsExtension(Double.class))
+                .build();
+        assertEquals(DoubleArrayList.class, json.listOfFrom(Double.class, "[1.0]").getClass());
+        assertEquals(DoubleValueMap.class, json.mapOfFrom(Double.class, "{\"a\":1.0}").getClass());
+        assertEquals(ArrayList.class, json.listOfFrom(Integer.class, "[1]").getClass());
+
+        try {
+            new PrimitiveCollectionsExtension(String.class);
+            fail("Should not pass");
+        } catch (IllegalArgumentException e) {
+            verifyException(e, "Unsupported element type `java.lang.String`");
+        }
+    }
+
+    @Test
+    public void testReadFailures() throws Exception
+    {
+        try {
+            JSON_PRIM.listOfFrom(Integer.class, "[1,[2]]");
+            fail("Should not pass");
+        } catch (JSONObjectException e) {
+            verifyException(e, "Can not read a number from");
+        }
+        try {
+            JSON_PRIM.mapOfFrom(Double.class, a2q("{'a':1,'a':2}"));
+            fail("Should not pass");
+        } catch (JSONObjectException e) {
+            verifyException(e, "Duplicate key (key 'a')");
+        }
+    }
+
+    @Test
+    public void testWrite() throws Exception
+    {
+        IntArrayList ints = new IntArrayList(new int[] { 1, 2, 3 });
+        DoubleValueMap doubles = new DoubleValueMap();
+        doubles.putDouble("b", 0.5);
+        doubles.putDouble("a", -2.0);
+        assertEquals("[1,2,3]", JSON_PRIM.asString(ints));
+        assertEquals(a2q("{'b':0.5,'a':-2.0}"), JSON_PRIM.asString(doubles));
+        // also works with standard writers, via List/Map interfaces
+        assertEquals("[1,2,3]", JSON.std.asString(ints));
+        assertEquals(a2q("{'b':0.5,'a':-2.0}"), JSON.std.asString(doubles));
+
+        // and round-trip of a Bean
+        Dataset data = JSON_PRIM.beanFrom(Dataset.class, a2q(
+                "{'ids':[7],'timestamps':[1,2],'weights':{'w':1.5}}"));
+        assertEquals(a2q("{'ids':[7],'timestamps':[1,2],'weights':{'w':1.5}}"),
+                JSON_PRIM.asString(data));
+    }
+
+    @Test
+    public void testListOperations() throws Exception
+    {
+        LongArrayList list = new LongArrayList();
+        for (int i = 0; i < 100; ++i) {
+            list.add(Long.valueOf(i));
+        }
+        assertEquals(100, list.size());
+        assertEquals(42L, list.getLong(42));
+        assertEquals(Long.valueOf(3L), list.remove(3));
+        list.add(0, -1L);
+        assertEquals(Long.valueOf(-1L), list.set(0, 5L));
+        assertEquals(5L, list.getLong(0));
+        assertEquals(100, list.size());
+        assertEquals(4, list.indexOf(5L) + list.indexOf(Long.valueOf(4)));
+        assertFalse(list.contains(3L));
+        assertFalse(list.contains(3));
+        list.subList(10, 100).clear();
+        assertEquals(Arrays.asList(5L, 0L, 1L, 2L, 4L, 5L, 6L, 7L, 8L, 9L), list);
+        assertEquals(list, new ArrayList<>(list));
+        assertEquals(new ArrayList<>(list).hashCode(), list.hashCode());
+        try {
+            list.getLong(10);
+            fail("Should not pass");
+        } catch (IndexOutOfBoundsException e) {
+            verifyException(e, "Index: 10");
+        }
+        list.clear();
+        assertTrue(list.isEmpty());
+        assertEquals(0, list.toLongArray().length);
+    }
+
+    @Test
+    public void testMapOperations() throws Exception
+    {
+        IntValueMap map = new IntValueMap();
+        Map<String,Integer> exp = new LinkedHashMap<>();
+        for (int i = 0; i < 500; ++i) {
+            map.put("key"+i, i);
+            exp.put("key"+i, i);
+        }
+        assertEquals(exp, map);
+        assertEquals(Integer.valueOf(7), map.put("key7", -7));
+        exp.put("key7", -7);
+        assertEquals(exp, map);
+        assertEquals(exp.hashCode(), map.hashCode());
+        // removal via Map and via iterator
+        assertEquals(Integer.valueOf(3), map.remove("key3"));
+        assertNull(map.remove("key3"));
+        exp.remove("key3");
+        for (Iterator<Map.Entry<String,Integer>> it = map.entrySet().iterator(); it.hasNext(); ) {
+            Map.Entry<String,Integer> entry = it.next();
+            if ((entry.getValue() % 2) == 0) {
+                it.remove();
+            } else {
+                entry.setValue(entry.getValue() * 10);
+            }
+        }
+        exp.entrySet().removeIf(e -> (e.getValue() % 2) == 0);
+        exp.replaceAll((k, v) -> v * 10);
+        assertEquals(exp, map);
+        assertEquals(new ArrayList<>(exp.keySet()), new ArrayList<>(map.keySet()));
+        assertEquals(10, map.getInt("key1", 0));
+        assertFalse(map.containsKey("key2"));
+        assertFalse(map.containsKey(2));
+        assertEquals("key1", map.keyAt(0));
+        assertEquals(10, map.intAt(0));
+        map.trimToSize();
+        assertEquals(exp, map);
+        map.putInt("new", 1);
+        assertEquals(Integer.valueOf(1), map.get("new"));
+        try {
+            map.put("x", null);
+            fail("Should not pass");
+        } catch (NullPointerException e) {
+            verifyException(e, "Null values not supported");
+        }
+        map.clear();
+        assertTrue(map.isEmpty());
+        assertNull(map.get("key1"));
+        map.putInt("again", 3);
+        assertEquals(Collections.singletonMap("again", 3), map);
+    }
+
+    // Map readers of lower-priority providers must be found as well
+    @Test
+    public void testMapReaderOfSecondaryProvider() throws Exception
+    {
+        JSON json = JSON.builder()
+                .register(new JacksonJrExtension() {
+                    @Override
+                    protected void register(ExtensionContext ctxt) {
+                        ctxt.insertProvider(new ReaderWriterProvider() {
+                            @Override
+                            public ValueReader findMapReader(JSONReader ctxt, Class<?> type,
+                                    ResolvedType valueType, ValueReader readerForValues) {
+                                return null;
+                            }
+                        });
+                    }
+                })
+                .register(new PrimitiveCollectionsExtension())
+                .build();
+        assertEquals(IntValueMap.class, json.mapOfFrom(Integer.class, "{\"a\":1}").getClass());
+    }
+}
@@ -0,0 +1,227 @@
+package com.fasterxml.jackson.jr.ob.impl;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.jr.ob.JSON;
+import com.fasterxml.jackson.jr.ob.JSONObjectException;
+import com.fasterxml.jackson.jr.ob.TestBase;
+import com.fasterxml.jackson.jr.ob.api.CollectionBuilder;
+import com.fasterxml.jackson.jr.ob.api.MapBuilder;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PropertyOrderMatchingTest extends TestBase
+{
+    static class ABC {
+        public int a, b, c;
+    }
+
+    static class Wrapper {
+        public ABC value;
+        public String name;
+    }
+
+    // declared in non-alphabetic order
+    static class ZYX {
+        public int z, y, x;
+    }
+
+    // with match counting enabled
+    private final ValueReaderLocator LOCATOR = ValueReaderLocator.blueprint(null, null,
+            ValueReaderLocator.MAX_CACHED_READERS, true);
+
+    private final JSONReader READER = new JSONReader(CollectionBuilder.defaultImpl(),
+            MapBuilder.defaultImpl());
+
+    /*
+    /**********************************************************************
+    /* Test methods
+    /**********************************************************************
+     */
+
+    @Test
+    public void testDeclarationOrderMatches() throws Exception
+    {
+        for (int i = 0; i < 3; ++i) {
+            ABC abc = _read(ABC.class, a2q("{'a':1,'b':2,'c':3}"), JSON.Feature.defaults());
+            assertEquals(1, abc.a);
+            assertEquals(2, abc.b);
+            assertEquals(3, abc.c);
+        }
+        BeanReader r = _beanReader(ABC.class, JSON.Feature.defaults());
+        assertEquals(9L, r.propertyMatchHits());
+        assertEquals(0L, r.propertyMatchMisses());
+    }
+
+    @Test
+    public void testLearnedOrderMatches() throws Exception
+    {
+        final String DOC = a2q("{'c':3,'a':1,'b':2}");
+        for (int i = 0; i < 4; ++i) {
+            ABC abc = _read(ABC.class, DOC, JSON.Feature.defaults());
+            assertEquals(1, abc.a);
+            assertEquals(2, abc.b);
+            assertEquals(3, abc.c);
+        }
+        BeanReader r = _beanReader(ABC.class, JSON.Feature.defaults());
+        // first document: "c" and "b" mispredicted (but "a" after "c" learnt);
+        // after that all predicted correctly
+        assertEquals(2L, r.propertyMatchMisses());
+        assertEquals(10L, r.propertyMatchHits());
+    }
+
+    @Test
+    public void testMissingAndUnknownProperties() throws Exception
+    {
+        ABC abc = _read(ABC.class, a2q("{'b':2,'x':[1,{'a':3}],'c':3}"), JSON.Feature.defaults());
+        assertEquals(0, abc.a);
+        assertEquals(2, abc.b);
+        assertEquals(3, abc.c);
+
+        abc = _read(ABC.class, a2q("{}"), JSON.Feature.defaults());
+        assertEquals(0, abc.b);
+
+        try {
+            _read(ABC.class, a2q("{'a':1,'x':2}"),
+                    JSON.Feature.defaults() | JSON.Feature.FAIL_ON_UNKNOWN_BEAN_PROPERTY.mask());
+            fail("Should not pass");
+        } catch (JSONObjectException e) {
+            verifyException(e, "Unrecognized JSON property \"x\"");
+        }
+    }
+
+    @Test
+    public void testNestedAndCaseInsensitive() throws Exception
+    {
+        final String DOC = a2q("{'name':'x','value':{'C':3,'B':2,'A':1}}");
+        Wrapper w = _read(Wrapper.class, DOC,
+                JSON.Feature.defaults() | JSON.Feature.ACCEPT_CASE_INSENSITIVE_PROPERTIES.mask());
+        assertEquals("x", w.name);
+        assertEquals(1, w.value.a);
+        assertEquals(2, w.value.b);
+        assertEquals(3, w.value.c);
+    }
+
+    // Initial prediction must follow declaration order even if lookup is
+    // case-insensitive (and properties thereby sorted alphabetically)
+    @Test
+    public void testCaseInsensitiveDeclarationOrder() throws Exception
+    {
+        final int features = JSON.Feature.defaults()
+                | JSON.Feature.ACCEPT_CASE_INSENSITIVE_PROPERTIES.mask();
+        ZYX zyx = _read(ZYX.class, a2q("{'z':1,'y':2,'x':3}"), features);
+        assertEquals(1, zyx.z);
+        assertEquals(2, zyx.y);
+        assertEquals(3, zyx.x);
+        BeanReader r = _beanReader(ZYX.class, features);
+        assertEquals(3L, r.propertyMatchHits());
+        assertEquals(0L, r.propertyMatchMisses());
+    }
+
+    // Overridden `findProperty()` must be used for names not predicted
+    @Test
+    public void testFindPropertyOverride() throws Exception
+    {
+        final BeanReader base = _beanReader(ABC.class, JSON.Feature.defaults());
+        final BeanReader custom = new BeanReader(ABC.class, base.propertiesByName(),
+                base._constructors, null, null, true) {
+            @Override
+            public BeanPropertyReader findProperty(String name) {
+                return super.findProperty(name.equals("third") ? "c" : name);
+            }
+        };
+        for (int i = 0; i < 2; ++i) {
+            try (JsonParser p = parserFor(a2q("{'a':1,'third':3,'b':2}"))) {
+                p.nextToken();
+                ABC abc = (ABC) custom.read(READER.perOperationInstance(JSON.Feature.defaults(),
+                        LOCATOR, null, p), p);
+                assertEquals(1, abc.a);
+                assertEquals(2, abc.b);
+                assertEquals(3, abc.c);
+            }
+        }
+        // "third" never predicted, nor does it change prediction of "b" following "a"
+        assertEquals(2L, custom.propertyMatchMisses());
+        assertEquals(4L, custom.propertyMatchHits());
+    }
+
+    // Matcher must not retain properties whose readers are not yet resolved
+    // (as may happen with cyclic types while being resolved)
+    @Test
+    public void testMatcherOnlyRetainedWhenResolved() throws Exception
+    {
+        final BeanReader base = _beanReader(ABC.class, JSON.Feature.defaults());
+        final java.util.Map<String, BeanPropertyReader> props = new java.util.LinkedHashMap<>();
+        int index = 0;
+        for (String name : new String[] { "a", "b", "c" }) {
+            props.put(name, new BeanPropertyReader(name, ABC.class.getField(name), null, index++));
+        }
+        final BeanReader r = new BeanReader(ABC.class, props, base._constructors, null, null, true);
+        assertNull(r._matcher().props[0].getReader());
+        assertNull(r._matcher);
+
+        // and once resolved, retained and used
+        props.putAll(base.propertiesByName());
+        assertNotNull(r._matcher().props[0].getReader());
+        assertNotNull(r._matcher);
+        try (JsonParser p = parserFor(a2q("{'a':1,'b':2,'c':3}"))) {
+            p.nextToken();
+            ABC abc = (ABC) r.read(READER.perOperationInstance(JSON.Feature.defaults(),
+                    LOCATOR, null, p), p);
+            assertEquals(3, abc.c);
+        }
+        assertEquals(3L, r.propertyMatchHits());
+    }
+
+    @Test
+    public void testAliasLookup() throws Exception
+    {
+        final BeanReader base = _beanReader(ABC.class, JSON.Feature.defaults());
+        final BeanReader r = new BeanReader(ABC.class, base.propertiesByName(),
+                base._constructors, null, java.util.Collections.singletonMap("third", "c"), true);
+        r.resolveMatcher();
+        for (int i = 0; i < 2; ++i) {
+            try (JsonParser p = parserFor(a2q("{'a':1,'third':3,'b':2}"))) {
+                p.nextToken();
+                ABC abc = (ABC) r.read(READER.perOperationInstance(JSON.Feature.defaults(),
+                        LOCATOR, null, p), p);
+                assertEquals(1, abc.a);
+                assertEquals(2, abc.b);
+                assertEquals(3, abc.c);
+            }
+        }
+        // aliases never match predicted (primary) names, but property following
+        // them is still predicted
+        assertEquals(3L, r.propertyMatchMisses());
+        assertEquals(3L, r.propertyMatchHits());
+    }
+
+    @Test
+    public void testNoCountingByDefault() throws Exception
+    {
+        final ValueReaderLocator locator = ValueReaderLocator.blueprint(null, null);
+        try (JsonParser p = parserFor(a2q("{'a':1,'b':2,'c':3}"))) {
+            p.nextToken();
+            assertEquals(2, READER.perOperationInstance(JSON.Feature.defaults(), locator, null, p)
+                    .readBean(ABC.class).b);
+        }
+        BeanReader r = (BeanReader) READER.perOperationInstance(JSON.Feature.defaults(), locator, null, null)
+                ._readerLocator.findReader(ABC.class);
+        assertEquals(0L, r.propertyMatchHits());
+        assertEquals(0L, r.propertyMatchMisses());
+    }
+
+    private <T> T _read(Class<T> type, String json, int features) throws Exception {
+        try (JsonParser p = parserFor(json)) {
+            p.nextToken();
+            return READER.perOperationInstance(features, LOCATOR, null, p)
+                    .readBean(type);
+        }
+    }
+
+    private BeanReader _beanReader(Class<?> type, int features) {
+        return (BeanReader) READER.perOperationInstance(features, LOCATOR, null, null)
+                ._readerLocator.findReader(type);
+    }
+}
@@ -0,0 +1,106 @@
+package com.fasterxml.jackson.jr.ob.impl;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.jr.ob.JSON;
+import com.fasterxml.jackson.jr.ob.TestBase;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ReaderWriterCacheTest extends TestBase
+{
+    public static class Point {
+        public int x, y;
+
+        public Point() { }
+        public Point(int x, int y) {
+            this.x = x;
+            this.y = y;
+        }
+    }
+
+    public static class Line {
+        public Point from, to;
+    }
+
+    public static class Other1 { public int a = 1; }
+    public static class Other2 { public int b = 2; }
+    public static class Other3 { public int c = 3; }
+
+    @Test
+    public void testInvalidSize()
+    {
+        try {
+            JSON.builder().readerCacheSize(-1);
+            fail("Should not pass");
+        } catch (IllegalArgumentException e) {
+            verifyException(e, "must be positive");
+        }
+    }
+
+    @Test
+    public void testReaderCacheBounded() throws Exception
+    {
+        JSON json = JSON.builder().readerCacheSize(2).build();
+        assertEquals(1, json.beanFrom(Other1.class, "{\"a\":1}").a);
+        assertEquals(2, json.beanFrom(Other2.class, "{\"b\":2}").b);
+        assertEquals(3, json.beanFrom(Other3.class, "{\"c\":3}").c);
+        assertEquals(1, json.beanFrom(Other1.class, "{\"a\":1}").a);
+
+        CacheStatistics stats = json.readerCacheStatistics();
+        assertEquals(2, stats.maxSize());
+        assertTrue(stats.size() <= 2);
+        assertTrue(stats.evictions() > 0);
+        // hits not counted by default
+        assertEquals(0L, stats.hits());
+    }
+
+    // Writers may be referenced by type id from other writers even after
+    // eviction, so need to verify those still work
+    @Test
+    public void testWriterCacheEviction() throws Exception
+    {
+        JSON json = JSON.builder().writerCacheSize(2).countCacheHits(true).build();
+        Line line = new Line();
+        line.from = new Point(1, 2);
+        line.to = new Point(3, 4);
+        final String EXP = a2q("{'from':{'x':1,'y':2},'to':{'x':3,'y':4}}");
+        assertEquals(EXP, json.asString(line));
+
+        // evict mappings, including that of Point
+        assertEquals(a2q("{'a':1}"), json.asString(new Other1()));
+        assertEquals(a2q("{'b':2}"), json.asString(new Other2()));
+        assertEquals(a2q("{'c':3}"), json.asString(new Other3()));
+        assertEquals(EXP, json.asString(line));
+        assertEquals(EXP, json.asString(line));
+        assertEquals(a2q("[{'x':1,'y':2},{'x':3,'y':4}]"),
+                json.asString(new Point[] { line.from, line.to }));
+
+        CacheStatistics stats = json.writerCacheStatistics();
+        assertEquals(2, stats.maxSize());
+        assertTrue(stats.size() <= 2);
+        assertTrue(stats.evictions() > 0);
+        assertTrue(stats.hits() > 0);
+    }
+
+    // Slots of evicted writers must be reused, so that number of writers
+    // does not grow with repeated eviction and re-resolution
+    @Test
+    public void testWriterChurnBounded() throws Exception
+    {
+        final Class<?>[] types = { Point.class, Line.class, Other1.class, Other2.class, Other3.class };
+        ValueWriterLocator blueprint = ValueWriterLocator.blueprint(null, null, 2, false);
+        ValueWriterLocator locator = blueprint.perOperationInstance(new JSONWriter(),
+                JSON.Feature.defaults());
+        for (int round = 0; round < 50; ++round) {
+            for (Class<?> type : types) {
+                final int typeId = locator.findSerializationType(type);
+                assertTrue(typeId < 0);
+                assertNotNull(locator.getValueWriter(typeId));
+            }
+            assertTrue(blueprint._knownWriters.size() <= types.length,
+                    "Too many writers after round #"+round+": "+blueprint._knownWriters.size());
+        }
+        assertTrue(blueprint.cacheStatistics().evictions() > 100);
+    }
+}
@@ -0,0 +1,180 @@
+package com.fasterxml.jackson.jr.ob.impl;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.jr.ob.JSON;
+import com.fasterxml.jackson.jr.ob.TestBase;
+import com.fasterxml.jackson.jr.ob.api.ReaderWriterModifier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SingleFlightTest extends TestBase
+{
+    public static class Node {
+        public String name;
+        public List<Node> children;
+        public Map<String, Leaf> leaves;
+    }
+
+    public static class Leaf {
+        public int value;
+        public Node parent;
+    }
+
+    // Counts introspections, slowed down to make overlap likely
+    static class SlowCountingModifier extends ReaderWriterModifier {
+        final AtomicInteger readIntrospections = new AtomicInteger();
+        final AtomicInteger writeIntrospections = new AtomicInteger();
+
+        @Override
+        public POJODefinition pojoDefinitionForDeserialization(JSONReader ctxt, Class<?> pojoType) {
+            readIntrospections.incrementAndGet();
+            _sleep();
+            return null;
+        }
+
+        @Override
+        public POJODefinition pojoDefinitionForSerialization(JSONWriter ctxt, Class<?> pojoType) {
+            writeIntrospections.incrementAndGet();
+            _sleep();
+            return null;
+        }
+
+        private void _sleep() {
+            try {
+                Thread.sleep(20L);
+            } catch (InterruptedException e) { }
+        }
+    }
+
+    /*
+    /**********************************************************************
+    /* Test methods
+    /**********************************************************************
+     */
+
+    @Test
+    public void testSingleResolution() throws Exception
+    {
+        final SingleFlight<String> flights = new SingleFlight<>();
+        final AtomicInteger calls = new AtomicInteger();
+        final int THREADS = 6;
+        final CountDownLatch start = new CountDownLatch(1);
+        ExecutorService exec = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < THREADS; ++i) {
+                results.add(exec.submit(() -> {
+                    start.await();
+                    return flights.resolve(Node.class, 0, () -> {
+                        calls.incrementAndGet();
+                        try {
+                            Thread.sleep(100L);
+                        } catch (InterruptedException e) { }
+                        return "node";
+                    });
+                }));
+            }
+            start.countDown();
+            for (Future<String> f : results) {
+                assertEquals("node", f.get(5, TimeUnit.SECONDS));
+            }
+            assertEquals(1, calls.get());
+        } finally {
+            exec.shutdown();
+        }
+    }
+
+    // Resolution of A needs B and vice versa, by different threads: must not deadlock
+    @Test
+    public void testCrossThreadCycle() throws Exception
+    {
+        final SingleFlight<String> flights = new SingleFlight<>();
+        final CyclicBarrier bothStarted = new CyclicBarrier(2);
+        ExecutorService exec = Executors.newFixedThreadPool(2);
+        try {
+            Future<String> a = exec.submit(() -> _resolveCyclic(flights, bothStarted, Node.class, Leaf.class));
+            Future<String> b = exec.submit(() -> _resolveCyclic(flights, bothStarted, Leaf.class, Node.class));
+            // one of threads may get result of the other's resolution
+            String resultA = a.get(5, TimeUnit.SECONDS);
+            String resultB = b.get(5, TimeUnit.SECONDS);
+            assertTrue(resultA.startsWith("Node->Leaf"), resultA);
+            assertTrue(resultB.startsWith("Leaf->Node"), resultB);
+        } finally {
+            exec.shutdown();
+        }
+    }
+
+    @Test
+    public void testRecursiveResolutionBySameThread() throws Exception
+    {
+        final SingleFlight<String> flights = new SingleFlight<>();
+        String result = flights.resolve(Node.class, 0,
+                () -> "outer+" + flights.resolve(Node.class, 0, () -> "inner"));
+        assertEquals("outer+inner", result);
+    }
+
+    @Test
+    public void testFailurePropagation() throws Exception
+    {
+        final SingleFlight<String> flights = new SingleFlight<>();
+        try {
+            flights.resolve(Node.class, 0, () -> { throw new IllegalStateException("Bad type"); });
+            fail("Should not pass");
+        } catch (IllegalStateException e) {
+            verifyException(e, "Bad type");
+        }
+        // and not retained
+        assertEquals("ok", flights.resolve(Node.class, 0, () -> "ok"));
+    }
+
+    // And then via locators, with cyclic types
+    @Test
+    public void testConcurrentColdStart() throws Exception
+    {
+        final SlowCountingModifier mod = new SlowCountingModifier();
+        final JSON json = jsonWithModifier(mod);
+        final String DOC = a2q("{'name':'root','children':[{'name':'kid'}],'leaves':{'a':{'value':3}}}");
+        final int THREADS = 4;
+        final CountDownLatch start = new CountDownLatch(1);
+        ExecutorService exec = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < THREADS; ++i) {
+                results.add(exec.submit(() -> {
+                    start.await();
+                    Node n = json.beanFrom(Node.class, DOC);
+                    assertEquals(3, n.leaves.get("a").value);
+                    return json.asString(n);
+                }));
+            }
+            start.countDown();
+            for (Future<String> f : results) {
+                assertEquals(results.get(0).get(), f.get(10, TimeUnit.SECONDS));
+            }
+        } finally {
+            exec.shutdown();
+        }
+        // Both types introspected just once, for reading as well as writing
+        assertEquals(2, mod.readIntrospections.get());
+        assertEquals(2, mod.writeIntrospections.get());
+    }
+
+    private String _resolveCyclic(SingleFlight<String> flights, CyclicBarrier barrier,
+            Class<?> first, Class<?> second)
+    {
+        return flights.resolve(first, 0, () -> {
+            try {
+                barrier.await(5, TimeUnit.SECONDS);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+            String other = flights.resolve(second, 0, () -> second.getSimpleName());
+            return first.getSimpleName() + "->" + other;
+        });
+    }
+}
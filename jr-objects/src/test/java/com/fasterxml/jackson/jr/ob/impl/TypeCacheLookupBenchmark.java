@@ -0,0 +1,107 @@
+package com.fasterxml.jackson.jr.ob.impl;
+
+import java.util.concurrent.*;
+
+/**
+ * Simple multi-threaded micro-benchmark for comparing lookup performance
+ * of {@link ClassValueCache} (used by {@link ValueReaderLocator} and
+ * {@link ValueWriterLocator} since 2.19) with that of
+ * {@link ConcurrentHashMap} keyed by {@link ClassKey} (used before 2.19).
+ *<p>
+ * Not run as part of test suite; run with:
+ *<pre>
+ *  java -cp ... com.fasterxml.jackson.jr.ob.impl.TypeCacheLookupBenchmark [threads]
+ *</pre>
+ */
+public class TypeCacheLookupBenchmark
+{
+    private final static int ROUNDS = 12;
+
+    private final static int LOOKUPS_PER_ROUND = 4_000_000;
+
+    private final static Class<?>[] TYPES = new Class<?>[] {
+        String.class, Integer.class, Long.class, Double.class, Boolean.class,
+        java.util.ArrayList.class, java.util.HashMap.class, java.util.Date.class,
+        java.net.URL.class, java.util.UUID.class, StringBuilder.class, Object.class,
+        ClassKey.class, ClassValueCache.class, ValueReaderLocator.class,
+        ValueWriterLocator.class
+    };
+
+    private final static int FEATURES = 0x15;
+
+    private final ConcurrentHashMap<ClassKey, Integer> _map = new ConcurrentHashMap<>();
+
+    private final ClassValueCache<Integer> _cache = new ClassValueCache<>(1000, false);
+
+    // to prevent dead-code elimination
+    private volatile int _sink;
+
+    public TypeCacheLookupBenchmark() {
+        for (int i = 0; i < TYPES.length; ++i) {
+            _map.put(new ClassKey(TYPES[i], FEATURES), i);
+            _cache.put(TYPES[i], FEATURES, i);
+        }
+    }
+
+    public static void main(String[] args) throws Exception
+    {
+        int threads = (args.length > 0) ? Integer.parseInt(args[0])
+                : Runtime.getRuntime().availableProcessors();
+        new TypeCacheLookupBenchmark().run(threads);
+    }
+
+    public void run(int threads) throws Exception
+    {
+        System.out.printf("Using %d threads, %d lookups per thread per round%n",
+                threads, LOOKUPS_PER_ROUND);
+        ExecutorService exec = Executors.newFixedThreadPool(threads);
+        try {
+            for (int round = 1; round <= ROUNDS; ++round) {
+                // first half of rounds just for warmup
+                final boolean report = (round > ROUNDS / 2);
+                long mapTime = _time(exec, threads, this::_lookupMap);
+                long cacheTime = _time(exec, threads, this::_lookupClassValue);
+                if (report) {
+                    System.out.printf("Round %2d: ConcurrentHashMap<ClassKey> %5d ms, ClassValueCache %5d ms%n",
+                            round, mapTime, cacheTime);
+                }
+            }
+        } finally {
+            exec.shutdown();
+        }
+    }
+
+    private long _time(ExecutorService exec, int threads, Callable<Integer> task)
+        throws Exception
+    {
+        final long start = System.nanoTime();
+        java.util.List<Future<Integer>> results = new java.util.ArrayList<>();
+        for (int i = 0; i < threads; ++i) {
+            results.add(exec.submit(task));
+        }
+        int sum = 0;
+        for (Future<Integer> f : results) {
+            sum += f.get();
+        }
+        _sink = sum;
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+    }
+
+    // Matches pre-2.19 lookups by per-operation locators (reusable key)
+    private Integer _lookupMap() {
+        final ClassKey key = new ClassKey();
+        int sum = 0;
+        for (int i = 0; i < LOOKUPS_PER_ROUND; ++i) {
+            sum += _map.get(key.with(TYPES[i & 0xF], FEATURES));
+        }
+        return sum;
+    }
+
+    private Integer _lookupClassValue() {
+        int sum = 0;
+        for (int i = 0; i < LOOKUPS_PER_ROUND; ++i) {
+            sum += _cache.get(TYPES[i & 0xF], FEATURES);
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,137 @@
+package com.fasterxml.jackson.jr.ob.impl;
+
+import java.lang.reflect.Type;
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.jr.ob.JSON;
+import com.fasterxml.jackson.jr.ob.TestBase;
+import com.fasterxml.jackson.jr.ob.api.CollectionBuilder;
+import com.fasterxml.jackson.jr.ob.api.MapBuilder;
+import com.fasterxml.jackson.jr.type.ResolvedType;
+import com.fasterxml.jackson.jr.type.TypeBindings;
+import com.fasterxml.jackson.jr.type.TypeResolver;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TypeResolverConcurrencyTest extends TestBase
+{
+    public static class Leaf {
+        public int value;
+    }
+
+    public static class BeanA {
+        public List<Leaf> leaves;
+        public Map<String, List<Leaf>> leafLists;
+    }
+
+    public static class BeanB {
+        public List<Leaf> items;
+        public Map<String, List<Leaf>> itemLists;
+    }
+
+    static class StringList extends ArrayList<String> {
+        private static final long serialVersionUID = 1L;
+    }
+
+    static class SelfRef implements Comparable<SelfRef> {
+        @Override
+        public int compareTo(SelfRef o) { return 0; }
+    }
+
+    // Properties just for accessing generic types
+    public List<String> listOfStrings;
+    public Map<String, List<Integer>> mapOfLists;
+    public Set<? extends Number> setOfNumbers;
+    public Map<String, Map<String, Leaf>> mapOfMaps;
+    public List<SelfRef>[] arrayOfLists;
+
+    /*
+    /**********************************************************************
+    /* Test methods
+    /**********************************************************************
+     */
+
+    @Test
+    public void testCachedResolution() throws Exception
+    {
+        TypeResolver resolver = new TypeResolver();
+        Type listType = getClass().getField("listOfStrings").getGenericType();
+        ResolvedType t1 = resolver.resolve(TypeBindings.emptyBindings(), listType);
+        ResolvedType t2 = resolver.resolve(TypeBindings.emptyBindings(), listType);
+        assertSame(t1, t2);
+        assertEquals(String.class, t1.typeParametersFor(Collection.class).get(0).erasedType());
+
+        // and parameterized type from sub-class is to be shared too
+        ResolvedType sub = resolver.resolve(TypeBindings.emptyBindings(), StringList.class);
+        assertSame(sub, resolver.resolve(TypeBindings.emptyBindings(), StringList.class));
+        assertEquals(String.class, sub.typeParametersFor(List.class).get(0).erasedType());
+    }
+
+    @Test
+    public void testConcurrentResolution() throws Exception
+    {
+        final List<Type> types = new ArrayList<>();
+        for (String name : new String[] { "listOfStrings", "mapOfLists", "setOfNumbers",
+                "mapOfMaps", "arrayOfLists" }) {
+            types.add(getClass().getField(name).getGenericType());
+        }
+        types.add(StringList.class);
+        types.add(SelfRef.class);
+
+        // expected results, by separate resolver
+        final TypeResolver refResolver = new TypeResolver();
+        final List<String> expected = new ArrayList<>();
+        for (Type type : types) {
+            expected.add(refResolver.resolve(TypeBindings.emptyBindings(), type).toString());
+        }
+
+        final TypeResolver resolver = new TypeResolver();
+        final int THREADS = 8;
+        final int ROUNDS = 2000;
+        final CountDownLatch start = new CountDownLatch(1);
+        ExecutorService exec = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> results = new ArrayList<>();
+            for (int t = 0; t < THREADS; ++t) {
+                final int offset = t;
+                results.add(exec.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < ROUNDS; ++i) {
+                        int ix = (i + offset) % types.size();
+                        ResolvedType rt = resolver.resolve(TypeBindings.emptyBindings(), types.get(ix));
+                        assertEquals(expected.get(ix), rt.toString());
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> f : results) {
+                f.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            exec.shutdown();
+        }
+    }
+
+    // Container readers for same declared types shared across Bean types
+    @Test
+    public void testSharedContainerReaders() throws Exception
+    {
+        ValueReaderLocator loc = new JSONReader(CollectionBuilder.defaultImpl(), MapBuilder.defaultImpl())
+                .perOperationInstance(JSON.Feature.defaults(), ValueReaderLocator.blueprint(null, null), null, null)
+                ._readerLocator;
+        BeanReader a = (BeanReader) loc.findReader(BeanA.class);
+        BeanReader b = (BeanReader) loc.findReader(BeanB.class);
+        assertSame(a.findProperty("leaves").getReader(), b.findProperty("items").getReader());
+        assertSame(a.findProperty("leafLists").getReader(), b.findProperty("itemLists").getReader());
+        assertNotSame(a.findProperty("leaves").getReader(), a.findProperty("leafLists").getReader());
+
+        BeanB result = JSON.std.beanFrom(BeanB.class,
+                a2q("{'items':[{'value':1}],'itemLists':{'x':[{'value':2}]}}"));
+        assertEquals(1, result.items.get(0).value);
+        assertEquals(2, result.itemLists.get("x").get(0).value);
+    }
+}
@@ -0,0 +1,190 @@
+package com.fasterxml.jackson.jr.ob.impl;
+
+import java.io.IOException;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.jr.ob.JSON;
+import com.fasterxml.jackson.jr.ob.JSONObjectException;
+import com.fasterxml.jackson.jr.ob.TestBase;
+import com.fasterxml.jackson.jr.ob.api.CollectionBuilder;
+import com.fasterxml.jackson.jr.ob.api.MapBuilder;
+import com.fasterxml.jackson.jr.ob.api.ReaderWriterProvider;
+import com.fasterxml.jackson.jr.ob.api.ValueReader;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class UnboxedScalarAccessTest extends TestBase
+{
+    public static class FieldBean {
+        public int i;
+        public long l;
+        public double d;
+        public boolean b;
+        public Integer boxed;
+    }
+
+    public static class SetterBean {
+        private int i;
+        private long l;
+        private double d;
+        private boolean b;
+
+        public int getI() { return i; }
+        public void setI(int v) { i = v; }
+        public long getL() { return l; }
+        public void setL(long v) { l = v; }
+        public double getD() { return d; }
+        public void setD(double v) { d = v; }
+        public boolean isB() { return b; }
+        public void setB(boolean v) { b = v; }
+    }
+
+    public static class Failing {
+        public int getValue() { return 1; }
+        public void setValue(int v) {
+            throw new IllegalStateException("Bad value: "+v);
+        }
+    }
+
+    private final int HANDLES = JSON.Feature.USE_METHOD_HANDLES.mask();
+    private final int GENERATED = JSON.Feature.USE_GENERATED_ACCESSORS.mask();
+
+    /*
+    /**********************************************************************
+    /* Test methods, detection
+    /**********************************************************************
+     */
+
+    @Test
+    public void testFieldsUnboxedByDefault() throws Exception
+    {
+        BeanReader r = _beanReader(FieldBean.class, 0);
+        assertEquals(ValueLocatorBase.SER_NUMBER_INTEGER, r.findProperty("i").scalarTypeId());
+        assertEquals(ValueLocatorBase.SER_NUMBER_LONG, r.findProperty("l").scalarTypeId());
+        assertEquals(ValueLocatorBase.SER_NUMBER_DOUBLE, r.findProperty("d").scalarTypeId());
+        assertEquals(ValueLocatorBase.SER_BOOLEAN, r.findProperty("b").scalarTypeId());
+        assertEquals(0, r.findProperty("boxed").scalarTypeId());
+
+        for (BeanPropertyWriter w : _beanWriter(FieldBean.class, 0)._properties) {
+            assertEquals("boxed".equals(w.name.getValue()), w.scalarTypeId() == 0);
+        }
+    }
+
+    @Test
+    public void testSettersUnboxed() throws Exception
+    {
+        // Method handles used for primitive-valued setters and getters
+        // even if not enabled (plain reflection would require boxing)
+        for (int features : new int[] { 0, HANDLES, GENERATED, HANDLES | GENERATED }) {
+            BeanReader r = _beanReader(SetterBean.class, features);
+            assertEquals(ValueLocatorBase.SER_NUMBER_INTEGER, r.findProperty("i").scalarTypeId());
+            assertEquals(ValueLocatorBase.SER_NUMBER_LONG, r.findProperty("l").scalarTypeId());
+            assertEquals(ValueLocatorBase.SER_NUMBER_DOUBLE, r.findProperty("d").scalarTypeId());
+            // no generated "ObjBooleanConsumer", but handle used instead
+            assertEquals(ValueLocatorBase.SER_BOOLEAN, r.findProperty("b").scalarTypeId());
+            for (BeanPropertyWriter w : _beanWriter(SetterBean.class, features)._properties) {
+                assertTrue(w.scalarTypeId() != 0);
+            }
+        }
+    }
+
+    @Test
+    public void testCustomReaderDisablesUnboxed() throws Exception
+    {
+        final ValueReader intReader = new ValueReader(Integer.TYPE) {
+            @Override
+            public Object read(JSONReader reader, JsonParser p) throws IOException {
+                return p.getValueAsInt() * 2;
+            }
+        };
+        ReaderWriterProvider prov = new ReaderWriterProvider() {
+            @Override
+            public ValueReader findValueReader(JSONReader readContext, Class<?> type) {
+                return (type == Integer.TYPE) ? intReader : null;
+            }
+        };
+        FieldBean bean = jsonWithProvider(prov).beanFrom(FieldBean.class, a2q("{'i':3,'l':3}"));
+        assertEquals(6, bean.i);
+        assertEquals(3L, bean.l);
+    }
+
+    /*
+    /**********************************************************************
+    /* Test methods, reading/writing
+    /**********************************************************************
+     */
+
+    @Test
+    public void testRoundtripAndCoercions() throws Exception
+    {
+        final String[] DOCS = new String[] {
+            a2q("{'i':-3,'l':123456789012,'d':0.25,'b':true}"),
+            a2q("{'i':-2,'l':-2,'d':7,'b':false}"),
+            a2q("{'i':'12','l':'-7','d':'1.5','b':'true'}"),
+            a2q("{'i':null,'l':null,'d':null,'b':null}"),
+            a2q("{'i':2.75,'l':3.5}"),
+        };
+        for (int features : new int[] { 0, HANDLES, GENERATED }) {
+            JSON json = JSON.builder().build();
+            if (features != 0) {
+                json = json.with((features == HANDLES) ? JSON.Feature.USE_METHOD_HANDLES
+                        : JSON.Feature.USE_GENERATED_ACCESSORS);
+            }
+            for (String doc : DOCS) {
+                FieldBean fb = json.beanFrom(FieldBean.class, doc);
+                SetterBean sb = json.beanFrom(SetterBean.class, doc);
+                assertEquals(fb.i, sb.i);
+                assertEquals(fb.l, sb.l);
+                assertEquals(fb.d, sb.d);
+                assertEquals(fb.b, sb.b);
+                // and unchanged from boxed/reflection-based
+                SetterBean expS = JSON.std.beanFrom(SetterBean.class, doc);
+                assertEquals(expS.i, sb.i);
+                assertEquals(expS.l, sb.l);
+                assertEquals(expS.d, sb.d);
+                assertEquals(expS.b, sb.b);
+
+                assertEquals(JSON.std.asString(sb), json.asString(sb));
+                assertEquals(json.asString(sb), json.asString(fb)
+                        .replace(",\"boxed\":null", "").replace("\"boxed\":null,", ""));
+            }
+        }
+        SetterBean sb = JSON.std.with(JSON.Feature.USE_METHOD_HANDLES)
+                .beanFrom(SetterBean.class, a2q("{'i':2.75,'l':3.5,'d':-0.5,'b':true}"));
+        assertEquals(2, sb.i);
+        assertEquals(3L, sb.l);
+        assertEquals(-0.5, sb.d);
+        assertTrue(sb.b);
+        assertEquals(a2q("{'b':true,'d':-0.5,'i':2,'l':3}"),
+                JSON.std.with(JSON.Feature.USE_GENERATED_ACCESSORS).asString(sb));
+    }
+
+    @Test
+    public void testSetterFailure() throws Exception
+    {
+        for (JSON json : new JSON[] { JSON.std, JSON.std.with(JSON.Feature.USE_GENERATED_ACCESSORS) }) {
+            try {
+                json.beanFrom(Failing.class, a2q("{'value':3}"));
+                fail("Should not pass");
+            } catch (JSONObjectException e) {
+                verifyException(e, "Failed to set property 'value'");
+                verifyException(e, "Bad value: 3");
+            }
+        }
+    }
+
+    private BeanReader _beanReader(Class<?> type, int extraFeatures) {
+        return (BeanReader) new JSONReader(CollectionBuilder.defaultImpl(), MapBuilder.defaultImpl())
+                .perOperationInstance(JSON.Feature.defaults() | extraFeatures,
+                        ValueReaderLocator.blueprint(null, null), null, null)
+                ._readerLocator.findReader(type);
+    }
+
+    private BeanWriter _beanWriter(Class<?> type, int extraFeatures) {
+        ValueWriterLocator loc = new JSONWriter().perOperationInstance(JSON.Feature.defaults() | extraFeatures,
+                ValueWriterLocator.blueprint(null, null), null, null)._writerLocator;
+        return (BeanWriter) loc.getValueWriter(loc.findSerializationType(type));
+    }
+}
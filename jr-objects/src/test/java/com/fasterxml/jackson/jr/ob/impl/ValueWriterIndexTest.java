@@ -0,0 +1,138 @@
+package com.fasterxml.jackson.jr.ob.impl;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.jr.ob.JSON;
+import com.fasterxml.jackson.jr.ob.TestBase;
+import com.fasterxml.jackson.jr.ob.api.ValueWriter;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ValueWriterIndexTest extends TestBase
+{
+    static class NopWriter implements ValueWriter {
+        final int id;
+
+        NopWriter(int id) { this.id = id; }
+
+        @Override
+        public void writeValue(JSONWriter context, JsonGenerator g, Object value) throws IOException { }
+
+        @Override
+        public Class<?> valueType() { return Object.class; }
+    }
+
+    private final static int FEATURES = JSON.Feature.defaults();
+
+    public static class Wrapper {
+        public Value value;
+    }
+
+    public static class Value {
+        public int x = 1;
+    }
+
+    /*
+    /**********************************************************************
+    /* Test methods
+    /**********************************************************************
+     */
+
+    @Test
+    public void testAppendAndGet()
+    {
+        ValueWriterIndex index = new ValueWriterIndex();
+        assertNull(index.get(0));
+        assertNull(index.get(1000));
+        // enough to span multiple chunks
+        for (int i = 0; i < 5000; ++i) {
+            assertEquals(i, index.append(new NopWriter(i)));
+        }
+        assertEquals(5000, index.size());
+        for (int i = 0; i < 5000; ++i) {
+            assertEquals(i, ((NopWriter) index.get(i)).id);
+        }
+        assertNull(index.get(5000));
+
+        index.set(4321, new NopWriter(-1));
+        assertEquals(-1, ((NopWriter) index.get(4321)).id);
+        try {
+            index.set(5000, new NopWriter(0));
+            fail("Should not pass");
+        } catch (IndexOutOfBoundsException e) {
+            verifyException(e, "not assigned");
+        }
+    }
+
+    @Test
+    public void testConcurrentAppends() throws Exception
+    {
+        final ValueWriterIndex index = new ValueWriterIndex();
+        final int THREADS = 4;
+        final int PER_THREAD = 2000;
+        ExecutorService exec = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<Map<Integer, NopWriter>>> results = new ArrayList<>();
+            for (int t = 0; t < THREADS; ++t) {
+                results.add(exec.submit(() -> {
+                    Map<Integer, NopWriter> added = new HashMap<>();
+                    for (int i = 0; i < PER_THREAD; ++i) {
+                        NopWriter w = new NopWriter(i);
+                        added.put(index.append(w), w);
+                    }
+                    return added;
+                }));
+            }
+            Set<Integer> seen = new HashSet<>();
+            for (Future<Map<Integer, NopWriter>> f : results) {
+                for (Map.Entry<Integer, NopWriter> entry : f.get().entrySet()) {
+                    assertTrue(seen.add(entry.getKey()));
+                    assertSame(entry.getValue(), index.get(entry.getKey()));
+                }
+            }
+            assertEquals(THREADS * PER_THREAD, seen.size());
+            assertEquals(THREADS * PER_THREAD, index.size());
+        } finally {
+            exec.shutdown();
+        }
+    }
+
+    @Test
+    public void testReleaseWriters() throws Exception
+    {
+        final ValueWriterLocator loc = ValueWriterLocator.blueprint(null, null);
+        ValueWriterLocator opLoc = new JSONWriter().perOperationInstance(FEATURES, loc, null, null)._writerLocator;
+        final int typeId = opLoc.findSerializationType(Value.class);
+        opLoc.findSerializationType(Wrapper.class);
+        assertTrue(typeId < 0);
+        assertTrue(opLoc.getValueWriter(typeId) instanceof BeanWriter);
+
+        assertEquals(1, loc.releaseWriters(Value.class));
+        assertEquals(0, loc.releaseWriters(Value.class));
+        // released writer replaced by placeholder that still works
+        assertFalse(opLoc.getValueWriter(typeId) instanceof BeanWriter);
+        Wrapper wrapper = new Wrapper();
+        wrapper.value = new Value();
+        assertEquals(a2q("{'value':{'x':1}}"), _write(loc, wrapper));
+
+        // and having been resolved again, same slot reused
+        assertTrue(opLoc.getValueWriter(typeId) instanceof BeanWriter);
+        opLoc = new JSONWriter().perOperationInstance(FEATURES, loc, null, null)._writerLocator;
+        assertEquals(typeId, opLoc.findSerializationType(Value.class));
+    }
+
+    private String _write(ValueWriterLocator loc, Object value) throws IOException
+    {
+        StringWriter sw = new StringWriter();
+        try (JsonGenerator g = JSON.std.getStreamingFactory().createGenerator(sw)) {
+            new JSONWriter().perOperationInstance(FEATURES, loc, null, g).writeValue(value);
+        }
+        return sw.toString();
+    }
+}
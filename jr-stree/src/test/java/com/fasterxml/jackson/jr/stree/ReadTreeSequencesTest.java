@@ -1,6 +1,11 @@
 package com.fasterxml.jackson.jr.stree;
 
 import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -8,6 +13,7 @@ import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonParser.NumberType;
 
 import com.fasterxml.jackson.jr.ob.JSON;
+import com.fasterxml.jackson.jr.ob.ValueDecoder;
 import com.fasterxml.jackson.jr.ob.ValueIterator;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -35,6 +41,38 @@ public class ReadTreeSequencesTest extends JacksonJrTreeTestBase
         p.close();
     }
 
+    // 2.19: reading from Path
+    @Test
+    public void testTreeSequenceFromPath() throws Exception
+    {
+        Path path = Files.createTempFile("jr-tree-seq", ".json");
+        path.toFile().deleteOnExit();
+        Files.write(path, a2q("{'id':1, 'msg':'foo'}\n[1, 2, 3]\nnull\n").getBytes(StandardCharsets.UTF_8));
+        try (ValueIterator<JrsValue> it = treeJSON.treeSequenceFrom(path)) {
+            _verifyTreeSequence(it);
+        }
+    }
+
+    @Test
+    public void testTreeSequenceDecoder() throws Exception
+    {
+        final byte[] doc = a2q("{'id':1, 'msg':'foo'}\n[1, 2, 3]\nnull\n").getBytes(StandardCharsets.UTF_8);
+        List<JrsValue> trees = new ArrayList<>();
+        try (ValueDecoder<JrsValue> dec = treeJSON.treeSequenceDecoder(trees::add)) {
+            for (int i = 0; i < doc.length; i += 3) {
+                dec.feed(doc, i, Math.min(3, doc.length - i));
+            }
+            dec.endOfInput();
+        }
+        assertEquals(3, trees.size());
+        assertEquals(2, trees.get(0).size());
+        assertEquals(NumberType.INT, trees.get(0).path("id").numberType());
+        assertEquals("foo", trees.get(0).path("msg").asText());
+        assertTrue(trees.get(1).isArray());
+        assertEquals(3, trees.get(1).size());
+        assertTrue(trees.get(2).isNull());
+    }
+
     private void _verifyTreeSequence(ValueIterator<JrsValue> it) throws Exception
     {
         assertTrue(it.hasNext());
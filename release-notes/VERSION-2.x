@@ -2,6 +2,7 @@ Project: jackson-jr
 Major version: 2
 
 Modules:
+  jackson-jr-annotation-processor
   jackson-jr-annotation-support
   jackson-jr-extension-javatime
   jackson-jr-objects
@@ -18,6 +19,61 @@ Modules:
 #184: Unify testing structure/tools to JUnit5 [JSTEP-10]
 - Update Retrofit2 dep from 2.9 to 2.11
 - Fix `retrofit2` module deps to Retrofit/OkHttp libraries
+- Add `JSON.Feature.USE_METHOD_HANDLES` to allow use of `MethodHandle`s (instead of
+  reflection) for Bean property access
+- Add `JSON.Feature.USE_GENERATED_ACCESSORS` to allow use of runtime-generated
+  accessor classes for Bean property access, and of Bean readers and writers
+  specialized per Bean type
+- Match Bean property names in expected (learned) order before falling back to
+  lookup; expose match statistics via `BeanReader` (if enabled with
+  `JSON.Builder.countCacheHits()`)
+- Read and write `int`, `long`, `double` and `boolean` Bean properties without boxing
+  where accessors allow
+- Add `jackson-jr-annotation-processor` module for generating readers and writers
+  for `@JrSerializable` annotated classes at compile time
+- Add `JSON.prewarm()` and `JSON.prewarmPackage()` for resolving readers and writers
+  of types ahead of time
+- Replace clear-all of reader cache with bounded (LRU-like) eviction, bound writer
+  type cache similarly; add `JSON.Builder.readerCacheSize()`/`writerCacheSize()`
+  and cache statistics accessors
+- Use `ClassValue`-based storage for cached readers and writers, to avoid key
+  hashing on lookups (note: classes may still be retained by cached writers and
+  container readers until evicted)
+- Replace copy-on-write list of registered `ValueWriter`s with lock-free chunked
+  index; add `ValueWriterLocator.releaseWriters()`
+- Resolve readers and writers of a type by one thread at a time (others waiting
+  for result) instead of global reader lock; avoid monitor locks in caches
+- Make `TypeResolver` cache concurrent, bounded and keyed by generic type; share
+  readers for same generic container types
+- Add `JSON.session()` for reusing per-operation reader/writer state across
+  calls by a single thread
+- Add `JSON.Builder.recyclerPool()` for configuring buffer `RecyclerPool` (for example,
+  shared pool for use with virtual threads); release buffers of `asString()`/`asBytes()`
+  back to the pool
+- Allow reading from `ByteBuffer` and `ReadableByteChannel` sources; add
+  `JSON.write()` variants for `ByteBuffer` and `WritableByteChannel`
+- Allow reading from `java.nio.file.Path` sources; optionally by memory-mapping
+  file in windows (`JSON.Feature.USE_MEMORY_MAPPED_FILES`)
+- Add `JSON.parallelBeanSequenceFrom()` for reading line-delimited JSON in parallel
+  as a `Stream`
+- Add `JSON.pipelinedBeanSequenceFrom()` for reading sequences of Beans by tokenizing
+  on calling thread and binding buffered elements in parallel
+- Add `ValueDecoder` (`JSON.beanSequenceDecoder()` and others) for push-style
+  decoding of value sequences from content fed in chunks, using non-blocking parser
+- Add `jackson-jr-flow` module with `java.util.concurrent.Flow` adapters for
+  decoding and encoding JSON value sequences (requires Java 11)
+- Add `LineDelimitedSink` (`JSON.lineDelimitedSink()`) for writing line-delimited JSON
+  from multiple threads, with group commit of output by a background I/O thread
+- Add support for reading `long[]`, `short[]`, `float[]`, `double[]` and `boolean[]`,
+  and writing `short[]`, `float[]` and `double[]` (without boxing)
+- Add `PrimitiveCollectionsExtension` for reading `List`s and `Map`s of `Integer`,
+  `Long` and `Double` into compact primitive-backed implementations
+- Add `JSON.columnsFrom()` for reading arrays of JSON Objects into columnar
+  `ColumnarData` (without constructing Beans), and writing it back as rows
+- Share key layouts of `Map`s read with the same sequence of keys
+  (`JSON.Feature.SHARE_MAP_SHAPES`)
+- Add `JSON.Feature.USE_LAZY_MAPS` for reading `byte[]` content as lazily decoded
+  `Map`/`List` views
 
 2.18.3 (28-Feb-2025)
 